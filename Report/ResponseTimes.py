@@ -16,7 +16,16 @@ def pull_data() -> None:
     duration = json.load(open("meta.json"))["duration"]
 
     for file in os.listdir("./raw/"):
-        if (file.endswith("_ResponseTimes.csv")):
+        if (file.endswith("_ResponseTimes_Mean.csv")):
+            # the raw response times are plotted instead, if they were recorded as well
+            if (os.path.exists("./raw/" + file.replace("_Mean.csv", ".csv"))):
+                continue
+            # windowed means that were already calculated by the simulator's latency histograms
+            mean = pd.read_csv("./raw/" + file, sep=";", usecols=[0, 1])
+            datasets.append((file.strip(), mean, None))
+
+            loadfile = file.replace("_ResponseTimes_Mean.csv", "")
+        elif (file.endswith("_ResponseTimes.csv")):
             data = pd.read_csv("./raw/" + file, sep=";", usecols=[0, 1])
 
             data["Simulation Time"] = np.int32(data["Simulation Time"]-0.5)
@@ -31,19 +40,22 @@ def pull_data() -> None:
             mean.to_csv("./raw/" + file.replace("Times.csv", "Times_mean.csv"))
 
             loadfile = file.replace("_ResponseTimes.csv", "")
-            loadfile = loadfile[2:loadfile.rindex("]"):]
-            loadfile = glob.glob("./raw/*" + loadfile+"*Load.csv")[0]
-            load_data = pd.read_csv(loadfile, sep=";", usecols=[0, 1])
-
-            # binning to seconds because pandas refuses to do it itself
-            load_data["Simulation Time"] = np.int32(
-                load_data["Simulation Time"])
-            grouped = load_data.groupby("Simulation Time")
-            grouped = grouped.apply(lambda x: x["Value"].sum())
-            grouped = grouped.reset_index()
-            grouped["Value"] = grouped[0]
-
-            loadsets.append((loadfile.strip(), grouped))
+        else:
+            continue
+
+        loadfile = loadfile[2:loadfile.rindex("]"):]
+        loadfile = glob.glob("./raw/*" + loadfile+"*Load.csv")[0]
+        load_data = pd.read_csv(loadfile, sep=";", usecols=[0, 1])
+
+        # binning to seconds because pandas refuses to do it itself
+        load_data["Simulation Time"] = np.int32(
+            load_data["Simulation Time"])
+        grouped = load_data.groupby("Simulation Time")
+        grouped = grouped.apply(lambda x: x["Value"].sum())
+        grouped = grouped.reset_index()
+        grouped["Value"] = grouped[0]
+
+        loadsets.append((loadfile.strip(), grouped))
 
     if (len(datasets) == 0):
         return
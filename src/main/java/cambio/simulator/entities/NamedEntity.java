@@ -1,5 +1,7 @@
 package cambio.simulator.entities;
 
+import java.util.function.Supplier;
+
 import desmoj.core.simulator.Entity;
 import desmoj.core.simulator.Model;
 
@@ -41,4 +43,26 @@ public abstract class NamedEntity extends Entity {
     public String getQuotedPlainName() {
         return "'" + getPlainName() + "'";
     }
+
+    /**
+     * Sends a trace note, whose text is only rendered if this entity currently produces trace output.
+     *
+     * @param note supplier of the text of the trace note
+     */
+    public void sendTraceNote(Supplier<String> note) {
+        if (currentlySendTraceNotes()) {
+            sendTraceNote(note.get());
+        }
+    }
+
+    /**
+     * Sends a debug note, whose text is only rendered if this entity currently produces debug output.
+     *
+     * @param note supplier of the text of the debug note
+     */
+    public void sendDebugNote(Supplier<String> note) {
+        if (currentlySendDebugNotes()) {
+            sendDebugNote(note.get());
+        }
+    }
 }
@@ -1,5 +1,7 @@
 package cambio.simulator.entities;
 
+import java.util.function.Supplier;
+
 import desmoj.core.simulator.ExternalEvent;
 import desmoj.core.simulator.Model;
 
@@ -20,6 +22,7 @@ public abstract class NamedExternalEvent extends ExternalEvent {
 
     public NamedExternalEvent(Model model, String name, boolean showInTrace) {
         super(model, name, showInTrace);
+        this.plainName = name;
     }
 
     public String getPlainName() {
@@ -40,4 +43,26 @@ public abstract class NamedExternalEvent extends ExternalEvent {
     public String getQuotedPlainName() {
         return "'" + getPlainName() + "'";
     }
+
+    /**
+     * Sends a trace note, whose text is only rendered if this event currently produces trace output.
+     *
+     * @param note supplier of the text of the trace note
+     */
+    public void sendTraceNote(Supplier<String> note) {
+        if (currentlySendTraceNotes()) {
+            sendTraceNote(note.get());
+        }
+    }
+
+    /**
+     * Sends a debug note, whose text is only rendered if this event currently produces debug output.
+     *
+     * @param note supplier of the text of the debug note
+     */
+    public void sendDebugNote(Supplier<String> note) {
+        if (currentlySendDebugNotes()) {
+            sendDebugNote(note.get());
+        }
+    }
 }
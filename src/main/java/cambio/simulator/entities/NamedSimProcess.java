@@ -1,5 +1,7 @@
 package cambio.simulator.entities;
 
+import java.util.function.Supplier;
+
 import desmoj.core.simulator.Model;
 import desmoj.core.simulator.SimProcess;
 
@@ -45,4 +47,26 @@ public abstract class NamedSimProcess extends SimProcess {
     public String getQuotedPlainName() {
         return "'" + getPlainName() + "'";
     }
+
+    /**
+     * Sends a trace note, whose text is only rendered if this process currently produces trace output.
+     *
+     * @param note supplier of the text of the trace note
+     */
+    public void sendTraceNote(Supplier<String> note) {
+        if (currentlySendTraceNotes()) {
+            sendTraceNote(note.get());
+        }
+    }
+
+    /**
+     * Sends a debug note, whose text is only rendered if this process currently produces debug output.
+     *
+     * @param note supplier of the text of the debug note
+     */
+    public void sendDebugNote(Supplier<String> note) {
+        if (currentlySendDebugNotes()) {
+            sendDebugNote(note.get());
+        }
+    }
 }
@@ -0,0 +1,60 @@
+package cambio.simulator.entities;
+
+import java.util.function.Supplier;
+
+import cambio.simulator.models.ExperimentMetaData;
+import cambio.simulator.models.MiSimModel;
+import desmoj.core.simulator.Model;
+
+/**
+ * Utility class for the lazy naming of transient entities, e.g. requests, dependencies, network events and computation
+ * bursts.
+ *
+ * <p>
+ * Descriptive names of transient entities are only read by trace and debug output. They are therefore only rendered
+ * while the model currently produces such output, otherwise the entities are named by their type. This way a run
+ * without trace does no string formatting per request.
+ *
+ * <p>
+ * DESMO-J registers the name of every entity and event in the name catalog of the experiment. The catalog keeps one
+ * entry per distinct name for the whole run, so descriptive names that contain other (numbered) names make it grow with
+ * each request. In bounded-memory mode (see {@link ExperimentMetaData#isBoundedMemory()}) transient entities are
+ * therefore always named by their type, which keeps a single catalog entry per type. The number that DESMO-J appends
+ * to the type name serves as a cheap numeric id.
+ *
+ * @author Lion Wagner
+ */
+public final class TransientNames {
+
+    private TransientNames() {
+    }
+
+    /**
+     * Checks whether transient entities of the given model should only be named by their type.
+     *
+     * @param model model that the entity belongs to
+     * @return true, if the model neither produces trace nor debug output at the moment or runs in bounded-memory mode
+     */
+    public static boolean useTypeNames(Model model) {
+        if (!model.currentlySendTraceNotes() && !model.currentlySendDebugNotes()) {
+            return true;
+        }
+        if (!(model instanceof MiSimModel)) {
+            return false;
+        }
+        ExperimentMetaData metaData = ((MiSimModel) model).getExperimentMetaData();
+        return metaData != null && metaData.isBoundedMemory();
+    }
+
+    /**
+     * Gets the name of a new transient entity. The descriptive name is only rendered, if it is needed.
+     *
+     * @param model           model that the entity belongs to
+     * @param typeName        constant name of the type of the entity
+     * @param descriptiveName supplier of the descriptive name of the entity
+     * @return the type name, if {@link #useTypeNames(Model)} is true, otherwise the descriptive name
+     */
+    public static String of(Model model, String typeName, Supplier<String> descriptiveName) {
+        return useTypeNames(model) ? typeName : descriptiveName.get();
+    }
+}
@@ -1,6 +1,7 @@
 package cambio.simulator.entities.generator;
 
 import cambio.simulator.entities.NamedSimProcess;
+import cambio.simulator.entities.TransientNames;
 import cambio.simulator.entities.microservice.NoInstanceAvailableException;
 import cambio.simulator.entities.microservice.Operation;
 import cambio.simulator.entities.networking.IRequestUpdateListener;
@@ -10,6 +11,7 @@ import cambio.simulator.entities.networking.RequestSender;
 import cambio.simulator.entities.networking.UserRequest;
 import cambio.simulator.events.ISelfScheduled;
 import cambio.simulator.export.AccumulativeDataPointReporter;
+import cambio.simulator.export.ReportCollector;
 import co.paralleluniverse.fibers.SuspendExecution;
 import desmoj.core.simulator.Model;
 import desmoj.core.simulator.TimeInstant;
@@ -29,7 +31,6 @@ import org.jetbrains.annotations.NotNull;
  */
 public final class LoadGeneratorDescriptionExecutor extends RequestSender implements IRequestUpdateListener,
     ISelfScheduled {
-    private static final AccumulativeDataPointReporter allReporter = new AccumulativeDataPointReporter("GEN_ALL");
     private final Model model;
 
     /**
@@ -41,6 +42,7 @@ public final class LoadGeneratorDescriptionExecutor extends RequestSender implem
      * Reporters
      */
     private final AccumulativeDataPointReporter accReporter;
+    private final AccumulativeDataPointReporter allReporter;
     private final LoadGeneratorDescription loadGeneratorDescription;
 
     /**
@@ -63,7 +65,9 @@ public final class LoadGeneratorDescriptionExecutor extends RequestSender implem
         String reportName = String
             .format("G[%s]_[%s(%s)]_", this.getClass().getSimpleName(), targetOperation.getOwnerMS().getName(),
                 targetOperation.getName());
-        accReporter = new AccumulativeDataPointReporter(reportName);
+        accReporter = new AccumulativeDataPointReporter(reportName, model);
+        allReporter = ReportCollector.forModel(model)
+            .getSharedReporter("GEN_ALL", prefix -> new AccumulativeDataPointReporter(prefix, model));
 
 
         addUpdateListener(this);
@@ -76,10 +80,12 @@ public final class LoadGeneratorDescriptionExecutor extends RequestSender implem
     }
 
     private void sendNewUserRequest() {
-        UserRequest request = new UserRequest(model, String.format("UserRequest@[%s]",
-            targetOperation.getFullyQualifiedPlainName()), true, targetOperation);
+        UserRequest request = new UserRequest(model, TransientNames.of(model, "UserRequest",
+                () -> String.format("UserRequest@[%s]", targetOperation.getFullyQualifiedPlainName())),
+            true, targetOperation);
         try {
-            sendRequest(String.format("SendingUserRequest(%s)", request.getPlainName()), request,
+            sendRequest(TransientNames.of(model, "RequestSend",
+                    () -> String.format("SendingUserRequest(%s)", request.getPlainName())), request,
                 targetOperation.getOwnerMS());
         } catch (NoInstanceAvailableException e) {
             onRequestFailed(request, presentTime(), RequestFailedReason.NO_INSTANCE_AVAILABLE);
@@ -92,7 +98,7 @@ public final class LoadGeneratorDescriptionExecutor extends RequestSender implem
      */
     @Override
     public boolean onRequestFailed(Request request, TimeInstant when, RequestFailedReason reason) {
-        sendTraceNote(String.format("Arrival of Request %s failed at %s.", request, when));
+        sendTraceNote(() -> String.format("Arrival of Request %s failed at %s.", request, when));
         TimeInstant currentTime = new TimeInstant(Math.ceil(presentTime().getTimeAsDouble()));
 
         accReporter.addDatapoint("FailedRequests", currentTime, 1);
@@ -111,7 +117,7 @@ public final class LoadGeneratorDescriptionExecutor extends RequestSender implem
      */
     @Override
     public boolean onRequestResultArrivedAtRequester(Request request, TimeInstant when) {
-        sendTraceNote(String.format("Successfully completed Request %s at %s.", request, when));
+        sendTraceNote(() -> String.format("Successfully completed Request %s at %s.", request, when));
         TimeInstant currentTime = new TimeInstant(Math.ceil(presentTime().getTimeAsDouble()));
 
         accReporter.addDatapoint("SuccessfulRequests", currentTime, 1);
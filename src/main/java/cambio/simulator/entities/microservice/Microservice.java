@@ -1,6 +1,9 @@
 package cambio.simulator.entities.microservice;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
@@ -17,6 +20,7 @@ import cambio.simulator.entities.patterns.LoadBalancer;
 import cambio.simulator.entities.patterns.ServiceOwnedPattern;
 import cambio.simulator.export.ContinuousMultiDataPointReporter;
 import cambio.simulator.export.MultiDataPointReporter;
+import cambio.simulator.resources.cpu.CPUType;
 import com.google.gson.annotations.Expose;
 import com.google.gson.annotations.SerializedName;
 import desmoj.core.dist.NumericalDist;
@@ -48,6 +52,10 @@ import desmoj.core.simulator.Model;
  */
 public class Microservice extends NamedEntity {
     private final transient Set<MicroserviceInstance> instancesSet = new HashSet<>();
+    //index of all running instances, maintained on state transitions of the instances
+    private final transient List<MicroserviceInstance> routableInstances = new ArrayList<>();
+    private final transient Collection<MicroserviceInstance> routableInstancesView =
+        Collections.unmodifiableList(routableInstances);
     private final transient MultiDataPointReporter reporter;
     @Expose
     @SerializedName(value = "loadbalancer_strategy", alternate = "load_balancer")
@@ -61,6 +69,8 @@ public class Microservice extends NamedEntity {
     @Expose
     private int capacity = 1;
     @Expose
+    private CPUType cpuType = CPUType.BURST;
+    @Expose
     @SerializedName(value = "instances", alternate = {"starting_instance_count", "starting_instances"})
     private int startingInstanceCount = 1;
 
@@ -85,7 +95,7 @@ public class Microservice extends NamedEntity {
         super(model, name, showInTrace);
         //default load balancer
         loadBalancer = new LoadBalancer(model, "Loadbalancer", traceIsOn(), null);
-        reporter = new ContinuousMultiDataPointReporter(String.format("S[%s]_", name));
+        reporter = new ContinuousMultiDataPointReporter(String.format("S[%s]_", name), model);
     }
 
     /**
@@ -94,6 +104,7 @@ public class Microservice extends NamedEntity {
      */
     public synchronized void start() {
         started = true;
+        loadBalancer.setOwner(this);
         scaleToInstancesCount(startingInstanceCount);
     }
 
@@ -115,6 +126,14 @@ public class Microservice extends NamedEntity {
         this.capacity = capacity;
     }
 
+    public CPUType getCpuType() {
+        return cpuType;
+    }
+
+    public void setCpuType(CPUType cpuType) {
+        this.cpuType = cpuType;
+    }
+
 
     public int getInstancesCount() {
         return instancesSet.size();
@@ -235,7 +254,47 @@ public class Microservice extends NamedEntity {
 
 
     public MicroserviceInstance getNextAvailableInstance() throws NoInstanceAvailableException {
-        return loadBalancer.getNextInstance(instancesSet);
+        return loadBalancer.getNextInstance(routableInstancesView);
+    }
+
+    /**
+     * Gets all instances of this service that can currently receive requests, i.e. that are in the {@link
+     * InstanceState#RUNNING} state.
+     *
+     * <p>
+     * The returned collection is an unmodifiable view on an index that is updated whenever an instance changes its
+     * state. Hence, it is not copied on each call.
+     *
+     * @return an unmodifiable view of all running instances.
+     */
+    public Collection<MicroserviceInstance> getRoutableInstances() {
+        return routableInstancesView;
+    }
+
+    /**
+     * Updates the index of running instances. Called by the instances of this service whenever they change their
+     * state.
+     *
+     * <p>
+     * Instances are removed by swapping them with the last instance of the index, so both operations take O(1).
+     */
+    void onInstanceStateChanged(MicroserviceInstance instance, InstanceState oldState, InstanceState newState) {
+        if (newState == InstanceState.RUNNING) {
+            if (instance.routingIndex < 0) {
+                instance.routingIndex = routableInstances.size();
+                routableInstances.add(instance);
+                loadBalancer.notifyInstanceAvailable(instance);
+            }
+        } else if (oldState == InstanceState.RUNNING && instance.routingIndex >= 0) {
+            int index = instance.routingIndex;
+            MicroserviceInstance last = routableInstances.remove(routableInstances.size() - 1);
+            if (last != instance) {
+                routableInstances.set(index, last);
+                last.routingIndex = index;
+            }
+            instance.routingIndex = -1;
+            loadBalancer.notifyInstanceUnavailable(instance);
+        }
     }
 
 
@@ -10,6 +10,8 @@ import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import cambio.simulator.entities.NamedExternalEvent;
+import cambio.simulator.entities.TransientNames;
 import cambio.simulator.entities.networking.IRequestUpdateListener;
 import cambio.simulator.entities.networking.InternalRequest;
 import cambio.simulator.entities.networking.NetworkDependency;
@@ -24,9 +26,13 @@ import cambio.simulator.entities.patterns.InstanceOwnedPattern;
 import cambio.simulator.entities.patterns.InstanceOwnedPatternConfiguration;
 import cambio.simulator.entities.patterns.Retry;
 import cambio.simulator.export.MultiDataPointReporter;
+import cambio.simulator.export.SamplingPolicy;
+import cambio.simulator.misc.Util;
+import cambio.simulator.models.ExperimentMetaData;
+import cambio.simulator.models.MiSimModel;
 import cambio.simulator.resources.cpu.CPU;
 import cambio.simulator.resources.cpu.CPUProcess;
-import cambio.simulator.resources.cpu.scheduling.FIFOScheduler;
+import co.paralleluniverse.fibers.SuspendExecution;
 import desmoj.core.simulator.Model;
 import desmoj.core.simulator.TimeInstant;
 import desmoj.core.simulator.TimeSpan;
@@ -65,10 +71,25 @@ public class MicroserviceInstance extends RequestSender implements IRequestUpdat
     //contains all current outgoing dependency requests
     private final LinkedHashSet<InternalRequest> currentInternalSends = new LinkedHashSet<>();
     private final MultiDataPointReporter reporter;
+    private final SamplingPolicy statisticsPolicy;
+    //only exists if the statistics are sampled in intervals
+    private final QueueStatisticsSamplingEvent samplingEvent;
+    //last reported value of each queue statistic, -1 if it was not reported yet
+    private final int[] lastReportedStatistics = {-1, -1, -1, -1};
+    //maintained on each state transition of the handled requests
+    private int requestsNotComputed = 0;
+    private int requestsWaitingForDependencies = 0;
+    //requests that were routed to this instance but did not arrive yet
+    private int inboundRequests = 0;
+    //answered requests and the sum of their handling times, used for latency estimations
+    private long answeredRequests = 0;
+    private double totalHandlingTime = 0;
     //lists for debugging information
     private final List<NetworkDependency> closedDependencies = new LinkedList<>();
     private final List<NetworkDependency> abortedDependencies = new LinkedList<>();
     private InstanceState state;
+    //position inside the running instances index of the owner, -1 if not running
+    int routingIndex = -1;
     private Set<InstanceOwnedPattern> patterns = new HashSet<>();
 
 
@@ -77,11 +98,32 @@ public class MicroserviceInstance extends RequestSender implements IRequestUpdat
         super(model, name, showInTrace);
         this.owner = microservice;
         this.instanceID = instanceID;
-        this.cpu = new CPU(model, String.format("%s_CPU", name), showInTrace, microservice.getCapacity(),
-            new FIFOScheduler("Scheduler"), this);
+        this.cpu = microservice.getCpuType()
+            .createCPU(model, String.format("%s_CPU", name), showInTrace, microservice.getCapacity(), this);
 
         String[] names = name.split("_");
-        reporter = new MultiDataPointReporter(String.format("I%s_[%s]_", names[0], names[1]));
+        reporter = new MultiDataPointReporter(String.format("I%s_[%s]_", names[0], names[1]), model);
+
+        SamplingPolicy policy = SamplingPolicy.ON_CHANGE;
+        double samplingInterval = 1;
+        if (model instanceof MiSimModel) {
+            ExperimentMetaData metaData = ((MiSimModel) model).getExperimentMetaData();
+            try {
+                policy = SamplingPolicy.fromName(metaData.getInstanceStatistics());
+            } catch (IllegalArgumentException e) {
+                System.out.printf("[Warning] Unknown instance statistics policy '%s'. Reporting on change.%n",
+                    metaData.getInstanceStatistics());
+            }
+            samplingInterval = metaData.getInstanceStatisticsInterval();
+        }
+        this.statisticsPolicy = policy;
+        if (policy == SamplingPolicy.INTERVAL) {
+            Util.requireGreaterZero(samplingInterval, "Instance statistics interval has to be greater than 0.");
+            samplingEvent = new QueueStatisticsSamplingEvent(model, samplingInterval);
+            samplingEvent.schedule(new TimeSpan(0));
+        } else {
+            samplingEvent = null;
+        }
 
         changeState(InstanceState.CREATED);
 
@@ -185,14 +227,17 @@ public class MicroserviceInstance extends RequestSender implements IRequestUpdat
 
         Request parent = dep.getParentRequest();
         if (parent.notifyDependencyHasFinished(dep)) {
+            requestsWaitingForDependencies--;
             this.handle(parent);
         }
     }
 
     private void handleIncomingRequest(Request request) {
 
-        if (currentRequestsToHandle.add(request)) { //register request and stamp as received if not already known
+        boolean isNewRequest = currentRequestsToHandle.add(request);
+        if (isNewRequest) { //register request and stamp as received if not already known
             request.setHandler(this);
+            countRequest(request, 1);
         }
 
         //three possiblities:
@@ -202,11 +247,20 @@ public class MicroserviceInstance extends RequestSender implements IRequestUpdat
         //3. request does have dependencies -> create internal request
         if (request.isCompleted()) {
             RequestAnswer answer = new RequestAnswer(request, this);
-            sendRequest("Request_Answer_" + request.getPlainName(), answer, request.getRequester());
+            sendRequest(TransientNames.of(getModel(), "RequestSend", () -> "Request_Answer_" + request.getPlainName()),
+                answer, request.getRequester());
 
             int size = currentRequestsToHandle.size();
             currentRequestsToHandle.remove(request);
             assert currentRequestsToHandle.size() == size - 1;
+            if (!isNewRequest) {
+                requestsNotComputed--; //its computation was completed since it was handled last
+            }
+            answeredRequests++;
+            if (request.getTimestampReceivedAtHandler() != null) {
+                totalHandlingTime += presentTime().getTimeAsDouble()
+                    - request.getTimestampReceivedAtHandler().getTimeAsDouble();
+            }
 
             //shutdown after the last answer was send. It doesn't care if the original sender does not live anymore
             if (currentRequestsToHandle.isEmpty() && getState() == InstanceState.SHUTTING_DOWN) {
@@ -218,16 +272,17 @@ public class MicroserviceInstance extends RequestSender implements IRequestUpdat
             }
 
         } else if (request.getDependencies().isEmpty() || request.areDependenciesCompleted()) {
-            CPUProcess newProcess = new CPUProcess(request);
+            CPUProcess newProcess = cpu.createProcess(request);
             cpu.submitProcess(newProcess);
         } else {
             for (NetworkDependency dependency : request.getDependencies()) {
                 currentlyOpenDependencies.add(dependency);
 
                 Request internalRequest = new InternalRequest(getModel(), this.traceIsOn(), dependency, this);
-                sendRequest(String.format("Collecting dependency %s", dependency.getQuotedName()), internalRequest,
+                sendRequest(TransientNames.of(getModel(), "RequestSend",
+                        () -> String.format("Collecting dependency %s", dependency.getQuotedName())), internalRequest,
                     dependency.getTargetService());
-                sendTraceNote(String.format("Try 1, send Request: %s ", internalRequest.getQuotedPlainName()));
+                sendTraceNote(() -> String.format("Try 1, send Request: %s ", internalRequest.getQuotedPlainName()));
             }
         }
     }
@@ -238,9 +293,11 @@ public class MicroserviceInstance extends RequestSender implements IRequestUpdat
             return;
         }
 
-        sendTraceNote(this.getQuotedName() + " changed to state " + targetState.name());
+        sendTraceNote(() -> this.getQuotedName() + " changed to state " + targetState.name());
         reporter.addDatapoint("State", presentTime(), targetState.name());
+        InstanceState oldState = this.state;
         this.state = targetState;
+        owner.onInstanceStateChanged(this, oldState, targetState);
 
     }
 
@@ -261,6 +318,11 @@ public class MicroserviceInstance extends RequestSender implements IRequestUpdat
 
         changeState(InstanceState.RUNNING);
 
+        //the sampling stopped if this instance was shut down before
+        if (samplingEvent != null && !samplingEvent.isScheduled()) {
+            samplingEvent.schedule(new TimeSpan(0));
+        }
+
     }
 
     /**
@@ -333,21 +395,91 @@ public class MicroserviceInstance extends RequestSender implements IRequestUpdat
     }
 
 
+    /**
+     * Adds (or removes) a request to the counters of requests that wait for their dependencies or their computation.
+     */
+    private void countRequest(Request request, int delta) {
+        if (!request.isDependenciesCompleted()) {
+            requestsWaitingForDependencies += delta;
+            requestsNotComputed += delta;
+        } else if (!request.isComputationCompleted()) {
+            requestsNotComputed += delta;
+        }
+    }
+
     private void collectQueueStatistics() {
-        int notComputed = 0;
-        int waiting = 0;
-        for (Request request : currentRequestsToHandle) {
-            if (!request.isDependenciesCompleted()) {
-                waiting++;
-                notComputed++;
-            } else if (!request.isComputationCompleted()) {
-                notComputed++;
-            }
+        if (statisticsPolicy == SamplingPolicy.ON_CHANGE) {
+            reportQueueStatistics(true);
+        }
+    }
+
+    private void reportQueueStatistics(boolean onlyChanges) {
+        reportQueueStatistic(0, "SendOff_Internal_Requests", currentlyOpenDependencies.size(), onlyChanges);
+        reportQueueStatistic(1, "Requests_InSystem", currentRequestsToHandle.size(), onlyChanges);
+        reportQueueStatistic(2, "Requests_NotComputed", requestsNotComputed, onlyChanges);
+        reportQueueStatistic(3, "Requests_WaitingForDependencies", requestsWaitingForDependencies, onlyChanges);
+    }
+
+    private void reportQueueStatistic(int index, String name, int value, boolean onlyChanges) {
+        if (onlyChanges && lastReportedStatistics[index] == value) {
+            return;
         }
-        reporter.addDatapoint("SendOff_Internal_Requests", presentTime(), currentlyOpenDependencies.size());
-        reporter.addDatapoint("Requests_InSystem", presentTime(), currentRequestsToHandle.size());
-        reporter.addDatapoint("Requests_NotComputed", presentTime(), notComputed);
-        reporter.addDatapoint("Requests_WaitingForDependencies", presentTime(), waiting);
+        lastReportedStatistics[index] = value;
+        reporter.addDatapoint(name, presentTime(), value);
+    }
+
+    public int getRequestsNotComputed() {
+        return requestsNotComputed;
+    }
+
+    public int getRequestsWaitingForDependencies() {
+        return requestsWaitingForDependencies;
+    }
+
+    /**
+     * Marks that a request was routed to this instance and is now traveling towards it.
+     *
+     * @see #getOutstandingRequests()
+     */
+    public void registerInboundRequest() {
+        inboundRequests++;
+    }
+
+    /**
+     * Marks that a request that was routed to this instance arrived or its sending was aborted.
+     *
+     * @see #getOutstandingRequests()
+     */
+    public void unregisterInboundRequest() {
+        inboundRequests--;
+    }
+
+    /**
+     * Gets the amount of requests this instance still has to answer. This includes requests that are currently
+     * traveling towards this instance and requests that are currently handled by it.
+     *
+     * <p>
+     * Both values are maintained incrementally, so this is an O(1) operation.
+     *
+     * @return the amount of outstanding requests of this instance.
+     */
+    public int getOutstandingRequests() {
+        return inboundRequests + currentRequestsToHandle.size();
+    }
+
+    /**
+     * Gets the amount of requests this instance answered so far.
+     */
+    public long getAnsweredRequests() {
+        return answeredRequests;
+    }
+
+    /**
+     * Gets the sum of the handling times (from the arrival of a request to sending its answer) of all requests this
+     * instance answered so far.
+     */
+    public double getTotalHandlingTime() {
+        return totalHandlingTime;
     }
 
     @Override
@@ -381,7 +513,7 @@ public class MicroserviceInstance extends RequestSender implements IRequestUpdat
         try {
             letRequestFail(request);
         } catch (IllegalArgumentException e) {
-            sendTraceNote("Could not cancel request " + request.getName() + ". Was this request cancled before?");
+            sendTraceNote(() -> "Could not cancel request " + request.getName() + ". Was this request cancled before?");
         }
 
 
@@ -446,11 +578,12 @@ public class MicroserviceInstance extends RequestSender implements IRequestUpdat
         //cancel parent
         NetworkRequestEvent cancelEvent
             = new NetworkRequestCanceledEvent(getModel(),
-            String.format("Canceling of request %s", parentToCancel.getQuotedName()),
+            TransientNames.of(getModel(), "RequestCancel",
+                () -> String.format("Canceling of request %s", parentToCancel.getQuotedName())),
             traceIsOn(),
             parentToCancel,
             RequestFailedReason.DEPENDENCY_NOT_AVAILABLE,
-            String.format("Dependency %s", request.getQuotedName()));
+            () -> String.format("Dependency %s", request.getQuotedName()));
         cancelEvent.schedule(presentTime());
 
         //cancel all internal requests  of the parent that are underway
@@ -463,7 +596,30 @@ public class MicroserviceInstance extends RequestSender implements IRequestUpdat
             abortedDependencies.addAll(parentToCancel.getDependencies());
         }
         currentlyOpenDependencies.removeAll(parentToCancel.getDependencies());
-        currentRequestsToHandle.remove(parentToCancel);
+        if (currentRequestsToHandle.remove(parentToCancel)) {
+            countRequest(parentToCancel, -1);
+        }
+    }
+
+    /**
+     * Periodically samples the queue statistics of this instance, if they are reported in intervals. Stops once the
+     * instance was shut down or killed and is scheduled again if a shut down instance is restarted.
+     */
+    private final class QueueStatisticsSamplingEvent extends NamedExternalEvent {
+        private final TimeSpan interval;
+
+        private QueueStatisticsSamplingEvent(Model model, double interval) {
+            super(model, "QueueStatisticsSampling", false);
+            this.interval = new TimeSpan(interval);
+        }
+
+        @Override
+        public void eventRoutine() throws SuspendExecution {
+            reportQueueStatistics(false);
+            if (state != InstanceState.SHUTDOWN && state != InstanceState.KILLED) {
+                schedule(interval);
+            }
+        }
     }
 
 }
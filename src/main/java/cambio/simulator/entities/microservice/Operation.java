@@ -1,10 +1,12 @@
 package cambio.simulator.entities.microservice;
 
 import java.util.Arrays;
+import java.util.SplittableRandom;
 
 import cambio.simulator.entities.NamedEntity;
 import cambio.simulator.entities.networking.DependencyDescription;
 import cambio.simulator.entities.networking.NetworkDependency;
+import cambio.simulator.misc.RandomStreams;
 import com.google.gson.annotations.Expose;
 import desmoj.core.dist.NumericalDist;
 import desmoj.core.simulator.Model;
@@ -23,6 +25,15 @@ public class Operation extends NamedEntity {
     @Expose
     private DependencyDescription[] dependencies = new DependencyDescription[0];
 
+    @Expose
+    private Double timeout = null;
+
+    @Expose
+    private double cpuWeight = 1;
+
+    private transient SplittableRandom dependencyRandomStream;
+    private transient String responseTimesDatasetName;
+
     /**
      * Constructs a new endpoint for a microservice.
      *
@@ -39,10 +50,70 @@ public class Operation extends NamedEntity {
         return dependencies;
     }
 
+    /**
+     * Gets the random stream that is used to decide which dependencies of this operation are required by a request.
+     * Each operation has its own stream, so the decisions are independent of the traffic of other operations.
+     *
+     * @return the random stream for the dependency probabilities of this operation
+     */
+    public SplittableRandom getDependencyRandomStream() {
+        if (dependencyRandomStream == null) {
+            String streamName = ownerMS == null ? getPlainName() : getFullyQualifiedPlainName();
+            dependencyRandomStream =
+                RandomStreams.forModel(getModel()).getStream("DependencyProbability:" + streamName);
+        }
+        return dependencyRandomStream;
+    }
+
+    /**
+     * Gets the name of the dataset that contains the response times of user requests to this operation. The name is
+     * created once, since it is needed for every finished user request.
+     *
+     * @return the name of the response time dataset of this operation, without the prefix of its reporter
+     */
+    public String getResponseTimesDatasetName() {
+        if (responseTimesDatasetName == null) {
+            responseTimesDatasetName = String.format("[%s]_ResponseTimes", getName());
+        }
+        return responseTimesDatasetName;
+    }
+
     public int getDemand() {
         return demand;
     }
 
+    /**
+     * Gets whether requests to this operation use a custom timeout instead of the default one.
+     *
+     * @return whether this operation has a custom timeout.
+     */
+    public boolean hasCustomTimeout() {
+        return timeout != null;
+    }
+
+    /**
+     * Gets the custom timeout of requests to this operation in seconds.
+     *
+     * @return the custom timeout of this operation.
+     */
+    public double getCustomTimeout() {
+        if (timeout == null) {
+            throw new IllegalStateException("No Custom Timeout was set for this Operation.");
+        }
+        return timeout;
+    }
+
+    /**
+     * Gets the weight of requests to this operation on a discriminatory processor sharing CPU. Processes with a higher
+     * weight receive a proportionally larger share of the CPU.
+     *
+     * @return the cpu weight of this operation, defaults to 1
+     * @see cambio.simulator.resources.cpu.CPUType#DISCRIMINATORY_PROCESSOR_SHARING
+     */
+    public double getCpuWeight() {
+        return cpuWeight;
+    }
+
     public Microservice getOwnerMS() {
         return ownerMS;
     }
@@ -34,6 +34,9 @@ public class DependencyDescription {
     @Expose
     private final ContDistNormal customDelay;
 
+    @Expose
+    private final Double timeout = null;
+
     private final transient Operation targetOperation;
 
     private final transient Operation parentOperation;
@@ -153,6 +156,27 @@ public class DependencyDescription {
         return nextlatency;
     }
 
+    /**
+     * Gets whether this dependency has a custom timeout. This timeout overrides the timeout of the target operation.
+     *
+     * @return whether this dependency has a custom timeout.
+     */
+    public boolean hasCustomTimeout() {
+        return timeout != null;
+    }
+
+    /**
+     * Gets the custom timeout of requests of this dependency in seconds.
+     *
+     * @return the custom timeout of this dependency.
+     */
+    public double getCustomTimeout() {
+        if (timeout == null) {
+            throw new IllegalStateException("No Custom Timeout was set for this Dependency.");
+        }
+        return timeout;
+    }
+
     /**
      * Turns the {@link DependencyDescription#targetServiceName} and  {@link DependencyDescription#targetOperationName}
      * into the actual target Operation reference.
@@ -1,5 +1,6 @@
 package cambio.simulator.entities.networking;
 
+import cambio.simulator.entities.TransientNames;
 import cambio.simulator.entities.microservice.MicroserviceInstance;
 import desmoj.core.simulator.Model;
 
@@ -22,9 +23,9 @@ public class InternalRequest extends Request {
     public InternalRequest(Model model, boolean showInTrace, NetworkDependency dependency,
                            MicroserviceInstance requester) {
         super(model,
-            String
+            TransientNames.of(model, "Request", () -> String
                 .format("Cascading Request %s(%s)", dependency.getTargetOp().getOwnerMS().getPlainName(),
-                    dependency.getTargetOp().getPlainName()),
+                    dependency.getTargetOp().getPlainName())),
             showInTrace,
             dependency.getParentRequest(),
             dependency.getTargetOp(), requester);
@@ -3,6 +3,7 @@ package cambio.simulator.entities.networking;
 import java.util.Objects;
 
 import cambio.simulator.entities.NamedEntity;
+import cambio.simulator.entities.TransientNames;
 import cambio.simulator.entities.microservice.Microservice;
 import cambio.simulator.entities.microservice.MicroserviceInstance;
 import cambio.simulator.entities.microservice.Operation;
@@ -36,8 +37,8 @@ public class NetworkDependency extends NamedEntity {
      */
     public NetworkDependency(Model model, Request parentRequest, Operation targetOp,
                              DependencyDescription dependencyDescription) {
-        super(model, String.format("Dependency(%s)of[%s]", targetOp.getPlainName(), parentRequest.getPlainName()),
-            false);
+        super(model, TransientNames.of(model, "Dependency",
+            () -> String.format("Dependency(%s)of[%s]", targetOp.getPlainName(), parentRequest.getPlainName())), false);
         this.parentRequest = parentRequest;
         this.targetOp = targetOp;
         this.targetMicroservice = targetOp.getOwnerMS();
@@ -93,6 +94,14 @@ public class NetworkDependency extends NamedEntity {
         return dependencyDescription.getNextCustomDelay();
     }
 
+    public boolean hasCustomTimeout() {
+        return dependencyDescription.hasCustomTimeout();
+    }
+
+    public double getCustomTimeout() {
+        return dependencyDescription.getCustomTimeout();
+    }
+
     @Override
     public boolean equals(Object other) {
         if (this == other) {
@@ -1,5 +1,7 @@
 package cambio.simulator.entities.networking;
 
+import java.util.function.Supplier;
+
 import cambio.simulator.misc.Priority;
 import co.paralleluniverse.fibers.SuspendExecution;
 import desmoj.core.simulator.Model;
@@ -12,11 +14,11 @@ import desmoj.core.simulator.Model;
 public class NetworkRequestCanceledEvent extends NetworkRequestEvent {
 
     private final RequestFailedReason reason;
-    private final String details;
+    private final Supplier<String> details;
 
     public NetworkRequestCanceledEvent(Model model, String name, boolean showInTrace, Request request,
                                        RequestFailedReason reason) {
-        this(model, name, showInTrace, request, reason, null);
+        this(model, name, showInTrace, request, reason, (Supplier<String>) null);
     }
 
     /**
@@ -28,6 +30,18 @@ public class NetworkRequestCanceledEvent extends NetworkRequestEvent {
      */
     public NetworkRequestCanceledEvent(Model model, String name, boolean showInTrace, Request request,
                                        RequestFailedReason reason, String details) {
+        this(model, name, showInTrace, request, reason, details == null ? null : () -> details);
+    }
+
+    /**
+     * Creates an event that notifies {@link IRequestUpdateListener}s of the failing of a request.
+     *
+     * @param request request
+     * @param reason  why the request canceled/failed
+     * @param details optional supplier of a reasoning string that is used in the trace, only called if the trace is on
+     */
+    public NetworkRequestCanceledEvent(Model model, String name, boolean showInTrace, Request request,
+                                       RequestFailedReason reason, Supplier<String> details) {
         super(model, name, showInTrace, request);
         this.reason = reason;
         this.details = details;
@@ -37,9 +51,9 @@ public class NetworkRequestCanceledEvent extends NetworkRequestEvent {
     @Override
     public void eventRoutine() throws SuspendExecution {
         sendTraceNote(
-            String.format("Request %s was not handled. Cause: %s", travelingRequest.getQuotedName(), reason));
+            () -> String.format("Request %s was not handled. Cause: %s", travelingRequest.getQuotedName(), reason));
         if (details != null) {
-            sendTraceNote(String.format("Details: %s", details));
+            sendTraceNote(() -> String.format("Details: %s", details.get()));
         }
         updateListener.onRequestFailed(travelingRequest, presentTime(), reason);
     }
@@ -1,11 +1,8 @@
 package cambio.simulator.entities.networking;
 
-import java.util.Collection;
-
 import cambio.simulator.entities.NamedExternalEvent;
 import co.paralleluniverse.fibers.SuspendExecution;
 import desmoj.core.simulator.Model;
-import desmoj.core.simulator.TimeInstant;
 
 /**
  * Superclass for network events that take care of exactly one traveling {@code Request}. It provides its subclasses
@@ -20,7 +17,6 @@ public abstract class NetworkRequestEvent extends NamedExternalEvent {
 
     protected final Request travelingRequest;
     protected final IRequestUpdateListener updateListener;
-    private final Collection<IRequestUpdateListener> updateListeners;
 
     /**
      * Common constructor that enforces the association of a request with an External Event.
@@ -30,35 +26,8 @@ public abstract class NetworkRequestEvent extends NamedExternalEvent {
     public NetworkRequestEvent(Model model, String name, boolean showInTrace, Request travelingRequest) {
         super(model, name, showInTrace);
         this.travelingRequest = travelingRequest;
-        updateListeners = travelingRequest.getUpdateListeners();
-
-        //adapter/proxy, so each inheriting object only sees one single anonymous updateListener
-        updateListener = new IRequestUpdateListener() {
-            @Override
-            public boolean onRequestFailed(final Request request, final TimeInstant when,
-                                           final RequestFailedReason reason) {
-                updateListeners.forEach(listener -> listener.onRequestFailed(request, when, reason));
-                return true;
-            }
-
-            @Override
-            public boolean onRequestArrivalAtTarget(Request request, TimeInstant when) {
-                updateListeners.forEach(listener -> listener.onRequestArrivalAtTarget(request, when));
-                return true;
-            }
-
-            @Override
-            public boolean onRequestSend(Request request, TimeInstant when) {
-                updateListeners.forEach(listener -> listener.onRequestSend(request, when));
-                return true;
-            }
-
-            @Override
-            public boolean onRequestResultArrivedAtRequester(Request request, TimeInstant when) {
-                updateListeners.forEach(listener -> listener.onRequestResultArrivedAtRequester(request, when));
-                return true;
-            }
-        };
+        //proxy, so each inheriting object only sees one single updateListener. Shared by all events of the request.
+        updateListener = travelingRequest.getListenerDispatcher();
     }
 
     /**
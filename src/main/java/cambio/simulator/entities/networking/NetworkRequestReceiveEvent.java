@@ -1,8 +1,10 @@
 package cambio.simulator.entities.networking;
 
+import cambio.simulator.entities.TransientNames;
 import cambio.simulator.entities.microservice.MicroserviceInstance;
 import co.paralleluniverse.fibers.SuspendExecution;
 import desmoj.core.simulator.Model;
+import desmoj.core.simulator.TimeSpan;
 
 /**
  * Event that represents the successful arrival of a request at its target instance.
@@ -15,6 +17,7 @@ import desmoj.core.simulator.Model;
 public class NetworkRequestReceiveEvent extends NetworkRequestEvent {
 
     private final MicroserviceInstance receivingInstance;
+    private boolean countedAsInbound = false;
 
     public NetworkRequestReceiveEvent(Model model, String name, boolean showInTrace,
                                       Request travelingRequest,
@@ -23,8 +26,40 @@ public class NetworkRequestReceiveEvent extends NetworkRequestEvent {
         receivingInstance = receiver;
     }
 
+    /**
+     * Schedules the arrival of the request and registers it as inbound request at the receiving instance. Answers are
+     * not registered, since they are not handled as new requests by their receiver.
+     *
+     * @see MicroserviceInstance#getOutstandingRequests()
+     */
+    void scheduleArrival(TimeSpan delay) {
+        schedule(delay);
+        if (!(travelingRequest instanceof RequestAnswer)) {
+            receivingInstance.registerInboundRequest();
+            countedAsInbound = true;
+        }
+    }
+
+    /**
+     * Cancels the arrival of the request, if it is still scheduled.
+     */
+    void cancelArrival() {
+        if (isScheduled()) {
+            cancel();
+            releaseInbound();
+        }
+    }
+
+    private void releaseInbound() {
+        if (countedAsInbound) {
+            countedAsInbound = false;
+            receivingInstance.unregisterInboundRequest();
+        }
+    }
+
     @Override
     public void eventRoutine() throws SuspendExecution {
+        releaseInbound();
         travelingRequest.stampReceivedAtHandler(presentTime());
 
         try {
@@ -38,7 +73,9 @@ public class NetworkRequestReceiveEvent extends NetworkRequestEvent {
             updateListener.onRequestArrivalAtTarget(travelingRequest, presentTime());
         } catch (IllegalStateException e) {
             NetworkRequestEvent event = new NetworkRequestCanceledEvent(getModel(),
-                String.format("CANCEL Event for %s", travelingRequest.getQuotedName()), traceIsOn(), travelingRequest,
+                TransientNames.of(getModel(), "RequestCancel",
+                    () -> String.format("CANCEL Event for %s", travelingRequest.getQuotedName())),
+                traceIsOn(), travelingRequest,
                 RequestFailedReason.HANDLING_INSTANCE_DIED);
             event.schedule(presentTime());
         }
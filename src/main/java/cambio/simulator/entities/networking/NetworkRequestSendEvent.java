@@ -2,11 +2,13 @@ package cambio.simulator.entities.networking;
 
 import java.util.concurrent.atomic.AtomicLong;
 
+import cambio.simulator.entities.TransientNames;
 import cambio.simulator.entities.microservice.Microservice;
 import cambio.simulator.entities.microservice.MicroserviceInstance;
 import cambio.simulator.entities.microservice.NoInstanceAvailableException;
+import cambio.simulator.entities.microservice.Operation;
+import cambio.simulator.models.MiSimModel;
 import co.paralleluniverse.fibers.SuspendExecution;
-import desmoj.core.dist.ContDistNormal;
 import desmoj.core.dist.NumericalDist;
 import desmoj.core.simulator.Model;
 import desmoj.core.simulator.TimeSpan;
@@ -19,12 +21,12 @@ import desmoj.core.simulator.TimeSpan;
  */
 public class NetworkRequestSendEvent extends NetworkRequestEvent {
 
-    private static final AtomicLong counterSendEvents = new AtomicLong(0);
-    private static NumericalDist<Double> rng;
+    private final AtomicLong counterSendEvents;
+    private final NumericalDist<Double> rng;
     private final Microservice targetService;
     private final MicroserviceInstance targetInstance;
     private NetworkRequestReceiveEvent receiverEvent;
-    private NetworkRequestTimeoutEvent timeoutEvent;
+    private RequestTimeout timeout;
     private boolean isCanceled = false;
 
     public NetworkRequestSendEvent(Model model, String name, boolean showInTrace, Request request,
@@ -43,19 +45,18 @@ public class NetworkRequestSendEvent extends NetworkRequestEvent {
         this.targetService = targetService;
         this.targetInstance = targetInstance;
         request.setSendEvent(this);
-
-        //TODO: remove dirty fix to avoid memory leakage
-        if (rng == null) {
-            rng = new ContDistNormal(getModel(), "DefaultNetworkDelay_RNG", 1.6, 0.6, true, false);
-        }
+        this.rng = ((MiSimModel) model).getDefaultNetworkDelay();
+        this.counterSendEvents = ((MiSimModel) model).getSendEventCounter();
     }
 
-    public static long getCounterSendEvents() {
-        return counterSendEvents.get();
-    }
-
-    public static void resetCounterSendEvents() {
-        counterSendEvents.set(0);
+    /**
+     * Gets the number of send events that were executed in the given model.
+     *
+     * @param model model whose send events should be counted
+     * @return the number of executed send events, 0 if the model is not a {@link MiSimModel}
+     */
+    public static long getCounterSendEvents(Model model) {
+        return model instanceof MiSimModel ? ((MiSimModel) model).getSendEventCounter().get() : 0;
     }
 
     @Override
@@ -93,23 +94,55 @@ public class NetworkRequestSendEvent extends NetworkRequestEvent {
             NetworkRequestEvent cancelEvent =
                 new NetworkRequestCanceledEvent(getModel(), "RequestCanceledEvent", traceIsOn(), travelingRequest,
                     RequestFailedReason.NO_INSTANCE_AVAILABLE,
-                    String.format("No Instance for Service %s was available.", targetService.getQuotedName()));
+                    () -> String.format("No Instance for Service %s was available.", targetService.getQuotedName()));
             cancelEvent.schedule(new TimeSpan(nextDelay));
         } else {
-            receiverEvent = new NetworkRequestReceiveEvent(getModel(),
-                String.format("Receiving of %s", travelingRequest.getQuotedPlainName()), traceIsOn(), travelingRequest,
-                targetInstance);
-            receiverEvent.schedule(new TimeSpan(nextDelay));
+            receiverEvent = new NetworkRequestReceiveEvent(getModel(), TransientNames.of(getModel(), "RequestReceive",
+                () -> String.format("Receiving of %s", travelingRequest.getQuotedPlainName())), traceIsOn(),
+                travelingRequest, targetInstance);
+            receiverEvent.scheduleArrival(new TimeSpan(nextDelay));
 
-            timeoutEvent =
-                new NetworkRequestTimeoutEvent(getModel(), "Timeout Checker for " + travelingRequest.getPlainName(),
-                    getModel().traceIsOn(), travelingRequest);
-            travelingRequest.addUpdateListener(timeoutEvent);
+            timeout = ((MiSimModel) getModel()).getRequestTimeoutWheel()
+                .startTimeout(travelingRequest, resolveTimeout());
+            travelingRequest.addUpdateListener(timeout);
 
             travelingRequest.setReceiveEvent(receiverEvent);
         }
     }
 
+    private NetworkDependency getRelatedDependency() {
+        if (!travelingRequest.hasParent()) {
+            return null;
+        }
+        if (travelingRequest instanceof RequestAnswer) {
+            Request parent = ((RequestAnswer) travelingRequest).unpack();
+            return parent.getParent().getRelatedDependency(parent);
+        }
+        return travelingRequest.getParent().getRelatedDependency(travelingRequest);
+    }
+
+    /**
+     * Resolves the timeout of the traveling request. A timeout defined on the dependency takes precedence over one
+     * defined on the target operation, otherwise {@link RequestTimeoutWheel#DEFAULT_TIMEOUT} is used.
+     *
+     * @return the timeout of the traveling request in seconds
+     */
+    private double resolveTimeout() {
+        if (!(travelingRequest instanceof UserRequest)) {
+            NetworkDependency dep = getRelatedDependency();
+            if (dep != null && dep.hasCustomTimeout()) {
+                return dep.getCustomTimeout();
+            }
+        }
+        Operation operation = travelingRequest instanceof RequestAnswer
+            ? ((RequestAnswer) travelingRequest).unpack().operation
+            : travelingRequest.operation;
+        if (operation != null && operation.hasCustomTimeout()) {
+            return operation.getCustomTimeout();
+        }
+        return RequestTimeoutWheel.DEFAULT_TIMEOUT;
+    }
+
     private double customizeLatency(double nextDelay) {
         if (this.travelingRequest instanceof UserRequest) {
             return 0;
@@ -117,11 +150,7 @@ public class NetworkRequestSendEvent extends NetworkRequestEvent {
 
         double modifiedDelay = nextDelay;
         if (travelingRequest.hasParent()) {
-            NetworkDependency dep = travelingRequest.getParent().getRelatedDependency(travelingRequest);
-            if (travelingRequest instanceof RequestAnswer) {
-                Request parent = ((RequestAnswer) travelingRequest).unpack();
-                dep = parent.getParent().getRelatedDependency(parent);
-            }
+            NetworkDependency dep = getRelatedDependency();
 
             if (dep == null) {
                 return modifiedDelay;
@@ -136,8 +165,8 @@ public class NetworkRequestSendEvent extends NetworkRequestEvent {
     }
 
     /**
-     * Cancels the send event. Also cancels the relative {@link NetworkRequestReceiveEvent} and {@link
-     * NetworkRequestTimeoutEvent} events. Triggers a {@link NetworkRequestCanceledEvent}.
+     * Cancels the send event. Also cancels the relative {@link NetworkRequestReceiveEvent} event and the
+     * {@link RequestTimeout} of the request. Triggers a {@link NetworkRequestCanceledEvent}.
      */
     public void cancel() {
         super.cancel();
@@ -150,11 +179,11 @@ public class NetworkRequestSendEvent extends NetworkRequestEvent {
             return;
         }
 
-        if (receiverEvent != null && receiverEvent.isScheduled()) {
-            receiverEvent.cancel();
+        if (receiverEvent != null) {
+            receiverEvent.cancelArrival();
         }
-        if (timeoutEvent != null && timeoutEvent.isScheduled()) {
-            timeoutEvent.cancel();
+        if (timeout != null) {
+            timeout.cancel();
         }
         new NetworkRequestCanceledEvent(getModel(), "RequestCanceledEvent", traceIsOn(), travelingRequest,
             RequestFailedReason.REQUESTING_INSTANCE_DIED, "Sending was forcibly aborted!");
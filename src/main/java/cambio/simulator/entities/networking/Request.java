@@ -2,14 +2,13 @@ package cambio.simulator.entities.networking;
 
 import java.util.Collection;
 import java.util.HashSet;
-import java.util.PriorityQueue;
-import java.util.Random;
 import java.util.Set;
+import java.util.SplittableRandom;
 
 import cambio.simulator.entities.NamedEntity;
+import cambio.simulator.entities.TransientNames;
 import cambio.simulator.entities.microservice.MicroserviceInstance;
 import cambio.simulator.entities.microservice.Operation;
-import cambio.simulator.models.MiSimModel;
 import desmoj.core.simulator.Model;
 import desmoj.core.simulator.TimeInstant;
 import org.apache.commons.math3.util.Precision;
@@ -24,7 +23,34 @@ public abstract class Request extends NamedEntity {
     private final Set<NetworkDependency> dependencies = new HashSet<>();
     private final Request parent;
     private final MicroserviceInstance requester;
-    private final PriorityQueue<IRequestUpdateListener> updateListeners = new PriorityQueue<>();
+    //immutable and often shared with other requests, replaced on each change
+    private RequestListenerChain listenerChain = RequestListenerChain.empty(false);
+    //stable view on the current listener chain, notifies all listeners
+    private final IRequestUpdateListener listenerDispatcher = new IRequestUpdateListener() {
+        @Override
+        public boolean onRequestFailed(Request request, TimeInstant when, RequestFailedReason reason) {
+            listenerChain.fireRequestFailed(request, when, reason);
+            return true;
+        }
+
+        @Override
+        public boolean onRequestArrivalAtTarget(Request request, TimeInstant when) {
+            listenerChain.fireRequestArrivalAtTarget(request, when);
+            return true;
+        }
+
+        @Override
+        public boolean onRequestSend(Request request, TimeInstant when) {
+            listenerChain.fireRequestSend(request, when);
+            return true;
+        }
+
+        @Override
+        public boolean onRequestResultArrivedAtRequester(Request request, TimeInstant when) {
+            listenerChain.fireRequestResultArrivedAtRequester(request, when);
+            return true;
+        }
+    };
     private MicroserviceInstance handlerInstance;
     //microservice instance that collects dependencies of this request and computes it
     private boolean computationCompleted = false;
@@ -53,10 +79,11 @@ public abstract class Request extends NamedEntity {
 
 
     private void createDependencies() {
+        if (operation.getDependencyDescriptions().length == 0) {
+            return;
+        }
         // Roll probability
-        Random prob;
-        prob = new Random(((MiSimModel) getModel()).getExperimentMetaData().getSeed()); //TODO: resolve this mess (e
-        // .g. enforce MiSimModel in NamedEntity)
+        SplittableRandom prob = operation.getDependencyRandomStream();
 
         for (DependencyDescription dependencyDescription : operation.getDependencyDescriptions()) {
 
@@ -190,6 +217,10 @@ public abstract class Request extends NamedEntity {
         this.setTimestampSend(stamp);
     }
 
+    public TimeInstant getTimestampReceivedAtHandler() {
+        return timestampReceivedAtHandler;
+    }
+
     /**
      * Marks the point in time this request was received at a handler.
      */
@@ -279,19 +310,19 @@ public abstract class Request extends NamedEntity {
      * these are essentially Events in a programmatic sense (like in C#, not like in DES)
      */
     protected void onDependenciesComplete() {
-        sendDebugNote(String.format("Dependencies Completed: %s", getQuotedName()));
+        sendDebugNote(() -> String.format("Dependencies Completed: %s", getQuotedName()));
     }
 
     protected void onComputationComplete() {
-        sendDebugNote(String.format("Computation Completed: %s", getQuotedName()));
+        sendDebugNote(() -> String.format("Computation Completed: %s", getQuotedName()));
     }
 
     protected void onCompletion() {
-        sendDebugNote(String.format("Completed %s!", getQuotedName()));
+        sendDebugNote(() -> String.format("Completed %s!", getQuotedName()));
     }
 
     protected void onReceive() {
-        sendDebugNote(String.format("Arrived at Parent %s!", getQuotedName()));
+        sendDebugNote(() -> String.format("Arrived at Parent %s!", getQuotedName()));
     }
 
     public MicroserviceInstance getHandler() {
@@ -302,8 +333,32 @@ public abstract class Request extends NamedEntity {
         this.handlerInstance = handler;
     }
 
+    /**
+     * Gets the listeners of this request, ordered by their priority.
+     *
+     * @return an unmodifiable snapshot of the listeners of this request
+     */
     public Collection<IRequestUpdateListener> getUpdateListeners() {
-        return updateListeners;
+        return listenerChain.getListeners();
+    }
+
+    /**
+     * Gets the listeners of this request, frozen into a {@link RequestListenerChain} that notifies all listeners.
+     *
+     * @return the current listener chain of this request
+     */
+    public RequestListenerChain getListenerChain() {
+        return listenerChain;
+    }
+
+    /**
+     * Gets a listener that forwards all updates to the current listeners of this request. Always reports the update as
+     * consumed.
+     *
+     * @return a proxy for the listeners of this request
+     */
+    public IRequestUpdateListener getListenerDispatcher() {
+        return listenerDispatcher;
     }
 
     /**
@@ -312,7 +367,17 @@ public abstract class Request extends NamedEntity {
      * @param updateListener listener to add.
      */
     public void addUpdateListener(IRequestUpdateListener updateListener) {
-        this.updateListeners.add(updateListener);
+        this.listenerChain = listenerChain.with(updateListener);
+    }
+
+    /**
+     * Adds all listeners of the given chain to this request. If this request has no listeners yet, the chain is shared
+     * instead of copied.
+     *
+     * @param chain chain of the listeners that should be added
+     */
+    public void addUpdateListeners(RequestListenerChain chain) {
+        this.listenerChain = listenerChain.withAll(chain);
     }
 
 
@@ -332,7 +397,8 @@ public abstract class Request extends NamedEntity {
     public void cancelExecutionAtHandler() {
         Request request = this;
         NetworkRequestEvent cancelEvent =
-            new NetworkRequestCanceledEvent(getModel(), String.format("CANCEL Event for %s", request.getQuotedName()),
+            new NetworkRequestCanceledEvent(getModel(), TransientNames.of(getModel(), "RequestCancel",
+                () -> String.format("CANCEL Event for %s", request.getQuotedName())),
                 request.traceIsOn(), request, RequestFailedReason.HANDLING_INSTANCE_DIED);
         cancelEvent.schedule(presentTime());
         request.canceledEvent = canceledEvent;
@@ -1,5 +1,6 @@
 package cambio.simulator.entities.networking;
 
+import cambio.simulator.entities.TransientNames;
 import cambio.simulator.entities.microservice.MicroserviceInstance;
 import cambio.simulator.entities.microservice.Operation;
 
@@ -21,12 +22,13 @@ public final class RequestAnswer extends Request {
      */
     public RequestAnswer(Request wrappedRequest, MicroserviceInstance answerSender) {
         super(wrappedRequest.getModel(),
-            "Request_Answer_" + wrappedRequest.getPlainName(),
+            TransientNames.of(wrappedRequest.getModel(), "RequestAnswer",
+                () -> "Request_Answer_" + wrappedRequest.getPlainName()),
             wrappedRequest.traceIsOn(),
             wrappedRequest,
             new Operation(wrappedRequest.getModel(), "Dummy", false, null, 0),
             answerSender); //inserting dummy operation
-        this.getUpdateListeners().addAll(wrappedRequest.getUpdateListeners());
+        this.addUpdateListeners(wrappedRequest.getListenerChain());
     }
 
     public MicroserviceInstance getAnswerSender() {
@@ -0,0 +1,266 @@
+package cambio.simulator.entities.networking;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import desmoj.core.simulator.TimeInstant;
+
+/**
+ * Immutable, pre-sorted chain of {@link IRequestUpdateListener}s.
+ *
+ * <p>
+ * The listeners of a chain are ordered by their {@link IRequestUpdateListener#getListeningPriority()}, highest first.
+ * Listeners with equal priority keep the order in which they were added. For each callback the chain additionally
+ * keeps an array that only contains the listeners which actually override that callback. Hence, notifying the
+ * listeners neither allocates streams or iterators nor calls empty default methods.
+ *
+ * <p>
+ * A chain is either <i>consumable</i> or not. A consumable chain stops notifying its listeners as soon as one of them
+ * consumed the update (returned {@code true}), like the listeners of a {@link RequestSender}. A non-consumable chain
+ * always notifies all of its listeners, like the listeners of a {@link Request}.
+ *
+ * <p>
+ * Since chains are immutable, they can be shared freely, e.g. between all requests of the same {@link RequestSender}.
+ * Adding a listener creates a new chain.
+ *
+ * @author Lion Wagner
+ * @see RequestSender
+ * @see Request#getListenerChain()
+ */
+public final class RequestListenerChain {
+
+    private static final IRequestUpdateListener[] NO_LISTENERS = new IRequestUpdateListener[0];
+
+    private static final int FAILED = 0;
+    private static final int ARRIVAL = 1;
+    private static final int SEND = 2;
+    private static final int RESULT = 3;
+
+    //caches which callbacks are overridden by a listener class
+    private static final ClassValue<boolean[]> OVERRIDDEN_CALLBACKS = new ClassValue<boolean[]>() {
+        @Override
+        protected boolean[] computeValue(Class<?> type) {
+            return new boolean[] {
+                isOverridden(type, "onRequestFailed", Request.class, TimeInstant.class, RequestFailedReason.class),
+                isOverridden(type, "onRequestArrivalAtTarget", Request.class, TimeInstant.class),
+                isOverridden(type, "onRequestSend", Request.class, TimeInstant.class),
+                isOverridden(type, "onRequestResultArrivedAtRequester", Request.class, TimeInstant.class)
+            };
+        }
+    };
+
+    private final boolean consumable;
+    private final IRequestUpdateListener[] listeners;
+    private final IRequestUpdateListener[] failedListeners;
+    private final IRequestUpdateListener[] arrivalListeners;
+    private final IRequestUpdateListener[] sendListeners;
+    private final IRequestUpdateListener[] resultListeners;
+
+    private RequestListenerChain(boolean consumable, IRequestUpdateListener[] sortedListeners) {
+        this.consumable = consumable;
+        this.listeners = sortedListeners;
+        this.failedListeners = filter(sortedListeners, FAILED);
+        this.arrivalListeners = filter(sortedListeners, ARRIVAL);
+        this.sendListeners = filter(sortedListeners, SEND);
+        this.resultListeners = filter(sortedListeners, RESULT);
+    }
+
+    /**
+     * Creates an empty chain.
+     *
+     * @param consumable whether the notification of listeners should stop once an update was consumed
+     * @return an empty chain
+     */
+    public static RequestListenerChain empty(boolean consumable) {
+        return new RequestListenerChain(consumable, NO_LISTENERS);
+    }
+
+    /**
+     * Freezes the given listeners into a chain. The listeners are expected to be already ordered, e.g. because they are
+     * taken from a sorted set.
+     *
+     * @param consumable      whether the notification of listeners should stop once an update was consumed
+     * @param sortedListeners listeners in the order in which they should be notified
+     * @return a chain that contains the given listeners in the given order
+     */
+    static RequestListenerChain ofSorted(boolean consumable, Iterable<IRequestUpdateListener> sortedListeners) {
+        IRequestUpdateListener[] array = NO_LISTENERS;
+        int size = 0;
+        for (IRequestUpdateListener listener : sortedListeners) {
+            if (size == array.length) {
+                array = Arrays.copyOf(array, Math.max(4, size * 2));
+            }
+            array[size++] = listener;
+        }
+        return new RequestListenerChain(consumable, size == array.length ? array : Arrays.copyOf(array, size));
+    }
+
+    private static boolean isOverridden(Class<?> type, String name, Class<?>... parameterTypes) {
+        try {
+            return type.getMethod(name, parameterTypes).getDeclaringClass() != IRequestUpdateListener.class;
+        } catch (NoSuchMethodException e) {
+            return true;
+        }
+    }
+
+    private static IRequestUpdateListener[] filter(IRequestUpdateListener[] listeners, int callback) {
+        int count = 0;
+        for (IRequestUpdateListener listener : listeners) {
+            if (OVERRIDDEN_CALLBACKS.get(listener.getClass())[callback]) {
+                count++;
+            }
+        }
+        if (count == listeners.length) {
+            return listeners;
+        }
+        IRequestUpdateListener[] filtered = new IRequestUpdateListener[count];
+        int index = 0;
+        for (IRequestUpdateListener listener : listeners) {
+            if (OVERRIDDEN_CALLBACKS.get(listener.getClass())[callback]) {
+                filtered[index++] = listener;
+            }
+        }
+        return filtered;
+    }
+
+    /**
+     * Creates a new chain that additionally contains the given listener. It is placed behind all listeners with the
+     * same or a higher priority.
+     *
+     * @param listener listener that should be added
+     * @return a new chain that contains all listeners of this chain and the given listener
+     */
+    public RequestListenerChain with(IRequestUpdateListener listener) {
+        Objects.requireNonNull(listener);
+        int priority = listener.getListeningPriority();
+        int position = listeners.length;
+        while (position > 0 && listeners[position - 1].getListeningPriority() < priority) {
+            position--;
+        }
+        IRequestUpdateListener[] extended = new IRequestUpdateListener[listeners.length + 1];
+        System.arraycopy(listeners, 0, extended, 0, position);
+        extended[position] = listener;
+        System.arraycopy(listeners, position, extended, position + 1, listeners.length - position);
+        return new RequestListenerChain(consumable, extended);
+    }
+
+    /**
+     * Creates a new chain that additionally contains all listeners of the given chain. If one of the chains is empty,
+     * the other one is returned (with the consumption behavior of this chain).
+     *
+     * @param other chain whose listeners should be added
+     * @return a chain that contains the listeners of both chains
+     */
+    public RequestListenerChain withAll(RequestListenerChain other) {
+        if (other.isEmpty()) {
+            return this;
+        }
+        if (this.isEmpty()) {
+            return other.consumable == consumable ? other : new RequestListenerChain(consumable, other.listeners);
+        }
+        RequestListenerChain result = this;
+        for (IRequestUpdateListener listener : other.listeners) {
+            result = result.with(listener);
+        }
+        return result;
+    }
+
+    public boolean isEmpty() {
+        return listeners.length == 0;
+    }
+
+    public int size() {
+        return listeners.length;
+    }
+
+    public boolean isConsumable() {
+        return consumable;
+    }
+
+    /**
+     * Gets the listeners of this chain in the order in which they are notified.
+     *
+     * @return an unmodifiable list of the listeners of this chain
+     */
+    public List<IRequestUpdateListener> getListeners() {
+        return Collections.unmodifiableList(Arrays.asList(listeners));
+    }
+
+    /**
+     * Notifies the listeners about the failure of a request.
+     *
+     * @return true if one of the listeners consumed the update
+     * @see IRequestUpdateListener#onRequestFailed(Request, TimeInstant, RequestFailedReason)
+     */
+    public boolean fireRequestFailed(Request request, TimeInstant when, RequestFailedReason reason) {
+        boolean consumed = false;
+        for (IRequestUpdateListener listener : failedListeners) {
+            if (listener.onRequestFailed(request, when, reason)) {
+                consumed = true;
+                if (consumable) {
+                    break;
+                }
+            }
+        }
+        return consumed;
+    }
+
+    /**
+     * Notifies the listeners about the arrival of a request at its target.
+     *
+     * @return true if one of the listeners consumed the update
+     * @see IRequestUpdateListener#onRequestArrivalAtTarget(Request, TimeInstant)
+     */
+    public boolean fireRequestArrivalAtTarget(Request request, TimeInstant when) {
+        boolean consumed = false;
+        for (IRequestUpdateListener listener : arrivalListeners) {
+            if (listener.onRequestArrivalAtTarget(request, when)) {
+                consumed = true;
+                if (consumable) {
+                    break;
+                }
+            }
+        }
+        return consumed;
+    }
+
+    /**
+     * Notifies the listeners about the send-off of a request.
+     *
+     * @return true if one of the listeners consumed the update
+     * @see IRequestUpdateListener#onRequestSend(Request, TimeInstant)
+     */
+    public boolean fireRequestSend(Request request, TimeInstant when) {
+        boolean consumed = false;
+        for (IRequestUpdateListener listener : sendListeners) {
+            if (listener.onRequestSend(request, when)) {
+                consumed = true;
+                if (consumable) {
+                    break;
+                }
+            }
+        }
+        return consumed;
+    }
+
+    /**
+     * Notifies the listeners about the arrival of the result of a request at its requester.
+     *
+     * @return true if one of the listeners consumed the update
+     * @see IRequestUpdateListener#onRequestResultArrivedAtRequester(Request, TimeInstant)
+     */
+    public boolean fireRequestResultArrivedAtRequester(Request request, TimeInstant when) {
+        boolean consumed = false;
+        for (IRequestUpdateListener listener : resultListeners) {
+            if (listener.onRequestResultArrivedAtRequester(request, when)) {
+                consumed = true;
+                if (consumable) {
+                    break;
+                }
+            }
+        }
+        return consumed;
+    }
+}
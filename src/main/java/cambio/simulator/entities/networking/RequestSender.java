@@ -19,31 +19,36 @@ import desmoj.core.simulator.TimeSpan;
 public class RequestSender extends NamedEntity {
 
     private final TreeSet<IRequestUpdateListener> updateListeners = new TreeSet<>();
+    //frozen copy of the update listeners, rebuilt lazily after a listener was added
+    private RequestListenerChain listenerChain = RequestListenerChain.empty(true);
+    private boolean listenerChainOutdated = false;
     /**
      * Proxy that forwards events to all listeners while letting the event be consumable.
      */
     public final IRequestUpdateListener updateListenerProxy = new IRequestUpdateListener() {
         @Override
         public boolean onRequestFailed(Request request, TimeInstant when, RequestFailedReason reason) {
-            return updateListeners.stream().anyMatch(listener -> listener.onRequestFailed(request, when, reason));
+            return getListenerChain().fireRequestFailed(request, when, reason);
         }
 
         @Override
         public boolean onRequestArrivalAtTarget(Request request, TimeInstant when) {
-            return updateListeners.stream().anyMatch(listener -> listener.onRequestArrivalAtTarget(request, when));
+            return getListenerChain().fireRequestArrivalAtTarget(request, when);
         }
 
         @Override
         public boolean onRequestSend(Request request, TimeInstant when) {
-            return updateListeners.stream().anyMatch(listener -> listener.onRequestSend(request, when));
+            return getListenerChain().fireRequestSend(request, when);
         }
 
         @Override
         public boolean onRequestResultArrivedAtRequester(Request request, TimeInstant when) {
-            return updateListeners.stream()
-                .anyMatch(listener -> listener.onRequestResultArrivedAtRequester(request, when));
+            return getListenerChain().fireRequestResultArrivedAtRequester(request, when);
         }
     };
+    //chain that is shared by all requests sent by this sender, only contains the proxy
+    private final RequestListenerChain requestListenerChain =
+        RequestListenerChain.empty(false).with(updateListenerProxy);
 
     public RequestSender(Model model, String name, boolean showInTrace) {
         super(model, name, showInTrace);
@@ -69,7 +74,22 @@ public class RequestSender extends NamedEntity {
      */
     public final void addUpdateListener(IRequestUpdateListener listener) {
         Objects.requireNonNull(listener);
-        updateListeners.add(listener);
+        if (updateListeners.add(listener)) {
+            listenerChainOutdated = true;
+        }
+    }
+
+    /**
+     * Gets the listeners of this sender, frozen into a consumable {@link RequestListenerChain}.
+     *
+     * @return the current listener chain of this sender
+     */
+    public final RequestListenerChain getListenerChain() {
+        if (listenerChainOutdated) {
+            listenerChain = RequestListenerChain.ofSorted(true, updateListeners);
+            listenerChainOutdated = false;
+        }
+        return listenerChain;
     }
 
     /**
@@ -135,7 +155,7 @@ public class RequestSender extends NamedEntity {
      */
     private NetworkRequestSendEvent sendRequestInternal(String eventName, Request request, Object target,
                                                         TimeSpan delay) {
-        request.addUpdateListener(updateListenerProxy);
+        request.addUpdateListeners(requestListenerChain);
 
         NetworkRequestSendEvent sendEvent;
         if (target == null || target.getClass() == Microservice.class) {
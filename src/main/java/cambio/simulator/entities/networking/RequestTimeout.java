@@ -0,0 +1,67 @@
+package cambio.simulator.entities.networking;
+
+import cambio.simulator.misc.Priority;
+import desmoj.core.simulator.TimeInstant;
+
+/**
+ * Represents the pending timeout of a {@link Request} inside a {@link RequestTimeoutWheel}. Removes itself from the
+ * wheel as soon as the request fails or its result arrives at the requester.
+ *
+ * @author Lion Wagner
+ * @see RequestTimeoutWheel
+ */
+public final class RequestTimeout implements IRequestUpdateListener {
+
+    final long deadline;
+    private final RequestTimeoutWheel wheel;
+    private final Request request;
+
+    //intrusive list data, managed by the wheel
+    RequestTimeout prev;
+    RequestTimeout next;
+    int level = -1;
+    int index;
+
+    RequestTimeout(RequestTimeoutWheel wheel, Request request, long deadline) {
+        this.wheel = wheel;
+        this.request = request;
+        this.deadline = deadline;
+    }
+
+    public Request getRequest() {
+        return request;
+    }
+
+    /**
+     * Checks whether this timeout is still waiting to fire.
+     *
+     * @return true if this timeout neither fired nor was canceled yet
+     */
+    public boolean isPending() {
+        return level >= 0;
+    }
+
+    /**
+     * Cancels this timeout. Does nothing if the timeout already fired or was canceled before.
+     */
+    public void cancel() {
+        wheel.cancel(this);
+    }
+
+    @Override
+    public boolean onRequestFailed(Request request, TimeInstant when, RequestFailedReason reason) {
+        cancel();
+        return false;
+    }
+
+    @Override
+    public boolean onRequestResultArrivedAtRequester(Request request, TimeInstant when) {
+        cancel();
+        return false;
+    }
+
+    @Override
+    public int getListeningPriority() {
+        return Priority.NORMAL + 1;
+    }
+}
@@ -0,0 +1,151 @@
+package cambio.simulator.entities.networking;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import cambio.simulator.entities.NamedExternalEvent;
+import cambio.simulator.misc.Priority;
+import cambio.simulator.misc.Util;
+import co.paralleluniverse.fibers.SuspendExecution;
+import desmoj.core.simulator.Model;
+import desmoj.core.simulator.TimeInstant;
+import desmoj.core.simulator.TimeSpan;
+
+/**
+ * Hierarchical timer wheel that manages the timeouts of all {@link Request}s of a model.
+ *
+ * <p>
+ * Instead of scheduling one event per request, timeouts are sorted into slots of {@link #getTickDuration()} width (see
+ * {@link TimeoutSlots}). A single tick event is scheduled for the next tick at which a slot fires or has to cascade
+ * down, and fires all timeouts of that slot at once. The tick event is only scheduled while timeouts are pending.
+ * Adding and canceling a timeout is O(1).
+ *
+ * <p>
+ * Timeouts fire at the first tick at or after their deadline, so they are at most one tick late.
+ *
+ * @author Lion Wagner
+ * @see RequestTimeout
+ */
+public final class RequestTimeoutWheel {
+
+    /**
+     * Default timeout of requests in seconds, if neither the dependency nor the target operation define one.
+     */
+    public static final double DEFAULT_TIMEOUT = 8;
+
+    /**
+     * Default width of a slot in seconds.
+     */
+    public static final double DEFAULT_TICK_DURATION = 0.01;
+
+    private final Model model;
+    private final double tickDuration;
+    private final TimeoutSlots slots = new TimeoutSlots();
+    private final TickEvent tickEvent;
+
+    private long scheduledTick = -1; //tick for which the tick event is scheduled, -1 if not scheduled
+
+    public RequestTimeoutWheel(Model model) {
+        this(model, DEFAULT_TICK_DURATION);
+    }
+
+    /**
+     * Creates a new timer wheel.
+     *
+     * @param model        model this wheel belongs to
+     * @param tickDuration width of the slots in seconds, has to be greater than 0
+     */
+    public RequestTimeoutWheel(Model model, double tickDuration) {
+        Util.requireGreaterZero(tickDuration, "Tick duration has to be greater than 0.");
+        this.model = model;
+        this.tickDuration = tickDuration;
+        this.tickEvent = new TickEvent(model);
+    }
+
+    /**
+     * Starts the timeout of a request. The returned timeout should be added as update listener to the request, so it
+     * cancels itself once the request completes or fails.
+     *
+     * @param request request that should be able to time out
+     * @param timeout timeout in seconds, relative to the current simulation time
+     * @return the started timeout
+     */
+    public RequestTimeout startTimeout(Request request, double timeout) {
+        Util.requireGreaterZero(timeout, "Timeout has to be greater than 0.");
+        double now = model.presentTime().getTimeAsDouble(TimeUnit.SECONDS);
+        //if nothing is pending, the wheel can jump directly to the present
+        slots.jumpTo((long) Math.floor(now / tickDuration));
+        long deadline = Math.max(slots.getCurrentTick() + 1, (long) Math.ceil((now + timeout) / tickDuration));
+
+        RequestTimeout requestTimeout = new RequestTimeout(this, request, deadline);
+        requestWakeUp(slots.add(requestTimeout));
+        return requestTimeout;
+    }
+
+    public double getTickDuration() {
+        return tickDuration;
+    }
+
+    /**
+     * Gets the number of pending timeouts.
+     *
+     * @return the number of timeouts that neither fired nor got canceled yet
+     */
+    public int size() {
+        return slots.size();
+    }
+
+    void cancel(RequestTimeout timeout) {
+        slots.remove(timeout);
+        if (slots.size() == 0 && scheduledTick >= 0) {
+            if (tickEvent.isScheduled()) {
+                tickEvent.cancel();
+            }
+            scheduledTick = -1;
+        }
+    }
+
+    private void requestWakeUp(long tick) {
+        if (scheduledTick >= 0 && scheduledTick <= tick) {
+            return;
+        }
+        TimeInstant wakeUpTime = new TimeInstant(tick * tickDuration, TimeUnit.SECONDS);
+        if (tickEvent.isScheduled()) {
+            tickEvent.reSchedule(wakeUpTime);
+        } else {
+            tickEvent.schedule(wakeUpTime);
+        }
+        scheduledTick = tick;
+    }
+
+    private final class TickEvent extends NamedExternalEvent {
+
+        private TickEvent(Model model) {
+            super(model, "RequestTimeoutWheel_Tick", false);
+            this.setSchedulingPriority(Priority.LOW);
+        }
+
+        @Override
+        public void eventRoutine() throws SuspendExecution {
+            long targetTick = scheduledTick;
+            scheduledTick = -1;
+
+            List<RequestTimeout> expired = new ArrayList<>();
+            slots.advanceTo(targetTick, expired);
+            for (RequestTimeout timeout : expired) {
+                Request request = timeout.getRequest();
+                NetworkRequestEvent cancelEvent =
+                    new NetworkRequestCanceledEvent(getModel(), "RequestCancel", getModel().traceIsOn(), request,
+                        RequestFailedReason.TIMEOUT,
+                        () -> "Request " + request.getName() + " was canceled due to a timeout.");
+                cancelEvent.schedule(new TimeSpan(0));
+            }
+
+            long nextTick = slots.nextEventTick();
+            if (nextTick >= 0) {
+                requestWakeUp(nextTick);
+            }
+        }
+    }
+}
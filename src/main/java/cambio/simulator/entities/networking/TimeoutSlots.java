@@ -0,0 +1,187 @@
+package cambio.simulator.entities.networking;
+
+import java.util.List;
+
+/**
+ * Slots of a {@link RequestTimeoutWheel}, i.e. the hierarchical timer wheel without its connection to the simulation
+ * time. All points in time are given in ticks.
+ *
+ * <p>
+ * Each of the {@value #LEVEL_COUNT} levels has {@value #SLOT_COUNT} slots, a slot of level {@code l} covers
+ * {@code 256^l} ticks. A timeout is kept in the lowest level whose current rotation contains its deadline and cascades
+ * down once the rotation reaches its slot. Deadlines that are further away than the current rotation of the highest
+ * level (up to 2^32 ticks) are kept in an overflow list, which is sorted into the levels whenever the highest level
+ * starts a new rotation.
+ *
+ * @author Lion Wagner
+ */
+final class TimeoutSlots {
+
+    static final int SLOT_BITS = 8;
+    static final int SLOT_COUNT = 1 << SLOT_BITS;
+    static final int LEVEL_COUNT = 4;
+
+    private static final int SLOT_MASK = SLOT_COUNT - 1;
+    //the overflow list is the first slot of an additional level
+    private static final int OVERFLOW_LEVEL = LEVEL_COUNT;
+
+    private final RequestTimeout[][] slots = new RequestTimeout[LEVEL_COUNT + 1][SLOT_COUNT];
+
+    private long currentTick = 0; //all ticks up to (including) this one are processed
+    private int size = 0;
+
+    long getCurrentTick() {
+        return currentTick;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Moves the current tick forward without processing any ticks. Only has an effect if no timeout is pending.
+     *
+     * @param tick new current tick
+     */
+    void jumpTo(long tick) {
+        if (size == 0) {
+            currentTick = Math.max(currentTick, tick);
+        }
+    }
+
+    /**
+     * Adds a pending timeout.
+     *
+     * @param timeout timeout whose deadline lies after the current tick
+     * @return the tick at which the slots have to be advanced to process the new timeout (fire or cascade it)
+     */
+    long add(RequestTimeout timeout) {
+        if (timeout.deadline <= currentTick) {
+            throw new IllegalArgumentException("The deadline of a timeout has to be after the current tick.");
+        }
+        place(timeout);
+        if (timeout.level == OVERFLOW_LEVEL) {
+            return nextOverflowCascade();
+        }
+        int shift = SLOT_BITS * timeout.level;
+        return (timeout.deadline >>> shift) << shift;
+    }
+
+    void remove(RequestTimeout timeout) {
+        if (timeout.level >= 0) {
+            unlink(timeout);
+        }
+    }
+
+    /**
+     * Gets the next tick at which a timeout fires or has to cascade down.
+     *
+     * @return the next tick that has to be processed, -1 if no timeout is pending
+     */
+    long nextEventTick() {
+        if (size == 0) {
+            return -1;
+        }
+        //slots of a level are only filled behind the current position, and each level is only reached once all slots
+        //of the levels below are empty
+        for (int level = 0; level < LEVEL_COUNT; level++) {
+            int shift = SLOT_BITS * level;
+            long rotationStart = (currentTick >>> (shift + SLOT_BITS)) << (shift + SLOT_BITS);
+            for (int index = digit(currentTick, level) + 1; index < SLOT_COUNT; index++) {
+                if (slots[level][index] != null) {
+                    return rotationStart | ((long) index << shift);
+                }
+            }
+        }
+        return nextOverflowCascade();
+    }
+
+    /**
+     * Processes all ticks up to (including) the given one.
+     *
+     * @param targetTick last tick that should be processed
+     * @param expired    list to which all timeouts that fired are added, in order of their deadline
+     */
+    void advanceTo(long targetTick, List<RequestTimeout> expired) {
+        long nextTick;
+        while ((nextTick = nextEventTick()) >= 0 && nextTick <= targetTick) {
+            //nothing happens between the current and the next tick, so they can be skipped
+            currentTick = nextTick;
+
+            //cascade higher levels whose rotation starts with this tick, highest first
+            for (int level = OVERFLOW_LEVEL; level > 0; level--) {
+                if ((currentTick & ((1L << (SLOT_BITS * level)) - 1)) == 0) {
+                    cascade(level);
+                }
+            }
+
+            RequestTimeout current = slots[0][digit(currentTick, 0)];
+            while (current != null) {
+                RequestTimeout next = current.next;
+                unlink(current);
+                expired.add(current);
+                current = next;
+            }
+        }
+        currentTick = Math.max(currentTick, targetTick);
+    }
+
+    private static int digit(long tick, int level) {
+        return (int) ((tick >>> (SLOT_BITS * level)) & SLOT_MASK);
+    }
+
+    private long nextOverflowCascade() {
+        int shift = SLOT_BITS * LEVEL_COUNT;
+        return ((currentTick >>> shift) + 1) << shift;
+    }
+
+    private void place(RequestTimeout timeout) {
+        int level = 0;
+        while (level < LEVEL_COUNT
+            && (timeout.deadline >>> (SLOT_BITS * (level + 1))) != (currentTick >>> (SLOT_BITS * (level + 1)))) {
+            level++;
+        }
+        int index = level == OVERFLOW_LEVEL ? 0 : digit(timeout.deadline, level);
+
+        RequestTimeout head = slots[level][index];
+        timeout.level = level;
+        timeout.index = index;
+        timeout.prev = null;
+        timeout.next = head;
+        if (head != null) {
+            head.prev = timeout;
+        }
+        slots[level][index] = timeout;
+        size++;
+    }
+
+    private void unlink(RequestTimeout timeout) {
+        if (timeout.prev == null) {
+            slots[timeout.level][timeout.index] = timeout.next;
+        } else {
+            timeout.prev.next = timeout.next;
+        }
+        if (timeout.next != null) {
+            timeout.next.prev = timeout.prev;
+        }
+        timeout.prev = null;
+        timeout.next = null;
+        timeout.level = -1;
+        size--;
+    }
+
+    private void cascade(int level) {
+        int index = level == OVERFLOW_LEVEL ? 0 : digit(currentTick, level);
+        RequestTimeout current = slots[level][index];
+        slots[level][index] = null;
+        while (current != null) {
+            RequestTimeout next = current.next;
+            current.prev = null;
+            current.next = null;
+            current.level = -1;
+            size--;
+            place(current);
+            current = next;
+        }
+    }
+}
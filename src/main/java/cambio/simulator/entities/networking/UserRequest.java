@@ -2,7 +2,13 @@ package cambio.simulator.entities.networking;
 
 import cambio.simulator.entities.generator.LoadGeneratorDescriptionExecutor;
 import cambio.simulator.entities.microservice.Operation;
-import cambio.simulator.export.MultiDataPointReporter;
+import cambio.simulator.export.LatencyHistogram;
+import cambio.simulator.export.LatencyHistogramRecorder;
+import cambio.simulator.export.LatencyHistogramRecorder.RecordingMode;
+import cambio.simulator.export.ReportCollector;
+import cambio.simulator.models.ConvergenceStopCondition;
+import cambio.simulator.models.ExperimentMetaData;
+import cambio.simulator.models.MiSimModel;
 import desmoj.core.simulator.Model;
 
 /**
@@ -17,8 +23,6 @@ import desmoj.core.simulator.Model;
  */
 public class UserRequest extends Request {
 
-    private static final MultiDataPointReporter reporter = new MultiDataPointReporter("R");
-
     public UserRequest(Model model, String name, boolean showInTrace, Operation operation) {
         super(model, name, showInTrace, null, operation, null);
     }
@@ -27,9 +31,34 @@ public class UserRequest extends Request {
     @Override
     protected void onReceive() {
         super.onReceive();
-        reporter
-            .addDatapoint(String.format("[%s]_ResponseTimes", operation.getName()), presentTime(), getResponseTime());
-        reporter.addDatapoint("[All]ResponseTimes", presentTime(), getResponseTime());
+        LatencyHistogramRecorder recorder =
+            ReportCollector.forModel(getModel()).getSharedReporter("R", this::createResponseTimeRecorder);
+        recorder.record(operation.getResponseTimesDatasetName(), presentTime(), getResponseTime());
+        recorder.record("[All]ResponseTimes", presentTime(), getResponseTime());
+        if (getModel() instanceof MiSimModel) {
+            ConvergenceStopCondition stopCondition = ((MiSimModel) getModel()).getStopCondition();
+            if (stopCondition != null) {
+                stopCondition.recordResponse(presentTime().getTimeAsDouble(), getResponseTime());
+            }
+        }
+    }
+
+    private LatencyHistogramRecorder createResponseTimeRecorder(String prefix) {
+        RecordingMode mode = RecordingMode.RAW;
+        double window = 1;
+        int precision = LatencyHistogram.DEFAULT_PRECISION;
+        if (getModel() instanceof MiSimModel) {
+            ExperimentMetaData metaData = ((MiSimModel) getModel()).getExperimentMetaData();
+            try {
+                mode = RecordingMode.fromName(metaData.getResponseTimeRecording());
+            } catch (IllegalArgumentException e) {
+                System.out.printf("[Warning] Unknown response time recording '%s'. Recording raw values.%n",
+                    metaData.getResponseTimeRecording());
+            }
+            window = metaData.getResponseTimeWindow();
+            precision = metaData.getResponseTimeHistogramPrecision();
+        }
+        return new LatencyHistogramRecorder(prefix, getModel(), mode, window, precision);
     }
 
 
@@ -5,6 +5,8 @@ import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 
+import cambio.simulator.entities.NamedExternalEvent;
+import cambio.simulator.entities.TransientNames;
 import cambio.simulator.entities.microservice.Microservice;
 import cambio.simulator.entities.microservice.MicroserviceInstance;
 import cambio.simulator.entities.networking.IRequestUpdateListener;
@@ -14,13 +16,18 @@ import cambio.simulator.entities.networking.NetworkRequestCanceledEvent;
 import cambio.simulator.entities.networking.NetworkRequestEvent;
 import cambio.simulator.entities.networking.Request;
 import cambio.simulator.entities.networking.RequestFailedReason;
-import cambio.simulator.export.MultiDataPointReporter;
+import cambio.simulator.export.SamplingPolicy;
 import cambio.simulator.misc.Priority;
+import cambio.simulator.misc.Util;
+import cambio.simulator.models.ExperimentMetaData;
+import cambio.simulator.models.MiSimModel;
 import cambio.simulator.parsing.JsonTypeName;
+import co.paralleluniverse.fibers.SuspendExecution;
 import com.google.gson.annotations.Expose;
 import com.google.gson.annotations.SerializedName;
 import desmoj.core.simulator.Model;
 import desmoj.core.simulator.TimeInstant;
+import desmoj.core.simulator.TimeSpan;
 
 /**
  * Manager class of all CircuitBreakers of one Microservice Instance.
@@ -33,6 +40,10 @@ import desmoj.core.simulator.TimeInstant;
  * This class is a {@code NetworkPattern} and therefore monitors all requests send by its owning {@code
  * MicroserviceInstance}.
  *
+ * <p>
+ * The statistics of the circuits are reported on each state transition. Additionally, they can be sampled
+ * periodically, see {@link ExperimentMetaData#getCircuitBreakerStatistics()}.
+ *
  * @author Lion Wagner
  * @see CircuitBreakerState
  * @see Microservice
@@ -44,7 +55,10 @@ public final class CircuitBreaker extends InstanceOwnedPattern implements IReque
     private final Set<NetworkDependency> activeConnections = new HashSet<>();
     private final Map<Microservice, CircuitBreakerState> breakerStates = new HashMap<>();
     private final Map<Microservice, Integer> activeConnectionCount = new HashMap<>();
-    private final MultiDataPointReporter reporter;
+    private final CircuitBreakerReporter reporter;
+    private final SamplingPolicy statisticsPolicy;
+    private final double statisticsInterval;
+    private boolean isShutDown = false;
 
     @Expose
     private int requestVolumeThreshold = Integer.MAX_VALUE;
@@ -57,10 +71,41 @@ public final class CircuitBreaker extends InstanceOwnedPattern implements IReque
     private int timeout = Integer.MAX_VALUE;
     @Expose
     private int rollingWindow = 20; //window over which error rates are collected
+    @Expose
+    @SerializedName(value = "sliding_window_type", alternate = "window_type")
+    private SlidingWindowType slidingWindowType = SlidingWindowType.COUNT_BASED;
+    @Expose
+    private double windowSliceDuration = 1; //duration of one time slice of a time based window
+    @Expose
+    private int minimumNumberOfCalls = 10; //calls needed before a time based window is evaluated
 
     public CircuitBreaker(Model model, String name, boolean showInTrace) {
         super(model, name, showInTrace);
-        reporter = new MultiDataPointReporter(String.format("CB[%s]_", name));
+        reporter = new CircuitBreakerReporter(String.format("CB[%s]_", name), model);
+
+        SamplingPolicy policy = SamplingPolicy.ON_CHANGE;
+        double samplingInterval = 1;
+        if (model instanceof MiSimModel) {
+            ExperimentMetaData metaData = ((MiSimModel) model).getExperimentMetaData();
+            try {
+                policy = SamplingPolicy.fromName(metaData.getCircuitBreakerStatistics());
+            } catch (IllegalArgumentException e) {
+                System.out.printf("[Warning] Unknown circuit breaker statistics policy '%s'. Reporting on change.%n",
+                    metaData.getCircuitBreakerStatistics());
+            }
+            samplingInterval = metaData.getCircuitBreakerStatisticsInterval();
+        }
+        this.statisticsPolicy = policy;
+        this.statisticsInterval = samplingInterval;
+    }
+
+    @Override
+    public void start() {
+        if (statisticsPolicy == SamplingPolicy.INTERVAL) {
+            Util.requireGreaterZero(statisticsInterval,
+                "Circuit breaker statistics interval has to be greater than 0.");
+            new StatisticsSamplingEvent(getModel(), statisticsInterval).schedule(new TimeSpan(0));
+        }
     }
 
     @Override
@@ -70,10 +115,11 @@ public final class CircuitBreaker extends InstanceOwnedPattern implements IReque
 
     @Override
     public void shutdown() {
+        sampleStatistics();
+        isShutDown = true;
         activeConnections.clear();
         activeConnectionCount.clear();
         breakerStates.clear();
-        collectData(presentTime());
     }
 
     @Override
@@ -86,17 +132,21 @@ public final class CircuitBreaker extends InstanceOwnedPattern implements IReque
         Microservice target = dep.getTargetService();
         activeConnections.add(dep);
         activeConnectionCount.merge(target, 1, Integer::sum);
-        CircuitBreakerState state = breakerStates.computeIfAbsent(target,
-            monitoredService -> new CircuitBreakerState(monitoredService, this.errorThresholdPercentage, rollingWindow,
-                sleepWindow));
-
+        CircuitBreakerState state = breakerStates.get(target);
+        if (state == null) {
+            state = new CircuitBreakerState(target, this.errorThresholdPercentage, createSlidingWindow(), sleepWindow,
+                this::onStateTransition);
+            breakerStates.put(target, state);
+            onStateTransition(state); //reports the initial state
+        }
 
         boolean consumed = false;
         if (state.isOpen()) {
             //owner.updateListenerProxy.onRequestFailed(request, when, RequestFailedReason.CIRCUIT_IS_OPEN);
             request.cancelSending();
             NetworkRequestEvent cancelEvent =
-                new NetworkRequestCanceledEvent(getModel(), String.format("Canceling of %s", request.getQuotedName()),
+                new NetworkRequestCanceledEvent(getModel(), TransientNames.of(getModel(), "RequestCancel",
+                    () -> String.format("Canceling of %s", request.getQuotedName())),
                     true, request, RequestFailedReason.CIRCUIT_IS_OPEN);
             cancelEvent.schedule();
             consumed = true;
@@ -109,16 +159,9 @@ public final class CircuitBreaker extends InstanceOwnedPattern implements IReque
                 consumed = true;
             }
         }
-        collectData(when);
         return consumed;
     }
 
-    @Override
-    public boolean onRequestArrivalAtTarget(Request request, TimeInstant when) {
-        collectData(when);
-        return false;
-    }
-
     @Override
     public boolean onRequestResultArrivedAtRequester(Request request, TimeInstant when) {
         if (!(request instanceof InternalRequest)) {
@@ -136,8 +179,6 @@ public final class CircuitBreaker extends InstanceOwnedPattern implements IReque
         activeConnectionCount.merge(target, -1, Integer::sum);
 
         breakerStates.get(target).notifySuccessfulCompletion();
-
-        collectData(when);
         return false;
     }
 
@@ -159,18 +200,69 @@ public final class CircuitBreaker extends InstanceOwnedPattern implements IReque
         if (activeConnections.remove(dep)) {
             breakerStates.get(target).notifyArrivalFailure();
         }
-
-        collectData(when);
         return false;
     }
 
 
-    private void collectData(TimeInstant when) {
-        for (Map.Entry<Microservice, CircuitBreakerState> entry : breakerStates.entrySet()) {
-            Microservice microservice = entry.getKey();
-            CircuitBreakerState circuitBreakerState = entry.getValue();
-            reporter.addDatapoint(String.format("[%s]", microservice.getName()), when,
-                circuitBreakerState.getCurrentStatistics());
+    /**
+     * Creates the window over which a {@link CircuitBreakerState} collects its error rate.
+     *
+     * <p>
+     * A count based window contains the outcomes of the last {@code rolling_window} requests. A time based window
+     * contains the outcomes of the last {@code rolling_window} time slices of {@code window_slice_duration} each and is
+     * evaluated once it contains at least {@code minimum_number_of_calls} outcomes.
+     */
+    private SlidingWindow createSlidingWindow() {
+        if (slidingWindowType == null) {
+            System.out.printf("[Warning] Unknown sliding window type of %s. Using a count based window.%n", getName());
+            slidingWindowType = SlidingWindowType.COUNT_BASED;
+        }
+        if (slidingWindowType == SlidingWindowType.TIME_BASED) {
+            return new TimeBasedSlidingWindow(rollingWindow, windowSliceDuration, minimumNumberOfCalls);
+        }
+        return new CountBasedSlidingWindow(rollingWindow);
+    }
+
+    private void onStateTransition(CircuitBreakerState state) {
+        if (statisticsPolicy != SamplingPolicy.OFF) {
+            reporter.record(state, presentTime().getTimeAsDouble(), state.getTransitionErrorRate());
+        }
+    }
+
+    private void sampleStatistics() {
+        if (statisticsPolicy == SamplingPolicy.OFF) {
+            return;
+        }
+        double now = presentTime().getTimeAsDouble();
+        for (CircuitBreakerState state : breakerStates.values()) {
+            reporter.record(state, now, state.getErrorRate());
+        }
+    }
+
+    /**
+     * Types of windows over which the error rate of a circuit is collected.
+     */
+    public enum SlidingWindowType {
+        @SerializedName(value = "count", alternate = "count_based")
+        COUNT_BASED,
+        @SerializedName(value = "time", alternate = "time_based")
+        TIME_BASED
+    }
+
+    private final class StatisticsSamplingEvent extends NamedExternalEvent {
+        private final TimeSpan interval;
+
+        private StatisticsSamplingEvent(Model model, double interval) {
+            super(model, "CircuitBreakerStatisticsSampling", false);
+            this.interval = new TimeSpan(interval);
+        }
+
+        @Override
+        public void eventRoutine() throws SuspendExecution {
+            sampleStatistics();
+            if (!isShutDown) {
+                schedule(interval);
+            }
         }
     }
 }
@@ -0,0 +1,68 @@
+package cambio.simulator.entities.patterns;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import cambio.simulator.entities.microservice.Microservice;
+import cambio.simulator.export.MultiDataPointReporter;
+import cambio.simulator.export.TimeSeries;
+import desmoj.core.simulator.Model;
+
+/**
+ * Reporter for the statistics of the {@link CircuitBreakerState}s of one {@link CircuitBreaker}.
+ *
+ * <p>
+ * Each monitored service gets its own channel of four datasets ({@code [service]_State}, {@code [service]_Successes},
+ * {@code [service]_Failures} and {@code [service]_ErrorRate}). The datasets of a channel are created once, so
+ * recording a snapshot does not format any names and stores the counters in primitive columns.
+ *
+ * @author Lion Wagner
+ */
+final class CircuitBreakerReporter extends MultiDataPointReporter {
+
+    private final Map<Microservice, Channel> channels = new HashMap<>();
+
+    CircuitBreakerReporter(String datasetsPrefix, Model model) {
+        super(datasetsPrefix, model);
+    }
+
+    /**
+     * Records a snapshot of the given circuit breaker state.
+     *
+     * @param state     state that should be recorded
+     * @param time      point in simulation time to which the snapshot is associated to
+     * @param errorRate error rate that should be recorded, e.g. {@link CircuitBreakerState#getTransitionErrorRate()}
+     *                  for state transitions
+     */
+    void record(CircuitBreakerState state, double time, double errorRate) {
+        Channel channel = channels.get(state.getMonitoredService());
+        if (channel == null) {
+            channel = new Channel(String.format("[%s]", state.getMonitoredService().getName()));
+            channels.put(state.getMonitoredService(), channel);
+        }
+        channel.state.add(time, state.getState());
+        channel.successes.addInt(time, state.getTotalSuccessCounter());
+        channel.failures.addInt(time, state.getTotalFailureCounter());
+        channel.errorRate.addDouble(time, errorRate);
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        channels.clear();
+    }
+
+    private final class Channel {
+        private final TimeSeries state;
+        private final TimeSeries successes;
+        private final TimeSeries failures;
+        private final TimeSeries errorRate;
+
+        private Channel(String name) {
+            state = getOrCreateTimeSeries(name + "_State");
+            successes = getOrCreateTimeSeries(name + "_Successes");
+            failures = getOrCreateTimeSeries(name + "_Failures");
+            errorRate = getOrCreateTimeSeries(name + "_ErrorRate");
+        }
+    }
+}
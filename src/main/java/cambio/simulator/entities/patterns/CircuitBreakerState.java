@@ -1,12 +1,10 @@
 package cambio.simulator.entities.patterns;
 
-import java.util.LinkedList;
+import java.util.function.Consumer;
 
 import cambio.simulator.entities.microservice.Microservice;
 import desmoj.core.simulator.ExternalEvent;
 import desmoj.core.simulator.TimeSpan;
-import org.javatuples.Quartet;
-import org.javatuples.Tuple;
 
 /**
  * This class represents an actual CircuitBreaker with the behavior defined by Hystrix.
@@ -17,32 +15,57 @@ import org.javatuples.Tuple;
 public class CircuitBreakerState {
 
     private final double errorThresholdPercentage;
-    private final int rollingWindow; //window over which error rates are collected
     private final double sleepWindow;
     private final Microservice monitoredService;
-    //contains the results of the last {rollingWindow size} requests (values, 1 for success and 0 for failure)
-    private final LinkedList<Integer> currentWindow = new LinkedList<>();
+    //window over which error rates are collected
+    private final SlidingWindow currentWindow;
+    //called after each state transition
+    private final Consumer<CircuitBreakerState> transitionListener;
     private int totalSuccessCounter = 0;
     private int totalFailureCounter = 0;
     private BreakerState state = BreakerState.CLOSED;
+    //error rate that caused the last state transition, captured before the window is reset
+    private double transitionErrorRate = 0;
 
-    CircuitBreakerState(Microservice monitoredService, double errorThresholdPercentage, int rollingWindow,
-                        double sleepWindow) {
+    CircuitBreakerState(Microservice monitoredService, double errorThresholdPercentage, SlidingWindow window,
+                        double sleepWindow, Consumer<CircuitBreakerState> transitionListener) {
         this.errorThresholdPercentage = errorThresholdPercentage;
-        this.rollingWindow = rollingWindow;
+        this.currentWindow = window;
         this.monitoredService = monitoredService;
         this.sleepWindow = sleepWindow;
-    }
-
-    public Tuple getCurrentStatistics() {
-        double errorRate = getErrorRate();
-        return new Quartet<>(state, totalSuccessCounter, totalFailureCounter, errorRate);
+        this.transitionListener = transitionListener;
     }
 
     public BreakerState getState() {
         return state;
     }
 
+    public int getTotalSuccessCounter() {
+        return totalSuccessCounter;
+    }
+
+    public int getTotalFailureCounter() {
+        return totalFailureCounter;
+    }
+
+    public Microservice getMonitoredService() {
+        return monitoredService;
+    }
+
+    /**
+     * Gets the error rate that caused the last state transition. Opening the breaker resets its window, so the current
+     * error rate does not show why the breaker opened.
+     *
+     * <p>
+     * A breaker that is half open only lets a single request through. If that request fails, the breaker opens again
+     * with an error rate of 1, if it succeeds, the breaker closes with an error rate of 0.
+     *
+     * @return the error rate at the last state transition
+     */
+    public double getTransitionErrorRate() {
+        return transitionErrorRate;
+    }
+
     public boolean isOpen() {
         return state == BreakerState.OPEN;
     }
@@ -52,10 +75,10 @@ public class CircuitBreakerState {
 
         if (state == BreakerState.HALF_OPEN) {
             currentWindow.clear();
-            state = BreakerState.CLOSED;
+            changeState(BreakerState.CLOSED, 0);
         }
 
-        currentWindow.addLast(1);
+        currentWindow.record(true, now());
         checkErrorRate();
     }
 
@@ -63,11 +86,11 @@ public class CircuitBreakerState {
         totalFailureCounter++;
 
         if (state == BreakerState.HALF_OPEN) {
-            openBreaker();
+            openBreaker(1);
             return;
         }
 
-        currentWindow.addLast(0);
+        currentWindow.record(false, now());
         checkErrorRate();
     }
 
@@ -75,36 +98,41 @@ public class CircuitBreakerState {
      * Method called by the {@link HalfOpenBreakerEvent} to half open this circuit after a certain amount of time.
      */
     synchronized void toHalfOpen() {
-        state = BreakerState.HALF_OPEN;
+        changeState(BreakerState.HALF_OPEN, getErrorRate());
     }
 
     private synchronized void checkErrorRate() {
-        //cut down the current window to rolling window size
-        while (currentWindow.size() > rollingWindow) {
-            currentWindow.removeFirst();
-        }
-
         //check error rate if enough entries are present
-        if (currentWindow.size() >= rollingWindow) {
-            double errorRate = getErrorRate();
+        double now = now();
+        if (currentWindow.hasEnoughData(now)) {
+            double errorRate = currentWindow.getErrorRate(now);
             if (errorRate >= errorThresholdPercentage) {
-                openBreaker();
+                openBreaker(errorRate);
             }
         }
     }
 
-    private synchronized void openBreaker() {
-        state = BreakerState.OPEN;
+    private synchronized void openBreaker(double errorRate) {
         currentWindow.clear();
+        changeState(BreakerState.OPEN, errorRate);
         ExternalEvent openEvent = new HalfOpenBreakerEvent(monitoredService.getModel(), null, false, this);
         openEvent.schedule(new TimeSpan(sleepWindow, monitoredService.getModel().getExperiment().getReferenceUnit()));
 
     }
 
-    private synchronized double getErrorRate() {
+    private void changeState(BreakerState targetState, double errorRate) {
+        state = targetState;
+        transitionErrorRate = errorRate;
+        transitionListener.accept(this);
+    }
+
+    synchronized double getErrorRate() {
         //if there are not enough datapoints we cant determine errorrate -> 0
-        return currentWindow.size() < rollingWindow ? 0 :
-            1.0 - ((double) currentWindow.stream().mapToInt(value -> value).sum() / currentWindow.size());
+        return currentWindow.getErrorRate(now());
+    }
+
+    private double now() {
+        return monitoredService.presentTime().getTimeAsDouble();
     }
 
 
@@ -0,0 +1,65 @@
+package cambio.simulator.entities.patterns;
+
+/**
+ * Sliding window over the outcomes of the last {@code capacity} requests. The outcomes are kept in a primitive ring
+ * buffer, the oldest outcome is overwritten once the buffer is full.
+ *
+ * <p>
+ * The error rate can only be determined once the window is full.
+ *
+ * @author Lion Wagner
+ */
+final class CountBasedSlidingWindow extends SlidingWindow {
+
+    private final boolean[] outcomes;
+    private int oldest = 0;
+    private int size = 0;
+    private int successes = 0;
+
+    CountBasedSlidingWindow(int capacity) {
+        this.outcomes = new boolean[Math.max(0, capacity)];
+    }
+
+    @Override
+    void record(boolean success, double now) {
+        if (outcomes.length == 0) {
+            return;
+        }
+        if (size == outcomes.length) {
+            //overwrite the oldest outcome
+            if (outcomes[oldest]) {
+                successes--;
+            }
+            outcomes[oldest] = success;
+            oldest = (oldest + 1) % outcomes.length;
+        } else {
+            outcomes[(oldest + size) % outcomes.length] = success;
+            size++;
+        }
+        if (success) {
+            successes++;
+        }
+    }
+
+    @Override
+    boolean hasEnoughData(double now) {
+        return size >= outcomes.length;
+    }
+
+    @Override
+    int getSize(double now) {
+        return size;
+    }
+
+    @Override
+    int getSuccesses(double now) {
+        return successes;
+    }
+
+    @Override
+    void clear() {
+        oldest = 0;
+        size = 0;
+        successes = 0;
+    }
+}
@@ -1,5 +1,6 @@
 package cambio.simulator.entities.patterns;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -12,35 +13,129 @@ import cambio.simulator.parsing.JsonTypeName;
 /**
  * Strategy that balances the amount of requests evenly between instances. Does not care about internal demand of the
  * requested operation.
+ *
+ * <p>
+ * The running instances are kept in a min-heap keyed by the amount of requests they were assigned (ties are broken by
+ * the order in which the instances became available). The heap is updated through the instance availability
+ * notifications, so choosing the next instance takes O(log n).
  */
 @JsonTypeName("even")
 class EvenLoadBalanceStrategy implements ILoadBalancingStrategy {
-    private Map<MicroserviceInstance, Integer> distribution = new HashMap<>();
+    private transient Map<MicroserviceInstance, Slot> slots = new HashMap<>();
+    private transient Slot[] heap = new Slot[16];
+    private transient int size = 0;
+    private transient long sequenceCounter = 0;
 
     /**
      * Returns the Microservice Instance the handeled the least amount of requests since the last scaling operation.
      */
     @Override
     public MicroserviceInstance getNextInstance(Collection<MicroserviceInstance> runningInstances) {
-        //TODO: may need optimization to cope with scaling
-        //if instance count changed, reset the distribution
-        if (distribution.keySet().size() != runningInstances.size()) {
-            distribution = new HashMap<>(runningInstances.size());
-            for (MicroserviceInstance instance : runningInstances) {
-                distribution.put(instance, 0);
+        //fallback for callers that do not send availability notifications
+        if (size != runningInstances.size()) {
+            rebuild(runningInstances);
+        }
+        if (size == 0) {
+            throw new NoInstanceAvailableException();
+        }
+
+        Slot top = heap[0];
+        top.assigned++;
+        siftDown(0);
+        return top.instance;
+    }
+
+    /**
+     * Adds the instance to the heap and resets the distribution.
+     */
+    @Override
+    public void onInstanceAvailable(MicroserviceInstance instance) {
+        if (slots.containsKey(instance)) {
+            return;
+        }
+        Slot slot = new Slot(instance, sequenceCounter++);
+        slots.put(instance, slot);
+        if (size == heap.length) {
+            heap = Arrays.copyOf(heap, size * 2);
+        }
+        heap[size++] = slot;
+        resetDistribution();
+    }
+
+    /**
+     * Removes the instance from the heap and resets the distribution.
+     */
+    @Override
+    public void onInstanceUnavailable(MicroserviceInstance instance) {
+        Slot slot = slots.remove(instance);
+        if (slot == null) {
+            return;
+        }
+        Slot last = heap[--size];
+        heap[size] = null;
+        if (last != slot) {
+            heap[slot.index] = last;
+            last.index = slot.index;
+        }
+        resetDistribution();
+    }
+
+    private void rebuild(Collection<MicroserviceInstance> runningInstances) {
+        slots = new HashMap<>(runningInstances.size());
+        Arrays.fill(heap, 0, size, null);
+        size = 0;
+        for (MicroserviceInstance instance : runningInstances) {
+            onInstanceAvailable(instance);
+        }
+    }
+
+    //all counters become 0, so the heap is only ordered by the sequence numbers
+    private void resetDistribution() {
+        Arrays.sort(heap, 0, size, Comparator.comparingLong(slot -> slot.sequence));
+        for (int i = 0; i < size; i++) {
+            heap[i].assigned = 0;
+            heap[i].index = i;
+        }
+    }
+
+    //true if the first slot should be closer to the top than the second one
+    private static boolean isAbove(Slot first, Slot second) {
+        if (first.assigned != second.assigned) {
+            return first.assigned < second.assigned;
+        }
+        return first.sequence < second.sequence;
+    }
+
+    private void siftDown(int index) {
+        Slot slot = heap[index];
+        int half = size >>> 1;
+        while (index < half) {
+            int childIndex = 2 * index + 1;
+            int rightIndex = childIndex + 1;
+            if (rightIndex < size && isAbove(heap[rightIndex], heap[childIndex])) {
+                childIndex = rightIndex;
             }
+            Slot child = heap[childIndex];
+            if (!isAbove(child, slot)) {
+                break;
+            }
+            heap[index] = child;
+            child.index = index;
+            index = childIndex;
         }
+        heap[index] = slot;
+        slot.index = index;
+    }
 
-        MicroserviceInstance instance = distribution.entrySet()
-            .stream()
-            .min(Comparator.comparingInt(Map.Entry::getValue))
-            .map(Map.Entry::getKey)
-            .orElse(null);
-        if (instance != null) {
-            distribution.merge(instance, 1, Integer::sum);
-        } else {
-            throw new NoInstanceAvailableException();
+    private static final class Slot {
+        private final MicroserviceInstance instance;
+        private final long sequence;
+        private int assigned = 0;
+        private int index = -1;
+
+        private Slot(MicroserviceInstance instance, long sequence) {
+            this.instance = instance;
+            this.sequence = sequence;
         }
-        return instance;
     }
 }
@@ -11,6 +11,11 @@ import cambio.simulator.entities.microservice.NoInstanceAvailableException;
  * <p>
  * Implementations will be provided a collection of running instances and should be able to select one of these as next
  * target.
+ *
+ * <p>
+ * Additionally, implementations are notified whenever an instance becomes routable or stops being routable. Strategies
+ * can use these notifications to maintain their own incremental structures instead of inspecting the whole collection
+ * on each call.
  */
 public interface ILoadBalancingStrategy extends IStrategy {
 
@@ -23,5 +28,22 @@ public interface ILoadBalancingStrategy extends IStrategy {
     MicroserviceInstance getNextInstance(Collection<MicroserviceInstance> runningInstances) throws
         NoInstanceAvailableException;
 
+    /**
+     * Called once an instance can receive requests, i.e. it transitioned into {@link
+     * cambio.simulator.entities.microservice.InstanceState#RUNNING}.
+     *
+     * @param instance instance that was added to the running instances.
+     */
+    default void onInstanceAvailable(MicroserviceInstance instance) {
+    }
+
+    /**
+     * Called once an instance cannot receive requests anymore, i.e. it left the {@link
+     * cambio.simulator.entities.microservice.InstanceState#RUNNING} state.
+     *
+     * @param instance instance that was removed from the running instances.
+     */
+    default void onInstanceUnavailable(MicroserviceInstance instance) {
+    }
 }
 
@@ -1,7 +1,8 @@
 package cambio.simulator.entities.patterns;
 
-import java.util.Random;
+import java.util.SplittableRandom;
 
+import cambio.simulator.misc.IRandomized;
 import cambio.simulator.parsing.JsonTypeName;
 
 /**
@@ -14,10 +15,15 @@ import cambio.simulator.parsing.JsonTypeName;
  *     AWS article about backoff strategies</a>
  */
 @JsonTypeName("jittering")
-public class JitteringExponentialBackoffRetryStrategy extends ExponentialBackoffRetryStrategy {
+public class JitteringExponentialBackoffRetryStrategy extends ExponentialBackoffRetryStrategy implements IRandomized {
 
-    //TODO: inject random seed
-    private final transient Random rng = new Random();
+    //replaced by the stream of the owning pattern, see IRandomized
+    private transient SplittableRandom rng = new SplittableRandom(0);
+
+    @Override
+    public void setRandomStream(SplittableRandom randomStream) {
+        this.rng = randomStream;
+    }
 
     @Override
     public double getNextDelay(int tries) {
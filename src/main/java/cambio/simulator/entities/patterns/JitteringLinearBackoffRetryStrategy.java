@@ -1,7 +1,8 @@
 package cambio.simulator.entities.patterns;
 
-import java.util.Random;
+import java.util.SplittableRandom;
 
+import cambio.simulator.misc.IRandomized;
 import cambio.simulator.parsing.JsonTypeName;
 
 /**
@@ -13,10 +14,15 @@ import cambio.simulator.parsing.JsonTypeName;
  *     AWS article about backoff strategies</a>
  */
 @JsonTypeName("jittering_linear")
-public class JitteringLinearBackoffRetryStrategy extends LinearBackoffRetryStrategy {
+public class JitteringLinearBackoffRetryStrategy extends LinearBackoffRetryStrategy implements IRandomized {
 
-    //TODO: inject random seed
-    private final transient Random rng = new Random();
+    //replaced by the stream of the owning pattern, see IRandomized
+    private transient SplittableRandom rng = new SplittableRandom(0);
+
+    @Override
+    public void setRandomStream(SplittableRandom randomStream) {
+        this.rng = randomStream;
+    }
 
     @Override
     public double getNextDelay(int tries) {
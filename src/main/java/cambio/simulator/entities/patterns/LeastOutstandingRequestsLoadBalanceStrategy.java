@@ -0,0 +1,56 @@
+package cambio.simulator.entities.patterns;
+
+import java.util.Collection;
+import java.util.SplittableRandom;
+
+import cambio.simulator.entities.microservice.MicroserviceInstance;
+import cambio.simulator.entities.microservice.NoInstanceAvailableException;
+import cambio.simulator.misc.IRandomized;
+import cambio.simulator.parsing.JsonTypeName;
+
+/**
+ * Strategy that chooses the running instance with the fewest outstanding requests. Ties are broken uniformly at random,
+ * so idle instances are not always filled up in the same order.
+ *
+ * <p>
+ * The outstanding requests of each instance are maintained by the instance itself, so each decision takes O(n) with
+ * a constant amount of work per instance.
+ *
+ * @author Lion Wagner
+ * @see MicroserviceInstance#getOutstandingRequests()
+ */
+@JsonTypeName(value = "least_outstanding", alternativeNames = {"least_outstanding_requests", "least_requests"})
+final class LeastOutstandingRequestsLoadBalanceStrategy implements ILoadBalancingStrategy, IRandomized {
+
+    //replaced by the stream of the owning load balancer, see IRandomized
+    private transient SplittableRandom rng = new SplittableRandom(0);
+
+    @Override
+    public void setRandomStream(SplittableRandom randomStream) {
+        this.rng = randomStream;
+    }
+
+    @Override
+    public MicroserviceInstance getNextInstance(Collection<MicroserviceInstance> runningInstances)
+        throws NoInstanceAvailableException {
+        MicroserviceInstance best = null;
+        int bestOutstanding = Integer.MAX_VALUE;
+        int ties = 0;
+        for (MicroserviceInstance instance : runningInstances) {
+            int outstanding = instance.getOutstandingRequests();
+            if (outstanding < bestOutstanding) {
+                best = instance;
+                bestOutstanding = outstanding;
+                ties = 1;
+            } else if (outstanding == bestOutstanding && rng.nextInt(++ties) == 0) {
+                //reservoir sampling, each of the tied instances is chosen with the same probability
+                best = instance;
+            }
+        }
+
+        if (best == null) {
+            throw new NoInstanceAvailableException();
+        }
+        return best;
+    }
+}
@@ -3,11 +3,11 @@ package cambio.simulator.entities.patterns;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.stream.Collectors;
 
-import cambio.simulator.entities.microservice.InstanceState;
+import cambio.simulator.entities.microservice.Microservice;
 import cambio.simulator.entities.microservice.MicroserviceInstance;
 import cambio.simulator.entities.microservice.NoInstanceAvailableException;
+import cambio.simulator.misc.RandomStreams;
 import desmoj.core.simulator.Entity;
 import desmoj.core.simulator.Model;
 
@@ -35,19 +35,29 @@ public final class LoadBalancer extends Entity {
         }
     }
 
+    /**
+     * Injects the random stream of the owning {@link Microservice} into the strategy of this load balancer. The stream
+     * is named after the microservice, since all load balancers share the same entity name.
+     *
+     * @param owner microservice that uses this load balancer
+     */
+    public void setOwner(Microservice owner) {
+        RandomStreams.forModel(getModel()).injectInto(loadBalancingStrategy, "LoadBalancer:" + owner.getPlainName());
+    }
+
     /**
      * Retrieves the next candidate for receiving a request, consulting its {@link ILoadBalancingStrategy}.
      *
+     * <p>
+     * The given collection is passed to the strategy as is. Hence, it should only contain running instances, e.g. the
+     * index maintained by {@link Microservice#getRoutableInstances()}.
+     *
+     * @param runningInstances collection of all currently running instances.
      * @return a potentially reachable {@link MicroserviceInstance}
      * @throws NoInstanceAvailableException if no {@link MicroserviceInstance} is available to send requests to.
      */
-    public MicroserviceInstance getNextInstance(Collection<MicroserviceInstance> instances)
+    public MicroserviceInstance getNextInstance(Collection<MicroserviceInstance> runningInstances)
         throws NoInstanceAvailableException {
-        //filter for all running Instances
-        Collection<MicroserviceInstance> runningInstances = instances
-            .stream()
-            .filter(microserviceInstance -> microserviceInstance.getState() == InstanceState.RUNNING)
-            .collect(Collectors.toList());
         final MicroserviceInstance next = loadBalancingStrategy.getNextInstance(runningInstances);
         lastChosenInstance = next;
 
@@ -59,6 +69,25 @@ public final class LoadBalancer extends Entity {
         return next;
     }
 
+    /**
+     * Notifies the strategy that the given instance can now receive requests.
+     *
+     * @see ILoadBalancingStrategy#onInstanceAvailable(MicroserviceInstance)
+     */
+    public void notifyInstanceAvailable(MicroserviceInstance instance) {
+        loadBalancingStrategy.onInstanceAvailable(instance);
+    }
+
+    /**
+     * Notifies the strategy that the given instance cannot receive requests anymore.
+     *
+     * @see ILoadBalancingStrategy#onInstanceUnavailable(MicroserviceInstance)
+     */
+    public void notifyInstanceUnavailable(MicroserviceInstance instance) {
+        distribution.remove(instance);
+        loadBalancingStrategy.onInstanceUnavailable(instance);
+    }
+
     public MicroserviceInstance getLastChosenInstance() {
         return lastChosenInstance;
     }
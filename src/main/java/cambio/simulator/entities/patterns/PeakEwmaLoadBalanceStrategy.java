@@ -0,0 +1,126 @@
+package cambio.simulator.entities.patterns;
+
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import cambio.simulator.entities.microservice.MicroserviceInstance;
+import cambio.simulator.entities.microservice.NoInstanceAvailableException;
+import cambio.simulator.misc.IRandomized;
+import cambio.simulator.parsing.JsonTypeName;
+
+/**
+ * Strategy that estimates the latency of each instance with a peak-sensitive exponentially weighted moving average
+ * (peak EWMA) and chooses between two randomly sampled instances the one with the lower expected cost.
+ *
+ * <p>
+ * The cost of an instance is its latency estimate multiplied by its outstanding requests (plus one). Latency samples
+ * that are higher than the current estimate replace it immediately, lower ones are weighted by the time since the last
+ * update, using the configured {@code decay_time} (in simulation time units). Busy instances that did not answer any
+ * request yet are penalized, so new instances are not flooded with requests.
+ *
+ * <p>
+ * The estimates are updated lazily from the answered requests counters of the sampled instances, so each decision
+ * takes O(1).
+ *
+ * @author Lion Wagner
+ * @see MicroserviceInstance#getOutstandingRequests()
+ * @see MicroserviceInstance#getTotalHandlingTime()
+ */
+@JsonTypeName(value = "peak_ewma", alternativeNames = {"ewma"})
+final class PeakEwmaLoadBalanceStrategy implements ILoadBalancingStrategy, IRandomized {
+
+    private static final double PENALTY = 1e12;
+
+    @SuppressWarnings({"FieldMayBeFinal", "CanBeFinal", "FieldCanBeLocal"})
+    private double decayTime = 10;
+
+    private transient Map<MicroserviceInstance, LatencyEstimate> estimates = new IdentityHashMap<>();
+    //replaced by the stream of the owning load balancer, see IRandomized
+    private transient SplittableRandom rng = new SplittableRandom(0);
+
+    @Override
+    public void setRandomStream(SplittableRandom randomStream) {
+        this.rng = randomStream;
+    }
+
+    @Override
+    public MicroserviceInstance getNextInstance(Collection<MicroserviceInstance> runningInstances)
+        throws NoInstanceAvailableException {
+        if (runningInstances == null || runningInstances.size() == 0) {
+            throw new NoInstanceAvailableException();
+        }
+        int size = runningInstances.size();
+        if (size == 1) {
+            return RandomLoadBalanceStrategy.getAt(runningInstances, 0);
+        }
+
+        int firstIndex = rng.nextInt(size);
+        int secondIndex = rng.nextInt(size - 1);
+        if (secondIndex >= firstIndex) {
+            secondIndex++; //skip the first choice
+        }
+        MicroserviceInstance first = RandomLoadBalanceStrategy.getAt(runningInstances, firstIndex);
+        MicroserviceInstance second = RandomLoadBalanceStrategy.getAt(runningInstances, secondIndex);
+        return getCost(second) < getCost(first) ? second : first;
+    }
+
+    @Override
+    public void onInstanceUnavailable(MicroserviceInstance instance) {
+        estimates.remove(instance);
+    }
+
+    double getCost(MicroserviceInstance instance) {
+        LatencyEstimate estimate = estimates.get(instance);
+        if (estimate == null) {
+            estimate = new LatencyEstimate(instance);
+            estimates.put(instance, estimate);
+        }
+        estimate.update();
+
+        int outstanding = instance.getOutstandingRequests();
+        if (!estimate.hasSamples && outstanding != 0) {
+            return PENALTY + outstanding;
+        }
+        return estimate.ewma * (outstanding + 1);
+    }
+
+    private final class LatencyEstimate {
+        private final MicroserviceInstance instance;
+        //counters of the instance at the last update
+        private long seenAnswers;
+        private double seenHandlingTime;
+        private boolean hasSamples = false;
+        private double ewma = 0;
+        private double lastUpdate = 0;
+
+        private LatencyEstimate(MicroserviceInstance instance) {
+            this.instance = instance;
+            this.seenAnswers = instance.getAnsweredRequests();
+            this.seenHandlingTime = instance.getTotalHandlingTime();
+        }
+
+        //feeds the average handling time of all requests answered since the last update into the estimate
+        private void update() {
+            long answers = instance.getAnsweredRequests();
+            if (answers == seenAnswers) {
+                return;
+            }
+            double handlingTime = instance.getTotalHandlingTime();
+            double sample = (handlingTime - seenHandlingTime) / (answers - seenAnswers);
+            seenAnswers = answers;
+            seenHandlingTime = handlingTime;
+
+            double now = instance.presentTime().getTimeAsDouble();
+            if (!hasSamples || sample > ewma) {
+                ewma = sample;
+            } else {
+                double weight = Math.exp(-(now - lastUpdate) / decayTime);
+                ewma = ewma * weight + sample * (1 - weight);
+            }
+            hasSamples = true;
+            lastUpdate = now;
+        }
+    }
+}
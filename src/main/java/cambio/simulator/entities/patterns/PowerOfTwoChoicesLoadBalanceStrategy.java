@@ -0,0 +1,53 @@
+package cambio.simulator.entities.patterns;
+
+import java.util.Collection;
+import java.util.SplittableRandom;
+
+import cambio.simulator.entities.microservice.MicroserviceInstance;
+import cambio.simulator.entities.microservice.NoInstanceAvailableException;
+import cambio.simulator.misc.IRandomized;
+import cambio.simulator.parsing.JsonTypeName;
+
+/**
+ * Strategy that samples two distinct running instances at random and chooses the one with fewer outstanding requests
+ * (power of two choices). On ties, the first sampled instance is chosen.
+ *
+ * <p>
+ * Only the two sampled instances are inspected, so each decision takes O(1) independent of the amount of running
+ * instances.
+ *
+ * @author Lion Wagner
+ * @see MicroserviceInstance#getOutstandingRequests()
+ */
+@JsonTypeName(value = "p2c", alternativeNames = {"power_of_two_choices", "power_of_two"})
+final class PowerOfTwoChoicesLoadBalanceStrategy implements ILoadBalancingStrategy, IRandomized {
+
+    //replaced by the stream of the owning load balancer, see IRandomized
+    private transient SplittableRandom rng = new SplittableRandom(0);
+
+    @Override
+    public void setRandomStream(SplittableRandom randomStream) {
+        this.rng = randomStream;
+    }
+
+    @Override
+    public MicroserviceInstance getNextInstance(Collection<MicroserviceInstance> runningInstances)
+        throws NoInstanceAvailableException {
+        if (runningInstances == null || runningInstances.size() == 0) {
+            throw new NoInstanceAvailableException();
+        }
+        int size = runningInstances.size();
+        if (size == 1) {
+            return RandomLoadBalanceStrategy.getAt(runningInstances, 0);
+        }
+
+        int firstIndex = rng.nextInt(size);
+        int secondIndex = rng.nextInt(size - 1);
+        if (secondIndex >= firstIndex) {
+            secondIndex++; //skip the first choice
+        }
+        MicroserviceInstance first = RandomLoadBalanceStrategy.getAt(runningInstances, firstIndex);
+        MicroserviceInstance second = RandomLoadBalanceStrategy.getAt(runningInstances, secondIndex);
+        return second.getOutstandingRequests() < first.getOutstandingRequests() ? second : first;
+    }
+}
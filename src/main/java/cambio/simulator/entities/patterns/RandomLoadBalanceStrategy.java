@@ -1,17 +1,24 @@
 package cambio.simulator.entities.patterns;
 
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.SplittableRandom;
 
 import cambio.simulator.entities.microservice.MicroserviceInstance;
 import cambio.simulator.entities.microservice.NoInstanceAvailableException;
+import cambio.simulator.misc.IRandomized;
 import cambio.simulator.parsing.JsonTypeName;
 
 @JsonTypeName("random")
-final class RandomLoadBalanceStrategy implements ILoadBalancingStrategy {
+final class RandomLoadBalanceStrategy implements ILoadBalancingStrategy, IRandomized {
 
-    //TODO: inject random seed
+    //replaced by the stream of the owning load balancer, see IRandomized
+    private transient SplittableRandom rng = new SplittableRandom(0);
+
+    @Override
+    public void setRandomStream(SplittableRandom randomStream) {
+        this.rng = randomStream;
+    }
 
     /**
      * Returns a random Microservice Instance of given Collection.
@@ -26,12 +33,16 @@ final class RandomLoadBalanceStrategy implements ILoadBalancingStrategy {
             throw new NoInstanceAvailableException();
         }
 
-        int targetIndex = (int) (Math.random() * runningInstances.size());
-
+        return getAt(runningInstances, rng.nextInt(runningInstances.size()));
+    }
 
+    /**
+     * Gets the instance at the given position of the collection.
+     */
+    static MicroserviceInstance getAt(Collection<MicroserviceInstance> runningInstances, int targetIndex) {
         //use (hopefully) optimized implementation of get
         if (runningInstances instanceof List) {
-            return ((ArrayList<MicroserviceInstance>) runningInstances).get(targetIndex);
+            return ((List<MicroserviceInstance>) runningInstances).get(targetIndex);
         }
 
         //otherwise, we iterate to the searched index
@@ -17,7 +17,7 @@ import desmoj.core.simulator.TimeInstant;
 class ReactiveAutoscalingPolicy implements IAutoscalingPolicy {
 
 
-    private final transient MultiDataPointReporter reporter = new MultiDataPointReporter("AS");
+    private transient MultiDataPointReporter reporter;
     private final double lowerBound = 0.3;
     private final double upperBound = 0.8;
     /**
@@ -30,6 +30,9 @@ class ReactiveAutoscalingPolicy implements IAutoscalingPolicy {
     public void apply(Microservice owner) {
         List<Double> utils = owner.getRelativeUtilizationOfInstances();
         TimeInstant presentTime = owner.presentTime();
+        if (reporter == null) {
+            reporter = new MultiDataPointReporter("AS", owner.getModel());
+        }
         reporter.addDatapoint("_Util", presentTime, utils);
 
         int currentInstanceCount = owner.getInstancesCount();
@@ -46,7 +49,7 @@ class ReactiveAutoscalingPolicy implements IAutoscalingPolicy {
             owner.scaleToInstancesCount(currentInstanceCount - 1);
         }
         if (owner.getInstancesCount() != currentInstanceCount) {
-            owner.sendTraceNote(String.format("Changed target instance count to %d", owner.getInstancesCount()));
+            owner.sendTraceNote(() -> String.format("Changed target instance count to %d", owner.getInstancesCount()));
         }
     }
 }
@@ -1,10 +1,9 @@
 package cambio.simulator.entities.patterns;
 
 import java.util.HashMap;
-import java.util.LinkedList;
-import java.util.List;
 import java.util.Map;
 
+import cambio.simulator.entities.TransientNames;
 import cambio.simulator.entities.microservice.MicroserviceInstance;
 import cambio.simulator.entities.networking.IRequestUpdateListener;
 import cambio.simulator.entities.networking.InternalRequest;
@@ -13,6 +12,7 @@ import cambio.simulator.entities.networking.Request;
 import cambio.simulator.entities.networking.RequestAnswer;
 import cambio.simulator.entities.networking.RequestFailedReason;
 import cambio.simulator.export.MultiDataPointReporter;
+import cambio.simulator.export.ReportCollector;
 import cambio.simulator.misc.Priority;
 import cambio.simulator.parsing.JsonTypeName;
 import com.google.gson.annotations.Expose;
@@ -30,9 +30,7 @@ import desmoj.core.simulator.TimeSpan;
 @JsonTypeName("retry")
 public class Retry extends StrategicInstanceOwnedPattern<IRetryStrategy> implements IRequestUpdateListener {
 
-    private static final MultiDataPointReporter reporter = new MultiDataPointReporter("RM");
-    private static final List<Double> all = new LinkedList<>();
-
+    private final MultiDataPointReporter reporter;
     private final Map<NetworkDependency, Integer> requestIndex = new HashMap<>();
 
     @Expose
@@ -41,6 +39,8 @@ public class Retry extends StrategicInstanceOwnedPattern<IRetryStrategy> impleme
 
     public Retry(final Model model, final String name, final boolean showInTrace) {
         super(model, name, showInTrace);
+        this.reporter = ReportCollector.forModel(model)
+            .getSharedReporter("RM", prefix -> new MultiDataPointReporter(prefix, model));
         this.setStrategy(new JitteringExponentialBackoffRetryStrategy()); // set default value
     }
 
@@ -66,25 +66,25 @@ public class Retry extends StrategicInstanceOwnedPattern<IRetryStrategy> impleme
             double delay = strategy.getNextDelay(tries);
 
             reporter.addDatapoint("RetryTimings", presentTime(), delay);
-            all.add(delay);
 
             MicroserviceInstance handler = request.getHandler();
 
             Request newRequest = new InternalRequest(getModel(), this.traceIsOn(), dep,
                 request.getRequester()); //updates the dependency that had the original request as child
             if (handler == null || tries == maxTries - 1) {
-                owner.sendRequest(String.format("Collecting dependency %s", dep.getQuotedPlainName()), newRequest,
+                owner.sendRequest(TransientNames.of(getModel(), "RequestSend",
+                        () -> String.format("Collecting dependency %s", dep.getQuotedPlainName())), newRequest,
                     dep.getTargetService(), new TimeSpan(delay));
             } else {
-                owner.sendRequest(String.format("Collecting dependency %s", dep.getQuotedPlainName()), newRequest,
+                owner.sendRequest(TransientNames.of(getModel(), "RequestSend",
+                        () -> String.format("Collecting dependency %s", dep.getQuotedPlainName())), newRequest,
                     handler,
                     new TimeSpan(delay));
             }
-            sendTraceNote(String.format("Try %d, send Request: %s", tries + 1, newRequest.getQuotedPlainName()));
+            sendTraceNote(() -> String.format("Try %d, send Request: %s", tries + 1, newRequest.getQuotedPlainName()));
         } else {
-            request.getUpdateListeners().forEach(iRequestUpdateListener -> iRequestUpdateListener
-                .onRequestFailed(request, when, RequestFailedReason.MAX_RETRIES_REACHED));
-            sendTraceNote(String.format("Max Retries Reached for Dependency %s", dep));
+            request.getListenerChain().fireRequestFailed(request, when, RequestFailedReason.MAX_RETRIES_REACHED);
+            sendTraceNote(() -> String.format("Max Retries Reached for Dependency %s", dep));
             return true;
         }
         return false;
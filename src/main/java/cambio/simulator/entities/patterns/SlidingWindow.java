@@ -0,0 +1,63 @@
+package cambio.simulator.entities.patterns;
+
+/**
+ * Window over the outcomes (success or failure) of the most recent requests, used by a {@link CircuitBreakerState} to
+ * determine the current error rate.
+ *
+ * <p>
+ * Implementations keep running counts, so recording an outcome and evaluating the window take (amortized) O(1)
+ * regardless of the window size.
+ *
+ * @author Lion Wagner
+ * @see CountBasedSlidingWindow
+ * @see TimeBasedSlidingWindow
+ */
+abstract class SlidingWindow {
+
+    /**
+     * Records the outcome of a request.
+     *
+     * @param success whether the request was successful
+     * @param now     current simulation time
+     */
+    abstract void record(boolean success, double now);
+
+    /**
+     * Checks whether the window contains enough outcomes to determine a meaningful error rate.
+     *
+     * @param now current simulation time
+     */
+    abstract boolean hasEnoughData(double now);
+
+    /**
+     * Gets the amount of outcomes currently contained in the window.
+     *
+     * @param now current simulation time
+     */
+    abstract int getSize(double now);
+
+    /**
+     * Gets the amount of successful outcomes currently contained in the window.
+     *
+     * @param now current simulation time
+     */
+    abstract int getSuccesses(double now);
+
+    /**
+     * Removes all outcomes from the window.
+     */
+    abstract void clear();
+
+    /**
+     * Gets the error rate of all outcomes currently contained in the window, 0 if there is not enough data.
+     *
+     * @param now current simulation time
+     * @return the error rate between 0 and 1
+     */
+    double getErrorRate(double now) {
+        if (!hasEnoughData(now)) {
+            return 0;
+        }
+        return 1.0 - ((double) getSuccesses(now) / getSize(now));
+    }
+}
@@ -1,5 +1,6 @@
 package cambio.simulator.entities.patterns;
 
+import cambio.simulator.misc.RandomStreams;
 import com.google.gson.annotations.Expose;
 import desmoj.core.simulator.Model;
 
@@ -27,5 +28,6 @@ public abstract class StrategicInstanceOwnedPattern<S extends IStrategy> extends
     @Override
     public void setStrategy(S strategy) {
         this.strategy = strategy;
+        RandomStreams.forModel(getModel()).injectInto(strategy, "Strategy:" + getName());
     }
 }
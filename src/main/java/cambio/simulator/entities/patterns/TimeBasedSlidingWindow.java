@@ -0,0 +1,95 @@
+package cambio.simulator.entities.patterns;
+
+import java.util.Arrays;
+
+/**
+ * Sliding window over the outcomes of all requests of the last {@code bucketCount} time slices (similar to the time
+ * based sliding window of Resilience4j). The outcomes are aggregated into one bucket per time slice. Buckets of slices
+ * that left the window are subtracted from the running totals and reused.
+ *
+ * <p>
+ * The error rate can only be determined once the window contains at least {@code minimumCalls} outcomes.
+ *
+ * @author Lion Wagner
+ */
+final class TimeBasedSlidingWindow extends SlidingWindow {
+
+    private final double sliceDuration;
+    private final int minimumCalls;
+    private final int[] bucketSuccesses;
+    private final int[] bucketFailures;
+    private long currentSlice = Long.MIN_VALUE;
+    private int successes = 0;
+    private int failures = 0;
+
+    TimeBasedSlidingWindow(int bucketCount, double sliceDuration, int minimumCalls) {
+        if (bucketCount <= 0) {
+            throw new IllegalArgumentException("A time based sliding window needs at least one bucket.");
+        }
+        if (sliceDuration <= 0) {
+            throw new IllegalArgumentException("The time slice duration of a sliding window has to be greater than 0.");
+        }
+        this.sliceDuration = sliceDuration;
+        this.minimumCalls = minimumCalls;
+        this.bucketSuccesses = new int[bucketCount];
+        this.bucketFailures = new int[bucketCount];
+    }
+
+    //moves the window forward to the slice of the given time, evicting all buckets of slices that left the window
+    private void advance(double now) {
+        long slice = (long) Math.floor(now / sliceDuration);
+        if (slice <= currentSlice) {
+            return;
+        }
+        if (currentSlice == Long.MIN_VALUE || slice - currentSlice >= bucketSuccesses.length) {
+            clear();
+        } else {
+            for (long evicted = currentSlice + 1; evicted <= slice; evicted++) {
+                int index = (int) (evicted % bucketSuccesses.length);
+                successes -= bucketSuccesses[index];
+                failures -= bucketFailures[index];
+                bucketSuccesses[index] = 0;
+                bucketFailures[index] = 0;
+            }
+        }
+        currentSlice = slice;
+    }
+
+    @Override
+    void record(boolean success, double now) {
+        advance(now);
+        int index = (int) (currentSlice % bucketSuccesses.length);
+        if (success) {
+            bucketSuccesses[index]++;
+            successes++;
+        } else {
+            bucketFailures[index]++;
+            failures++;
+        }
+    }
+
+    @Override
+    boolean hasEnoughData(double now) {
+        return getSize(now) >= minimumCalls;
+    }
+
+    @Override
+    int getSize(double now) {
+        advance(now);
+        return successes + failures;
+    }
+
+    @Override
+    int getSuccesses(double now) {
+        advance(now);
+        return successes;
+    }
+
+    @Override
+    void clear() {
+        Arrays.fill(bucketSuccesses, 0);
+        Arrays.fill(bucketFailures, 0);
+        successes = 0;
+        failures = 0;
+    }
+}
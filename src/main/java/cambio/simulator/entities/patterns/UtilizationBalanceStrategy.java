@@ -1,13 +1,16 @@
 package cambio.simulator.entities.patterns;
 
 import java.util.Collection;
-import java.util.Comparator;
 
 import cambio.simulator.entities.microservice.MicroserviceInstance;
 import cambio.simulator.parsing.JsonTypeName;
 
 /**
  * Strategy that chooses the least utilized Microservice Instance by current relative Queue demand.
+ *
+ * <p>
+ * The relative work demand of an instance changes continuously while its CPU is working. Therefore, it cannot be kept
+ * in a heap and is evaluated for each running instance on every call, without creating intermediate objects.
  */
 @JsonTypeName("util")
 class UtilizationBalanceStrategy implements ILoadBalancingStrategy {
@@ -17,8 +20,15 @@ class UtilizationBalanceStrategy implements ILoadBalancingStrategy {
      */
     @Override
     public MicroserviceInstance getNextInstance(Collection<MicroserviceInstance> runningInstances) {
-        return runningInstances.stream()
-            .min(Comparator.comparingDouble(MicroserviceInstance::getRelativeWorkDemand))
-            .orElse(null);
+        MicroserviceInstance best = null;
+        double bestDemand = Double.POSITIVE_INFINITY;
+        for (MicroserviceInstance instance : runningInstances) {
+            double demand = instance.getRelativeWorkDemand();
+            if (best == null || demand < bestDemand) {
+                best = instance;
+                bestDemand = demand;
+            }
+        }
+        return best;
     }
 }
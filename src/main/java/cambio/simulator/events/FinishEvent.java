@@ -24,6 +24,7 @@ public class FinishEvent extends NamedExternalEvent {
     @Override
     public void eventRoutine() throws SuspendExecution {
         model.getArchitectureModel().getMicroservices().forEach(Microservice::finalizeStatistics);
+        model.getObjectPools().reportLeaks();
 
     }
 }
@@ -1,10 +1,9 @@
 package cambio.simulator.export;
 
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 
+import desmoj.core.simulator.Model;
 import desmoj.core.simulator.TimeInstant;
 
 /**
@@ -21,16 +20,23 @@ public class AccumulativeDataPointReporter extends MultiDataPointReporter {
         super(datasetsPrefix);
     }
 
+    public AccumulativeDataPointReporter(String datasetsPrefix, Model model) {
+        super(datasetsPrefix, model);
+    }
+
     /**
      * {@inheritDoc}
      */
     public void addDatapoint(String dataSetName, TimeInstant when, Number data) {
         checkArgumentsAreNotNull(dataSetName, when, data);
 
-        Map<Double, Number> dataSet =
-            (HashMap<Double, Number>) dataSets.computeIfAbsent(datasetsPrefix + dataSetName,
-                s -> new HashMap<Double, Number>());
-        dataSet.merge(when.getTimeAsDouble(), data, (number, number2) -> number.doubleValue() + number2.doubleValue());
+        TimeSeries dataSet = getOrCreateTimeSeries(dataSetName);
+        int index = dataSet.indexOfTime(when.getTimeAsDouble());
+        if (index < 0) {
+            dataSet.add(when.getTimeAsDouble(), data);
+        } else {
+            dataSet.accumulate(index, data);
+        }
     }
 
     /**
@@ -39,13 +45,13 @@ public class AccumulativeDataPointReporter extends MultiDataPointReporter {
     public <T> void addDatapoint(String dataSetName, TimeInstant when, List<T> data) {
         checkArgumentsAreNotNull(dataSetName, when, data);
 
-        Map<Double, List<T>> dataSet =
-            (HashMap<Double, List<T>>) dataSets.computeIfAbsent(datasetsPrefix + dataSetName,
-                s -> new HashMap<Double, List<T>>());
-        dataSet.merge(when.getTimeAsDouble(), data, (list1, list2) -> {
-            list1.addAll(list2);
-            return list1;
-        });
+        TimeSeries dataSet = getOrCreateTimeSeries(dataSetName);
+        int index = dataSet.indexOfTime(when.getTimeAsDouble());
+        if (index < 0) {
+            dataSet.add(when.getTimeAsDouble(), data);
+        } else {
+            ((List<T>) dataSet.getValue(index)).addAll(data);
+        }
     }
 
 
@@ -0,0 +1,156 @@
+package cambio.simulator.export;
+
+import org.apache.commons.math3.distribution.TDistribution;
+
+/**
+ * Estimates the confidence interval of the steady-state mean of a single, autocorrelated series of observations with
+ * the method of batch means.
+ *
+ * <p>
+ * Observations are grouped into batches of equal size. At most twice the configured number of batches are kept; once
+ * they are complete, adjacent batches are merged and the batch size doubles. Hence, the memory usage is constant and
+ * the batch means become less correlated the longer the series gets.
+ *
+ * <p>
+ * The confidence interval is only calculated if at least the configured number of batches are complete and the lag-1
+ * autocorrelation of the batch means is not significantly positive (at most {@code 1.96 / sqrt(k)} for {@code k}
+ * batches). Otherwise, the batches are still too small to be treated as independent and the interval would be too
+ * narrow.
+ *
+ * @author Lion Wagner
+ */
+public final class BatchMeansEstimator {
+
+    //95% quantile of the standard normal distribution, used to test the autocorrelation of the batch means
+    private static final double AUTOCORRELATION_QUANTILE = 1.96;
+
+    private final int minBatches;
+    private final double[] batchSums;
+    private final double criticalValueProbability;
+
+    private long batchSize = 1;
+    private int completeBatches = 0;
+    private double currentSum = 0;
+    private long currentCount = 0;
+    private long count = 0;
+
+    /**
+     * Creates a new estimator.
+     *
+     * @param minBatches minimal number of batches the interval is based on, has to be at least 2
+     * @param confidence confidence level of the interval, e.g. 0.95
+     */
+    public BatchMeansEstimator(int minBatches, double confidence) {
+        if (minBatches < 2) {
+            throw new IllegalArgumentException("At least two batches are required.");
+        }
+        if (confidence <= 0 || confidence >= 1) {
+            throw new IllegalArgumentException("The confidence level has to be between 0 and 1.");
+        }
+        this.minBatches = minBatches;
+        this.batchSums = new double[2 * minBatches];
+        this.criticalValueProbability = 1 - (1 - confidence) / 2;
+    }
+
+    /**
+     * Adds an observation.
+     *
+     * @param value observed value
+     * @return true if a batch was completed by this observation
+     */
+    public boolean add(double value) {
+        count++;
+        currentSum += value;
+        currentCount++;
+        if (currentCount < batchSize) {
+            return false;
+        }
+        batchSums[completeBatches++] = currentSum;
+        currentSum = 0;
+        currentCount = 0;
+        if (completeBatches == batchSums.length) {
+            for (int i = 0; i < minBatches; i++) {
+                batchSums[i] = batchSums[2 * i] + batchSums[2 * i + 1];
+            }
+            completeBatches = minBatches;
+            batchSize *= 2;
+        }
+        return true;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public int getBatchCount() {
+        return completeBatches;
+    }
+
+    public long getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Gets the mean of all complete batches.
+     *
+     * @return the mean of the complete batches, NaN if there are none
+     */
+    public double getMean() {
+        if (completeBatches == 0) {
+            return Double.NaN;
+        }
+        double sum = 0;
+        for (int i = 0; i < completeBatches; i++) {
+            sum += batchSums[i];
+        }
+        return sum / (completeBatches * (double) batchSize);
+    }
+
+    /**
+     * Calculates the half width of the confidence interval of the mean, based on the student t-distribution of the
+     * batch means.
+     *
+     * @return the half width of the confidence interval, NaN if there are too few batches or the batch means are still
+     *     correlated
+     */
+    public double getHalfWidth() {
+        if (completeBatches < minBatches) {
+            return Double.NaN;
+        }
+        double mean = getMean();
+        double squaredDeviations = 0;
+        double lagProducts = 0;
+        for (int i = 0; i < completeBatches; i++) {
+            double deviation = batchSums[i] / batchSize - mean;
+            squaredDeviations += deviation * deviation;
+            if (i > 0) {
+                lagProducts += deviation * (batchSums[i - 1] / batchSize - mean);
+            }
+        }
+        if (squaredDeviations == 0) {
+            return 0;
+        }
+        if (lagProducts / squaredDeviations > AUTOCORRELATION_QUANTILE / Math.sqrt(completeBatches)) {
+            return Double.NaN;
+        }
+        double standardDeviation = Math.sqrt(squaredDeviations / (completeBatches - 1));
+        double criticalValue = new TDistribution(completeBatches - 1).inverseCumulativeProbability(
+            criticalValueProbability);
+        return criticalValue * standardDeviation / Math.sqrt(completeBatches);
+    }
+
+    /**
+     * Calculates the half width of the confidence interval relative to the mean.
+     *
+     * @return the relative half width, NaN if the half width is not available or the mean is 0
+     * @see #getHalfWidth()
+     */
+    public double getRelativeHalfWidth() {
+        double halfWidth = getHalfWidth();
+        double mean = getMean();
+        if (Double.isNaN(halfWidth) || mean == 0) {
+            return Double.NaN;
+        }
+        return halfWidth / Math.abs(mean);
+    }
+}
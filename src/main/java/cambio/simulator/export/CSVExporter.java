@@ -2,7 +2,6 @@ package cambio.simulator.export;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.Map;
 
 import desmoj.core.report.AbstractTableFormatter;
 import desmoj.core.report.FileOutput;
@@ -30,11 +29,14 @@ class CSVExporter extends AbstractTableFormatter {
         out.open(targetFilePath.toAbsolutePath().toString());
     }
 
-    public static void writeDataset(String datasetName, Map<Double, Object> dataset, Path reportFolder) {
+    public static void writeDataset(String datasetName, TimeSeries dataset, Path reportFolder) {
         writeDataset(datasetName, "Value", dataset, reportFolder);
     }
 
-    public static void writeDataset(String datasetName, String nameValueColumn, Map<Double, Object> dataset,
+    /**
+     * Writes all data points of the given dataset in their recorded order, one row per data point.
+     */
+    public static void writeDataset(String datasetName, String nameValueColumn, TimeSeries dataset,
                                     Path reportFolder) {
 
         final String separator = ";";
@@ -42,10 +44,10 @@ class CSVExporter extends AbstractTableFormatter {
 
         exporter.openTable("Simulation Time" + separator + nameValueColumn + separator);
 
-        for (Map.Entry<Double, Object> entry : dataset.entrySet()) {
+        for (int i = 0; i < dataset.size(); i++) {
             exporter.openRow();
-            exporter.writeCell(entry.getKey().toString(), 1);
-            exporter.writeCell(String.valueOf(entry.getValue()), 1);
+            exporter.writeCell(Double.toString(dataset.getTime(i)), 1);
+            exporter.writeCell(dataset.formatValue(i), 1);
             exporter.closeRow();
         }
         exporter.closeTableNoTopTag();
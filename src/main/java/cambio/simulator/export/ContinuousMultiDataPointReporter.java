@@ -2,6 +2,7 @@ package cambio.simulator.export;
 
 import java.util.HashMap;
 
+import desmoj.core.simulator.Model;
 import desmoj.core.simulator.TimeInstant;
 
 /**
@@ -28,17 +29,21 @@ public class ContinuousMultiDataPointReporter extends MultiDataPointReporter {
         super(prefix);
     }
 
+    public ContinuousMultiDataPointReporter(String prefix, Model model) {
+        super(prefix, model);
+    }
+
     @Override
     public <T> void addDatapoint(String dataSetName, TimeInstant when, T data) {
-        super.addDatapoint(dataSetName, when, data);
-
+        //the repeated entry is added first, to keep the time series ordered
         if (previousEntries.containsKey(dataSetName)) {
             Object previousData = previousEntries.get(dataSetName);
             TimeInstant timeBeforeWhen = new TimeInstant((when.getTimeInEpsilon() - 1) / (Math.pow(10, 6)));
-            if (!super.getDataSets().get(datasetsPrefix + dataSetName).containsKey(timeBeforeWhen.getTimeAsDouble())) {
+            if (getOrCreateTimeSeries(dataSetName).indexOfTime(timeBeforeWhen.getTimeAsDouble()) < 0) {
                 super.addDatapoint(dataSetName, timeBeforeWhen, previousData);
             }
         }
+        super.addDatapoint(dataSetName, when, data);
         previousEntries.put(dataSetName, data);
     }
 }
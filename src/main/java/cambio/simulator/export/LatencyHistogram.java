@@ -0,0 +1,206 @@
+package cambio.simulator.export;
+
+import java.util.Arrays;
+
+/**
+ * Histogram with log-linear buckets for recording latencies, similar to an HDR histogram.
+ *
+ * <p>
+ * Values are counted in multiples of a smallest discernible {@code unit}. Up to {@code 2^precision} units each value
+ * has its own bucket. Above, each power of two is split into {@code 2^(precision-1)} linear sub buckets. Thus, the
+ * relative error of each recorded value is at most {@code 2^-(precision-1)}, independent of its magnitude.
+ *
+ * <p>
+ * The count array only grows up to the largest recorded bucket and is bounded by {@code (65 - precision) *
+ * 2^(precision-1)} entries. Histograms with the same unit and precision can be merged, e.g. to combine the results of
+ * multiple time windows, operations or replications.
+ *
+ * @author Lion Wagner
+ */
+public final class LatencyHistogram {
+
+    /**
+     * Default smallest discernible value, one microsecond if values are recorded in seconds.
+     */
+    public static final double DEFAULT_UNIT = 1e-6;
+
+    /**
+     * Default precision, results in a relative error of less than 1.6%.
+     */
+    public static final int DEFAULT_PRECISION = 7;
+
+    private final double unit;
+    private final int precision;
+    private final int subBucketHalfCount;
+
+    private long[] counts = new long[0];
+    private long totalCount = 0;
+    private double sum = 0;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+
+    public LatencyHistogram() {
+        this(DEFAULT_UNIT, DEFAULT_PRECISION);
+    }
+
+    /**
+     * Creates a new, empty histogram.
+     *
+     * @param unit      smallest discernible value, has to be greater than 0
+     * @param precision number of bits that are used for the sub buckets, has to be between 1 and 16 (inclusive)
+     */
+    public LatencyHistogram(double unit, int precision) {
+        if (!(unit > 0)) {
+            throw new IllegalArgumentException("Unit has to be greater than 0.");
+        }
+        checkPrecision(precision);
+        this.unit = unit;
+        this.precision = precision;
+        this.subBucketHalfCount = 1 << (precision - 1);
+    }
+
+    /**
+     * Creates a copy of the given histogram.
+     *
+     * @param other histogram that should be copied
+     */
+    public LatencyHistogram(LatencyHistogram other) {
+        this(other.unit, other.precision);
+        merge(other);
+    }
+
+    static void checkPrecision(int precision) {
+        if (precision < 1 || precision > 16) {
+            throw new IllegalArgumentException("Precision has to be between 1 and 16.");
+        }
+    }
+
+    private int indexOf(long units) {
+        if (units < (1L << precision)) {
+            return (int) units;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(units) - (precision - 1);
+        return (shift + 1) * subBucketHalfCount + (int) (units >>> shift) - subBucketHalfCount;
+    }
+
+    private long highestUnitsOf(int index) {
+        if (index < (1 << precision)) {
+            return index;
+        }
+        int shift = index / subBucketHalfCount - 1;
+        long lowest = (long) (index % subBucketHalfCount + subBucketHalfCount) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+
+    /**
+     * Records a value.
+     *
+     * @param value value that should be recorded, may not be negative
+     */
+    public void record(double value) {
+        if (!(value >= 0)) {
+            throw new IllegalArgumentException("Value has to be a non-negative number.");
+        }
+        int index = indexOf((long) (value / unit));
+        if (index >= counts.length) {
+            counts = Arrays.copyOf(counts, Math.max(index + 1, counts.length * 2));
+        }
+        counts[index]++;
+        totalCount++;
+        sum += value;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    /**
+     * Adds all values of the given histogram to this histogram.
+     *
+     * @param other histogram that should be merged into this one
+     * @throws IllegalArgumentException if the unit or precision of the histograms differ
+     */
+    public void merge(LatencyHistogram other) {
+        if (other.unit != unit || other.precision != precision) {
+            throw new IllegalArgumentException("Only histograms with the same unit and precision can be merged.");
+        }
+        if (other.counts.length > counts.length) {
+            counts = Arrays.copyOf(counts, other.counts.length);
+        }
+        for (int i = 0; i < other.counts.length; i++) {
+            counts[i] += other.counts[i];
+        }
+        totalCount += other.totalCount;
+        sum += other.sum;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    /**
+     * Calculates the value at the given percentile. The result is the highest value that is equivalent to the bucket
+     * of the percentile, but never larger than the maximum recorded value.
+     *
+     * @param percentile percentile between 0 and 100 (inclusive)
+     * @return the value at the given percentile, {@code NaN} if the histogram is empty
+     */
+    public double getValueAtPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile has to be between 0 and 100.");
+        }
+        if (totalCount == 0) {
+            return Double.NaN;
+        }
+        long targetCount = Math.max(1, (long) Math.ceil(percentile / 100 * totalCount));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= targetCount) {
+                double value = (highestUnitsOf(i) + 1) * unit;
+                return Math.max(min, Math.min(max, value));
+            }
+        }
+        return max;
+    }
+
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    public boolean isEmpty() {
+        return totalCount == 0;
+    }
+
+    /**
+     * Gets the exact mean of all recorded values.
+     *
+     * @return the mean of all recorded values, {@code NaN} if the histogram is empty
+     */
+    public double getMean() {
+        return totalCount == 0 ? Double.NaN : sum / totalCount;
+    }
+
+    public double getMin() {
+        return totalCount == 0 ? Double.NaN : min;
+    }
+
+    public double getMax() {
+        return totalCount == 0 ? Double.NaN : max;
+    }
+
+    public double getUnit() {
+        return unit;
+    }
+
+    public int getPrecision() {
+        return precision;
+    }
+
+    /**
+     * Removes all recorded values. The allocated buckets are kept.
+     */
+    public void reset() {
+        Arrays.fill(counts, 0);
+        totalCount = 0;
+        sum = 0;
+        min = Double.POSITIVE_INFINITY;
+        max = Double.NEGATIVE_INFINITY;
+    }
+}
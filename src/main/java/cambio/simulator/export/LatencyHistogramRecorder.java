@@ -0,0 +1,184 @@
+package cambio.simulator.export;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import cambio.simulator.misc.Util;
+import desmoj.core.simulator.Model;
+import desmoj.core.simulator.TimeInstant;
+
+/**
+ * {@link MultiDataPointReporter} that records latencies into {@link LatencyHistogram}s instead of (or in addition to)
+ * keeping every single value.
+ *
+ * <p>
+ * For each recorded dataset one histogram per time window is kept. Once a window is over, its 50th, 90th, 99th and
+ * 99.9th percentile, its mean and its count are added as data points (at the start time of the window) to the datasets
+ * {@code <name>_p50}, {@code <name>_p90}, {@code <name>_p99}, {@code <name>_p99.9}, {@code <name>_Mean} and {@code
+ * <name>_Count}. Afterwards the window is merged into the total histogram of the dataset. Therefore, the memory usage
+ * does not depend on the number of recorded values.
+ *
+ * <p>
+ * Raw values are observation datasets, so their warm-up is truncated if the experiment enables it (see {@link
+ * MultiDataPointReporter#getOrCreateObservationSeries(String)}). The windowed statistics are never truncated.
+ *
+ * @author Lion Wagner
+ * @see LatencyHistogram
+ */
+public class LatencyHistogramRecorder extends MultiDataPointReporter {
+
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+    private static final String[] PERCENTILE_NAMES = {"_p50", "_p90", "_p99", "_p99.9"};
+
+    private final RecordingMode mode;
+    private final double windowSize;
+    private final double unit;
+    private final int precision;
+    private final Map<String, Window> currentWindows = new HashMap<>();
+    private final Map<String, LatencyHistogram> totals = new HashMap<>();
+
+    /**
+     * Creates a new recorder.
+     *
+     * @param datasetsPrefix prefix that is added to the name of all datasets of this reporter
+     * @param model          model to which the reported data belongs
+     * @param mode           whether histograms, raw values or both should be recorded
+     * @param windowSize     size of the time windows in simulation time units, has to be greater than 0
+     * @param precision      precision of the histograms, see {@link LatencyHistogram#LatencyHistogram(double, int)}
+     */
+    public LatencyHistogramRecorder(String datasetsPrefix, Model model, RecordingMode mode, double windowSize,
+                                    int precision) {
+        super(datasetsPrefix, model);
+        Util.requireGreaterZero(windowSize, "Window size has to be greater than 0.");
+        LatencyHistogram.checkPrecision(precision);
+        this.mode = Objects.requireNonNull(mode);
+        this.windowSize = windowSize;
+        this.unit = LatencyHistogram.DEFAULT_UNIT;
+        this.precision = precision;
+    }
+
+    /**
+     * Records a latency.
+     *
+     * @param dataSetName name of the dataset to which the latency belongs
+     * @param when        point in simulation time at which the latency was observed
+     * @param latency     the observed latency
+     */
+    public void record(String dataSetName, TimeInstant when, double latency) {
+        if (mode.recordsRawValues()) {
+            getOrCreateObservationSeries(dataSetName).addDouble(when.getTimeAsDouble(), latency);
+        }
+        if (!mode.recordsHistograms()) {
+            //no windows, but the total histogram is still needed for the summaries
+            totals.computeIfAbsent(dataSetName, name -> new LatencyHistogram(unit, precision)).record(latency);
+            return;
+        }
+
+        long windowIndex = (long) Math.floor(when.getTimeAsDouble() / windowSize);
+        Window window = currentWindows.get(dataSetName);
+        if (window == null) {
+            window = new Window(windowIndex, new LatencyHistogram(unit, precision));
+            currentWindows.put(dataSetName, window);
+        } else if (window.index != windowIndex) {
+            closeWindow(dataSetName, window);
+            window.index = windowIndex;
+        }
+        window.histogram.record(latency);
+    }
+
+    private void closeWindow(String dataSetName, Window window) {
+        LatencyHistogram histogram = window.histogram;
+        if (histogram.isEmpty()) {
+            return;
+        }
+        TimeInstant windowStart = new TimeInstant(window.index * windowSize);
+        for (int i = 0; i < PERCENTILES.length; i++) {
+            addDatapoint(dataSetName + PERCENTILE_NAMES[i], windowStart,
+                histogram.getValueAtPercentile(PERCENTILES[i]));
+        }
+        addDatapoint(dataSetName + "_Mean", windowStart, histogram.getMean());
+        addDatapoint(dataSetName + "_Count", windowStart, histogram.getTotalCount());
+
+        totals.computeIfAbsent(dataSetName, name -> new LatencyHistogram(unit, precision)).merge(histogram);
+        histogram.reset();
+    }
+
+    /**
+     * Closes all currently open windows, so their statistics are contained in the datasets of this reporter.
+     */
+    @Override
+    public void flush() {
+        currentWindows.forEach(this::closeWindow);
+    }
+
+    /**
+     * Gets the histograms over all closed windows of each dataset. If only raw values are recorded, the histograms
+     * contain all recorded latencies.
+     *
+     * @return a map from dataset names (without prefix) to their total histogram
+     */
+    public Map<String, LatencyHistogram> getTotalHistograms() {
+        return Collections.unmodifiableMap(totals);
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        currentWindows.clear();
+        totals.clear();
+    }
+
+    /**
+     * Defines what is recorded by a {@link LatencyHistogramRecorder}.
+     */
+    public enum RecordingMode {
+        /**
+         * Only windowed histograms are recorded.
+         */
+        HISTOGRAM,
+        /**
+         * Only the raw values are recorded as datasets. The total histograms are kept nevertheless.
+         */
+        RAW,
+        /**
+         * Windowed histograms and raw values are recorded.
+         */
+        BOTH;
+
+        /**
+         * Parses the mode from its (case-insensitive) name.
+         *
+         * @param name name of the mode
+         * @return the mode with the given name
+         * @throws IllegalArgumentException if there is no mode with the given name
+         */
+        public static RecordingMode fromName(String name) {
+            for (RecordingMode mode : values()) {
+                if (mode.name().equalsIgnoreCase(name)) {
+                    return mode;
+                }
+            }
+            throw new IllegalArgumentException(String.format("Unknown recording mode '%s'.", name));
+        }
+
+        boolean recordsRawValues() {
+            return this != HISTOGRAM;
+        }
+
+        boolean recordsHistograms() {
+            return this != RAW;
+        }
+    }
+
+    private static final class Window {
+        private final LatencyHistogram histogram;
+        private long index;
+
+        private Window(long index, LatencyHistogram histogram) {
+            this.index = index;
+            this.histogram = histogram;
+        }
+    }
+}
@@ -1,37 +1,111 @@
 package cambio.simulator.export;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 
+import cambio.simulator.models.MiSimModel;
 import desmoj.core.report.Reporter;
+import desmoj.core.simulator.Model;
 import desmoj.core.simulator.TimeInstant;
 
 /**
  * Dynamically-typed data point collector.
  *
+ * <p>
+ * Each dataset is stored in a columnar {@link TimeSeries}, which keeps the time stamps and (most) values in primitive
+ * arrays.
+ *
+ * <p>
+ * If the experiment of the model enables warm-up truncation, the initial transient of datasets that contain one data
+ * point per observation (see {@link #getOrCreateObservationSeries(String)}) is detected and discarded while they are
+ * recorded (see {@link TimeSeries#enableWarmUpDetection()}). Other datasets, e.g. values that are recorded on change
+ * or accumulated counters, are kept as they are.
+ *
  * @author Lion Wagner
  */
 public class MultiDataPointReporter extends Reporter {
 
-    protected final HashMap<String, HashMap<Double, ?>> dataSets = new HashMap<>();
+    protected final HashMap<String, TimeSeries> dataSets = new HashMap<>();
     protected final String datasetsPrefix;
+    private final Model model;
 
     public MultiDataPointReporter() {
         this("");
     }
 
+    /**
+     * Creates a new reporter that does not belong to a model. It is not registered with any {@link ReportCollector},
+     * use {@link ReportCollector#register(Reporter)} to collect its data.
+     *
+     * @param datasetsPrefix prefix that is added to the name of all datasets of this reporter
+     */
     public MultiDataPointReporter(String datasetsPrefix) {
-        this.datasetsPrefix = datasetsPrefix;
-        register();
+        this(datasetsPrefix, null);
     }
 
-    private void register() {
-        ReportCollector.getInstance().register(this);
+    /**
+     * Creates a new reporter that registers with the {@link ReportCollector} of the given model.
+     *
+     * @param datasetsPrefix prefix that is added to the name of all datasets of this reporter
+     * @param model          model to which the reported data belongs, if null the reporter is not registered
+     * @see ReportCollector#forModel(Model)
+     */
+    public MultiDataPointReporter(String datasetsPrefix, Model model) {
+        this.datasetsPrefix = datasetsPrefix;
+        this.model = model;
+        if (model != null) {
+            ReportCollector.forModel(model).register(this);
+        }
     }
 
+    /**
+     * Creates a map based copy of all datasets of this reporter. If multiple data points of one dataset share a time
+     * stamp, only the last one is contained.
+     *
+     * <p>
+     * Since the datasets are stored as {@link TimeSeries}, this method returns a new copy on each call instead of the
+     * internal datasets. Changes to the returned maps do not affect the reporter, and data points that are added later
+     * are not visible in them. Use {@link #getTimeSeries()} to read the datasets without copying them.
+     *
+     * @return a map from dataset names to maps from time stamps to values
+     * @see #getTimeSeries()
+     */
     public final HashMap<String, HashMap<Double, ?>> getDataSets() {
-        return dataSets;
+        HashMap<String, HashMap<Double, ?>> copy = new HashMap<>();
+        dataSets.forEach((name, series) -> copy.put(name, series.toMap()));
+        return copy;
+    }
+
+    public final Map<String, TimeSeries> getTimeSeries() {
+        return Collections.unmodifiableMap(dataSets);
+    }
+
+    protected final TimeSeries getOrCreateTimeSeries(String dataSetName) {
+        return dataSets.computeIfAbsent(datasetsPrefix + dataSetName, s -> new TimeSeries());
+    }
+
+    /**
+     * Gets or creates a dataset that contains one data point per observation, e.g. one response time per request. If
+     * the experiment enables warm-up truncation, the initial transient of such a dataset is discarded while it is
+     * recorded.
+     *
+     * @param dataSetName name of the dataset
+     * @return the dataset with the given name
+     */
+    protected final TimeSeries getOrCreateObservationSeries(String dataSetName) {
+        TimeSeries series = getOrCreateTimeSeries(dataSetName);
+        if (series.size() == 0 && isWarmUpTruncationEnabled()) {
+            series.enableWarmUpDetection();
+        }
+        return series;
+    }
+
+    private boolean isWarmUpTruncationEnabled() {
+        //the experiment meta data is not available yet while the reporters of a model are created
+        return model instanceof MiSimModel && ((MiSimModel) model).getExperimentMetaData() != null
+            && ((MiSimModel) model).getExperimentMetaData().isWarmUpTruncation();
     }
 
     /**
@@ -47,9 +121,7 @@ public class MultiDataPointReporter extends Reporter {
         Objects.requireNonNull(when);
         Objects.requireNonNull(data);
 
-        Map<Double, T> dataSet =
-            (HashMap<Double, T>) dataSets.computeIfAbsent(datasetsPrefix + dataSetName, s -> new HashMap<Double, T>());
-        dataSet.put(when.getTimeAsDouble(), data);
+        getOrCreateTimeSeries(dataSetName).add(when.getTimeAsDouble(), data);
     }
 
     //implemented to keep compatibility to desmoj default reporter framework
@@ -58,7 +130,7 @@ public class MultiDataPointReporter extends Reporter {
         StringBuilder builder = new StringBuilder("Multidatapointcollector\n");
 
         //very inefficient (combining, splitting, combining, splitting), but works...
-        for (Map.Entry<String, HashMap<Double, ?>> dataSet : dataSets.entrySet()) {
+        for (Map.Entry<String, TimeSeries> dataSet : dataSets.entrySet()) {
             builder.append(dataSet.getKey()).append("\n");
             builder.append(String.join("\n", getEntries(dataSet.getKey())));
         }
@@ -75,15 +147,23 @@ public class MultiDataPointReporter extends Reporter {
     //TODO: switch from ';' to ',' delimiter
     public String[] getEntries(String datasetName) {
         StringBuilder builder = new StringBuilder("Simulation Time;Value\n");
-        for (Map.Entry<Double, ?> dataPoint : dataSets.get(datasetName).entrySet()) {
-            builder.append(dataPoint.getKey())
+        TimeSeries series = dataSets.get(datasetName);
+        for (int i = 0; i < series.size(); i++) {
+            builder.append(series.getTime(i))
                 .append(";")
-                .append(dataPoint.getValue())
+                .append(series.getValue(i))
                 .append("\n");
         }
         return builder.toString().split("\n");
     }
 
+    /**
+     * Writes data that is buffered by this reporter into its datasets. Is called before the data of this reporter is
+     * collected. Does nothing by default.
+     */
+    public void flush() {
+    }
+
     public void reset() {
         dataSets.clear();
     }
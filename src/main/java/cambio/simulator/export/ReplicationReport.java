@@ -0,0 +1,212 @@
+package cambio.simulator.export;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.apache.commons.math3.distribution.TDistribution;
+import org.apache.commons.math3.stat.descriptive.SummaryStatistics;
+
+/**
+ * Combines the collected data of multiple independent replications of the same experiment.
+ *
+ * <p>
+ * Besides the raw data of each run, the report contains a per-run summary (count and mean of each dataset) and
+ * cross-run statistics (mean, standard deviation and 95% confidence interval of the per-run means). Only numeric values
+ * are considered for the statistics. Latency histograms of all runs are merged and summarized separately.
+ *
+ * @author Lion Wagner
+ */
+public final class ReplicationReport {
+
+    private static final String SEPARATOR = ";";
+
+    private final List<Run> runs = new ArrayList<>();
+    private final Map<String, LatencyHistogram> mergedLatencies = new TreeMap<>();
+
+    /**
+     * Adds the collected data of a finished replication.
+     *
+     * @param index index of the replication
+     * @param seed  seed the replication was executed with
+     * @param data  collected data of the replication, as returned by {@link ReportCollector#collectData()}
+     */
+    public synchronized void addRun(int index, long seed, Map<String, TimeSeries> data) {
+        runs.add(new Run(index, seed, new TreeMap<>(data)));
+        runs.sort((run1, run2) -> Integer.compare(run1.index, run2.index));
+    }
+
+    /**
+     * Merges the latency histograms of a finished replication into the histograms over all replications.
+     *
+     * @param histograms histograms of the replication, mapped by their dataset name
+     * @see LatencyHistogramRecorder#getTotalHistograms()
+     */
+    public synchronized void addLatencyHistograms(Map<String, LatencyHistogram> histograms) {
+        histograms.forEach((name, histogram) -> mergedLatencies.merge(name, new LatencyHistogram(histogram),
+            (merged, added) -> {
+                merged.merge(added);
+                return merged;
+            }));
+    }
+
+    public synchronized Map<String, LatencyHistogram> getMergedLatencyHistograms() {
+        return Collections.unmodifiableMap(mergedLatencies);
+    }
+
+    public synchronized int getRunCount() {
+        return runs.size();
+    }
+
+    /**
+     * Calculates the mean of each dataset per run.
+     *
+     * @return a map of dataset names to per-run statistics, in order of the run indices
+     */
+    public synchronized Map<String, List<SummaryStatistics>> getPerRunStatistics() {
+        Map<String, List<SummaryStatistics>> perRun = new TreeMap<>();
+        for (Run run : runs) {
+            for (Map.Entry<String, TimeSeries> dataset : run.data.entrySet()) {
+                SummaryStatistics statistics = numericStatistics(dataset.getValue());
+                if (statistics.getN() > 0) {
+                    perRun.computeIfAbsent(dataset.getKey(), key -> new ArrayList<>()).add(statistics);
+                }
+            }
+        }
+        return perRun;
+    }
+
+    /**
+     * Calculates the statistics of the per-run means of each dataset across all runs.
+     *
+     * @return a map of dataset names to statistics of the per-run means
+     */
+    public synchronized Map<String, SummaryStatistics> getCrossRunStatistics() {
+        Map<String, SummaryStatistics> crossRun = new TreeMap<>();
+        for (Map.Entry<String, List<SummaryStatistics>> dataset : getPerRunStatistics().entrySet()) {
+            SummaryStatistics statistics = new SummaryStatistics();
+            dataset.getValue().forEach(runStatistics -> statistics.addValue(runStatistics.getMean()));
+            crossRun.put(dataset.getKey(), statistics);
+        }
+        return crossRun;
+    }
+
+    /**
+     * Calculates the half width of the 95% confidence interval of the mean of the given statistics, based on the
+     * student t-distribution.
+     *
+     * @param statistics statistics of the per-run means
+     * @return the half width of the confidence interval, or {@link Double#NaN} if there are less than two values
+     */
+    public static double confidenceIntervalHalfWidth(SummaryStatistics statistics) {
+        if (statistics.getN() < 2) {
+            return Double.NaN;
+        }
+        TDistribution distribution = new TDistribution(statistics.getN() - 1);
+        double criticalValue = distribution.inverseCumulativeProbability(0.975);
+        return criticalValue * statistics.getStandardDeviation() / Math.sqrt(statistics.getN());
+    }
+
+    /**
+     * Writes the raw data of each run into {@code run_<index>} sub folders and the per-run and cross-run summaries
+     * into the {@code replications} sub folder of the given location.
+     *
+     * @param reportLocation base folder of the report
+     * @throws IOException if one of the summaries cannot be written
+     */
+    public synchronized void write(Path reportLocation) throws IOException {
+        for (Run run : runs) {
+            ReportWriter.writeReporterCollectorOutput(run.data,
+                Paths.get(String.valueOf(reportLocation), "run_" + run.index));
+        }
+
+        Path targetFolder = Paths.get(String.valueOf(reportLocation), "replications");
+        targetFolder.toFile().mkdirs();
+
+        StringBuilder perRunOutput = new StringBuilder(String.join(SEPARATOR, "Run", "Seed", "Dataset", "Count",
+            "Mean")).append('\n');
+        for (Run run : runs) {
+            for (Map.Entry<String, TimeSeries> dataset : run.data.entrySet()) {
+                SummaryStatistics statistics = numericStatistics(dataset.getValue());
+                if (statistics.getN() > 0) {
+                    perRunOutput.append(String.join(SEPARATOR, String.valueOf(run.index), String.valueOf(run.seed),
+                        dataset.getKey(), String.valueOf(statistics.getN()), String.valueOf(statistics.getMean())))
+                        .append('\n');
+                }
+            }
+        }
+
+        StringBuilder summaryOutput = new StringBuilder(String.join(SEPARATOR, "Dataset", "Runs", "Mean", "StdDev",
+            "CI95_Lower", "CI95_Upper")).append('\n');
+        for (Map.Entry<String, SummaryStatistics> dataset : getCrossRunStatistics().entrySet()) {
+            SummaryStatistics statistics = dataset.getValue();
+            double halfWidth = confidenceIntervalHalfWidth(statistics);
+            summaryOutput.append(String.join(SEPARATOR, dataset.getKey(), String.valueOf(statistics.getN()),
+                String.valueOf(statistics.getMean()), String.valueOf(statistics.getStandardDeviation()),
+                String.valueOf(statistics.getMean() - halfWidth), String.valueOf(statistics.getMean() + halfWidth)))
+                .append('\n');
+        }
+
+        StringBuilder latencyOutput = new StringBuilder(String.join(SEPARATOR, "Dataset", "Count", "Mean", "p50",
+            "p90", "p99", "p99.9", "Max")).append('\n');
+        for (Map.Entry<String, LatencyHistogram> dataset : mergedLatencies.entrySet()) {
+            LatencyHistogram histogram = dataset.getValue();
+            latencyOutput.append(String.join(SEPARATOR, dataset.getKey(), String.valueOf(histogram.getTotalCount()),
+                String.valueOf(histogram.getMean()), String.valueOf(histogram.getValueAtPercentile(50)),
+                String.valueOf(histogram.getValueAtPercentile(90)), String.valueOf(histogram.getValueAtPercentile(99)),
+                String.valueOf(histogram.getValueAtPercentile(99.9)), String.valueOf(histogram.getMax())))
+                .append('\n');
+        }
+
+        Files.write(Paths.get(String.valueOf(targetFolder), "per_run.csv"),
+            perRunOutput.toString().getBytes(StandardCharsets.UTF_8));
+        Files.write(Paths.get(String.valueOf(targetFolder), "summary.csv"),
+            summaryOutput.toString().getBytes(StandardCharsets.UTF_8));
+        if (!mergedLatencies.isEmpty()) {
+            Files.write(Paths.get(String.valueOf(targetFolder), "latencies.csv"),
+                latencyOutput.toString().getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private static SummaryStatistics numericStatistics(TimeSeries dataset) {
+        SummaryStatistics statistics = new SummaryStatistics();
+        if (dataset.isNumeric()) {
+            for (int i = 0; i < dataset.size(); i++) {
+                statistics.addValue(dataset.getDouble(i));
+            }
+            return statistics;
+        }
+        for (int i = 0; i < dataset.size(); i++) {
+            Object value = dataset.getValue(i);
+            if (value instanceof Number) {
+                statistics.addValue(((Number) value).doubleValue());
+            }
+        }
+        return statistics;
+    }
+
+    public synchronized List<Long> getSeeds() {
+        List<Long> seeds = new ArrayList<>();
+        runs.forEach(run -> seeds.add(run.seed));
+        return Collections.unmodifiableList(seeds);
+    }
+
+    private static final class Run {
+        private final int index;
+        private final long seed;
+        private final TreeMap<String, TimeSeries> data;
+
+        private Run(int index, long seed, TreeMap<String, TimeSeries> data) {
+            this.index = index;
+            this.seed = seed;
+            this.data = data;
+        }
+    }
+}
@@ -1,61 +1,122 @@
 package cambio.simulator.export;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.TreeMap;
+import java.util.WeakHashMap;
+import java.util.function.Function;
 
+import cambio.simulator.models.MiSimModel;
 import desmoj.core.report.ReportManager;
 import desmoj.core.report.Reporter;
+import desmoj.core.simulator.Model;
 
 /**
  * Report Collector, utilizes desmojs' ReportManger to collect Reporters. Can combine data of multiple {@link
  * MultiDataPointReporter}
  *
+ * <p>
+ * Each {@link MiSimModel} owns its own collector, so multiple simulations can run side by side in the same JVM without
+ * sharing results. There is no global collector, reporters that are not bound to a model are not collected unless they
+ * are registered explicitly.
+ *
  * @author Lion Wagner
  */
 public class ReportCollector extends ReportManager {
-    private static final ReportCollector instance = new ReportCollector("Main");
+    //collectors of models that are not MiSimModels, see forModel(Model)
+    private static final Map<Model, ReportCollector> FALLBACK_COLLECTORS =
+        Collections.synchronizedMap(new WeakHashMap<>());
 
+    private final Map<String, MultiDataPointReporter> sharedReporters = new HashMap<>();
 
     public ReportCollector(String name) {
         super(name);
     }
 
-    public static ReportCollector getInstance() {
-        return instance;
+    /**
+     * Gets the collector that is responsible for the given model. This is the collector of the {@link MiSimModel} if
+     * the model is one and has a collector assigned. Any other model gets its own collector on first access, which is
+     * kept as long as the model is in use.
+     *
+     * @param model model of which the collector should be retrieved
+     * @return the collector that reporters of the given model should register with
+     */
+    public static ReportCollector forModel(Model model) {
+        Objects.requireNonNull(model);
+        if (model instanceof MiSimModel) {
+            ReportCollector collector = ((MiSimModel) model).getReportCollector();
+            if (collector != null) {
+                return collector;
+            }
+        }
+        return FALLBACK_COLLECTORS.computeIfAbsent(model, key -> new ReportCollector(key.getName()));
+    }
+
+    /**
+     * Gets a reporter that is shared between all users of this collector, e.g. all {@code UserRequest}s of one model.
+     * The reporter is created with the given factory on first access.
+     *
+     * <p>
+     * Not synchronized, each model is simulated by a single thread and owns its collector. Callers on the hot path
+     * should keep the returned reporter instead of looking it up repeatedly.
+     *
+     * @param datasetsPrefix prefix of the shared reporter, also used to identify it
+     * @param factory        function that creates the reporter from its prefix
+     * @param <R>            type of the shared reporter
+     * @return the reporter that is shared under the given prefix
+     */
+    @SuppressWarnings("unchecked")
+    public <R extends MultiDataPointReporter> R getSharedReporter(String datasetsPrefix, Function<String, R> factory) {
+        MultiDataPointReporter reporter = sharedReporters.get(datasetsPrefix);
+        if (reporter == null) {
+            reporter = factory.apply(datasetsPrefix);
+            sharedReporters.put(datasetsPrefix, reporter);
+        }
+        return (R) reporter;
     }
 
     /**
      * Collects (and potentially combines) all results of all registered {@link MultiDataPointReporter}.
      *
-     * @return returns the values of all MultiDataPointReporters
+     * <p>
+     * Datasets of a single reporter are returned as they are, without copying them. Datasets with the same name from
+     * multiple reporters are merged by their time stamps (see {@link TimeSeries#merge(List)}). Data points that share a
+     * time stamp are all kept.
+     *
+     * @return the datasets of all MultiDataPointReporters, ordered by their name
      */
-    public HashMap<String, TreeMap<Double, Object>> collectData() {
+    public TreeMap<String, TimeSeries> collectData() {
         //collect_datasets
-        HashMap<String, HashMap<Double, Object>> dataSets = new HashMap<>();
+        Map<String, List<TimeSeries>> dataSets = new HashMap<>();
+        List<String> datasetsWithoutSteadyState = new ArrayList<>();
 
         for (Reporter reporter : elements()) {
             if (reporter instanceof MultiDataPointReporter) {
                 MultiDataPointReporter castReporter = (MultiDataPointReporter) reporter;
-                HashMap<String, HashMap<Double, ?>> dataSetsOfReporter = castReporter.getDataSets();
-                for (Map.Entry<String, HashMap<Double, ?>> datasetsOfReporterEntry : dataSetsOfReporter.entrySet()) {
+                castReporter.flush();
+                Map<String, TimeSeries> dataSetsOfReporter = castReporter.getTimeSeries();
+                for (Map.Entry<String, TimeSeries> datasetsOfReporterEntry : dataSetsOfReporter.entrySet()) {
                     String currentKey = datasetsOfReporterEntry.getKey();
-                    HashMap<Double, ?> dataSetOfReporter = datasetsOfReporterEntry.getValue();
-
-                    HashMap<Double, Object> targetDataSet =
-                        dataSets.computeIfAbsent(currentKey, key -> new HashMap<>());
-
-                    for (Map.Entry<Double, ?> datasetEntry : dataSetOfReporter.entrySet()) {
-                        targetDataSet
-                            .merge(datasetEntry.getKey(), datasetEntry.getValue(), (value1, value2) -> value1);
+                    TimeSeries dataSetOfReporter = datasetsOfReporterEntry.getValue();
+                    if (!dataSetOfReporter.finishWarmUpDetection()) {
+                        datasetsWithoutSteadyState.add(currentKey);
                     }
-
+                    dataSets.computeIfAbsent(currentKey, key -> new ArrayList<>(1)).add(dataSetOfReporter);
                 }
             }
         }
 
-        HashMap<String, TreeMap<Double, Object>> output = new HashMap<>();
-        dataSets.forEach((name, dataSet) -> output.put(name, new TreeMap<>(dataSet)));
+        if (!datasetsWithoutSteadyState.isEmpty()) {
+            System.out.printf("[Warning] %d dataset(s) did not reach a steady state, their warm-up was not truncated: "
+                + "%s%n", datasetsWithoutSteadyState.size(), datasetsWithoutSteadyState);
+        }
+
+        TreeMap<String, TimeSeries> output = new TreeMap<>();
+        dataSets.forEach((name, series) -> output.put(name, TimeSeries.merge(series)));
         return output;
     }
 
@@ -69,6 +130,7 @@ public class ReportCollector extends ReportManager {
             }
         });
         this.elements().forEach(this::deRegister);
+        sharedReporters.clear();
     }
 
 }
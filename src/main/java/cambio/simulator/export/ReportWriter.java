@@ -2,7 +2,6 @@ package cambio.simulator.export;
 
 import java.nio.file.Path;
 import java.util.Map;
-import java.util.TreeMap;
 
 /**
  * Output handler of the collected result data.
@@ -14,11 +13,10 @@ public class ReportWriter {
     /**
      * writes data to a csv file.
      */
-    public static void writeReporterCollectorOutput(TreeMap<String, TreeMap<Double, Object>> data,
-                                                    Path reportLocation) {
-        for (Map.Entry<String, TreeMap<Double, Object>> dataset : data.entrySet()) {
+    public static void writeReporterCollectorOutput(Map<String, TimeSeries> data, Path reportLocation) {
+        for (Map.Entry<String, TimeSeries> dataset : data.entrySet()) {
             CSVExporter.writeDataset(dataset.getKey(), dataset.getValue(), reportLocation);
-            //TODO: custom names for value column at CSVExporter#writeDataset(String,String,Map)
+            //TODO: custom names for value column at CSVExporter#writeDataset(String,String,TimeSeries,Path)
         }
     }
 
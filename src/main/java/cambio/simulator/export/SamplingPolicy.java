@@ -0,0 +1,39 @@
+package cambio.simulator.export;
+
+/**
+ * Defines when an entity reports its statistics.
+ *
+ * @author Lion Wagner
+ */
+public enum SamplingPolicy {
+    /**
+     * Statistics are reported whenever one of their values changes.
+     */
+    ON_CHANGE,
+    /**
+     * Statistics are sampled periodically, independent of the events that change them.
+     */
+    INTERVAL,
+    /**
+     * Statistics are not reported.
+     */
+    OFF;
+
+    /**
+     * Parses a policy from its (case-insensitive) name. Dashes are treated like underscores, so "on-change" is a valid
+     * name, too.
+     *
+     * @param name name of the policy
+     * @return the policy with the given name
+     * @throws IllegalArgumentException if there is no policy with the given name
+     */
+    public static SamplingPolicy fromName(String name) {
+        String normalizedName = name == null ? "" : name.trim().replace('-', '_');
+        for (SamplingPolicy policy : values()) {
+            if (policy.name().equalsIgnoreCase(normalizedName)) {
+                return policy;
+            }
+        }
+        throw new IllegalArgumentException(String.format("Unknown sampling policy '%s'.", name));
+    }
+}
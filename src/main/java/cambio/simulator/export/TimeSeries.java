@@ -0,0 +1,758 @@
+package cambio.simulator.export;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Append-only, columnar store for the data points of one dataset of a {@link MultiDataPointReporter}.
+ *
+ * <p>
+ * Time stamps are stored in a primitive {@code double} column. The values are stored in a typed column that is chosen
+ * based on the first value that is added:
+ * <ul>
+ *     <li>{@link Integer}, {@link Short} and {@link Byte} values are stored as {@code int}</li>
+ *     <li>{@link Long} values are stored as {@code long}</li>
+ *     <li>{@link Double} and {@link Float} values are stored as {@code double}</li>
+ *     <li>{@link String}s, {@link Enum}s, {@link Boolean}s and {@link Character}s are stored as {@code int} codes into
+ *     a dictionary (state column)</li>
+ *     <li>all other values are stored as references</li>
+ * </ul>
+ * If a value does not fit into the current column, the column is converted into a reference column once. An
+ * {@code int} column that would overflow while accumulating is widened to a {@code long} column instead.
+ *
+ * <p>
+ * Columns consist of segments that double in size (starting at {@value #MIN_SEGMENT_LENGTH} up to {@value
+ * #MAX_SEGMENT_LENGTH} entries). Growing a column therefore never copies existing data and small datasets stay
+ * small.
+ *
+ * <p>
+ * In contrast to a map based storage, multiple data points may share the same time stamp. Data points are kept in the
+ * order they were added, which is the order of their time stamps for series that are recorded during a simulation.
+ *
+ * <p>
+ * If warm-up detection is enabled (see {@link #enableWarmUpDetection()}), the data points of the initial transient
+ * are discarded while the series is recorded. Indices always refer to the data points that are still contained.
+ *
+ * @author Lion Wagner
+ */
+public final class TimeSeries {
+
+    private static final int MIN_SEGMENT_SHIFT = 4;
+    private static final int MIN_SEGMENT_LENGTH = 1 << MIN_SEGMENT_SHIFT;
+    private static final int MAX_SEGMENT_SHIFT = 12;
+    private static final int MAX_SEGMENT_LENGTH = 1 << MAX_SEGMENT_SHIFT;
+    private static final int GROWING_SEGMENT_COUNT = MAX_SEGMENT_SHIFT - MIN_SEGMENT_SHIFT;
+    //number of entries in all segments that are smaller than MAX_SEGMENT_LENGTH
+    private static final int GROWING_SEGMENTS_CAPACITY = MAX_SEGMENT_LENGTH - MIN_SEGMENT_LENGTH;
+
+    private final List<double[]> times = new ArrayList<>();
+    private Column values;
+    private int size = 0;
+    private int capacity = 0;
+    //index of the first data point that was not discarded
+    private int start = 0;
+
+    private boolean detectingWarmUp = false;
+    private int nextWarmUpCheck = 0;
+    private int previousTruncationPoint = -1;
+    private double warmUpEnd = Double.NaN;
+
+    private static int segmentLength(int segment) {
+        return segment < GROWING_SEGMENT_COUNT ? MIN_SEGMENT_LENGTH << segment : MAX_SEGMENT_LENGTH;
+    }
+
+    private static int segmentOf(int index) {
+        if (index < GROWING_SEGMENTS_CAPACITY) {
+            return 31 - Integer.numberOfLeadingZeros((index >>> MIN_SEGMENT_SHIFT) + 1);
+        }
+        return GROWING_SEGMENT_COUNT + ((index - GROWING_SEGMENTS_CAPACITY) >>> MAX_SEGMENT_SHIFT);
+    }
+
+    private static int offsetOf(int index, int segment) {
+        if (segment < GROWING_SEGMENT_COUNT) {
+            return index - ((MIN_SEGMENT_LENGTH << segment) - MIN_SEGMENT_LENGTH);
+        }
+        return (index - GROWING_SEGMENTS_CAPACITY) & (MAX_SEGMENT_LENGTH - 1);
+    }
+
+    private static ColumnType typeOf(Object value) {
+        if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return ColumnType.INT;
+        } else if (value instanceof Long) {
+            return ColumnType.LONG;
+        } else if (value instanceof Double || value instanceof Float) {
+            return ColumnType.DOUBLE;
+        } else if (value instanceof String || value instanceof Enum || value instanceof Boolean
+            || value instanceof Character) {
+            return ColumnType.STATE;
+        }
+        return ColumnType.OBJECT;
+    }
+
+    /**
+     * Appends a new data point.
+     *
+     * @param time  time stamp of the data point
+     * @param value value of the data point, may not be null
+     */
+    public void add(double time, Object value) {
+        Objects.requireNonNull(value);
+        if (values == null) {
+            values = createColumn(typeOf(value));
+        } else if (!values.accepts(value)) {
+            values = toObjectColumn(values);
+        }
+
+        int index = appendTime(time);
+        int segment = segmentOf(index);
+        values.set(segment, offsetOf(index, segment), value);
+        checkWarmUp();
+    }
+
+    /**
+     * Appends a new data point without boxing its value, if the series stores {@code int} or {@code long} values.
+     *
+     * @param time  time stamp of the data point
+     * @param value value of the data point
+     */
+    public void addInt(double time, int value) {
+        if (values == null) {
+            values = new IntColumn();
+        } else if (values.getType() != ColumnType.INT && values.getType() != ColumnType.LONG) {
+            add(time, (Object) value);
+            return;
+        }
+        int index = appendTime(time);
+        int segment = segmentOf(index);
+        values.setInt(segment, offsetOf(index, segment), value);
+        checkWarmUp();
+    }
+
+    /**
+     * Appends a new data point without boxing its value, if the series stores {@code double} values.
+     *
+     * @param time  time stamp of the data point
+     * @param value value of the data point
+     */
+    public void addDouble(double time, double value) {
+        if (values == null) {
+            values = new DoubleColumn();
+        } else if (values.getType() != ColumnType.DOUBLE) {
+            add(time, (Object) value);
+            return;
+        }
+        int index = appendTime(time);
+        int segment = segmentOf(index);
+        values.setDouble(segment, offsetOf(index, segment), value);
+        checkWarmUp();
+    }
+
+    //appends the time stamp of a new data point and returns its index, the value column has to exist already
+    private int appendTime(double time) {
+        if (size == capacity) {
+            int length = segmentLength(times.size());
+            times.add(new double[length]);
+            values.addSegment(length);
+            capacity += length;
+        }
+        int segment = segmentOf(size);
+        times.get(segment)[offsetOf(size, segment)] = time;
+        return size++;
+    }
+
+    /**
+     * Enables the detection of the initial transient of this series. The truncation point is estimated with the MSER-5
+     * rule each time the number of data points doubled. Once the same truncation point is found twice in a row, all
+     * earlier data points are discarded and the detection stops. Only series with {@code int}, {@code long} or {@code
+     * double} values are truncated.
+     *
+     * @see #finishWarmUpDetection()
+     */
+    public void enableWarmUpDetection() {
+        if (detectingWarmUp || !Double.isNaN(warmUpEnd)) {
+            return;
+        }
+        detectingWarmUp = true;
+        nextWarmUpCheck = Math.max(size * 2, WarmUpDetector.MIN_BATCHES * WarmUpDetector.BATCH_SIZE);
+    }
+
+    /**
+     * Stops the warm-up detection. If no stable truncation point was found while recording, the truncation point of all
+     * data points is used, if there is one.
+     *
+     * @return false if the series was long enough for a detection, but did not reach a steady state; true otherwise
+     */
+    public boolean finishWarmUpDetection() {
+        if (!detectingWarmUp) {
+            return true;
+        }
+        detectingWarmUp = false;
+        if (!isNumeric() || size < WarmUpDetector.MIN_BATCHES * WarmUpDetector.BATCH_SIZE) {
+            return true;
+        }
+        int truncationPoint = findTruncationPoint();
+        if (truncationPoint < 0) {
+            return false;
+        }
+        truncate(truncationPoint);
+        return true;
+    }
+
+    /**
+     * Whether the warm-up of this series is still detected, i.e. detection was enabled and no stable truncation point
+     * was found yet.
+     *
+     * @return true if the detection is still running
+     */
+    public boolean isDetectingWarmUp() {
+        return detectingWarmUp;
+    }
+
+    /**
+     * Gets the time stamp at which the warm-up of this series ended.
+     *
+     * @return the time stamp of the first data point that was kept after the warm-up, NaN if the series was not
+     *     truncated
+     */
+    public double getWarmUpEnd() {
+        return warmUpEnd;
+    }
+
+    /**
+     * Whether the values of this series are stored in a numeric column, i.e. {@link #getDouble(int)} can be used for
+     * all data points.
+     *
+     * @return true if the series stores {@code int}, {@code long} or {@code double} values
+     */
+    public boolean isNumeric() {
+        ColumnType type = getColumnType();
+        return type == ColumnType.INT || type == ColumnType.LONG || type == ColumnType.DOUBLE;
+    }
+
+    private void checkWarmUp() {
+        if (!detectingWarmUp || size < nextWarmUpCheck) {
+            return;
+        }
+        if (!isNumeric()) {
+            detectingWarmUp = false;
+            return;
+        }
+        int truncationPoint = findTruncationPoint();
+        if (truncationPoint >= 0 && truncationPoint == previousTruncationPoint) {
+            detectingWarmUp = false;
+            truncate(truncationPoint);
+        } else {
+            previousTruncationPoint = truncationPoint;
+            nextWarmUpCheck = size * 2;
+        }
+    }
+
+    //truncation point of all current data points, nothing was discarded yet while the detection is running
+    private int findTruncationPoint() {
+        return WarmUpDetector.findTruncationPoint(index -> {
+            int segment = segmentOf(index);
+            return values.getDouble(segment, offsetOf(index, segment));
+        }, size);
+    }
+
+    //discards all data points before the given index and releases the segments that only contained those
+    private void truncate(int index) {
+        start = index;
+        warmUpEnd = index < size ? getTime(0) : Double.NaN;
+        for (int segment = 0; segment < segmentOf(start); segment++) {
+            times.set(segment, null);
+            values.releaseSegment(segment);
+        }
+    }
+
+    /**
+     * Adds the given number to the value of an existing data point. The sum is calculated in the type of the value
+     * column, e.g. summing up {@code int}s results in an {@code int}.
+     *
+     * @param index  index of the data point
+     * @param summand value that should be added
+     */
+    public void accumulate(int index, Number summand) {
+        int position = toPosition(index);
+        Objects.requireNonNull(summand);
+        if (!values.accepts(summand)) {
+            values = toObjectColumn(values);
+        }
+        int segment = segmentOf(position);
+        int offset = offsetOf(position, segment);
+        if (values.overflows(segment, offset, summand)) {
+            values = convertColumn(values, new LongColumn());
+        }
+        values.accumulate(segment, offset, summand);
+    }
+
+    /**
+     * Searches for a data point with the given time stamp. The search starts at the end of the series and stops at the
+     * first data point with an earlier time stamp, so it is fast for time stamps that were added recently.
+     *
+     * @param time time stamp to search for
+     * @return the index of the last data point with the given time stamp, or -1 if there is none
+     */
+    public int indexOfTime(double time) {
+        for (int i = size() - 1; i >= 0; i--) {
+            double current = getTime(i);
+            if (current == time) {
+                return i;
+            } else if (current < time) {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    public int size() {
+        return size - start;
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Gets the type of the column in which the values of this series are stored.
+     *
+     * @return the type of the value column, null if no value was added yet
+     */
+    public ColumnType getColumnType() {
+        return values == null ? null : values.getType();
+    }
+
+    /**
+     * Gets the time stamp of a data point.
+     *
+     * @param index index of the data point
+     * @return the time stamp of the data point
+     */
+    public double getTime(int index) {
+        int position = toPosition(index);
+        int segment = segmentOf(position);
+        return times.get(segment)[offsetOf(position, segment)];
+    }
+
+    /**
+     * Gets the value of a data point. Primitive values are boxed.
+     *
+     * @param index index of the data point
+     * @return the value of the data point
+     */
+    public Object getValue(int index) {
+        int position = toPosition(index);
+        int segment = segmentOf(position);
+        return values.get(segment, offsetOf(position, segment));
+    }
+
+    /**
+     * Gets the value of a data point as {@code double} without boxing it.
+     *
+     * @param index index of the data point
+     * @return the value of the data point
+     * @throws ClassCastException if the value is not a number
+     */
+    public double getDouble(int index) {
+        int position = toPosition(index);
+        int segment = segmentOf(position);
+        return values.getDouble(segment, offsetOf(position, segment));
+    }
+
+    /**
+     * Gets the value of a data point formatted as string, without boxing primitive values.
+     *
+     * @param index index of the data point
+     * @return the value of the data point as returned by {@link String#valueOf(Object)}
+     */
+    public String formatValue(int index) {
+        int position = toPosition(index);
+        int segment = segmentOf(position);
+        return values.format(segment, offsetOf(position, segment));
+    }
+
+    /**
+     * Creates a map from time stamps to values. If multiple data points share a time stamp, the last one is used.
+     *
+     * @return a new map containing the data points of this series
+     * @see MultiDataPointReporter#getDataSets()
+     */
+    public HashMap<Double, Object> toMap() {
+        HashMap<Double, Object> map = new HashMap<>();
+        for (int i = 0; i < size(); i++) {
+            map.put(getTime(i), getValue(i));
+        }
+        return map;
+    }
+
+    /**
+     * Merges the given series by their time stamps. Data points with equal time stamps are all kept, in the order of
+     * the given series. Each series has to be ordered by time.
+     *
+     * @param series series that should be merged
+     * @return the given series if there is only one, otherwise a new series containing the data points of all series
+     */
+    public static TimeSeries merge(List<TimeSeries> series) {
+        if (series.size() == 1) {
+            return series.get(0);
+        }
+        TimeSeries merged = new TimeSeries();
+        int[] positions = new int[series.size()];
+        while (true) {
+            int next = -1;
+            double nextTime = 0;
+            for (int i = 0; i < series.size(); i++) {
+                if (positions[i] < series.get(i).size()) {
+                    double time = series.get(i).getTime(positions[i]);
+                    if (next < 0 || time < nextTime) {
+                        next = i;
+                        nextTime = time;
+                    }
+                }
+            }
+            if (next < 0) {
+                return merged;
+            }
+            merged.add(nextTime, series.get(next).getValue(positions[next]++));
+        }
+    }
+
+    //checks the given index and converts it into the position of the data point in the columns
+    private int toPosition(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+        return index + start;
+    }
+
+    private Column createColumn(ColumnType type) {
+        switch (type) {
+            case INT:
+                return new IntColumn();
+            case LONG:
+                return new LongColumn();
+            case DOUBLE:
+                return new DoubleColumn();
+            case STATE:
+                return new StateColumn();
+            default:
+                return new ObjectColumn();
+        }
+    }
+
+    private Column toObjectColumn(Column column) {
+        return convertColumn(column, new ObjectColumn());
+    }
+
+    //copies all data points that were not discarded into the given empty column
+    private Column convertColumn(Column column, Column target) {
+        for (int segment = 0; segment < times.size(); segment++) {
+            target.addSegment(segmentLength(segment));
+            if (times.get(segment) == null) {
+                target.releaseSegment(segment);
+            }
+        }
+        for (int i = start; i < size; i++) {
+            int segment = segmentOf(i);
+            int offset = offsetOf(i, segment);
+            target.set(segment, offset, column.get(segment, offset));
+        }
+        return target;
+    }
+
+    /**
+     * Types of value columns.
+     */
+    public enum ColumnType {
+        INT, LONG, DOUBLE, STATE, OBJECT
+    }
+
+    private abstract static class Column {
+        abstract ColumnType getType();
+
+        abstract boolean accepts(Object value);
+
+        abstract void addSegment(int length);
+
+        abstract void releaseSegment(int segment);
+
+        abstract void set(int segment, int offset, Object value);
+
+        abstract Object get(int segment, int offset);
+
+        double getDouble(int segment, int offset) {
+            return ((Number) get(segment, offset)).doubleValue();
+        }
+
+        void setInt(int segment, int offset, int value) {
+            set(segment, offset, value);
+        }
+
+        void setDouble(int segment, int offset, double value) {
+            set(segment, offset, value);
+        }
+
+        void accumulate(int segment, int offset, Number summand) {
+            set(segment, offset, ((Number) get(segment, offset)).doubleValue() + summand.doubleValue());
+        }
+
+        //whether accumulating the summand exceeds the range of the column
+        boolean overflows(int segment, int offset, Number summand) {
+            return false;
+        }
+
+        String format(int segment, int offset) {
+            return String.valueOf(get(segment, offset));
+        }
+    }
+
+    private static final class IntColumn extends Column {
+        private final List<int[]> segments = new ArrayList<>();
+
+        @Override
+        ColumnType getType() {
+            return ColumnType.INT;
+        }
+
+        @Override
+        boolean accepts(Object value) {
+            return typeOf(value) == ColumnType.INT;
+        }
+
+        @Override
+        void addSegment(int length) {
+            segments.add(new int[length]);
+        }
+
+        @Override
+        void releaseSegment(int segment) {
+            segments.set(segment, null);
+        }
+
+        @Override
+        void set(int segment, int offset, Object value) {
+            segments.get(segment)[offset] = ((Number) value).intValue();
+        }
+
+        @Override
+        void setInt(int segment, int offset, int value) {
+            segments.get(segment)[offset] = value;
+        }
+
+        @Override
+        Object get(int segment, int offset) {
+            return segments.get(segment)[offset];
+        }
+
+        @Override
+        double getDouble(int segment, int offset) {
+            return segments.get(segment)[offset];
+        }
+
+        @Override
+        void accumulate(int segment, int offset, Number summand) {
+            segments.get(segment)[offset] += summand.intValue();
+        }
+
+        @Override
+        boolean overflows(int segment, int offset, Number summand) {
+            long sum = (long) segments.get(segment)[offset] + summand.intValue();
+            return sum != (int) sum;
+        }
+
+        @Override
+        String format(int segment, int offset) {
+            return Integer.toString(segments.get(segment)[offset]);
+        }
+    }
+
+    private static final class LongColumn extends Column {
+        private final List<long[]> segments = new ArrayList<>();
+
+        @Override
+        ColumnType getType() {
+            return ColumnType.LONG;
+        }
+
+        @Override
+        boolean accepts(Object value) {
+            ColumnType type = typeOf(value);
+            return type == ColumnType.LONG || type == ColumnType.INT;
+        }
+
+        @Override
+        void addSegment(int length) {
+            segments.add(new long[length]);
+        }
+
+        @Override
+        void releaseSegment(int segment) {
+            segments.set(segment, null);
+        }
+
+        @Override
+        void set(int segment, int offset, Object value) {
+            segments.get(segment)[offset] = ((Number) value).longValue();
+        }
+
+        @Override
+        void setInt(int segment, int offset, int value) {
+            segments.get(segment)[offset] = value;
+        }
+
+        @Override
+        Object get(int segment, int offset) {
+            return segments.get(segment)[offset];
+        }
+
+        @Override
+        double getDouble(int segment, int offset) {
+            return segments.get(segment)[offset];
+        }
+
+        @Override
+        void accumulate(int segment, int offset, Number summand) {
+            segments.get(segment)[offset] = Math.addExact(segments.get(segment)[offset], summand.longValue());
+        }
+
+        @Override
+        String format(int segment, int offset) {
+            return Long.toString(segments.get(segment)[offset]);
+        }
+    }
+
+    private static final class DoubleColumn extends Column {
+        private final List<double[]> segments = new ArrayList<>();
+
+        @Override
+        ColumnType getType() {
+            return ColumnType.DOUBLE;
+        }
+
+        @Override
+        boolean accepts(Object value) {
+            return typeOf(value) == ColumnType.DOUBLE;
+        }
+
+        @Override
+        void addSegment(int length) {
+            segments.add(new double[length]);
+        }
+
+        @Override
+        void releaseSegment(int segment) {
+            segments.set(segment, null);
+        }
+
+        @Override
+        void set(int segment, int offset, Object value) {
+            //floats are converted via their decimal representation, so they are reported as they were given
+            segments.get(segment)[offset] =
+                value instanceof Float ? Double.parseDouble(value.toString()) : ((Number) value).doubleValue();
+        }
+
+        @Override
+        void setDouble(int segment, int offset, double value) {
+            segments.get(segment)[offset] = value;
+        }
+
+        @Override
+        Object get(int segment, int offset) {
+            return segments.get(segment)[offset];
+        }
+
+        @Override
+        double getDouble(int segment, int offset) {
+            return segments.get(segment)[offset];
+        }
+
+        @Override
+        void accumulate(int segment, int offset, Number summand) {
+            segments.get(segment)[offset] += summand.doubleValue();
+        }
+
+        @Override
+        String format(int segment, int offset) {
+            return Double.toString(segments.get(segment)[offset]);
+        }
+    }
+
+    private static final class StateColumn extends Column {
+        private final List<int[]> segments = new ArrayList<>();
+        private final List<Object> dictionary = new ArrayList<>();
+        private final Map<Object, Integer> codes = new HashMap<>();
+
+        @Override
+        ColumnType getType() {
+            return ColumnType.STATE;
+        }
+
+        @Override
+        boolean accepts(Object value) {
+            return typeOf(value) == ColumnType.STATE;
+        }
+
+        @Override
+        void addSegment(int length) {
+            segments.add(new int[length]);
+        }
+
+        @Override
+        void releaseSegment(int segment) {
+            segments.set(segment, null);
+        }
+
+        @Override
+        void set(int segment, int offset, Object value) {
+            Integer code = codes.get(value);
+            if (code == null) {
+                code = dictionary.size();
+                dictionary.add(value);
+                codes.put(value, code);
+            }
+            segments.get(segment)[offset] = code;
+        }
+
+        @Override
+        Object get(int segment, int offset) {
+            return dictionary.get(segments.get(segment)[offset]);
+        }
+    }
+
+    private static final class ObjectColumn extends Column {
+        private final List<Object[]> segments = new ArrayList<>();
+
+        @Override
+        ColumnType getType() {
+            return ColumnType.OBJECT;
+        }
+
+        @Override
+        boolean accepts(Object value) {
+            return true;
+        }
+
+        @Override
+        void addSegment(int length) {
+            segments.add(new Object[length]);
+        }
+
+        @Override
+        void releaseSegment(int segment) {
+            segments.set(segment, null);
+        }
+
+        @Override
+        void set(int segment, int offset, Object value) {
+            segments.get(segment)[offset] = value;
+        }
+
+        @Override
+        Object get(int segment, int offset) {
+            return segments.get(segment)[offset];
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package cambio.simulator.export;
+
+import java.util.function.IntToDoubleFunction;
+
+/**
+ * Detects the end of the initial transient (warm-up) of a series of observations with the MSER-5 rule.
+ *
+ * <p>
+ * The observations are grouped into batches of {@value #BATCH_SIZE}. For each possible truncation point {@code d}
+ * (in batches) the marginal standard error of the remaining batch means is calculated as {@code sum((Y_i -
+ * mean_d)^2) / (k - d)^2}. The truncation point with the smallest error is chosen. If it lies in the second half of
+ * the batches, the series is considered too short to reach a steady state and no truncation point is returned.
+ *
+ * @author Lion Wagner
+ * @see TimeSeries#enableWarmUpDetection()
+ */
+final class WarmUpDetector {
+
+    /**
+     * Number of observations per batch.
+     */
+    static final int BATCH_SIZE = 5;
+
+    /**
+     * Minimal number of batches that are needed for a detection.
+     */
+    static final int MIN_BATCHES = 20;
+
+    private WarmUpDetector() {
+    }
+
+    /**
+     * Calculates the MSER-5 truncation point of the given observations.
+     *
+     * @param observations gets the observation at the given index, in order of their recording, so the observations
+     *                     are read where they are stored
+     * @param count        number of observations that should be considered, a trailing incomplete batch is ignored
+     * @return the number of observations that belong to the warm-up, -1 if there are too few observations or no steady
+     *     state was reached
+     */
+    static int findTruncationPoint(IntToDoubleFunction observations, int count) {
+        int batches = count / BATCH_SIZE;
+        if (batches < MIN_BATCHES) {
+            return -1;
+        }
+
+        double[] means = new double[batches];
+        for (int batch = 0; batch < batches; batch++) {
+            double sum = 0;
+            for (int i = batch * BATCH_SIZE; i < (batch + 1) * BATCH_SIZE; i++) {
+                sum += observations.applyAsDouble(i);
+            }
+            means[batch] = sum / BATCH_SIZE;
+        }
+
+        //suffix sums, so the error of each truncation point is calculated in constant time
+        double sum = 0;
+        double sumOfSquares = 0;
+        double minError = Double.POSITIVE_INFINITY;
+        int truncationBatch = -1;
+        for (int d = batches - 1; d >= 0; d--) {
+            sum += means[d];
+            sumOfSquares += means[d] * means[d];
+            int remaining = batches - d;
+            if (remaining < 2) {
+                continue;
+            }
+            double squaredDeviations = Math.max(0, sumOfSquares - sum * sum / remaining);
+            double error = squaredDeviations / ((double) remaining * remaining);
+            //on ties the earlier truncation point wins, so less data is discarded
+            if (error <= minError) {
+                minError = error;
+                truncationBatch = d;
+            }
+        }
+
+        if (truncationBatch > batches / 2) {
+            return -1;
+        }
+        return truncationBatch * BATCH_SIZE;
+    }
+}
@@ -0,0 +1,135 @@
+package cambio.simulator.misc;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import desmoj.core.simulator.EventList;
+import desmoj.core.simulator.EventListBridge;
+import desmoj.core.simulator.EventNote;
+import desmoj.core.simulator.Experiment;
+
+/**
+ * {@link EventList} that is backed by a {@link CalendarQueue}. Insertion and removal of the next event note are O(1)
+ * amortized, which keeps the scheduler fast for models with a large amount of pending events.
+ *
+ * <p>
+ * Desmoj reaches this list through an {@link EventListBridge}. Use {@link #install(Experiment)} to replace the default
+ * event list of an experiment.
+ *
+ * @author Lion Wagner
+ * @see EventListType#CALENDAR
+ */
+public final class CalendarEventList implements EventListBridge.Delegate {
+
+    private final CalendarQueue<EventNote> queue = new CalendarQueue<>();
+    private final Map<EventNote, CalendarQueue.Node<EventNote>> nodes = new IdentityHashMap<>();
+
+    /**
+     * Replaces the event list of the given experiment with a new {@link CalendarEventList}. Event notes that are
+     * already scheduled are moved to the new list. Should be called before the experiment is started.
+     *
+     * @param experiment experiment whose event list should be replaced
+     */
+    public static void install(Experiment experiment) {
+        EventListBridge.install(experiment, new CalendarEventList());
+    }
+
+    private static long timeOf(EventNote note) {
+        return note.getTime().getTimeInEpsilon();
+    }
+
+    private static EventNote valueOf(CalendarQueue.Node<EventNote> node) {
+        return node == null ? null : node.getValue();
+    }
+
+    @Override
+    public EventNote first() {
+        return valueOf(queue.first());
+    }
+
+    @Override
+    public EventNote last() {
+        return valueOf(queue.last());
+    }
+
+    @Override
+    public EventNote next(EventNote origin) {
+        CalendarQueue.Node<EventNote> node = nodes.get(origin);
+        return node == null ? null : valueOf(queue.next(node));
+    }
+
+    @Override
+    public EventNote prev(EventNote origin) {
+        CalendarQueue.Node<EventNote> node = nodes.get(origin);
+        return node == null ? null : valueOf(queue.prev(node));
+    }
+
+    @Override
+    public void insert(EventNote newNote) {
+        nodes.put(newNote, queue.insert(newNote, timeOf(newNote), newNote.getPriority()));
+    }
+
+    @Override
+    public void insertAfter(EventNote where, EventNote newNote) {
+        CalendarQueue.Node<EventNote> whereNode = nodes.get(where);
+        if (whereNode == null) {
+            insert(newNote);
+            return;
+        }
+        nodes.put(newNote, queue.insertAfter(whereNode, newNote, newNote.getPriority()));
+    }
+
+    @Override
+    public void insertBefore(EventNote where, EventNote newNote) {
+        CalendarQueue.Node<EventNote> whereNode = nodes.get(where);
+        if (whereNode == null) {
+            insert(newNote);
+            return;
+        }
+        nodes.put(newNote, queue.insertBefore(whereNode, newNote, newNote.getPriority()));
+    }
+
+    @Override
+    public void insertAsFirst(EventNote newNote) {
+        nodes.put(newNote, queue.insertAsFirstOfTime(newNote, timeOf(newNote), newNote.getPriority()));
+    }
+
+    @Override
+    public void insertAsLast(EventNote newNote) {
+        nodes.put(newNote, queue.insertAsLastOfTime(newNote, timeOf(newNote), newNote.getPriority()));
+    }
+
+    @Override
+    public boolean remove(EventNote note) {
+        CalendarQueue.Node<EventNote> node = nodes.remove(note);
+        return node != null && queue.remove(node);
+    }
+
+    @Override
+    public EventNote removeFirst() {
+        EventNote note = valueOf(queue.removeFirst());
+        if (note != null) {
+            nodes.remove(note);
+        }
+        return note;
+    }
+
+    @Override
+    public boolean contains(EventNote note) {
+        return nodes.containsKey(note);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return queue.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("CalendarEventList[");
+        for (CalendarQueue.Node<EventNote> node : queue.toList()) {
+            builder.append(node.getValue()).append(';');
+        }
+        return builder.append(']').toString();
+    }
+}
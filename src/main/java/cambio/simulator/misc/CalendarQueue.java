@@ -0,0 +1,530 @@
+package cambio.simulator.misc;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Calendar queue (R. Brown, 1988) for entries that are ordered by a discrete point in time and a priority.
+ *
+ * <p>
+ * Entries are distributed over an array of buckets ("days"), each covering a time span of the same width. Each bucket
+ * holds a short, sorted, doubly linked list. The number of buckets is doubled or halved as the queue grows or shrinks
+ * and the bucket width is re-estimated from the spacing of the next entries on each resize. With a fitting bucket width
+ * insertion and removal of the first entry are O(1) amortized.
+ *
+ * <p>
+ * Order: entries with an earlier time come first. Entries with the same time are ordered by descending priority. Among
+ * entries with the same time and priority, the one that was inserted first comes first. Additionally, entries can be
+ * placed directly before/after another entry of the same time.
+ *
+ * @param <E> type of the values stored in this queue
+ * @author Lion Wagner
+ */
+public final class CalendarQueue<E> {
+
+    private static final int MIN_BUCKET_COUNT = 16;
+    private static final int WIDTH_SAMPLE_SIZE = 25;
+
+    private Node<E>[] heads;
+    private Node<E>[] tails;
+    private int mask;
+    private long width = 1;
+
+    // search cursor: bucket that contains the current "day" and the exclusive upper time bound of that day
+    private int currentBucket = 0;
+    private long currentBucketTop = 1;
+
+    private int size = 0;
+    private Node<E> first = null; // cached first node, null if unknown
+    private Node<E> last = null; // cached last node, null if unknown
+
+    public CalendarQueue() {
+        allocate(MIN_BUCKET_COUNT);
+    }
+
+    /**
+     * Inserts a new value behind all entries with the same time and a higher or equal priority.
+     *
+     * @param value    value that should be inserted
+     * @param time     point in time of the entry, has to be non-negative
+     * @param priority priority of the entry
+     * @return the node that represents the entry inside this queue
+     */
+    public Node<E> insert(E value, long time, int priority) {
+        Node<E> node = new Node<>(value, time, priority);
+        growIfNecessary();
+        int bucket = bucketOf(time);
+        Node<E> current = tails[bucket];
+        while (current != null && precedes(node, current)) {
+            current = current.prev;
+        }
+        linkAfter(bucket, current, node);
+        return node;
+    }
+
+    /**
+     * Inserts a new value in front of all entries with the same time, regardless of their priority.
+     *
+     * @param value    value that should be inserted
+     * @param time     point in time of the entry, has to be non-negative
+     * @param priority priority of the entry
+     * @return the node that represents the entry inside this queue
+     */
+    public Node<E> insertAsFirstOfTime(E value, long time, int priority) {
+        Node<E> node = new Node<>(value, time, priority);
+        growIfNecessary();
+        int bucket = bucketOf(time);
+        Node<E> current = heads[bucket];
+        while (current != null && current.time < time) {
+            current = current.next;
+        }
+        linkBefore(bucket, current, node);
+        return node;
+    }
+
+    /**
+     * Inserts a new value behind all entries with the same time, regardless of their priority.
+     *
+     * @param value    value that should be inserted
+     * @param time     point in time of the entry, has to be non-negative
+     * @param priority priority of the entry
+     * @return the node that represents the entry inside this queue
+     */
+    public Node<E> insertAsLastOfTime(E value, long time, int priority) {
+        Node<E> node = new Node<>(value, time, priority);
+        growIfNecessary();
+        int bucket = bucketOf(time);
+        Node<E> current = tails[bucket];
+        while (current != null && current.time > time) {
+            current = current.prev;
+        }
+        linkAfter(bucket, current, node);
+        return node;
+    }
+
+    /**
+     * Inserts a new value directly in front of the given node. The new entry gets the time of {@code where}.
+     *
+     * @param where    node that is currently contained in this queue
+     * @param value    value that should be inserted
+     * @param priority priority of the entry
+     * @return the node that represents the entry inside this queue
+     */
+    public Node<E> insertBefore(Node<E> where, E value, int priority) {
+        requireContained(where);
+        Node<E> node = new Node<>(value, where.time, priority);
+        linkBefore(where.bucket, where, node);
+        growIfNecessary();
+        return node;
+    }
+
+    /**
+     * Inserts a new value directly behind the given node. The new entry gets the time of {@code where}.
+     *
+     * @param where    node that is currently contained in this queue
+     * @param value    value that should be inserted
+     * @param priority priority of the entry
+     * @return the node that represents the entry inside this queue
+     */
+    public Node<E> insertAfter(Node<E> where, E value, int priority) {
+        requireContained(where);
+        Node<E> node = new Node<>(value, where.time, priority);
+        linkAfter(where.bucket, where, node);
+        growIfNecessary();
+        return node;
+    }
+
+    /**
+     * Gets the first entry of this queue without removing it.
+     *
+     * @return the first node or null if the queue is empty
+     */
+    public Node<E> first() {
+        if (first == null && size > 0) {
+            first = locateFirst();
+        }
+        return first;
+    }
+
+    /**
+     * Gets the last entry of this queue. The last entry is cached, only after it was removed the buckets have to be
+     * scanned once.
+     *
+     * @return the last node or null if the queue is empty
+     */
+    public Node<E> last() {
+        if (last == null && size > 0) {
+            last = locateLast();
+        }
+        return last;
+    }
+
+    /**
+     * Removes and returns the first entry of this queue.
+     *
+     * @return the former first node or null if the queue is empty
+     */
+    public Node<E> removeFirst() {
+        Node<E> node = first();
+        if (node != null) {
+            unlink(node);
+            shrinkIfNecessary();
+        }
+        return node;
+    }
+
+    /**
+     * Removes the given node from this queue.
+     *
+     * @param node node that should be removed
+     * @return true if the node was contained in this queue and got removed, false otherwise
+     */
+    public boolean remove(Node<E> node) {
+        if (node == null || node.owner != this) {
+            return false;
+        }
+        unlink(node);
+        shrinkIfNecessary();
+        return true;
+    }
+
+    /**
+     * Gets the entry that directly follows the given node.
+     *
+     * <p>
+     * The following "days" are visited like on removal, so with a fitting bucket width this is O(1) amortized. Only if
+     * the next entry is more than a "year" ahead, all buckets are searched.
+     *
+     * @param node node that is currently contained in this queue
+     * @return the following node or null if {@code node} is the last entry
+     */
+    public Node<E> next(Node<E> node) {
+        requireContained(node);
+        long day = Math.floorDiv(node.time, width);
+        if (node.next != null && node.next.time < (day + 1) * width) {
+            return node.next;
+        }
+        if (node == last()) {
+            return null;
+        }
+        for (int i = 1; i <= heads.length; i++) {
+            long dayStart = (day + i) * width;
+            Node<E> current = heads[(int) ((day + i) & mask)];
+            while (current != null && current.time < dayStart) {
+                current = current.next;
+            }
+            if (current != null && current.time < dayStart + width) {
+                return current;
+            }
+        }
+
+        //no entry within the next "year", fall back to a direct search
+        Node<E> candidate = null;
+        for (Node<E> head : heads) {
+            Node<E> current = head;
+            while (current != null && current.time <= node.time) {
+                current = current.next;
+            }
+            if (current != null && (candidate == null || current.time < candidate.time)) {
+                candidate = current;
+            }
+        }
+        return candidate;
+    }
+
+    /**
+     * Gets the entry that directly precedes the given node. Like {@link #next(Node)}, but visits the previous "days".
+     *
+     * @param node node that is currently contained in this queue
+     * @return the preceding node or null if {@code node} is the first entry
+     */
+    public Node<E> prev(Node<E> node) {
+        requireContained(node);
+        long day = Math.floorDiv(node.time, width);
+        if (node.prev != null && node.prev.time >= day * width) {
+            return node.prev;
+        }
+        if (node == first()) {
+            return null;
+        }
+        //times are non-negative, so there are no entries before day 0
+        long days = Math.min(heads.length, day);
+        for (int i = 1; i <= days; i++) {
+            long dayStart = (day - i) * width;
+            Node<E> current = tails[(int) ((day - i) & mask)];
+            while (current != null && current.time >= dayStart + width) {
+                current = current.prev;
+            }
+            if (current != null && current.time >= dayStart) {
+                return current;
+            }
+        }
+
+        //no entry within the previous "year", fall back to a direct search
+        Node<E> candidate = null;
+        for (Node<E> tail : tails) {
+            Node<E> current = tail;
+            while (current != null && current.time >= node.time) {
+                current = current.prev;
+            }
+            if (current != null && (candidate == null || current.time > candidate.time)) {
+                candidate = current;
+            }
+        }
+        return candidate;
+    }
+
+    /**
+     * Collects all entries in queue order. Meant for debugging and tracing, since it requires sorting.
+     *
+     * @return a list of all nodes in queue order
+     */
+    public List<Node<E>> toList() {
+        List<Node<E>> nodes = new ArrayList<>(size);
+        for (Node<E> head : heads) {
+            for (Node<E> current = head; current != null; current = current.next) {
+                nodes.add(current);
+            }
+        }
+        //stable sort, nodes with equal time always share a bucket and keep their relative order
+        nodes.sort(Comparator.comparingLong(node -> node.time));
+        return nodes;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int getBucketCount() {
+        return heads.length;
+    }
+
+    public long getBucketWidth() {
+        return width;
+    }
+
+    private static boolean precedes(Node<?> node, Node<?> other) {
+        return node.time < other.time || (node.time == other.time && node.priority > other.priority);
+    }
+
+    private int bucketOf(long time) {
+        return (int) (Math.floorDiv(time, width) & mask);
+    }
+
+    private void moveCursorTo(long time) {
+        currentBucket = bucketOf(time);
+        currentBucketTop = (Math.floorDiv(time, width) + 1) * width;
+    }
+
+    private Node<E> locateFirst() {
+        int bucket = currentBucket;
+        long top = currentBucketTop;
+        for (int i = 0; i < heads.length; i++) {
+            Node<E> head = heads[bucket];
+            if (head != null && head.time < top) {
+                currentBucket = bucket;
+                currentBucketTop = top;
+                return head;
+            }
+            bucket = (bucket + 1) & mask;
+            top += width;
+        }
+
+        //no entry within the next "year", fall back to a direct search
+        Node<E> min = null;
+        for (Node<E> head : heads) {
+            if (head != null && (min == null || head.time < min.time)) {
+                min = head;
+            }
+        }
+        if (min != null) {
+            moveCursorTo(min.time);
+        }
+        return min;
+    }
+
+    private Node<E> locateLast() {
+        Node<E> max = null;
+        for (Node<E> tail : tails) {
+            //entries with the same time always share a bucket
+            if (tail != null && (max == null || tail.time > max.time)) {
+                max = tail;
+            }
+        }
+        return max;
+    }
+
+    private void linkAfter(int bucket, Node<E> where, Node<E> node) {
+        node.bucket = bucket;
+        node.prev = where;
+        if (where == null) {
+            node.next = heads[bucket];
+            heads[bucket] = node;
+        } else {
+            node.next = where.next;
+            where.next = node;
+        }
+        if (node.next == null) {
+            tails[bucket] = node;
+        } else {
+            node.next.prev = node;
+        }
+        onLinked(node);
+    }
+
+    private void linkBefore(int bucket, Node<E> where, Node<E> node) {
+        if (where == null) {
+            linkAfter(bucket, tails[bucket], node);
+        } else {
+            linkAfter(bucket, where.prev, node);
+        }
+    }
+
+    private void onLinked(Node<E> node) {
+        node.owner = this;
+        size++;
+        if (node.time < currentBucketTop - width) {
+            moveCursorTo(node.time); // the cursor must never be ahead of an entry
+        }
+        if (first != null && node.time <= first.time) {
+            first = null;
+        }
+        if (size == 1 || (last != null && (node.time > last.time || node.prev == last))) {
+            last = node;
+        }
+    }
+
+    private void unlink(Node<E> node) {
+        if (node.prev == null) {
+            heads[node.bucket] = node.next;
+        } else {
+            node.prev.next = node.next;
+        }
+        if (node.next == null) {
+            tails[node.bucket] = node.prev;
+        } else {
+            node.next.prev = node.prev;
+        }
+        node.prev = null;
+        node.next = null;
+        node.owner = null;
+        size--;
+        if (node == first) {
+            first = null;
+        }
+        if (node == last) {
+            last = null;
+        }
+    }
+
+    private void requireContained(Node<E> node) {
+        if (node == null || node.owner != this) {
+            throw new IllegalArgumentException("Node is not contained in this queue.");
+        }
+    }
+
+    private void growIfNecessary() {
+        if (size + 1 > 2 * heads.length) {
+            resize(heads.length * 2);
+        }
+    }
+
+    private void shrinkIfNecessary() {
+        if (heads.length > MIN_BUCKET_COUNT && size < heads.length / 2) {
+            resize(heads.length / 2);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void allocate(int bucketCount) {
+        heads = (Node<E>[]) new Node[bucketCount];
+        tails = (Node<E>[]) new Node[bucketCount];
+        mask = bucketCount - 1;
+    }
+
+    private void resize(int bucketCount) {
+        //drain in queue order, O(1) amortized per node with the current layout
+        List<Node<E>> nodes = new ArrayList<>(size);
+        Node<E> node;
+        while ((node = first()) != null) {
+            unlink(node);
+            nodes.add(node);
+        }
+
+        width = estimateWidth(nodes);
+        allocate(bucketCount);
+        if (!nodes.isEmpty()) {
+            moveCursorTo(nodes.get(0).time);
+        }
+
+        //appending in queue order keeps each bucket sorted
+        for (Node<E> current : nodes) {
+            linkAfter(bucketOf(current.time), tails[bucketOf(current.time)], current);
+        }
+    }
+
+    private long estimateWidth(List<Node<E>> sortedNodes) {
+        int sampleSize = Math.min(sortedNodes.size(), WIDTH_SAMPLE_SIZE);
+        if (sampleSize < 2) {
+            return width;
+        }
+        long total = 0;
+        for (int i = 1; i < sampleSize; i++) {
+            total += sortedNodes.get(i).time - sortedNodes.get(i - 1).time;
+        }
+        double average = (double) total / (sampleSize - 1);
+
+        //ignore large gaps that would make the buckets too wide
+        long filteredTotal = 0;
+        int filteredCount = 0;
+        for (int i = 1; i < sampleSize; i++) {
+            long separation = sortedNodes.get(i).time - sortedNodes.get(i - 1).time;
+            if (separation <= 2 * average) {
+                filteredTotal += separation;
+                filteredCount++;
+            }
+        }
+        if (filteredTotal == 0) {
+            return width;
+        }
+        return Math.max(1, Math.round(3.0 * filteredTotal / filteredCount));
+    }
+
+    /**
+     * Entry of a {@link CalendarQueue}.
+     *
+     * @param <E> type of the stored value
+     */
+    public static final class Node<E> {
+        private final E value;
+        private final long time;
+        private final int priority;
+        private Node<E> prev;
+        private Node<E> next;
+        private int bucket;
+        private CalendarQueue<E> owner;
+
+        private Node(E value, long time, int priority) {
+            this.value = value;
+            this.time = time;
+            this.priority = priority;
+        }
+
+        public E getValue() {
+            return value;
+        }
+
+        public long getTime() {
+            return time;
+        }
+
+        public int getPriority() {
+            return priority;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package cambio.simulator.misc;
+
+/**
+ * Event list implementations that can be used by the scheduler of an experiment.
+ *
+ * @author Lion Wagner
+ * @see cambio.simulator.models.ExperimentMetaData#getEventList()
+ */
+public enum EventListType {
+    /**
+     * Desmojs' default event list.
+     */
+    DEFAULT,
+    /**
+     * {@link CalendarEventList}, scales better for large amounts of pending events.
+     */
+    CALENDAR;
+
+    /**
+     * Parses an event list type from its (case-insensitive) name.
+     *
+     * @param name name of the event list type
+     * @return the event list type with the given name
+     * @throws IllegalArgumentException if there is no event list type with the given name
+     */
+    public static EventListType fromName(String name) {
+        String normalizedName = name == null ? "" : name.trim();
+        for (EventListType type : values()) {
+            if (type.name().equalsIgnoreCase(normalizedName)) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException(String.format("Unknown event list type '%s'.", name));
+    }
+}
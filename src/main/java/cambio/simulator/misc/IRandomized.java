@@ -0,0 +1,21 @@
+package cambio.simulator.misc;
+
+import java.util.SplittableRandom;
+
+/**
+ * Interface for objects that need random numbers, but are not able to retrieve a random stream from their model
+ * themselves (e.g. strategies that are created during parsing). The owner of such an object is responsible for
+ * injecting a stream.
+ *
+ * @author Lion Wagner
+ * @see RandomStreams#injectInto(Object, String)
+ */
+public interface IRandomized {
+
+    /**
+     * Sets the random stream this object should draw its random numbers from.
+     *
+     * @param randomStream the random stream to use
+     */
+    void setRandomStream(SplittableRandom randomStream);
+}
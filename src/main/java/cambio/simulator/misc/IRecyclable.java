@@ -0,0 +1,15 @@
+package cambio.simulator.misc;
+
+/**
+ * Interface for objects that can be reused by an {@link ObjectPool}.
+ *
+ * @author Lion Wagner
+ */
+public interface IRecyclable {
+
+    /**
+     * Resets this object before it is returned to its pool. Implementations should drop all references to other
+     * simulation objects, so pooled objects do not keep finished requests alive.
+     */
+    void reset();
+}
@@ -0,0 +1,118 @@
+package cambio.simulator.misc;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Pool of reusable objects of one type.
+ *
+ * <p>
+ * Objects that are released are reset and kept for the next {@link #acquire()}, up to the capacity of the pool. If the
+ * pool is empty, a new object is created by the factory of the pool. The factory receives the pool itself, so created
+ * objects can release themselves once they are done.
+ *
+ * <p>
+ * If lent objects are tracked (see {@link PoolingMode#DEBUG}), releasing an object twice or releasing an object that
+ * was not lent by this pool fails immediately.
+ *
+ * @param <T> type of the pooled objects
+ * @author Lion Wagner
+ * @see ObjectPools
+ */
+public final class ObjectPool<T extends IRecyclable> {
+
+    private final String name;
+    private final Function<ObjectPool<T>, T> factory;
+    private final int capacity;
+    private final ArrayDeque<T> free = new ArrayDeque<>();
+    private final Set<T> lent; //null if lent objects are not tracked
+
+    private long created = 0;
+    private long acquired = 0;
+    private long released = 0;
+
+    /**
+     * Creates a new pool.
+     *
+     * @param name      name of the pool, used for reporting
+     * @param factory   creates a new object for the given pool if no released object is available
+     * @param capacity  maximum number of released objects that are kept
+     * @param trackLent whether lent objects should be tracked to detect double releases and leaks
+     */
+    public ObjectPool(String name, Function<ObjectPool<T>, T> factory, int capacity, boolean trackLent) {
+        this.name = name;
+        this.factory = factory;
+        this.capacity = capacity;
+        this.lent = trackLent ? Collections.newSetFromMap(new IdentityHashMap<>()) : null;
+    }
+
+    /**
+     * Takes an object from this pool or creates a new one if the pool is empty.
+     *
+     * @return an object that was reset or newly created
+     */
+    public T acquire() {
+        T object = free.pollLast();
+        if (object == null) {
+            object = factory.apply(this);
+            created++;
+        }
+        acquired++;
+        if (lent != null) {
+            lent.add(object);
+        }
+        return object;
+    }
+
+    /**
+     * Resets the given object and returns it to this pool. The object must not be used by the caller afterwards.
+     *
+     * @param object object that is no longer needed
+     * @throws IllegalStateException if lent objects are tracked and the given object is not lent by this pool
+     */
+    public void release(T object) {
+        if (lent != null && !lent.remove(object)) {
+            throw new IllegalStateException(String.format(
+                "%s was released to pool %s, but is not lent by it. Was it released twice?", object, name));
+        }
+        released++;
+        object.reset();
+        if (free.size() < capacity) {
+            free.addLast(object);
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the number of objects that were created by this pool.
+     *
+     * @return the number of created objects
+     */
+    public long getCreated() {
+        return created;
+    }
+
+    /**
+     * Gets the number of objects that are currently lent by this pool.
+     *
+     * @return the number of acquired, but not yet released objects
+     */
+    public long getOutstanding() {
+        return acquired - released;
+    }
+
+    /**
+     * Gets the objects that are currently lent by this pool, only available if lent objects are tracked.
+     *
+     * @return an unmodifiable view of the lent objects, empty if they are not tracked
+     */
+    public Set<T> getLentObjects() {
+        return lent == null ? Collections.emptySet() : Collections.unmodifiableSet(lent);
+    }
+}
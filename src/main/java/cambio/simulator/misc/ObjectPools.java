@@ -0,0 +1,75 @@
+package cambio.simulator.misc;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Collects the {@link ObjectPool}s of one model, one pool per pooled type.
+ *
+ * <p>
+ * Pooling is opt-in, see {@link cambio.simulator.models.ExperimentMetaData#getObjectPooling()}. If it is turned off,
+ * no pools are handed out and callers allocate new objects as usual.
+ *
+ * <p>
+ * Only objects whose lifetime is owned by a single CPU are pooled: {@link cambio.simulator.resources.cpu.CPUProcess}es,
+ * {@link cambio.simulator.resources.cpu.ComputationBurstCompletedEvent}s and {@link
+ * cambio.simulator.resources.cpu.ComputationCompletedEvent}s. Requests, request answers, network dependencies and the
+ * network send, receive and cancel events are always allocated. They stay referenced after their completion (by the
+ * listener chains and retry indices of their parent requests, the send and receive event references of each request
+ * and the send events returned by {@link cambio.simulator.entities.networking.RequestSender}), so recycling them would
+ * hand out objects that are still in use.
+ *
+ * @author Lion Wagner
+ */
+public final class ObjectPools {
+
+    static final int DEFAULT_CAPACITY = 1 << 16;
+
+    private final PoolingMode mode;
+    private final Map<Class<?>, ObjectPool<?>> pools = new LinkedHashMap<>();
+
+    public ObjectPools(PoolingMode mode) {
+        this.mode = mode;
+    }
+
+    public PoolingMode getMode() {
+        return mode;
+    }
+
+    /**
+     * Gets the pool for the given type, creates it with the given factory if it does not exist yet.
+     *
+     * @param type    type of the pooled objects
+     * @param factory factory that creates new objects for the pool
+     * @param <T>     type of the pooled objects
+     * @return the pool of the given type, or null if pooling is turned off
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends IRecyclable> ObjectPool<T> getPool(Class<T> type, Function<ObjectPool<T>, T> factory) {
+        if (mode == PoolingMode.OFF) {
+            return null;
+        }
+        return (ObjectPool<T>) pools.computeIfAbsent(type,
+            key -> new ObjectPool<>(type.getSimpleName(), factory, DEFAULT_CAPACITY, mode == PoolingMode.DEBUG));
+    }
+
+    /**
+     * Prints a warning for each pool that still has lent objects. Only active in {@link PoolingMode#DEBUG}.
+     *
+     * <p>
+     * Objects that are still in use by unfinished requests at the end of the simulation are reported as well.
+     */
+    public void reportLeaks() {
+        if (mode != PoolingMode.DEBUG) {
+            return;
+        }
+        for (ObjectPool<?> pool : pools.values()) {
+            if (pool.getOutstanding() > 0) {
+                System.out.printf("[Warning] %d of %d objects of pool %s were not returned (e.g. %s).%n",
+                    pool.getOutstanding(), pool.getCreated(), pool.getName(),
+                    pool.getLentObjects().iterator().next());
+            }
+        }
+    }
+}
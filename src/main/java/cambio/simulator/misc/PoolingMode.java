@@ -0,0 +1,39 @@
+package cambio.simulator.misc;
+
+/**
+ * Defines whether short-lived simulation objects are recycled by {@link ObjectPool}s.
+ *
+ * @author Lion Wagner
+ */
+public enum PoolingMode {
+    /**
+     * Objects are not pooled.
+     */
+    OFF,
+    /**
+     * Objects are returned to their pools once they are no longer needed.
+     */
+    ON,
+    /**
+     * Like {@link #ON}, but the pools additionally track all lent objects. Objects that are returned twice are
+     * reported immediately, objects that were not returned until the end of the simulation are reported as leaks.
+     */
+    DEBUG;
+
+    /**
+     * Parses a mode from its (case-insensitive) name.
+     *
+     * @param name name of the mode
+     * @return the mode with the given name
+     * @throws IllegalArgumentException if there is no mode with the given name
+     */
+    public static PoolingMode fromName(String name) {
+        String normalizedName = name == null ? "" : name.trim();
+        for (PoolingMode mode : values()) {
+            if (mode.name().equalsIgnoreCase(normalizedName)) {
+                return mode;
+            }
+        }
+        throw new IllegalArgumentException(String.format("Unknown pooling mode '%s'.", name));
+    }
+}
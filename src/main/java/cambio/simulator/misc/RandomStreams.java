@@ -0,0 +1,111 @@
+package cambio.simulator.misc;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.WeakHashMap;
+
+import cambio.simulator.models.MiSimModel;
+import desmoj.core.simulator.Model;
+
+/**
+ * Registry of named, independent random number streams that are all derived from one experiment seed.
+ *
+ * <p>
+ * Each stream is identified by a name (e.g. the name of the entity that uses it). The seed of a stream only depends on
+ * the experiment seed and the stream name, so a stream produces the same sequence of numbers in every run with the same
+ * seed, regardless of how many other streams exist or in which order they are created. This keeps runs reproducible,
+ * even if the model changes slightly or multiple replications are executed in parallel.
+ *
+ * <p>
+ * Instances of this class are not thread safe. Each model should have its own instance.
+ *
+ * @author Lion Wagner
+ * @see MiSimModel#getRandomStreams()
+ */
+public final class RandomStreams {
+
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    //streams of models that are not MiSimModels, see forModel(Model)
+    private static final Map<Model, RandomStreams> FALLBACK_STREAMS =
+        Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final long seed;
+    private final Map<String, SplittableRandom> streams = new HashMap<>();
+
+    public RandomStreams(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Gets the {@link RandomStreams} of the given model.
+     *
+     * <p>
+     * Only a {@link MiSimModel} knows the seed of its experiment. For any other model a warning is printed once and
+     * streams with seed 0 are used for that model, so all entities of the model still share one registry.
+     *
+     * @param model model whose random streams should be retrieved
+     * @return the random streams of the model
+     */
+    public static RandomStreams forModel(Model model) {
+        if (model instanceof MiSimModel) {
+            return ((MiSimModel) model).getRandomStreams();
+        }
+        return FALLBACK_STREAMS.computeIfAbsent(model, key -> {
+            System.out.printf("[Warning] Model %s is not a MiSimModel and has no experiment seed. "
+                + "Its random streams use seed 0.%n", key == null ? null : key.getName());
+            return new RandomStreams(0);
+        });
+    }
+
+    //SplitMix64 finalizer, spreads the bits of the input over the whole output
+    private static long mix64(long value) {
+        long z = value;
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Derives the seed of the stream with the given name.
+     *
+     * @param name name of the stream
+     * @return the seed of the stream with the given name
+     */
+    public long deriveSeed(String name) {
+        long hash = mix64(seed * GOLDEN_GAMMA);
+        for (int i = 0; i < name.length(); i++) {
+            hash = (hash ^ name.charAt(i)) * FNV_PRIME;
+        }
+        return mix64(hash);
+    }
+
+    /**
+     * Gets the stream with the given name. Repeated calls with the same name return the same stream object.
+     *
+     * @param name name of the stream
+     * @return the stream with the given name
+     */
+    public SplittableRandom getStream(String name) {
+        return streams.computeIfAbsent(name, key -> new SplittableRandom(deriveSeed(key)));
+    }
+
+    /**
+     * Injects the stream with the given name into the target, if it is {@link IRandomized}.
+     *
+     * @param target     object that may need a random stream
+     * @param streamName name of the stream that should be injected
+     */
+    public void injectInto(Object target, String streamName) {
+        if (target instanceof IRandomized) {
+            ((IRandomized) target).setRandomStream(getStream(streamName));
+        }
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+}
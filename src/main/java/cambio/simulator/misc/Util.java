@@ -2,6 +2,7 @@ package cambio.simulator.misc;
 
 import java.lang.reflect.Field;
 
+import cambio.simulator.parsing.JsonTypeRegistry;
 import org.jetbrains.annotations.NotNull;
 
 /**
@@ -113,14 +114,21 @@ public class Util {
 
 
     /**
-     * Tries to inject a value into the field of an object via reflection. Checks declared fields of the objects class
-     * and all its superclasses.
+     * Tries to inject a value into the field of an object. Uses the setter that was generated into the {@link
+     * JsonTypeRegistry} if there is one, otherwise reflection. Checks declared fields of the objects class and all its
+     * superclasses.
      *
      * @param fieldName name of the field
      * @param object    object that should be modified
      * @param newValue  value that should be injected
      */
     public static void injectField(String fieldName, @NotNull Object object, Object newValue) {
+        JsonTypeRegistry.FieldSetter setter =
+            JsonTypeRegistry.getDefault().getFieldSetter(object.getClass(), fieldName);
+        if (setter != null) {
+            setter.set(object, newValue);
+            return;
+        }
         try {
             Class<?> clazz = object.getClass();
 
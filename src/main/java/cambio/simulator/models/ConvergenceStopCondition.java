@@ -0,0 +1,192 @@
+package cambio.simulator.models;
+
+import cambio.simulator.export.BatchMeansEstimator;
+import cambio.simulator.export.TimeSeries;
+import desmoj.core.simulator.Experiment;
+import desmoj.core.simulator.ModelCondition;
+
+/**
+ * Stop condition of an {@link Experiment} that ends the simulation once the mean of a metric converged.
+ *
+ * <p>
+ * The metric is observed via {@link #recordResponse(double, double)}, which is called for each completed user request.
+ * The observations are buffered until the end of their warm-up is detected with the MSER-5 rule (see {@link
+ * TimeSeries#enableWarmUpDetection()}). Only the observations after the warm-up are passed on to a {@link
+ * BatchMeansEstimator}, which estimates the steady-state mean. If no steady state is detected, the experiment runs for
+ * its whole duration. The condition is fulfilled once the half width of the
+ * confidence interval of the mean is at most the target precision (relative to the mean). The duration of the
+ * experiment stays the upper bound of the simulation.
+ *
+ * <p>
+ * The condition is checked by DESMO-J after each event, so {@link #check()} only returns the result of the last
+ * evaluation, which is updated whenever a batch is completed.
+ *
+ * @author Lion Wagner
+ * @see ExperimentMetaData#getStoppingCriterion()
+ */
+public class ConvergenceStopCondition extends ModelCondition {
+
+    private static final int MIN_BATCHES = 20;
+
+    private final StoppingCriterion criterion;
+    private final double precision;
+    private final double interval;
+    private final BatchMeansEstimator estimator;
+
+    //observations whose warm-up is still detected, null once the warm-up is over
+    private TimeSeries warmUp = new TimeSeries();
+    private double warmUpEnd = Double.NaN;
+    private double currentIntervalStart = 0;
+    private long currentIntervalCount = 0;
+    private double relativeHalfWidth = Double.NaN;
+    private boolean converged = false;
+
+    /**
+     * Creates a new stop condition.
+     *
+     * @param model      model whose user requests are observed
+     * @param criterion  metric that has to converge
+     * @param precision  target half width of the confidence interval, relative to the mean
+     * @param confidence confidence level of the interval, e.g. 0.95
+     * @param interval   length of the intervals in which the throughput is measured
+     */
+    public ConvergenceStopCondition(MiSimModel model, StoppingCriterion criterion, double precision,
+                                    double confidence, double interval) {
+        super(model, "ConvergenceStopCondition", false);
+        if (precision <= 0) {
+            throw new IllegalArgumentException("The stopping precision has to be greater than 0.");
+        }
+        if (interval <= 0) {
+            throw new IllegalArgumentException("The stopping interval has to be greater than 0.");
+        }
+        this.criterion = criterion;
+        this.precision = precision;
+        this.interval = interval;
+        this.estimator = new BatchMeansEstimator(MIN_BATCHES, confidence);
+        this.warmUp.enableWarmUpDetection();
+    }
+
+    /**
+     * Records the completion of a user request.
+     *
+     * @param time         simulation time at which the request was completed
+     * @param responseTime response time of the request
+     */
+    public void recordResponse(double time, double responseTime) {
+        if (converged) {
+            return;
+        }
+        if (criterion == StoppingCriterion.RESPONSE_TIME) {
+            if (observe(time, responseTime)) {
+                evaluate(time);
+            }
+            return;
+        }
+
+        //each finished interval is one throughput observation, including intervals without any completion
+        boolean batchCompleted = false;
+        while (time >= currentIntervalStart + interval) {
+            batchCompleted |= observe(currentIntervalStart, currentIntervalCount / interval);
+            currentIntervalStart += interval;
+            currentIntervalCount = 0;
+        }
+        currentIntervalCount++;
+        if (batchCompleted) {
+            evaluate(time);
+        }
+    }
+
+    //passes the observation to the estimator once the warm-up is over, returns true if a batch was completed
+    private boolean observe(double time, double value) {
+        if (warmUp == null) {
+            return estimator.add(value);
+        }
+        warmUp.addDouble(time, value);
+        if (warmUp.isDetectingWarmUp()) {
+            return false;
+        }
+        //the series only contains the observations after the warm-up now
+        warmUpEnd = warmUp.getWarmUpEnd();
+        boolean batchCompleted = false;
+        for (int i = 0; i < warmUp.size(); i++) {
+            batchCompleted |= estimator.add(warmUp.getDouble(i));
+        }
+        warmUp = null;
+        return batchCompleted;
+    }
+
+    private void evaluate(double time) {
+        relativeHalfWidth = estimator.getRelativeHalfWidth();
+        if (relativeHalfWidth <= precision) {
+            converged = true;
+            System.out.printf("[Info] The %s converged at simulation time %s (mean %s, relative half width %s). "
+                    + "Stopping the experiment.%n", criterion.name().toLowerCase().replace('_', ' '), time,
+                estimator.getMean(), relativeHalfWidth);
+        }
+    }
+
+    @Override
+    public boolean check() {
+        return converged;
+    }
+
+    public boolean isConverged() {
+        return converged;
+    }
+
+    public StoppingCriterion getCriterion() {
+        return criterion;
+    }
+
+    public BatchMeansEstimator getEstimator() {
+        return estimator;
+    }
+
+    /**
+     * Gets the simulation time at which the warm-up of the observed metric ended.
+     *
+     * @return the time of the first observation after the warm-up, NaN if the end of the warm-up was not detected yet
+     */
+    public double getWarmUpEnd() {
+        return warmUpEnd;
+    }
+
+    /**
+     * Gets the relative half width of the confidence interval at the last completed batch.
+     *
+     * @return the relative half width, NaN if it was not available yet
+     */
+    public double getRelativeHalfWidth() {
+        return relativeHalfWidth;
+    }
+
+    /**
+     * Metrics that can be used to stop an experiment once they converged.
+     */
+    public enum StoppingCriterion {
+        /**
+         * Response times of all user requests.
+         */
+        RESPONSE_TIME,
+        /**
+         * Number of completed user requests per time interval.
+         */
+        THROUGHPUT;
+
+        /**
+         * Parses the criterion from its (case-insensitive) name.
+         *
+         * @param name name of the criterion
+         * @return the criterion with the given name
+         * @throws IllegalArgumentException if there is no criterion with the given name
+         */
+        public static StoppingCriterion fromName(String name) {
+            for (StoppingCriterion criterion : values()) {
+                if (criterion.name().equalsIgnoreCase(name)) {
+                    return criterion;
+                }
+            }
+            throw new IllegalArgumentException(String.format("Unknown stopping criterion '%s'.", name));
+        }
+    }
+}
@@ -5,6 +5,10 @@ import java.time.LocalDateTime;
 import java.util.Random;
 import java.util.concurrent.TimeUnit;
 
+import cambio.simulator.export.LatencyHistogram;
+import cambio.simulator.export.SamplingPolicy;
+import cambio.simulator.misc.EventListType;
+import cambio.simulator.misc.PoolingMode;
 import com.google.gson.annotations.SerializedName;
 
 /**
@@ -14,13 +18,95 @@ import com.google.gson.annotations.SerializedName;
  */
 @SuppressWarnings("FieldMayBeFinal")
 public class ExperimentMetaData {
-    private static ExperimentMetaData instance = null;
-
 
     private int seed = new Random().nextInt();
 
     private String reportType = "default";
 
+    /**
+     * Event list implementation that is used by the scheduler. Either "default" (desmojs' default list) or "calendar"
+     * (calendar queue, scales better for large amounts of pending events), see {@link EventListType}. Other values are
+     * rejected while parsing.
+     */
+    private String eventList = "default";
+
+    /**
+     * How response times are recorded. Either "raw" (every single value, the default), "histogram" (windowed
+     * percentiles and means) or "both".
+     */
+    private String responseTimeRecording = "raw";
+
+    /**
+     * Size of the time windows of the response time histograms in simulation time units.
+     */
+    private double responseTimeWindow = 1;
+
+    /**
+     * Precision of the response time histograms, see {@link LatencyHistogram}.
+     */
+    private int responseTimeHistogramPrecision = LatencyHistogram.DEFAULT_PRECISION;
+
+    /**
+     * When microservice instances report their queue statistics. Either "on_change", "interval" or "off", see {@link
+     * SamplingPolicy}.
+     */
+    private String instanceStatistics = "on_change";
+
+    /**
+     * Sampling interval of the instance statistics in simulation time units, if they are sampled periodically.
+     */
+    private double instanceStatisticsInterval = 1;
+
+    /**
+     * When circuit breakers report their statistics. Either "on_change" (only on state transitions), "interval" (on
+     * state transitions and periodically) or "off", see {@link SamplingPolicy}.
+     */
+    private String circuitBreakerStatistics = "on_change";
+
+    /**
+     * Sampling interval of the circuit breaker statistics in simulation time units, if they are sampled periodically.
+     */
+    private double circuitBreakerStatisticsInterval = 1;
+
+    /**
+     * Whether transient entities (requests, dependencies, network and computation events) are only named by their type,
+     * even while trace or debug output is on. This keeps the name catalog of DESMO-J from growing with each request, so
+     * long runs keep a flat heap, see {@link cambio.simulator.entities.TransientNames}.
+     */
+    private boolean boundedMemory = false;
+
+    /**
+     * Whether short-lived objects of the computation path (cpu processes and computation events) are recycled. Either
+     * "off", "on" or "debug" (with leak detection), see {@link PoolingMode}. Requests, dependencies and network events
+     * are never pooled, see {@link cambio.simulator.misc.ObjectPools}.
+     */
+    private String objectPooling = "off";
+
+    /**
+     * Whether the initial transient of the raw response time datasets should be detected (MSER-5) and discarded while
+     * they are recorded, see {@link cambio.simulator.export.TimeSeries#enableWarmUpDetection()}. Datasets that are
+     * recorded on change or accumulated are never truncated.
+     */
+    private boolean warmUpTruncation = false;
+
+    /**
+     * Metric whose convergence ends the experiment before its duration is over. Either "off", "response_time" or
+     * "throughput", see {@link ConvergenceStopCondition}.
+     */
+    private String stoppingCriterion = "off";
+
+    /**
+     * Target half width of the confidence interval of the stopping criterion, relative to its mean.
+     */
+    private double stoppingPrecision = 0.05;
+
+    private double stoppingConfidence = 0.95;
+
+    /**
+     * Length of the intervals in which the throughput is measured, if it is used as stopping criterion.
+     */
+    private double stoppingInterval = 1;
+
     private double duration = -1;
 
     @SerializedName(value = "experimentName", alternate = {"experiment_name", "name"})
@@ -43,12 +129,76 @@ public class ExperimentMetaData {
     private transient long startOfSetup;
     private transient long durationOfSetupMS = -1;
     private transient long durationOfMetaDataLoading;
+    //parts of the setup, in milliseconds
+    private transient long durationOfExperimentFileReading;
+    private transient long durationOfArchitectureParsing;
+    private transient long durationOfExperimentParsing;
 
 
     public String getReportType() {
         return reportType;
     }
 
+    public String getEventList() {
+        return eventList;
+    }
+
+    public String getResponseTimeRecording() {
+        return responseTimeRecording;
+    }
+
+    public double getResponseTimeWindow() {
+        return responseTimeWindow;
+    }
+
+    public int getResponseTimeHistogramPrecision() {
+        return responseTimeHistogramPrecision;
+    }
+
+    public String getInstanceStatistics() {
+        return instanceStatistics;
+    }
+
+    public double getInstanceStatisticsInterval() {
+        return instanceStatisticsInterval;
+    }
+
+    public String getCircuitBreakerStatistics() {
+        return circuitBreakerStatistics;
+    }
+
+    public double getCircuitBreakerStatisticsInterval() {
+        return circuitBreakerStatisticsInterval;
+    }
+
+    public boolean isBoundedMemory() {
+        return boundedMemory;
+    }
+
+    public String getObjectPooling() {
+        return objectPooling;
+    }
+
+    public boolean isWarmUpTruncation() {
+        return warmUpTruncation;
+    }
+
+    public String getStoppingCriterion() {
+        return stoppingCriterion;
+    }
+
+    public double getStoppingPrecision() {
+        return stoppingPrecision;
+    }
+
+    public double getStoppingConfidence() {
+        return stoppingConfidence;
+    }
+
+    public double getStoppingInterval() {
+        return stoppingInterval;
+    }
+
     public String getExperimentName() {
         return experimentName;
     }
@@ -65,6 +215,10 @@ public class ExperimentMetaData {
         return seed;
     }
 
+    public void setSeed(int seed) {
+        this.seed = seed;
+    }
+
     public TimeUnit getTimeUnit() {
         return timeUnit;
     }
@@ -89,6 +243,40 @@ public class ExperimentMetaData {
         this.durationOfMetaDataLoading = durationOfMetaDataLoading;
     }
 
+    /**
+     * Sets how long reading the experiment or scenario file into a json tree took. This tree is shared by the meta
+     * data and the experiment parsing.
+     *
+     * @param durationOfExperimentFileReading duration in milliseconds
+     */
+    public void setDurationOfExperimentFileReading(long durationOfExperimentFileReading) {
+        this.durationOfExperimentFileReading = durationOfExperimentFileReading;
+    }
+
+    public void setDurationOfArchitectureParsing(long durationOfArchitectureParsing) {
+        this.durationOfArchitectureParsing = durationOfArchitectureParsing;
+    }
+
+    public void setDurationOfExperimentParsing(long durationOfExperimentParsing) {
+        this.durationOfExperimentParsing = durationOfExperimentParsing;
+    }
+
+    public long getDurationOfExperimentFileReadingMS() {
+        return durationOfExperimentFileReading;
+    }
+
+    public long getDurationOfMetaDataLoadingMS() {
+        return durationOfMetaDataLoading;
+    }
+
+    public long getDurationOfArchitectureParsingMS() {
+        return durationOfArchitectureParsing;
+    }
+
+    public long getDurationOfExperimentParsingMS() {
+        return durationOfExperimentParsing;
+    }
+
     public void markStartOfSetup(long startTime) {
         this.startOfSetup = startTime;
     }
@@ -109,8 +297,13 @@ public class ExperimentMetaData {
         this.description = description;
     }
 
+    /**
+     * Gets the duration of the whole setup, including the reading of the experiment file and the meta data loading.
+     *
+     * @return the duration of the setup in milliseconds
+     */
     public long getDurationOfSetupMS() {
-        return durationOfMetaDataLoading + durationOfSetupMS;
+        return durationOfExperimentFileReading + durationOfMetaDataLoading + durationOfSetupMS;
     }
 
     public LocalDateTime getStartTimestamp() {
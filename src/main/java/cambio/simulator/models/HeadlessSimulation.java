@@ -0,0 +1,110 @@
+package cambio.simulator.models;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+import cambio.simulator.export.LatencyHistogram;
+import cambio.simulator.export.LatencyHistogramRecorder;
+import cambio.simulator.export.ReportCollector;
+import cambio.simulator.export.TimeSeries;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import desmoj.core.report.Reporter;
+import desmoj.core.simulator.Experiment;
+
+/**
+ * Runs simulations of an architecture/experiment pair without touching the file system.
+ *
+ * <p>
+ * In contrast to the {@link MainModel}, the descriptions are given as json trees and the results are returned as
+ * {@link SimulationResult}s. Neither a report folder nor desmojs report, trace, debug or error files are written.
+ *
+ * <p>
+ * Each run gets its own {@link MiSimModel}, {@link Experiment} and {@link ReportCollector}. The descriptions are only
+ * read, so one instance can be used for any number of (concurrent) runs.
+ *
+ * @author Lion Wagner
+ */
+public final class HeadlessSimulation {
+
+    private static final String DEFAULT_EXPERIMENT_NAME = "HeadlessSimulation";
+
+    private final JsonElement architectureDescription;
+    private final JsonElement experimentDescription;
+
+    /**
+     * Creates a new simulation of the given descriptions.
+     *
+     * @param architectureDescription json tree of the architecture description, will not be modified
+     * @param experimentDescription   json tree of the experiment or scenario description, will not be modified
+     */
+    public HeadlessSimulation(JsonElement architectureDescription, JsonElement experimentDescription) {
+        this.architectureDescription = Objects.requireNonNull(architectureDescription);
+        this.experimentDescription = Objects.requireNonNull(experimentDescription);
+    }
+
+    /**
+     * Creates a new simulation of the given descriptions.
+     *
+     * @param architectureDescription architecture description in json format
+     * @param experimentDescription   experiment or scenario description in json format
+     * @return a new simulation of the given descriptions
+     * @throws com.google.gson.JsonParseException if one of the descriptions is not valid json
+     */
+    public static HeadlessSimulation fromJson(String architectureDescription, String experimentDescription) {
+        return new HeadlessSimulation(JsonParser.parseString(architectureDescription),
+            JsonParser.parseString(experimentDescription));
+    }
+
+    /**
+     * Runs the simulation with the seed that is defined in the experiment description.
+     *
+     * @return the results of the simulation
+     */
+    public SimulationResult run() {
+        return run(null);
+    }
+
+    /**
+     * Runs the simulation with the given seed.
+     *
+     * @param seed seed of the simulation, overrides the seed of the experiment description
+     * @return the results of the simulation
+     */
+    public SimulationResult run(int seed) {
+        return run(Integer.valueOf(seed));
+    }
+
+    private SimulationResult run(Integer seed) {
+        MiSimModel model = new MiSimModel(architectureDescription, experimentDescription);
+        ExperimentMetaData metaData = model.getExperimentMetaData();
+        if (seed != null) {
+            metaData.setSeed(seed);
+        }
+        String experimentName = metaData.getExperimentName() != null
+            ? metaData.getExperimentName()
+            : DEFAULT_EXPERIMENT_NAME;
+
+        Experiment exp = MainModel.createExperiment(model, experimentName, false, false, false);
+        exp.setSilent(true);
+
+        final long startTime = System.nanoTime();
+        exp.start();
+        final long experimentTime = System.nanoTime() - startTime;
+        double simulatedTime = model.presentTime().getTimeAsDouble();
+        exp.finish();
+
+        ReportCollector collector = model.getReportCollector();
+        TreeMap<String, TimeSeries> datasets = collector.collectData();
+        Map<String, LatencyHistogram> histograms = new HashMap<>();
+        for (Reporter reporter : collector.elements()) {
+            if (reporter instanceof LatencyHistogramRecorder) {
+                histograms.putAll(((LatencyHistogramRecorder) reporter).getTotalHistograms());
+            }
+        }
+        boolean converged = model.getStopCondition() != null && model.getStopCondition().isConverged();
+        return new SimulationResult(metaData, datasets, histograms, simulatedTime, converged, experimentTime);
+    }
+}
@@ -12,12 +12,14 @@ import java.nio.file.Paths;
 import java.nio.file.SimpleFileVisitor;
 import java.nio.file.StandardOpenOption;
 import java.nio.file.attribute.BasicFileAttributes;
-import java.util.HashMap;
-import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
 
-import cambio.simulator.export.ReportCollector;
+import cambio.simulator.export.ReplicationReport;
 import cambio.simulator.export.ReportWriter;
+import cambio.simulator.misc.CalendarEventList;
+import cambio.simulator.misc.EventListType;
 import cambio.simulator.misc.Util;
+import cambio.simulator.models.ConvergenceStopCondition.StoppingCriterion;
 import cambio.simulator.parsing.GsonHelper;
 import com.google.gson.Gson;
 import desmoj.core.simulator.Experiment;
@@ -68,6 +70,16 @@ public class MainModel {
         debugOutput.setRequired(false);
         options.addOption(debugOutput);
 
+        Option replicationsOpt = new Option("r", "replications", true,
+            "number of independent replications (seeds) of the experiment");
+        replicationsOpt.setRequired(false);
+        options.addOption(replicationsOpt);
+
+        Option parallelismOpt = new Option("j", "parallelism", true,
+            "number of replications that are simulated in parallel, defaults to the number of available cores");
+        parallelismOpt.setRequired(false);
+        options.addOption(parallelismOpt);
+
 
         CommandLineParser cmdParser = new DefaultParser();
         HelpFormatter formatter = new HelpFormatter();
@@ -120,27 +132,32 @@ public class MainModel {
             return;
         }
 
-        MiSimModel model = new MiSimModel(new File(archModel), new File(expModel));
-        ExperimentMetaData metaData = model.getExperimentMetaData();
-
-        if (cmd.hasOption(debugOutput.getOpt())) {
-            model.debugOn();
+        int replications;
+        int parallelism;
+        try {
+            replications = Integer.parseInt(cmd.getOptionValue(replicationsOpt.getOpt(), "1"));
+            parallelism = Integer.parseInt(cmd.getOptionValue(parallelismOpt.getOpt(),
+                String.valueOf(Runtime.getRuntime().availableProcessors())));
+            Util.requireGreaterZero(replications, "Number of replications has to be greater than 0.");
+            Util.requireGreaterZero(parallelism, "Parallelism has to be greater than 0.");
+        } catch (IllegalArgumentException e) {
+            System.out.println(e.getMessage());
+            formatter.printHelp("Simulator", options);
+            System.exit(1);
+            return;
         }
 
-        Experiment exp = new Experiment(metaData.getExperimentName());
-        model.connectToExperiment(exp);
-        exp.setSeedGenerator(metaData.getSeed());
-        exp.setShowProgressBarAutoclose(true);
-        exp.setShowProgressBar(cmd.hasOption("p"));
-        exp.stop(new TimeInstant(metaData.getDuration(), metaData.getTimeUnit()));
-        exp.tracePeriod(new TimeInstant(0, metaData.getTimeUnit()),
-            new TimeInstant(metaData.getDuration(), metaData.getTimeUnit()));
-        exp.debugPeriod(new TimeInstant(0, metaData.getTimeUnit()),
-            new TimeInstant(metaData.getDuration(), metaData.getTimeUnit()));
-        if (cmd.hasOption(debugOutput.getOpt())) {
-            exp.debugOn(new TimeInstant(0, metaData.getTimeUnit()));
+        if (replications > 1) {
+            runReplications(new File(archModel), f, replications, parallelism, cmd.hasOption(debugOutput.getOpt()));
+            return;
         }
 
+        MiSimModel model = new MiSimModel(new File(archModel), f);
+        ExperimentMetaData metaData = model.getExperimentMetaData();
+
+        Experiment exp = createExperiment(model, metaData.getExperimentName(), cmd.hasOption("p"),
+            cmd.hasOption(debugOutput.getOpt()));
+
 
         final long experimentStartTime = System.nanoTime();
 
@@ -165,13 +182,125 @@ public class MainModel {
         System.out.println("Simulation of Architecture: " + archModel);
         System.out.println("Executed Experiment:        " + metaData.getExperimentName());
         System.out.println("Setup took:                 " + Util.timeFormat(metaData.getDurationOfSetupMS() * 1000));
+        System.out.printf("  (reading %s, meta data %s, architecture %s, experiment %s)%n",
+            Util.timeFormat(metaData.getDurationOfExperimentFileReadingMS() * 1000),
+            Util.timeFormat(metaData.getDurationOfMetaDataLoadingMS() * 1000),
+            Util.timeFormat(metaData.getDurationOfArchitectureParsingMS() * 1000),
+            Util.timeFormat(metaData.getDurationOfExperimentParsingMS() * 1000));
         System.out.println("Experiment took:            " + Util.timeFormat(experimentTime));
         System.out.println("Report took:                " + Util.timeFormat(reportTime));
         System.out.println("Execution took:             " + Util.timeFormat(executionTime));
     }
 
-    private static void generateReport(MiSimModel model) {
+    /**
+     * Creates a new {@link Experiment} and connects the given model to it. The experiment is set up to run for the
+     * duration that is defined in the models {@link ExperimentMetaData} using the meta datas seed and event list.
+     * If the meta data defines a stopping criterion, the experiment additionally stops once it converged (see {@link
+     * ConvergenceStopCondition}).
+     *
+     * @param model           model that should be simulated
+     * @param experimentName  name of the experiment, also determines the names of desmojs output files
+     * @param showProgressBar whether a progress bar should be shown during the simulation
+     * @param debug           whether debug output should be activated
+     * @return the set up experiment, ready to be started
+     */
+    static Experiment createExperiment(MiSimModel model, String experimentName, boolean showProgressBar,
+                                       boolean debug) {
+        return createExperiment(model, experimentName, showProgressBar, debug, true);
+    }
+
+    /**
+     * Creates a new {@link Experiment} like {@link #createExperiment(MiSimModel, String, boolean, boolean)}.
+     *
+     * @param model           model that should be simulated
+     * @param experimentName  name of the experiment, also determines the names of desmojs output files
+     * @param showProgressBar whether a progress bar should be shown during the simulation
+     * @param debug           whether debug output should be activated
+     * @param writeOutput     whether desmoj should write its report, trace, debug and error files
+     * @return the set up experiment, ready to be started
+     */
+    static Experiment createExperiment(MiSimModel model, String experimentName, boolean showProgressBar,
+                                       boolean debug, boolean writeOutput) {
         ExperimentMetaData metaData = model.getExperimentMetaData();
+
+        if (debug) {
+            model.debugOn();
+        }
+
+        Experiment exp = writeOutput ? new Experiment(experimentName) : new Experiment(experimentName, false);
+        if (EventListType.fromName(metaData.getEventList()) == EventListType.CALENDAR) {
+            CalendarEventList.install(exp);
+        }
+        model.connectToExperiment(exp);
+        exp.setSeedGenerator(metaData.getSeed());
+        exp.setShowProgressBarAutoclose(true);
+        exp.setShowProgressBar(showProgressBar);
+        exp.stop(new TimeInstant(metaData.getDuration(), metaData.getTimeUnit()));
+        if (!"off".equalsIgnoreCase(metaData.getStoppingCriterion())) {
+            //the stopping options were validated while the meta data was parsed
+            ConvergenceStopCondition stopCondition = new ConvergenceStopCondition(model,
+                StoppingCriterion.fromName(metaData.getStoppingCriterion()), metaData.getStoppingPrecision(),
+                metaData.getStoppingConfidence(), metaData.getStoppingInterval());
+            model.setStopCondition(stopCondition);
+            exp.stop(stopCondition);
+        }
+        exp.tracePeriod(new TimeInstant(0, metaData.getTimeUnit()),
+            new TimeInstant(metaData.getDuration(), metaData.getTimeUnit()));
+        exp.debugPeriod(new TimeInstant(0, metaData.getTimeUnit()),
+            new TimeInstant(metaData.getDuration(), metaData.getTimeUnit()));
+        if (debug) {
+            exp.debugOn(new TimeInstant(0, metaData.getTimeUnit()));
+        }
+        return exp;
+    }
+
+    private static void runReplications(File archModel, File expModel, int replications, int parallelism,
+                                        boolean debug) {
+        final long startTime = System.nanoTime();
+
+        ReplicationRunner runner = new ReplicationRunner(archModel, expModel, replications, parallelism, debug);
+        ReplicationReport report;
+        try {
+            report = runner.run();
+        } catch (InterruptedException | ExecutionException e) {
+            System.out.printf("[Error] Replications did not finish: %s%n", e.getMessage());
+            e.printStackTrace();
+            System.exit(1);
+            return;
+        }
+
+        final long experimentTime = System.nanoTime() - startTime;
+        final long reportStartTime = System.nanoTime();
+
+        ExperimentMetaData metaData = runner.getBaseMetaData();
+        if (!metaData.getReportType().equals("none")) {
+            Path reportLocation = prepareReportLocation(metaData);
+            try {
+                report.write(reportLocation);
+            } catch (IOException e) {
+                System.out.printf("[Warning] Could not write the replication report to %s: %s%n", reportLocation,
+                    e.getMessage());
+            }
+        }
+
+        final long reportTime = System.nanoTime() - reportStartTime;
+
+        System.out.println("\n*** Simulator ***");
+        System.out.println("Simulation of Architecture: " + archModel);
+        System.out.println("Executed Experiment:        " + metaData.getExperimentName());
+        System.out.println("Replications:               " + report.getRunCount() + " (parallelism " + parallelism
+            + ")");
+        System.out.println("Experiments took:           " + Util.timeFormat(experimentTime));
+        System.out.println("Report took:                " + Util.timeFormat(reportTime));
+    }
+
+    private static void generateReport(MiSimModel model) {
+        Path reportLocation = prepareReportLocation(model.getExperimentMetaData());
+
+        ReportWriter.writeReporterCollectorOutput(model.getReportCollector().collectData(), reportLocation);
+    }
+
+    private static Path prepareReportLocation(ExperimentMetaData metaData) {
         Path reportLocation = Paths.get(".", "Report_" + metaData.getExperimentName());
         Gson gson = GsonHelper.getGson();
         try {
@@ -200,10 +329,6 @@ public class MainModel {
         } catch (IOException e) {
             e.printStackTrace();
         }
-
-        HashMap<String, TreeMap<Double, Object>> data = ReportCollector.getInstance().collectData();
-        TreeMap<String, TreeMap<Double, Object>> sortedData = new TreeMap<>(data);
-        ReportWriter.writeReporterCollectorOutput(sortedData, reportLocation);
-
+        return reportLocation;
     }
 }
@@ -2,12 +2,21 @@ package cambio.simulator.models;
 
 import java.io.File;
 import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
 
 import cambio.simulator.entities.microservice.Microservice;
+import cambio.simulator.entities.networking.RequestTimeoutWheel;
 import cambio.simulator.events.FinishEvent;
 import cambio.simulator.events.ISelfScheduled;
 import cambio.simulator.export.MultiDataPointReporter;
+import cambio.simulator.export.ReportCollector;
+import cambio.simulator.misc.ObjectPools;
+import cambio.simulator.misc.PoolingMode;
+import cambio.simulator.misc.RandomStreams;
 import cambio.simulator.parsing.ModelLoader;
+import com.google.gson.JsonElement;
+import desmoj.core.dist.ContDistNormal;
+import desmoj.core.dist.NumericalDist;
 import desmoj.core.simulator.Model;
 
 /**
@@ -17,20 +26,38 @@ import desmoj.core.simulator.Model;
  */
 public class MiSimModel extends Model {
 
+    /**
+     * Collects all reporters of this model. Keeps the results of this model separate from other models that are
+     * simulated in the same JVM.
+     */
+    private final transient ReportCollector reportCollector = new ReportCollector("MiSimModel");
+
     /**
      * general reporter, can be used if objects/classes do not want to create their own reporter or use a common
      * reporter.
      */
-    public static MultiDataPointReporter generalReporter = new MultiDataPointReporter();
+    private final transient MultiDataPointReporter generalReporter = new MultiDataPointReporter("", this);
 
     private final transient File architectureModelLocation;
     private final transient File experimentModelOrScenarioLocation;
     //exp meta data
     private final transient ExperimentMetaData experimentMetaData;
+    //json tree of the experiment description, shared by meta data and experiment parsing, released after init()
+    private transient JsonElement experimentDescription;
+    //json tree of the architecture description, if it was not read from a file, released after init()
+    private transient JsonElement architectureDescription;
     //arch model
     private transient ArchitectureModel architectureModel;
     //exp model
     private transient ExperimentModel experimentModel;
+    //default network delay, shared by all requests of this model
+    private transient NumericalDist<Double> defaultNetworkDelay;
+    private transient RequestTimeoutWheel requestTimeoutWheel;
+    private transient RandomStreams randomStreams;
+    private transient ObjectPools objectPools;
+    private transient ConvergenceStopCondition stopCondition;
+    //number of executed NetworkRequestSendEvents, may be read by another thread while the model is simulated
+    private final transient AtomicLong sendEventCounter = new AtomicLong(0);
 
     /**
      * Creates a new MiSimModel and load the meta data from the experiment description.
@@ -39,14 +66,49 @@ public class MiSimModel extends Model {
      * @param experimentModelOrScenarioLocation Location of the experiment description.
      */
     public MiSimModel(File architectureModelLocation, File experimentModelOrScenarioLocation) {
+        this(architectureModelLocation, experimentModelOrScenarioLocation, null);
+    }
+
+    /**
+     * Creates a new MiSimModel and load the meta data from the given, already read, experiment description.
+     *
+     * @param architectureModelLocation         Location of the architectural description.
+     * @param experimentModelOrScenarioLocation Location of the experiment description.
+     * @param experimentDescription             json tree of the experiment description, will not be modified. If
+     *                                          null, the description is read from its location.
+     */
+    MiSimModel(File architectureModelLocation, File experimentModelOrScenarioLocation,
+               JsonElement experimentDescription) {
+        this(architectureModelLocation, experimentModelOrScenarioLocation, null, experimentDescription);
+    }
+
+    /**
+     * Creates a new MiSimModel from already read descriptions, which are not associated with any files.
+     *
+     * @param architectureDescription json tree of the architecture description, will not be modified
+     * @param experimentDescription   json tree of the experiment or scenario description, will not be modified
+     * @see HeadlessSimulation
+     */
+    MiSimModel(JsonElement architectureDescription, JsonElement experimentDescription) {
+        this(null, null, architectureDescription, experimentDescription);
+    }
+
+    private MiSimModel(File architectureModelLocation, File experimentModelOrScenarioLocation,
+                       JsonElement architectureDescription, JsonElement experimentDescription) {
         super(null, "MiSimModel", true, true);
         this.architectureModelLocation = architectureModelLocation;
         this.experimentModelOrScenarioLocation = experimentModelOrScenarioLocation;
+        this.architectureDescription = architectureDescription;
 
         long startTime = System.currentTimeMillis();
-        this.experimentMetaData =
-            ModelLoader.loadExperimentMetaData(experimentModelOrScenarioLocation, architectureModelLocation);
-        experimentMetaData.setDurationOfMetaDataLoading(System.currentTimeMillis() - startTime);
+        this.experimentDescription = experimentDescription != null
+            ? experimentDescription
+            : ModelLoader.readJson(experimentModelOrScenarioLocation);
+        long readTime = System.currentTimeMillis();
+        this.experimentMetaData = ModelLoader.loadExperimentMetaData(this.experimentDescription,
+            experimentModelOrScenarioLocation, architectureModelLocation);
+        experimentMetaData.setDurationOfExperimentFileReading(readTime - startTime);
+        experimentMetaData.setDurationOfMetaDataLoading(System.currentTimeMillis() - readTime);
     }
 
 
@@ -58,11 +120,24 @@ public class MiSimModel extends Model {
 
     @Override
     public void init() {
-        this.experimentMetaData.markStartOfSetup(System.currentTimeMillis());
-        this.architectureModel = ModelLoader.loadArchitectureModel(this);
-        this.experimentModel = ModelLoader.loadExperimentModel(this);
+        long startTime = System.currentTimeMillis();
+        this.experimentMetaData.markStartOfSetup(startTime);
+        this.architectureModel = architectureDescription != null
+            ? ModelLoader.loadArchitectureModel(this, architectureDescription)
+            : ModelLoader.loadArchitectureModel(this);
+        this.architectureDescription = null;
+        long architectureTime = System.currentTimeMillis();
+        this.experimentMetaData.setDurationOfArchitectureParsing(architectureTime - startTime);
+
+        this.experimentModel = experimentDescription != null
+            ? ModelLoader.loadExperimentModel(this, experimentDescription)
+            : ModelLoader.loadExperimentModel(this);
+        this.experimentDescription = null;
+        long endTime = System.currentTimeMillis();
+        this.experimentMetaData.setDurationOfExperimentParsing(endTime - architectureTime);
+
         this.experimentMetaData.setStartDate(LocalDateTime.now());
-        this.experimentMetaData.markEndOfSetup(System.currentTimeMillis());
+        this.experimentMetaData.markEndOfSetup(endTime);
     }
 
     @Override
@@ -87,4 +162,94 @@ public class MiSimModel extends Model {
     public ExperimentMetaData getExperimentMetaData() {
         return experimentMetaData;
     }
+
+    public ReportCollector getReportCollector() {
+        return reportCollector;
+    }
+
+    public MultiDataPointReporter getGeneralReporter() {
+        return generalReporter;
+    }
+
+    /**
+     * Gets the distribution of the default network delay (in milliseconds) of this model. The distribution is created
+     * on first access.
+     *
+     * @return the default network delay distribution of this model
+     */
+    public NumericalDist<Double> getDefaultNetworkDelay() {
+        if (defaultNetworkDelay == null) {
+            defaultNetworkDelay = new ContDistNormal(this, "DefaultNetworkDelay_RNG", 1.6, 0.6, true, false);
+            defaultNetworkDelay.setSeed(getRandomStreams().deriveSeed("DefaultNetworkDelay"));
+        }
+        return defaultNetworkDelay;
+    }
+
+    /**
+     * Gets the counter of the network requests that were sent in this model.
+     *
+     * @return the send event counter of this model
+     * @see cambio.simulator.entities.networking.NetworkRequestSendEvent#getCounterSendEvents(Model)
+     */
+    public AtomicLong getSendEventCounter() {
+        return sendEventCounter;
+    }
+
+    /**
+     * Gets the {@link RequestTimeoutWheel} that manages the timeouts of all requests of this model.
+     *
+     * @return the timer wheel of this model
+     */
+    public RequestTimeoutWheel getRequestTimeoutWheel() {
+        if (requestTimeoutWheel == null) {
+            requestTimeoutWheel = new RequestTimeoutWheel(this);
+        }
+        return requestTimeoutWheel;
+    }
+
+    /**
+     * Gets the {@link RandomStreams} of this model, which are derived from the seed of the experiment meta data. They
+     * are created on first access, so changes to the seed before the start of the experiment are respected.
+     *
+     * @return the random streams of this model
+     */
+    public RandomStreams getRandomStreams() {
+        if (randomStreams == null) {
+            randomStreams = new RandomStreams(experimentMetaData.getSeed());
+        }
+        return randomStreams;
+    }
+
+    /**
+     * Gets the condition that stops the experiment of this model once its stopping criterion converged.
+     *
+     * @return the stop condition, null if the experiment runs for its whole duration
+     */
+    public ConvergenceStopCondition getStopCondition() {
+        return stopCondition;
+    }
+
+    void setStopCondition(ConvergenceStopCondition stopCondition) {
+        this.stopCondition = stopCondition;
+    }
+
+    /**
+     * Gets the {@link ObjectPools} of this model. The pooling mode is read from the experiment meta data on first
+     * access.
+     *
+     * @return the object pools of this model
+     */
+    public ObjectPools getObjectPools() {
+        if (objectPools == null) {
+            PoolingMode mode = PoolingMode.OFF;
+            try {
+                mode = PoolingMode.fromName(experimentMetaData.getObjectPooling());
+            } catch (IllegalArgumentException e) {
+                System.out.printf("[Warning] Unknown object pooling mode '%s'. Objects are not pooled.%n",
+                    experimentMetaData.getObjectPooling());
+            }
+            objectPools = new ObjectPools(mode);
+        }
+        return objectPools;
+    }
 }
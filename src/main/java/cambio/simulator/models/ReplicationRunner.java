@@ -0,0 +1,128 @@
+package cambio.simulator.models;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import cambio.simulator.export.LatencyHistogramRecorder;
+import cambio.simulator.export.ReplicationReport;
+import cambio.simulator.misc.Util;
+import cambio.simulator.parsing.ModelLoader;
+import com.google.gson.JsonElement;
+import desmoj.core.report.Reporter;
+import desmoj.core.simulator.Experiment;
+
+/**
+ * Runs multiple independent replications of the same architecture/experiment pair inside one JVM.
+ *
+ * <p>
+ * Each replication gets its own {@link MiSimModel} and {@link Experiment}, and therefore its own {@link
+ * cambio.simulator.export.ReportCollector}. The replications are executed on a fixed size worker pool. Replication
+ * {@code i} is simulated with the seed {@code s + i}, where {@code s} is the seed defined in the experiment
+ * description. This makes each set of replications reproducible.
+ *
+ * @author Lion Wagner
+ */
+public final class ReplicationRunner {
+
+    private static final String DEFAULT_EXPERIMENT_NAME = "Experiment";
+
+    private final File architectureModelLocation;
+    private final File experimentModelOrScenarioLocation;
+    private final int replications;
+    private final int parallelism;
+    private final boolean debug;
+    private final ExperimentMetaData baseMetaData;
+    //read once, shared (read only) by all replications
+    private final JsonElement experimentDescription;
+
+    /**
+     * Creates a new runner for the given architecture and experiment.
+     *
+     * @param architectureModelLocation         Location of the architectural description.
+     * @param experimentModelOrScenarioLocation Location of the experiment description.
+     * @param replications                      number of replications that should be simulated
+     * @param parallelism                       maximum number of replications that are simulated at the same time
+     * @param debug                             whether debug output should be activated for each replication
+     */
+    public ReplicationRunner(File architectureModelLocation, File experimentModelOrScenarioLocation,
+                             int replications, int parallelism, boolean debug) {
+        Util.requireGreaterZero(replications, "Number of replications has to be greater than 0.");
+        Util.requireGreaterZero(parallelism, "Parallelism has to be greater than 0.");
+        this.architectureModelLocation = architectureModelLocation;
+        this.experimentModelOrScenarioLocation = experimentModelOrScenarioLocation;
+        this.replications = replications;
+        this.parallelism = parallelism;
+        this.debug = debug;
+        this.experimentDescription = ModelLoader.readJson(experimentModelOrScenarioLocation);
+        this.baseMetaData = ModelLoader.loadExperimentMetaData(experimentDescription,
+            experimentModelOrScenarioLocation, architectureModelLocation);
+    }
+
+    /**
+     * Runs all replications and collects their results.
+     *
+     * @return a report containing the collected data of all replications
+     * @throws InterruptedException if the waiting for the replications was interrupted
+     * @throws ExecutionException   if one of the replications failed
+     */
+    public ReplicationReport run() throws InterruptedException, ExecutionException {
+        ReplicationReport report = new ReplicationReport();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, replications));
+        try {
+            List<Future<?>> futures = new ArrayList<>(replications);
+            for (int i = 0; i < replications; i++) {
+                final int index = i;
+                futures.add(executor.submit(() -> runReplication(index, report)));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return report;
+    }
+
+    private void runReplication(int index, ReplicationReport report) {
+        int seed = baseMetaData.getSeed() + index;
+
+        MiSimModel model =
+            new MiSimModel(architectureModelLocation, experimentModelOrScenarioLocation, experimentDescription);
+        ExperimentMetaData metaData = model.getExperimentMetaData();
+        metaData.setSeed(seed);
+
+        String experimentName = metaData.getExperimentName() != null
+            ? metaData.getExperimentName()
+            : DEFAULT_EXPERIMENT_NAME;
+        //replications only report through the ReplicationReport, desmojs output files would be written by each of them
+        Experiment exp = MainModel.createExperiment(model,
+            String.format("%s_Replication%d", experimentName, index), false, debug, false);
+
+        final long startTime = System.nanoTime();
+        exp.start();
+        exp.finish();
+        final long experimentTime = System.nanoTime() - startTime;
+
+        report.addRun(index, seed, model.getReportCollector().collectData());
+        for (Reporter reporter : model.getReportCollector().elements()) {
+            if (reporter instanceof LatencyHistogramRecorder) {
+                report.addLatencyHistograms(((LatencyHistogramRecorder) reporter).getTotalHistograms());
+            }
+        }
+        System.out.printf("Replication %d (seed %d) took %s%n", index, seed, Util.timeFormat(experimentTime));
+    }
+
+    /**
+     * Gets the meta data of the experiment description, as it was read before any replication was started.
+     *
+     * @return the meta data of the experiment description
+     */
+    public ExperimentMetaData getBaseMetaData() {
+        return baseMetaData;
+    }
+}
@@ -0,0 +1,92 @@
+package cambio.simulator.models;
+
+import java.util.Collections;
+import java.util.Map;
+
+import cambio.simulator.export.LatencyHistogram;
+import cambio.simulator.export.TimeSeries;
+
+/**
+ * In-memory result of a single simulation run by a {@link HeadlessSimulation}.
+ *
+ * <p>
+ * Contains the same datasets that are written into the report folder by the {@link MainModel}, i.e. the collected data
+ * of all reporters of the model, and the total response time histograms.
+ *
+ * @author Lion Wagner
+ */
+public final class SimulationResult {
+
+    private final ExperimentMetaData metaData;
+    private final Map<String, TimeSeries> datasets;
+    private final Map<String, LatencyHistogram> latencyHistograms;
+    private final double simulatedTime;
+    private final boolean converged;
+    private final long durationOfExperimentNanos;
+
+    SimulationResult(ExperimentMetaData metaData, Map<String, TimeSeries> datasets,
+                     Map<String, LatencyHistogram> latencyHistograms, double simulatedTime, boolean converged,
+                     long durationOfExperimentNanos) {
+        this.metaData = metaData;
+        this.datasets = Collections.unmodifiableMap(datasets);
+        this.latencyHistograms = Collections.unmodifiableMap(latencyHistograms);
+        this.simulatedTime = simulatedTime;
+        this.converged = converged;
+        this.durationOfExperimentNanos = durationOfExperimentNanos;
+    }
+
+    public ExperimentMetaData getMetaData() {
+        return metaData;
+    }
+
+    /**
+     * Gets all collected datasets.
+     *
+     * @return an unmodifiable map from dataset names to their data points. Data points are ordered by time and may
+     *     share a time stamp.
+     */
+    public Map<String, TimeSeries> getDatasets() {
+        return datasets;
+    }
+
+    /**
+     * Gets a single dataset.
+     *
+     * @param name name of the dataset, including the prefix of its reporter
+     * @return the data points of the dataset ordered by time, null if there is no dataset with the given name
+     */
+    public TimeSeries getDataset(String name) {
+        return datasets.get(name);
+    }
+
+    /**
+     * Gets the histograms over the whole simulation of each recorded latency dataset (e.g. the response times).
+     *
+     * @return an unmodifiable map from dataset names (without prefix) to their total histogram
+     */
+    public Map<String, LatencyHistogram> getLatencyHistograms() {
+        return latencyHistograms;
+    }
+
+    /**
+     * Gets the simulation time at which the simulation ended.
+     *
+     * @return the time at which the simulation ended, in the time unit of the experiment
+     */
+    public double getSimulatedTime() {
+        return simulatedTime;
+    }
+
+    /**
+     * Whether the simulation was stopped early, because its stopping criterion converged.
+     *
+     * @return true if the simulation was stopped by its {@link ConvergenceStopCondition}
+     */
+    public boolean isConverged() {
+        return converged;
+    }
+
+    public long getDurationOfExperimentNanos() {
+        return durationOfExperimentNanos;
+    }
+}
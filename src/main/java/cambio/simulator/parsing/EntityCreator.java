@@ -17,7 +17,8 @@ import org.jetbrains.annotations.NotNull;
  *
  * <p>
  * Expects the target type to have a constructor with the parameters types {@code (Model.class, String.class,
- * boolean.class)}. Otherwise, no instance can be created.
+ * boolean.class)}. Otherwise, no instance can be created. If a factory for the target type was generated into the
+ * {@link JsonTypeRegistry}, it is used instead of reflection.
  *
  * @param <T> Type of the pattern
  * @author Lion Wagner
@@ -58,6 +59,10 @@ public class EntityCreator<T> implements InstanceCreator<T> {
      */
     @Override
     public T createInstance(Type type) {
+        JsonTypeRegistry.EntityFactory<T> factory = JsonTypeRegistry.getDefault().getEntityFactory(targetClass);
+        if (factory != null) {
+            return factory.create(model, name, true);
+        }
         try {
             Constructor<T> c =
                 targetClass.getDeclaredConstructor(Model.class, String.class, boolean.class);
@@ -0,0 +1,22 @@
+package cambio.simulator.parsing;
+
+/**
+ * Provides the {@link JsonTypeName} annotated types of a package to a {@link JsonTypeRegistry}.
+ *
+ * <p>
+ * Implementations are generated at compile time by the {@link
+ * cambio.simulator.parsing.processing.JsonTypeNameProcessor} (one per package) and are found via {@link
+ * java.util.ServiceLoader}. Plug-ins can provide their own implementation the same way, otherwise their types are still
+ * found by classpath scanning.
+ *
+ * @author Lion Wagner
+ */
+public interface JsonTypeNameProvider {
+
+    /**
+     * Registers all types of this provider, including their factories and field setters, at the given registry.
+     *
+     * @param registry registry that should be filled
+     */
+    void registerTypes(JsonTypeRegistry registry);
+}
@@ -2,9 +2,11 @@ package cambio.simulator.parsing;
 
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.reflections.Reflections;
 import org.reflections.scanners.SubTypesScanner;
@@ -12,19 +14,25 @@ import org.reflections.util.ClasspathHelper;
 import org.reflections.util.ConfigurationBuilder;
 
 /**
- * Utility class for resloving {@link JsonTypeName}s into actual types using Reflection.
+ * Utility class for resloving {@link JsonTypeName}s into actual types.
+ *
+ * <p>
+ * Types are first looked up in the {@link JsonTypeRegistry} that is generated at compile time. Only names that are not
+ * found there (e.g. of plug-ins) are resolved using Reflection.
  */
 public class JsonTypeNameResolver {
 
-    private static final HashMap<Class<?>, Map<String, Class<?>>> resolvedNamesCache = new HashMap<>();
+    //shared by all models, therefore needs to support concurrent parsing of multiple models
+    private static final Map<Class<?>, Map<String, Class<?>>> generatedNamesCache = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, Map<String, Class<?>>> resolvedNamesCache = new ConcurrentHashMap<>();
 
     /**
      * Resolves the given {@code jsonTypeName} into an actual type that is marked with {@code @JsonTypeName
      * (jsonTypeName)}.
      *
      * <p>
-     * Depending on the search space, this method can be quite slow. However, results for each supertype will be
-     * cached.
+     * If the name is not part of the generated {@link JsonTypeRegistry}, the class path is searched. Depending on the
+     * search space, this can be quite slow. However, results for each supertype will be cached.
      *
      * @param jsonTypeName name that should be resolved into a type
      * @param baseClass    a class instance of {@code <U>}
@@ -34,49 +42,63 @@ public class JsonTypeNameResolver {
      */
     public static <U> Class<? extends U> resolveFromJsonTypeName(final String jsonTypeName,
                                                                  final Class<U> baseClass) {
-        Map<String, Class<?>> resolvedNames =
-            JsonTypeNameResolver.resolvedNamesCache.computeIfAbsent(baseClass, aClass -> {
-                @SuppressWarnings("unchecked")
-                Class<U> actualBaseClass = (Class<U>) aClass;
+        Class<?> resolved = generatedNamesCache
+            .computeIfAbsent(baseClass, aClass -> collectNames(aClass, JsonTypeRegistry.getDefault().getTypeNames()))
+            .get(jsonTypeName);
 
-                Reflections reflections = new Reflections(
-                    new ConfigurationBuilder()
-                        .setUrls(ClasspathHelper.forPackage(
-                            actualBaseClass.getPackage().getName()))
-                        .setScanners(new SubTypesScanner())
-                );
+        if (resolved == null) {
+            resolved = resolvedNamesCache.computeIfAbsent(baseClass, JsonTypeNameResolver::scanClasspath)
+                .get(jsonTypeName);
+        }
 
-                Set<Class<? extends U>> subtypesOfBaseClass = reflections.getSubTypesOf(actualBaseClass);
+        //noinspection unchecked
+        return (Class<? extends U>) resolved;
+    }
 
-                Map<String, Class<?>> resolvedNamesInner = new HashMap<>();
-                for (Class<? extends U> subtype : subtypesOfBaseClass) {
-                    if (!subtype.isAnnotationPresent(JsonTypeName.class)) {
-                        continue;
-                    }
+    private static Map<String, Class<?>> scanClasspath(Class<?> baseClass) {
+        Reflections reflections = new Reflections(
+            new ConfigurationBuilder()
+                .setUrls(ClasspathHelper.forPackage(
+                    baseClass.getPackage().getName()))
+                .setScanners(new SubTypesScanner())
+        );
 
-                    JsonTypeName typeNameValues1 = subtype.getAnnotation(JsonTypeName.class);
-                    Set<String> potentialNames =
-                        Arrays.stream(typeNameValues1.alternativeNames()).collect(Collectors.toSet());
-                    potentialNames.add(typeNameValues1.value());
+        Map<Class<?>, List<String>> annotatedTypes = new HashMap<>();
+        for (Class<?> subtype : reflections.getSubTypesOf(baseClass)) {
+            if (!subtype.isAnnotationPresent(JsonTypeName.class)) {
+                continue;
+            }
+            JsonTypeName typeNameValues = subtype.getAnnotation(JsonTypeName.class);
+            String[] names = Arrays.copyOf(typeNameValues.alternativeNames(),
+                typeNameValues.alternativeNames().length + 1);
+            names[names.length - 1] = typeNameValues.value();
+            annotatedTypes.put(subtype, Arrays.asList(names));
+        }
+        return collectNames(baseClass, annotatedTypes);
+    }
 
-                    for (String potentialName : potentialNames) {
-                        if (resolvedNamesInner.containsKey(potentialName)) {
-                            Class<?> other = resolvedNamesInner.get(potentialName);
-                            System.out.printf(
-                                "Warning: Types %s and %s do have the same JsonTypeName. "
-                                    + "Ignoring the second entry (%s).%n",
-                                other.getTypeName(), subtype.getTypeName(), subtype.getSimpleName());
+    private static Map<String, Class<?>> collectNames(Class<?> baseClass, Map<Class<?>, List<String>> typeNames) {
+        Map<String, Class<?>> resolvedNamesInner = new HashMap<>();
+        for (Map.Entry<Class<?>, List<String>> entry : typeNames.entrySet()) {
+            Class<?> subtype = entry.getKey();
+            if (subtype == baseClass || !baseClass.isAssignableFrom(subtype)) {
+                continue;
+            }
 
-                        } else {
-                            resolvedNamesInner.put(potentialName, subtype);
-                        }
-                    }
-                }
-                return resolvedNamesInner;
-            });
+            Set<String> potentialNames = new LinkedHashSet<>(entry.getValue());
+            for (String potentialName : potentialNames) {
+                if (resolvedNamesInner.containsKey(potentialName)) {
+                    Class<?> other = resolvedNamesInner.get(potentialName);
+                    System.out.printf(
+                        "Warning: Types %s and %s do have the same JsonTypeName. "
+                            + "Ignoring the second entry (%s).%n",
+                        other.getTypeName(), subtype.getTypeName(), subtype.getSimpleName());
 
-
-        //noinspection unchecked
-        return (Class<? extends U>) resolvedNames.get(jsonTypeName);
+                } else {
+                    resolvedNamesInner.put(potentialName, subtype);
+                }
+            }
+        }
+        return resolvedNamesInner;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,156 @@
+package cambio.simulator.parsing;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.function.Supplier;
+
+import desmoj.core.simulator.Model;
+
+/**
+ * Registry of {@link JsonTypeName} annotated types, their factories and their field setters.
+ *
+ * <p>
+ * The default registry is filled by the {@link JsonTypeNameProvider}s that are generated at compile time, so
+ * resolving type names, creating instances and injecting fields does not need classpath scanning or reflection. Types
+ * that are not registered (e.g. of plug-ins that were compiled without the annotation processor) are still resolved by
+ * the {@link JsonTypeNameResolver} via classpath scanning.
+ *
+ * @author Lion Wagner
+ */
+public final class JsonTypeRegistry {
+
+    private final Map<Class<?>, List<String>> typeNames = new LinkedHashMap<>();
+    private final Map<Class<?>, EntityFactory<?>> entityFactories = new HashMap<>();
+    private final Map<Class<?>, Supplier<?>> factories = new HashMap<>();
+    private final Map<Class<?>, Map<String, FieldSetter>> fieldSetters = new HashMap<>();
+
+    /**
+     * Gets the registry that contains all types of the {@link JsonTypeNameProvider}s found on the class path. The
+     * registry is loaded on first access and is not modified afterwards.
+     *
+     * @return the default registry
+     */
+    public static JsonTypeRegistry getDefault() {
+        return DefaultRegistryHolder.INSTANCE;
+    }
+
+    /**
+     * Creates a registry with all types of the {@link JsonTypeNameProvider}s that are found by the given class loader.
+     *
+     * @param classLoader class loader that is used to find the providers
+     * @return a new registry
+     */
+    public static JsonTypeRegistry load(ClassLoader classLoader) {
+        JsonTypeRegistry registry = new JsonTypeRegistry();
+        try {
+            for (JsonTypeNameProvider provider : ServiceLoader.load(JsonTypeNameProvider.class, classLoader)) {
+                provider.registerTypes(registry);
+            }
+        } catch (ServiceConfigurationError e) {
+            System.out.printf("[Warning] Could not load all generated json types (%s). Falling back to classpath "
+                + "scanning.%n", e.getMessage());
+        }
+        return registry;
+    }
+
+    /**
+     * Registers a type and its json type names.
+     *
+     * @param type             annotated type
+     * @param name             normal type name
+     * @param alternativeNames alternative type names
+     */
+    public void register(Class<?> type, String name, String... alternativeNames) {
+        String[] names = new String[alternativeNames.length + 1];
+        names[0] = name;
+        System.arraycopy(alternativeNames, 0, names, 1, alternativeNames.length);
+        typeNames.put(type, Collections.unmodifiableList(Arrays.asList(names)));
+    }
+
+    public <T> void registerEntityFactory(Class<T> type, EntityFactory<? extends T> factory) {
+        entityFactories.put(type, factory);
+    }
+
+    public <T> void registerFactory(Class<T> type, Supplier<? extends T> factory) {
+        factories.put(type, factory);
+    }
+
+    public void registerFieldSetter(Class<?> type, String fieldName, FieldSetter setter) {
+        fieldSetters.computeIfAbsent(type, key -> new HashMap<>()).put(fieldName, setter);
+    }
+
+    /**
+     * Gets all registered types and their names, in order of registration.
+     *
+     * @return an unmodifiable map of all types to their names, the normal name is always the first one
+     */
+    public Map<Class<?>, List<String>> getTypeNames() {
+        return Collections.unmodifiableMap(typeNames);
+    }
+
+    /**
+     * Gets the factory that calls the {@code (Model, String, boolean)} constructor of the given type.
+     *
+     * @param type registered type
+     * @param <T>  registered type
+     * @return the factory of the given type or null if there is none
+     */
+    @SuppressWarnings("unchecked")
+    public <T> EntityFactory<T> getEntityFactory(Class<T> type) {
+        return (EntityFactory<T>) entityFactories.get(type);
+    }
+
+    /**
+     * Gets the factory that calls the no-argument constructor of the given type.
+     *
+     * @param type registered type
+     * @param <T>  registered type
+     * @return the factory of the given type or null if there is none
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Supplier<T> getFactory(Class<T> type) {
+        return (Supplier<T>) factories.get(type);
+    }
+
+    /**
+     * Gets the setter of the field with the given name. The setters of a registered type also cover the accessible
+     * fields of its super classes. Setters are only returned for registered types, subtypes may shadow fields.
+     *
+     * @param type      exact type of the target object
+     * @param fieldName name of the field
+     * @return the setter of the field or null if none was generated
+     */
+    public FieldSetter getFieldSetter(Class<?> type, String fieldName) {
+        Map<String, FieldSetter> setters = fieldSetters.get(type);
+        return setters == null ? null : setters.get(fieldName);
+    }
+
+    /**
+     * Creates an instance of a type via its {@code (Model, String, boolean)} constructor.
+     *
+     * @param <T> created type
+     */
+    @FunctionalInterface
+    public interface EntityFactory<T> {
+        T create(Model model, String name, boolean showInTrace);
+    }
+
+    /**
+     * Sets the value of a field without reflection.
+     */
+    @FunctionalInterface
+    public interface FieldSetter {
+        void set(Object target, Object value);
+    }
+
+    //lazy holder, loads the generated types on first access
+    private static final class DefaultRegistryHolder {
+        private static final JsonTypeRegistry INSTANCE = load(JsonTypeRegistry.class.getClassLoader());
+    }
+}
@@ -3,7 +3,7 @@ package cambio.simulator.parsing;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.FileReader;
-import java.util.function.Function;
+import java.io.IOException;
 
 import cambio.simulator.models.ArchitectureModel;
 import cambio.simulator.models.ExperimentMetaData;
@@ -14,6 +14,9 @@ import cambio.simulator.parsing.adapter.experiment.ExperimentMetaDataAdapter;
 import cambio.simulator.parsing.adapter.experiment.ExperimentModelAdapter;
 import cambio.simulator.parsing.adapter.scenario.ScenarioDescriptionAdapter;
 import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
 import com.google.gson.TypeAdapter;
 import com.google.gson.stream.JsonReader;
 import org.jetbrains.annotations.Contract;
@@ -21,10 +24,21 @@ import org.jetbrains.annotations.Contract;
 /**
  * Utility class for loading the MiSim architecture and experiment descriptions from JSON-files.
  *
+ * <p>
+ * An experiment or scenario description is needed twice: once for its meta data and once for the experiment model.
+ * Therefore, it can be read once into a {@link JsonElement} tree using {@link #readJson(File)}, that is shared by both
+ * steps. The format of the description (scenario or experiment) is detected from this tree, so it is not necessary to
+ * try parsing it as both.
+ *
  * @author Lion Wagner
  */
 public final class ModelLoader {
 
+    /**
+     * Member that identifies a scenario description, see {@link ScenarioDescriptionAdapter}.
+     */
+    private static final String SCENARIO_STIMULUS_KEY = "stimulus";
+
     @Contract("null->fail")
     private static void checkFileExistence(File file) {
         if (file == null) {
@@ -38,6 +52,24 @@ public final class ModelLoader {
         }
     }
 
+    /**
+     * Reads the given file into a json tree.
+     *
+     * @param file location of the json file
+     * @return the root of the json tree of the file
+     * @throws ParsingException if the file does not exist or cannot be read
+     */
+    public static JsonElement readJson(File file) {
+        checkFileExistence(file);
+        try (FileReader reader = new FileReader(file)) {
+            return JsonParser.parseReader(new JsonReader(reader));
+        } catch (IOException e) {
+            throw new ParsingException(
+                String.format("[Error]  Cannot start the simulation. Model file %s could not be read!",
+                    file.getAbsolutePath()), e);
+        }
+    }
+
     /**
      * Parses the given information into a new {@link ExperimentMetaData} object.
      *
@@ -55,6 +87,25 @@ public final class ModelLoader {
 
     }
 
+    /**
+     * Parses the given experiment or scenario description into a new {@link ExperimentMetaData} object. The given tree
+     * is not modified.
+     *
+     * @param experimentOrScenario             json tree of the experiment or scenario description, see {@link
+     *                                         #readJson(File)}
+     * @param experimentOrScenarioFileLocation location of the experiment file, that should be used
+     * @param architectureModelLocation        location of the architecture file, that should be used for the
+     *                                         experiment
+     * @return a new instance of an {@link ExperimentMetaData} object that has been parsed using an {@link
+     *     ExperimentMetaDataAdapter}.
+     */
+    public static ExperimentMetaData loadExperimentMetaData(JsonElement experimentOrScenario,
+                                                            File experimentOrScenarioFileLocation,
+                                                            File architectureModelLocation) {
+        return new ExperimentMetaDataAdapter(experimentOrScenarioFileLocation, architectureModelLocation)
+            .fromJsonTree(experimentOrScenario);
+    }
+
     /**
      * Parses the given information into a new {@link ArchitectureModel} object.
      *
@@ -71,45 +122,86 @@ public final class ModelLoader {
         );
     }
 
+    /**
+     * Parses the given architecture description into a new {@link ArchitectureModel} object. The given tree is not
+     * modified, so it can be used for multiple models.
+     *
+     * @param baseModel    parent {@link MiSimModel}
+     * @param architecture json tree of the architecture description
+     * @return a new instance of an {@link ArchitectureModel} object that has been parsed using an {@link
+     *     ArchitectureModelAdapter}.
+     */
+    public static ArchitectureModel loadArchitectureModel(MiSimModel baseModel, JsonElement architecture) {
+        return GsonHelper
+            .getGsonBuilder()
+            .registerTypeAdapter(ArchitectureModel.class, new ArchitectureModelAdapter(baseModel))
+            .create()
+            .fromJson(architecture, ArchitectureModel.class);
+    }
+
     /**
      * Parses the given information into a new {@link ExperimentModel} object.
      *
      * @param baseModel parent {@link MiSimModel}, experiment description file location will be extracted from the
      *                  metadata of this object.
      * @return a new instance of an {@link ExperimentModel} object that has been parsed using an {@link
-     *     ExperimentModelAdapter}.
+     *     ExperimentModelAdapter} or a {@link ScenarioDescriptionAdapter}.
      */
     public static ExperimentModel loadExperimentModel(MiSimModel baseModel) {
-        File modelLocation = baseModel.getExperimentMetaData().getExpFileLocation();
-        Function<TypeAdapter<ExperimentModel>, ExperimentModel> loadFunction = adapter ->
-            loadModel(modelLocation, ExperimentModel.class, adapter);
+        return loadExperimentModel(baseModel, readJson(baseModel.getExperimentMetaData().getExpFileLocation()));
+    }
 
-        try {
-            //try parsing from scenario description
-            return loadFunction.apply(new ScenarioDescriptionAdapter(baseModel));
-        } catch (ParsingException e) {
-            System.out.printf("[Info] Could not detect %s as scenario. Trying to detect an experiment.%n",
-                modelLocation);
+    /**
+     * Parses the given experiment or scenario description into a new {@link ExperimentModel} object. The given tree is
+     * not modified.
+     *
+     * @param baseModel            parent {@link MiSimModel}
+     * @param experimentOrScenario json tree of the experiment or scenario description, see {@link #readJson(File)}
+     * @return a new instance of an {@link ExperimentModel} object that has been parsed using an {@link
+     *     ExperimentModelAdapter} or a {@link ScenarioDescriptionAdapter}.
+     */
+    public static ExperimentModel loadExperimentModel(MiSimModel baseModel, JsonElement experimentOrScenario) {
+        TypeAdapter<ExperimentModel> adapter = isScenarioDescription(experimentOrScenario)
+            ? new ScenarioDescriptionAdapter(baseModel)
+            : new ExperimentModelAdapter(baseModel);
+        return GsonHelper
+            .getGsonBuilder()
+            .registerTypeAdapter(ExperimentModel.class, adapter)
+            .create()
+            .fromJson(experimentOrScenario, ExperimentModel.class);
+    }
 
-            //try to parse into experiment
-            return loadFunction.apply(new ExperimentModelAdapter(baseModel));
+    /**
+     * Checks whether the given description is a scenario description. Scenarios always define a stimulus, while
+     * experiment descriptions only contain objects and arrays (and their meta data) on the top level.
+     *
+     * @param experimentOrScenario json tree of the experiment or scenario description
+     * @return true if the given description should be parsed as scenario
+     */
+    static boolean isScenarioDescription(JsonElement experimentOrScenario) {
+        if (!experimentOrScenario.isJsonObject()) {
+            return false;
         }
+        JsonObject root = experimentOrScenario.getAsJsonObject();
+        return root.has(SCENARIO_STIMULUS_KEY) && root.get(SCENARIO_STIMULUS_KEY).isJsonPrimitive();
     }
 
     private static <T> T loadModel(File targetFile, Class<T> targetType, TypeAdapter<T> adapter) {
         checkFileExistence(targetFile);
-        try {
-            Gson gson = GsonHelper
-                .getGsonBuilder()
-                .registerTypeAdapter(targetType, adapter)
-                .create();
-            JsonReader reader = new JsonReader(new FileReader(targetFile));
-            return gson.fromJson(reader, targetType);
-
+        Gson gson = GsonHelper
+            .getGsonBuilder()
+            .registerTypeAdapter(targetType, adapter)
+            .create();
+        try (FileReader fileReader = new FileReader(targetFile)) {
+            return gson.fromJson(new JsonReader(fileReader), targetType);
         } catch (FileNotFoundException e) {
             throw new ParsingException(
                 String.format("[Error]  Cannot start the simulation. Model file %s was not found!",
                     targetFile.getAbsolutePath()), e);
+        } catch (IOException e) {
+            throw new ParsingException(
+                String.format("[Error]  Cannot start the simulation. Model file %s could not be read!",
+                    targetFile.getAbsolutePath()), e);
         }
     }
 }
@@ -4,6 +4,7 @@ import java.lang.reflect.Field;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.Arrays;
+import java.util.function.Supplier;
 
 import cambio.simulator.entities.patterns.IPatternLifeCycleHooks;
 import cambio.simulator.entities.patterns.IStrategy;
@@ -11,6 +12,8 @@ import cambio.simulator.entities.patterns.IStrategyAcceptor;
 import cambio.simulator.entities.patterns.InstanceOwnedPattern;
 import cambio.simulator.entities.patterns.ServiceOwnedPattern;
 import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.InstanceCreator;
 import desmoj.core.simulator.Model;
 import org.jetbrains.annotations.NotNull;
 
@@ -99,7 +102,14 @@ public class PatternConfigurationParser {
                             strategyBaseType.getName()));
                 }
 
-                Gson strategyGson = GsonHelper.getGsonBuilder().create();
+                GsonBuilder strategyGsonBuilder = GsonHelper.getGsonBuilder();
+                Supplier<? extends IStrategy> strategyFactory =
+                    JsonTypeRegistry.getDefault().getFactory(strategyConcreteType);
+                if (strategyFactory != null) {
+                    strategyGsonBuilder.registerTypeAdapter(strategyConcreteType,
+                        (InstanceCreator<IStrategy>) type -> strategyFactory.get());
+                }
+                Gson strategyGson = strategyGsonBuilder.create();
                 IStrategy strategyObject =
                     strategyGson.fromJson(configurationData.getStrategyConfigurationAsJsonString(),
                         strategyConcreteType);
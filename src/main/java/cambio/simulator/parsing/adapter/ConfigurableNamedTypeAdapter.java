@@ -2,10 +2,12 @@ package cambio.simulator.parsing.adapter;
 
 import java.io.IOException;
 import java.util.Collections;
+import java.util.function.Supplier;
 
 import cambio.simulator.parsing.GsonHelper;
 import cambio.simulator.parsing.JsonTypeName;
 import cambio.simulator.parsing.JsonTypeNameResolver;
+import cambio.simulator.parsing.JsonTypeRegistry;
 import cambio.simulator.parsing.ParsingException;
 import cambio.simulator.parsing.TypeNameAssociatedConfigurationData;
 import com.google.gson.Gson;
@@ -83,6 +85,11 @@ public class ConfigurableNamedTypeAdapter<T> extends TypeAdapter<T> {
             System.out.printf("[Warning] Potential unsafe parsing of value %s. Make sure %s defines default values.%n",
                 jsonTypeName, type.getName());
 
+            Supplier<? extends T> factory = JsonTypeRegistry.getDefault().getFactory(type);
+            if (factory != null) {
+                return factory.get();
+            }
+
             T newObject = null;
             try {
                 //doing some Gson magic to almost force the creation of an object.
@@ -13,6 +13,7 @@ import cambio.simulator.entities.patterns.LoadBalancer;
 import cambio.simulator.entities.patterns.ServiceOwnedPattern;
 import cambio.simulator.models.MiSimModel;
 import cambio.simulator.parsing.GsonHelper;
+import cambio.simulator.parsing.ParsingException;
 import cambio.simulator.parsing.adapter.MiSimModelReferencingTypeAdapter;
 import cambio.simulator.parsing.adapter.NormalDistributionAdapter;
 import com.google.gson.Gson;
@@ -60,6 +61,11 @@ class MicroserviceAdapter extends MiSimModelReferencingTypeAdapter<Microservice>
             .create();
 
         Microservice microservice = gson.fromJson(root, Microservice.class);
+        if (microservice.getCpuType() == null) {
+            throw new ParsingException(
+                String.format("Unknown cpu type %s of microservice \"%s\".", root.get("cpu_type"),
+                    microserviceName));
+        }
 
         //inject owning microservice into ownerMs field of operations
         try {
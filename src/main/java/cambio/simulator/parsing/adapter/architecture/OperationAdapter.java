@@ -69,6 +69,21 @@ class OperationAdapter extends MiSimModelReferencingTypeAdapter<Operation> {
 
         Operation operation = gson.fromJson(root, Operation.class);
 
+        if (operation.hasCustomTimeout() && operation.getCustomTimeout() <= 0) {
+            throw new ParsingException(
+                String.format("Timeout of operation \"%s\" has to be greater than 0.", name));
+        }
+        if (!(operation.getCpuWeight() > 0)) {
+            throw new ParsingException(
+                String.format("CPU weight of operation \"%s\" has to be greater than 0.", name));
+        }
+        for (DependencyDescription dependency : operation.getDependencyDescriptions()) {
+            if (dependency.hasCustomTimeout() && dependency.getCustomTimeout() <= 0) {
+                throw new ParsingException(
+                    String.format("Timeout of a dependency of operation \"%s\" has to be greater than 0.", name));
+            }
+        }
+
         Collections.addAll(this.dependencies, operation.getDependencyDescriptions());
         try {
             Field parentOperationField = DependencyDescription.class.getDeclaredField("parentOperation");
@@ -2,9 +2,13 @@ package cambio.simulator.parsing.adapter.experiment;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.Arrays;
 
+import cambio.simulator.misc.EventListType;
+import cambio.simulator.models.ConvergenceStopCondition.StoppingCriterion;
 import cambio.simulator.models.ExperimentMetaData;
 import cambio.simulator.parsing.GsonHelper;
+import cambio.simulator.parsing.ParsingException;
 import com.google.gson.Gson;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
@@ -42,27 +46,73 @@ public class ExperimentMetaDataAdapter extends TypeAdapter<ExperimentMetaData> {
     public ExperimentMetaData read(JsonReader in) throws IOException {
         if (in.peek() == JsonToken.BEGIN_OBJECT) {
             Gson gson = GsonHelper.getGson();
-            JsonObject root = JsonParser.parseReader(in).getAsJsonObject();
+
+            // collects the direct (primitive) members of the description, in case it does not contain a member
+            // named like one of the "SIMULATION_METADATA_KEYS". Objects and arrays (e.g. generators or actions) are
+            // skipped without building them.
+            JsonObject root = new JsonObject();
+            JsonObject[] metaDataCandidates = new JsonObject[SIMULATION_METADATA_KEYS.length];
+
+            in.beginObject();
+            while (in.hasNext()) {
+                String name = in.nextName();
+                int keyIndex = Arrays.asList(SIMULATION_METADATA_KEYS).indexOf(name);
+                JsonToken token = in.peek();
+                if (keyIndex >= 0 && token == JsonToken.BEGIN_OBJECT) {
+                    metaDataCandidates[keyIndex] = JsonParser.parseReader(in).getAsJsonObject();
+                } else if (token == JsonToken.BEGIN_OBJECT || token == JsonToken.BEGIN_ARRAY) {
+                    in.skipValue();
+                } else {
+                    root.add(name, JsonParser.parseReader(in));
+                }
+            }
+            in.endObject();
 
             // if contains a member name from "SIMULATION_METADATA_KEYS" ->
             // parse the value of this member into ExperimentMetaData
-            for (String key : SIMULATION_METADATA_KEYS) {
-                if (root.has(key)) {
-                    root = root.get(key).getAsJsonObject();
+            for (JsonObject candidate : metaDataCandidates) {
+                if (candidate != null) {
+                    root = candidate;
                     break;
                 }
             }
 
-            if (!root.has("exp_file_location")) {
+            //descriptions that were not read from files (see HeadlessSimulation) have no locations
+            if (!root.has("exp_file_location") && experimentOrScenarioFileLocation != null) {
                 root.add("exp_file_location", new JsonPrimitive(gson.toJson(experimentOrScenarioFileLocation)));
             }
-            if (!root.has("arch_file_location")) {
+            if (!root.has("arch_file_location") && architectureModelLocation != null) {
                 root.add("arch_file_location", new JsonPrimitive(gson.toJson(architectureModelLocation)));
             }
-            return gson.fromJson(root, ExperimentMetaData.class);
+            ExperimentMetaData metaData = gson.fromJson(root, ExperimentMetaData.class);
+            validate(metaData);
+            return metaData;
         } else {
             in.skipValue();
             return null;
         }
     }
+
+    /**
+     * Rejects options with unknown values, so a misspelled option does not silently fall back to its default.
+     */
+    private static void validate(ExperimentMetaData metaData) {
+        try {
+            EventListType.fromName(metaData.getEventList());
+            if (!"off".equalsIgnoreCase(metaData.getStoppingCriterion())) {
+                StoppingCriterion.fromName(metaData.getStoppingCriterion());
+                if (metaData.getStoppingPrecision() <= 0) {
+                    throw new IllegalArgumentException("The stopping precision has to be greater than 0.");
+                }
+                if (metaData.getStoppingConfidence() <= 0 || metaData.getStoppingConfidence() >= 1) {
+                    throw new IllegalArgumentException("The stopping confidence has to be between 0 and 1.");
+                }
+                if (metaData.getStoppingInterval() <= 0) {
+                    throw new IllegalArgumentException("The stopping interval has to be greater than 0.");
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            throw new ParsingException(e.getMessage(), e);
+        }
+    }
 }
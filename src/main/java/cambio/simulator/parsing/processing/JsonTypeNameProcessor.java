@@ -0,0 +1,292 @@
+package cambio.simulator.parsing.processing;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Annotation processor that generates the {@code JsonTypeNameProvider}s of all {@code @JsonTypeName} annotated types.
+ *
+ * <p>
+ * For each package that contains annotated types a class {@value #PROVIDER_NAME} is generated, that registers the types
+ * with their names, a factory for their {@code (Model, String, boolean)} or no-argument constructor and setters for
+ * all their fields that are accessible from within the package. Generating one provider per package allows to access
+ * package-private types and fields. All providers are listed in {@code META-INF/services}, so they are found by the
+ * {@code JsonTypeRegistry} at runtime.
+ *
+ * <p>
+ * The processor only refers to the parsing classes by name, so it can be compiled before them.
+ *
+ * @author Lion Wagner
+ */
+@SupportedAnnotationTypes(JsonTypeNameProcessor.ANNOTATION)
+public class JsonTypeNameProcessor extends AbstractProcessor {
+
+    static final String ANNOTATION = "cambio.simulator.parsing.JsonTypeName";
+    static final String PROVIDER_INTERFACE = "cambio.simulator.parsing.JsonTypeNameProvider";
+    static final String REGISTRY = "cambio.simulator.parsing.JsonTypeRegistry";
+    static final String PROVIDER_NAME = "GeneratedJsonTypeNames";
+    private static final String MODEL = "desmoj.core.simulator.Model";
+
+    private final Set<String> generatedProviders = new TreeSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            writeServiceFile();
+            return false;
+        }
+
+        TypeElement annotation = processingEnv.getElementUtils().getTypeElement(ANNOTATION);
+        if (annotation == null) {
+            return false;
+        }
+
+        Map<String, List<TypeElement>> typesByPackage = new TreeMap<>();
+        for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+            if (!element.getKind().isClass() || element.getKind() == ElementKind.ENUM) {
+                continue;
+            }
+            TypeElement type = (TypeElement) element;
+            //inner classes cannot be created without an enclosing instance
+            boolean innerClass = type.getNestingKind() == NestingKind.MEMBER
+                && !type.getModifiers().contains(Modifier.STATIC);
+            if (innerClass || !isAccessibleFromPackage(type)) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                    "Type is not accessible from its package and will be resolved by classpath scanning.", type);
+                continue;
+            }
+            typesByPackage.computeIfAbsent(getPackageName(type), key -> new ArrayList<>()).add(type);
+        }
+
+        for (Map.Entry<String, List<TypeElement>> entry : typesByPackage.entrySet()) {
+            String providerName = entry.getKey().isEmpty() ? PROVIDER_NAME : entry.getKey() + "." + PROVIDER_NAME;
+            if (generatedProviders.contains(providerName)) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                    "Provider " + providerName + " was already generated in an earlier round.");
+                continue;
+            }
+            writeProvider(providerName, entry.getKey(), entry.getValue(), annotation);
+            generatedProviders.add(providerName);
+        }
+        return false;
+    }
+
+    private void writeProvider(String providerName, String packageName, List<TypeElement> types,
+                               TypeElement annotation) {
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("/**\n")
+            .append(" * Registers the json types of this package. Generated by ")
+            .append(getClass().getName()).append(", do not edit.\n")
+            .append(" */\n")
+            .append("@SuppressWarnings({\"unchecked\", \"rawtypes\"})\n")
+            .append("public final class ").append(PROVIDER_NAME).append(" implements ").append(PROVIDER_INTERFACE)
+            .append(" {\n\n")
+            .append("    @Override\n")
+            .append("    public void registerTypes(").append(REGISTRY).append(" registry) {\n");
+
+        for (TypeElement type : types) {
+            String typeName = type.getQualifiedName().toString();
+            List<String> names = getTypeNames(type, annotation);
+            if (names.isEmpty()) {
+                continue;
+            }
+            source.append("        registry.register(").append(typeName).append(".class");
+            for (String name : names) {
+                source.append(", ").append(quote(name));
+            }
+            source.append(");\n");
+
+            if (!type.getModifiers().contains(Modifier.ABSTRACT)) {
+                appendFactories(source, type, typeName);
+            }
+            appendFieldSetters(source, type, typeName, packageName);
+        }
+        source.append("    }\n}\n");
+
+        try (Writer writer = processingEnv.getFiler().createSourceFile(providerName, types.toArray(new Element[0]))
+            .openWriter()) {
+            writer.write(source.toString());
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                "Could not write " + providerName + ": " + e.getMessage());
+        }
+    }
+
+    private void appendFactories(StringBuilder source, TypeElement type, String typeName) {
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+            if (constructor.getModifiers().contains(Modifier.PRIVATE) || !constructor.getThrownTypes().isEmpty()) {
+                continue;
+            }
+            List<? extends VariableElement> parameters = constructor.getParameters();
+            if (parameters.isEmpty()) {
+                source.append("        registry.registerFactory(").append(typeName).append(".class, () -> new ")
+                    .append(typeName).append("());\n");
+            } else if (parameters.size() == 3
+                && isType(parameters.get(0).asType(), MODEL)
+                && isType(parameters.get(1).asType(), String.class.getName())
+                && parameters.get(2).asType().getKind() == TypeKind.BOOLEAN) {
+                source.append("        registry.registerEntityFactory(").append(typeName)
+                    .append(".class, (model, name, showInTrace) -> new ").append(typeName)
+                    .append("(model, name, showInTrace));\n");
+            }
+        }
+    }
+
+    private void appendFieldSetters(StringBuilder source, TypeElement type, String typeName, String packageName) {
+        Set<String> seenFields = new HashSet<>();
+        TypeElement current = type;
+        while (current != null && !current.getQualifiedName().contentEquals(Object.class.getName())) {
+            boolean samePackage = getPackageName(current).equals(packageName);
+            for (VariableElement field : ElementFilter.fieldsIn(current.getEnclosedElements())) {
+                String fieldName = field.getSimpleName().toString();
+                //fields of sub classes shadow fields of super classes, like in reflective lookups
+                if (!seenFields.add(fieldName)) {
+                    continue;
+                }
+                Set<Modifier> modifiers = field.getModifiers();
+                if (modifiers.contains(Modifier.STATIC) || modifiers.contains(Modifier.FINAL)
+                    || modifiers.contains(Modifier.PRIVATE)) {
+                    continue;
+                }
+                boolean accessible = samePackage
+                    || (modifiers.contains(Modifier.PUBLIC) && current.getModifiers().contains(Modifier.PUBLIC));
+                //resolves type variables of generic super classes, e.g. the strategy type of a pattern
+                TypeMirror fieldType = processingEnv.getTypeUtils().erasure(
+                    processingEnv.getTypeUtils().asMemberOf((DeclaredType) type.asType(), field));
+                if (!accessible || !isAccessibleFrom(fieldType, packageName)) {
+                    continue;
+                }
+                source.append("        registry.registerFieldSetter(").append(typeName).append(".class, ")
+                    .append(quote(fieldName)).append(", (target, value) -> ((").append(typeName).append(") target).")
+                    .append(fieldName).append(" = (").append(fieldType).append(") value);\n");
+            }
+            TypeMirror superclass = current.getSuperclass();
+            current = superclass.getKind() == TypeKind.DECLARED
+                ? (TypeElement) ((DeclaredType) superclass).asElement()
+                : null;
+        }
+    }
+
+    private List<String> getTypeNames(TypeElement type, TypeElement annotation) {
+        List<String> names = new ArrayList<>();
+        for (AnnotationMirror mirror : type.getAnnotationMirrors()) {
+            if (!processingEnv.getTypeUtils().isSameType(mirror.getAnnotationType(), annotation.asType())) {
+                continue;
+            }
+            Map<String, Object> values = new LinkedHashMap<>();
+            for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+                : processingEnv.getElementUtils().getElementValuesWithDefaults(mirror).entrySet()) {
+                values.put(entry.getKey().getSimpleName().toString(), entry.getValue().getValue());
+            }
+            names.add((String) values.get("value"));
+            Object alternativeNames = values.get("alternativeNames");
+            if (alternativeNames instanceof List) {
+                for (Object alternativeName : (List<?>) alternativeNames) {
+                    names.add((String) ((AnnotationValue) alternativeName).getValue());
+                }
+            }
+        }
+        return names;
+    }
+
+    private void writeServiceFile() {
+        if (generatedProviders.isEmpty()) {
+            return;
+        }
+        try {
+            FileObject file = processingEnv.getFiler()
+                .createResource(StandardLocation.CLASS_OUTPUT, "", "META-INF/services/" + PROVIDER_INTERFACE);
+            try (Writer writer = file.openWriter()) {
+                for (String provider : generatedProviders) {
+                    writer.write(provider);
+                    writer.write("\n");
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                "Could not write the service file of the json type providers: " + e.getMessage());
+        }
+    }
+
+    private boolean isType(TypeMirror type, String qualifiedName) {
+        return type.getKind() == TypeKind.DECLARED
+            && ((TypeElement) ((DeclaredType) type).asElement()).getQualifiedName().contentEquals(qualifiedName);
+    }
+
+    //checks whether a type (and all its enclosing types) can be referenced from within its own package
+    private boolean isAccessibleFromPackage(TypeElement type) {
+        return isAccessibleFrom(type, getPackageName(type));
+    }
+
+    private boolean isAccessibleFrom(TypeMirror type, String packageName) {
+        if (type.getKind() == TypeKind.ARRAY) {
+            return isAccessibleFrom(((ArrayType) type).getComponentType(), packageName);
+        }
+        if (type.getKind() != TypeKind.DECLARED) {
+            return type.getKind().isPrimitive();
+        }
+        return isAccessibleFrom((TypeElement) ((DeclaredType) type).asElement(), packageName);
+    }
+
+    private boolean isAccessibleFrom(TypeElement type, String packageName) {
+        Element current = type;
+        while (current instanceof TypeElement) {
+            Set<Modifier> modifiers = current.getModifiers();
+            if (modifiers.contains(Modifier.PRIVATE)) {
+                return false;
+            }
+            if (!modifiers.contains(Modifier.PUBLIC) && !getPackageName((TypeElement) current).equals(packageName)) {
+                return false;
+            }
+            current = current.getEnclosingElement();
+        }
+        return true;
+    }
+
+    private String getPackageName(TypeElement type) {
+        PackageElement packageElement = processingEnv.getElementUtils().getPackageOf(type);
+        return packageElement.getQualifiedName().toString();
+    }
+
+    private static String quote(String value) {
+        return "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+    }
+}
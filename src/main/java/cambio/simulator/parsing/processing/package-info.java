@@ -0,0 +1,5 @@
+/**
+ * Contains the annotation processor that generates the json type registry at compile time.
+ */
+
+package cambio.simulator.parsing.processing;
@@ -5,12 +5,18 @@ import java.util.Objects;
 import java.util.Set;
 
 import cambio.simulator.entities.NamedExternalEvent;
+import cambio.simulator.entities.TransientNames;
 import cambio.simulator.entities.microservice.MicroserviceInstance;
+import cambio.simulator.entities.networking.Request;
 import cambio.simulator.export.MultiDataPointReporter;
+import cambio.simulator.misc.ObjectPool;
+import cambio.simulator.misc.ObjectPools;
+import cambio.simulator.models.MiSimModel;
 import cambio.simulator.resources.cpu.scheduling.CPUProcessScheduler;
 import cambio.simulator.resources.cpu.scheduling.RoundRobinScheduler;
 import co.paralleluniverse.fibers.SuspendExecution;
 import desmoj.core.simulator.Model;
+import desmoj.core.simulator.TimeInstant;
 import desmoj.core.simulator.TimeSpan;
 import org.javatuples.Pair;
 
@@ -21,6 +27,11 @@ import org.javatuples.Pair;
  * <p>
  * The CPU implementation supports multithreading with a thread pool size and multiple scheduling strategies.
  *
+ * <p>
+ * If object pooling is turned on (see {@link ObjectPools}), the {@link CPUProcess}es, {@link
+ * ComputationBurstCompletedEvent}s and {@link ComputationCompletedEvent}s of all CPUs of a model are recycled. Pooled
+ * events are named by their type.
+ *
  * @author Lion Wagner
  * @see CPUProcess
  * @see CPUProcessScheduler
@@ -28,16 +39,19 @@ import org.javatuples.Pair;
  */
 public class CPU extends NamedExternalEvent {
 
-    private static final int DEFAULT_THREADPOOLSIZE = 100;
+    static final int DEFAULT_THREADPOOLSIZE = 100;
 
-    private final MultiDataPointReporter reporter;
+    protected final MultiDataPointReporter reporter;
 
 
-    private final MicroserviceInstance owner;
-    private final CPUProcessScheduler scheduler;
-    private final double capacityPerThread; //computation capacity of one thread in one (1.0) simulation time unit
-    private final int threadPoolSize; //counts the current size of the thread pool, just in case its atomic
+    protected final MicroserviceInstance owner;
+    protected final CPUProcessScheduler scheduler;
+    protected final double capacityPerThread; //computation capacity of one thread in one (1.0) simulation time unit
+    protected final int threadPoolSize; //counts the current size of the thread pool, just in case its atomic
     private final Set<CPUProcess> activeProcesses;
+    private final ObjectPool<CPUProcess> processPool;
+    private final ObjectPool<ComputationBurstCompletedEvent> burstEventPool;
+    private final ObjectPool<ComputationCompletedEvent> completionEventPool;
 
     /**
      * Constructs a new CPU with a default Round-Robin scheduler and a default thread pool size of {@code
@@ -99,7 +113,80 @@ public class CPU extends NamedExternalEvent {
         activeProcesses = new HashSet<>(threadPoolSize);
 
         String[] names = name.split("_");
-        reporter = new MultiDataPointReporter(String.format("C%s_[%s]_", names[0], names[1]));
+        reporter = new MultiDataPointReporter(String.format("C%s_[%s]_", names[0], names[1]), model);
+
+        ObjectPools pools = model instanceof MiSimModel ? ((MiSimModel) model).getObjectPools() : null;
+        if (pools != null) {
+            processPool = pools.getPool(CPUProcess.class, pool -> new CPUProcess());
+            burstEventPool = pools.getPool(ComputationBurstCompletedEvent.class,
+                pool -> new ComputationBurstCompletedEvent(model, "ComputationBurst", false, pool));
+            completionEventPool = pools.getPool(ComputationCompletedEvent.class,
+                pool -> new ComputationCompletedEvent(model, "ComputationEnd", model.traceIsOn(), pool));
+        } else {
+            processPool = null;
+            burstEventPool = null;
+            completionEventPool = null;
+        }
+    }
+
+    /**
+     * Creates a new process that computes the given request. The process is taken from the process pool of the model if
+     * pooling is turned on.
+     *
+     * @param request {@link Request} that should be represented by the process
+     * @return a process for the given request, that can be submitted to this CPU
+     * @see #submitProcess(CPUProcess)
+     */
+    public CPUProcess createProcess(Request request) {
+        if (processPool == null) {
+            return new CPUProcess(request);
+        }
+        CPUProcess process = processPool.acquire();
+        process.init(request);
+        return process;
+    }
+
+    /**
+     * Returns a finished process to the process pool, if it was taken from there.
+     */
+    void releaseProcess(CPUProcess process) {
+        if (processPool != null && process.isPooled()) {
+            processPool.release(process);
+        }
+    }
+
+    /**
+     * Creates the event that marks the end of the computation of the given request.
+     */
+    ComputationCompletedEvent createCompletionEvent(Request request) {
+        if (completionEventPool != null) {
+            return completionEventPool.acquire();
+        }
+        return new ComputationCompletedEvent(getModel(),
+            TransientNames.of(getModel(), "ComputationEnd",
+                () -> String.format("ComputationEnd %s", request.getQuotedPlainName())),
+            getModel().traceIsOn());
+    }
+
+    private ComputationBurstCompletedEvent createBurstEvent(CPUProcess process, int demand) {
+        if (burstEventPool != null) {
+            ComputationBurstCompletedEvent event = burstEventPool.acquire();
+            //the pool is shared by all CPUs of the model, so the trace setting has to be applied on each acquisition
+            if (traceIsOn()) {
+                event.traceOn();
+            } else {
+                event.traceOff();
+            }
+            event.init(process, this, demand);
+            return event;
+        }
+        return new ComputationBurstCompletedEvent(getModel(),
+            TransientNames.of(getModel(), "ComputationBurst",
+                () -> String.format("Computation burst finished of %s", process.getRequest().getQuotedPlainName())),
+            debugIsOn(),
+            process,
+            this,
+            demand);
     }
 
     /**
@@ -145,13 +232,7 @@ public class CPU extends NamedExternalEvent {
             nextProcess.stampCurrentBurstStarted(presentTime());
             TimeSpan processBurstDuration = new TimeSpan(nextTotalDemand / capacityPerThread);
 
-            ComputationBurstCompletedEvent endEvent = new ComputationBurstCompletedEvent(getModel(),
-                String.format("Computation burst finished of %s",
-                    nextProcess.getRequest().getQuotedPlainName()),
-                debugIsOn(),
-                nextProcess,
-                this,
-                nextTotalDemand);
+            ComputationBurstCompletedEvent endEvent = createBurstEvent(nextProcess, nextTotalDemand);
             endEvent.schedule(processBurstDuration);
             activeProcesses.add(nextProcess);
         }
@@ -177,7 +258,7 @@ public class CPU extends NamedExternalEvent {
         Objects.requireNonNull(process);
 
         if (process.getDemandRemainder() > 0) { //if process is not finished reschedule it
-            sendTraceNote(String.format("Burst for process of %s completed, but has %d demand remaining",
+            sendTraceNote(() -> String.format("Burst for process of %s completed, but has %d demand remaining",
                 process.getRequest().getName(), process.getDemandRemainder()));
             scheduler.enterProcess(process);
         }
@@ -221,9 +302,11 @@ public class CPU extends NamedExternalEvent {
      */
     public double getCurrentRelativeWorkDemand() {
         int totalQueuedWorkRemainder = scheduler.getTotalWorkDemand();
-        double activeWorkRemainder =
-            activeProcesses.stream().mapToDouble(value -> value.getDemandRemainder(presentTime(), capacityPerThread))
-                .sum();
+        double activeWorkRemainder = 0;
+        TimeInstant now = presentTime();
+        for (CPUProcess activeProcess : activeProcesses) {
+            activeWorkRemainder += activeProcess.getDemandRemainder(now, capacityPerThread);
+        }
         double workTotal = totalQueuedWorkRemainder + activeWorkRemainder;
         return workTotal / (threadPoolSize * capacityPerThread);
     }
@@ -233,10 +316,24 @@ public class CPU extends NamedExternalEvent {
     }
 
     /**
-     * Forcibly stops all currently running and scheduled processes.
+     * Forcibly stops all currently running and scheduled processes. Pooled processes are returned to their pool.
      */
     public synchronized void clear() {
-        activeProcesses.forEach(CPUProcess::cancel);
+        for (CPUProcess process : activeProcesses) {
+            process.cancel();
+            releaseProcess(process);
+        }
+        activeProcesses.clear();
+        releaseQueuedProcesses();
+    }
+
+    /**
+     * Empties the scheduler and returns all processes that were waiting in it to the process pool.
+     */
+    void releaseQueuedProcesses() {
+        while (scheduler.hasProcessesToSchedule()) {
+            releaseProcess(scheduler.retrieveNextProcessNoReschedule().getValue0());
+        }
         scheduler.clear();
     }
 
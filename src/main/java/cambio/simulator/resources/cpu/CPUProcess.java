@@ -1,6 +1,7 @@
 package cambio.simulator.resources.cpu;
 
 import cambio.simulator.entities.networking.Request;
+import cambio.simulator.misc.IRecyclable;
 import desmoj.core.simulator.TimeInstant;
 
 /**
@@ -13,11 +14,16 @@ import desmoj.core.simulator.TimeInstant;
  * <p>
  * For the purpose of compatibility (e.g. non impacting operations) a demand of {@code 0} is allowed.
  *
+ * <p>
+ * If object pooling is turned on, processes are provided and recycled by their {@link CPU}, see {@link
+ * CPU#createProcess(Request)}.
+ *
  * @author Lion Wagner
  */
-public final class CPUProcess implements Comparable<CPUProcess> {
-    private final int demandTotal;
-    private final Request request;
+public final class CPUProcess implements Comparable<CPUProcess>, IRecyclable {
+    private final boolean pooled;
+    private int demandTotal;
+    private Request request;
     private TimeInstant startOfCurrentBurst;
     private int demandRemainder;
     private ComputationBurstCompletedEvent currentBurstCompletionEvent;
@@ -42,6 +48,31 @@ public final class CPUProcess implements Comparable<CPUProcess> {
 
 
     private CPUProcess(int demand, Request request) {
+        this.pooled = false;
+        init(demand, request);
+    }
+
+    /**
+     * Creates an empty process for an object pool.
+     */
+    CPUProcess() {
+        this.pooled = true;
+    }
+
+    boolean isPooled() {
+        return pooled;
+    }
+
+    /**
+     * (Re-)initializes this process for the given request.
+     *
+     * @param request {@link Request} that should be represent by this process.
+     */
+    void init(Request request) {
+        init(request.operation.getDemand(), request);
+    }
+
+    private void init(int demand, Request request) {
         if (demand < 0) {
             throw new IllegalArgumentException("Demand has to be 0 or greater");
         }
@@ -50,6 +81,15 @@ public final class CPUProcess implements Comparable<CPUProcess> {
         this.request = request;
     }
 
+    @Override
+    public void reset() {
+        demandTotal = 0;
+        demandRemainder = 0;
+        request = null;
+        startOfCurrentBurst = null;
+        currentBurstCompletionEvent = null;
+    }
+
     public int getDemandTotal() {
         return demandTotal;
     }
@@ -119,11 +159,12 @@ public final class CPUProcess implements Comparable<CPUProcess> {
     }
 
     /**
-     * Cancels the current Burst of the this process and reset its progress.
+     * Cancels the current Burst of the this process and reset its progress. A pooled burst completion event is
+     * returned to its pool.
      */
     public void cancel() {
         if (currentBurstCompletionEvent != null) {
-            currentBurstCompletionEvent.cancel();
+            currentBurstCompletionEvent.discard();
         }
     }
 
@@ -136,4 +177,8 @@ public final class CPUProcess implements Comparable<CPUProcess> {
     public void setCurrentBurstCompletionEvent(ComputationBurstCompletedEvent currentBurstCompletionEvent) {
         this.currentBurstCompletionEvent = currentBurstCompletionEvent;
     }
+
+    ComputationBurstCompletedEvent getCurrentBurstCompletionEvent() {
+        return currentBurstCompletionEvent;
+    }
 }
@@ -0,0 +1,55 @@
+package cambio.simulator.resources.cpu;
+
+import cambio.simulator.entities.microservice.MicroserviceInstance;
+import cambio.simulator.resources.cpu.scheduling.FIFOScheduler;
+import com.google.gson.annotations.SerializedName;
+import desmoj.core.simulator.Model;
+
+/**
+ * Types of CPU models that can be assigned to a microservice via its {@code cpu_type} property.
+ *
+ * @author Lion Wagner
+ * @see CPU
+ * @see ProcessorSharingCPU
+ */
+public enum CPUType {
+    /**
+     * Each process is computed in bursts on its own thread, see {@link CPU}. Each burst is a separate event.
+     */
+    @SerializedName(value = "burst", alternate = {"threads", "default"})
+    BURST,
+    /**
+     * All running processes share the CPU equally, see {@link ProcessorSharingCPU}.
+     */
+    @SerializedName(value = "ps", alternate = {"processor_sharing", "egalitarian_processor_sharing"})
+    PROCESSOR_SHARING,
+    /**
+     * All running processes share the CPU proportional to the cpu weight of their operations, see {@link
+     * ProcessorSharingCPU}.
+     */
+    @SerializedName(value = "dps", alternate = "discriminatory_processor_sharing")
+    DISCRIMINATORY_PROCESSOR_SHARING;
+
+    /**
+     * Creates a new CPU of this type. Processes that cannot be started immediately are queued in FIFO order.
+     *
+     * @param model       parent and simulation model
+     * @param name        CPU name, should be formatted {}_{}
+     * @param showInTrace whether the computation events should be shown in the trace
+     * @param capacity    total capacity of the cpu resource
+     * @param owner       instance that owns the cpu
+     * @return a new cpu of this type
+     */
+    public CPU createCPU(Model model, String name, boolean showInTrace, int capacity, MicroserviceInstance owner) {
+        switch (this) {
+            case PROCESSOR_SHARING:
+            case DISCRIMINATORY_PROCESSOR_SHARING:
+                return new ProcessorSharingCPU(model, name, showInTrace, owner, capacity,
+                    new FIFOScheduler("Scheduler"), CPU.DEFAULT_THREADPOOLSIZE,
+                    this == DISCRIMINATORY_PROCESSOR_SHARING);
+            case BURST:
+            default:
+                return new CPU(model, name, showInTrace, capacity, new FIFOScheduler("Scheduler"), owner);
+        }
+    }
+}
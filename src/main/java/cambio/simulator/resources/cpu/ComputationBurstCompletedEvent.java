@@ -2,6 +2,8 @@ package cambio.simulator.resources.cpu;
 
 import cambio.simulator.entities.NamedExternalEvent;
 import cambio.simulator.entities.networking.Request;
+import cambio.simulator.misc.IRecyclable;
+import cambio.simulator.misc.ObjectPool;
 import co.paralleluniverse.fibers.SuspendExecution;
 import desmoj.core.simulator.Model;
 
@@ -15,12 +17,16 @@ import desmoj.core.simulator.Model;
  * Fires a {@link ComputationCompletedEvent} automatically if the {@link CPUProcess} was finished with the current
  * burst.
  *
+ * <p>
+ * Pooled events return themselves (and their finished process) to their pools after their execution.
+ *
  * @author Lion Wagner
  */
-public class ComputationBurstCompletedEvent extends NamedExternalEvent {
-    private final CPUProcess endingProcess;
-    private final CPU owner;
-    private final int completedDemand;
+public class ComputationBurstCompletedEvent extends NamedExternalEvent implements IRecyclable {
+    private final ObjectPool<ComputationBurstCompletedEvent> pool;
+    private CPUProcess endingProcess;
+    private CPU owner;
+    private int completedDemand;
 
     /**
      * Constructs a new {@link ComputationBurstCompletedEvent}.
@@ -32,12 +38,51 @@ public class ComputationBurstCompletedEvent extends NamedExternalEvent {
     public ComputationBurstCompletedEvent(Model model, String name, boolean showInTrace, CPUProcess endingProcess,
                                           CPU owner, int completedDemand) {
         super(model, name, showInTrace);
+        this.pool = null;
+        init(endingProcess, owner, completedDemand);
+    }
+
+    /**
+     * Constructs a new, uninitialized {@link ComputationBurstCompletedEvent} for the given pool.
+     */
+    ComputationBurstCompletedEvent(Model model, String name, boolean showInTrace,
+                                   ObjectPool<ComputationBurstCompletedEvent> pool) {
+        super(model, name, showInTrace);
+        this.pool = pool;
+    }
+
+    /**
+     * (Re-)initializes this event for the next burst of the given process.
+     */
+    void init(CPUProcess endingProcess, CPU owner, int completedDemand) {
         this.endingProcess = endingProcess;
         this.owner = owner;
         this.completedDemand = completedDemand;
         this.endingProcess.setCurrentBurstCompletionEvent(this);
     }
 
+    /**
+     * Cancels this event if it is scheduled and returns it to its pool, if it was taken from there.
+     */
+    void discard() {
+        if (isScheduled()) {
+            cancel();
+        }
+        if (pool != null) {
+            pool.release(this);
+        }
+    }
+
+    @Override
+    public void reset() {
+        if (endingProcess != null && endingProcess.getCurrentBurstCompletionEvent() == this) {
+            endingProcess.setCurrentBurstCompletionEvent(null);
+        }
+        endingProcess = null;
+        owner = null;
+        completedDemand = 0;
+    }
+
     @Override
     public void eventRoutine() throws SuspendExecution {
 
@@ -49,10 +94,12 @@ public class ComputationBurstCompletedEvent extends NamedExternalEvent {
         if (endingProcess.getDemandRemainder() <= 0) {
             //notify the request that its computation finished
             Request request = endingProcess.getRequest();
-            ComputationCompletedEvent completionEvent = new ComputationCompletedEvent(getModel(),
-                String.format("ComputationEnd %s", request.getQuotedPlainName()),
-                getModel().traceIsOn());
-            completionEvent.schedule(request, presentTime());
+            owner.createCompletionEvent(request).schedule(request, presentTime());
+            owner.releaseProcess(endingProcess);
+        }
+
+        if (pool != null) {
+            pool.release(this);
         }
     }
 }
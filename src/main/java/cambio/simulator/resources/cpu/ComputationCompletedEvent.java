@@ -1,6 +1,8 @@
 package cambio.simulator.resources.cpu;
 
 import cambio.simulator.entities.networking.Request;
+import cambio.simulator.misc.IRecyclable;
+import cambio.simulator.misc.ObjectPool;
 import co.paralleluniverse.fibers.SuspendExecution;
 import desmoj.core.simulator.Event;
 import desmoj.core.simulator.Model;
@@ -9,24 +11,43 @@ import desmoj.core.simulator.Model;
  * Marks the end of the last computation burst of a thread.
  *
  * <p>
- * On execution, it resubmits the computed request at its handler.
+ * On execution, it resubmits the computed request at its handler. Pooled events return themselves to their pool
+ * afterwards.
  *
  * @author Lion Wagner
  * @see ComputationBurstCompletedEvent
  * @see CPU
  * @see CPUProcess
  */
-public class ComputationCompletedEvent extends Event<Request> {
+public class ComputationCompletedEvent extends Event<Request> implements IRecyclable {
+
+    private final ObjectPool<ComputationCompletedEvent> pool;
 
     public ComputationCompletedEvent(Model model, String name, boolean showInTrace) {
+        this(model, name, showInTrace, null);
+    }
+
+    ComputationCompletedEvent(Model model, String name, boolean showInTrace,
+                              ObjectPool<ComputationCompletedEvent> pool) {
         super(model, name, showInTrace);
+        this.pool = pool;
     }
 
     @Override
     public void eventRoutine(Request request) throws SuspendExecution {
-        sendTraceNote(String.format("Request %s was computed.", request.getQuotedName()));
+        if (currentlySendTraceNotes()) {
+            sendTraceNote(String.format("Request %s was computed.", request.getQuotedName()));
+        }
         request.setComputationCompleted();
         request.getHandler().handle(request); //resubmitting itself for further handling
+        if (pool != null) {
+            pool.release(this);
+        }
+    }
+
+    @Override
+    public void reset() {
+        //the request is passed on scheduling, so there is no state to reset
     }
 
 }
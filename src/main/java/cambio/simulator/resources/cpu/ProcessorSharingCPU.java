@@ -0,0 +1,230 @@
+package cambio.simulator.resources.cpu;
+
+import java.util.PriorityQueue;
+
+import cambio.simulator.entities.microservice.MicroserviceInstance;
+import cambio.simulator.entities.networking.Request;
+import cambio.simulator.resources.cpu.scheduling.CPUProcessScheduler;
+import co.paralleluniverse.fibers.SuspendExecution;
+import desmoj.core.simulator.Model;
+import desmoj.core.simulator.TimeSpan;
+
+/**
+ * CPU that is shared analytically between all running processes (processor sharing).
+ *
+ * <p>
+ * Up to {@code threadPoolSize} processes run at the same time. Together they receive the total capacity of the CPU,
+ * either in equal parts (egalitarian processor sharing) or proportional to the {@link
+ * cambio.simulator.entities.microservice.Operation#getCpuWeight() cpu weight} of their operation (discriminatory
+ * processor sharing). Further processes are queued in the given scheduler until a thread becomes available.
+ *
+ * <p>
+ * Instead of scheduling one event per computation burst, the CPU keeps a virtual time that advances by the service
+ * each running process received per unit of weight. Each running process is tagged with the virtual time at which it
+ * will be finished. Hence, the remaining demand of all processes is known at any point in time without updating them,
+ * and the CPU itself is the only event that needs to be scheduled: it fires at the next completion.
+ *
+ * @author Lion Wagner
+ * @see CPUType
+ */
+public class ProcessorSharingCPU extends CPU {
+
+    //relative tolerance for finishing multiple processes at once
+    private static final double COMPLETION_TOLERANCE = 1e-9;
+
+    private final boolean weighted;
+    private final double totalCapacity;
+    private final PriorityQueue<SharedProcess> runningProcesses;
+
+    private double virtualTime = 0;
+    private double lastUpdate = 0; //simulation time of the last virtual time update
+    private double totalWeight = 0;
+    private double weightedFinishTagSum = 0;
+    private long admissionCounter = 0;
+
+    /**
+     * Constructs a new processor sharing CPU.
+     *
+     * @param model          parent and simulation model
+     * @param name           CPU name, should be formatted {}_{}
+     * @param showInTrace    whether the computation events should be shown in the trace
+     * @param owner          instance that owns this cpu
+     * @param capacity       total capacity of the cpu resource, which is shared between all running processes
+     * @param scheduler      scheduler that holds processes that wait for a free thread
+     * @param threadPoolSize maximum number of processes that run at the same time
+     * @param weighted       whether processes should be weighted by the cpu weight of their operation
+     */
+    public ProcessorSharingCPU(Model model, String name, boolean showInTrace, MicroserviceInstance owner, int capacity,
+                               CPUProcessScheduler scheduler, int threadPoolSize, boolean weighted) {
+        super(model, name, showInTrace, owner, capacity, scheduler, threadPoolSize);
+        this.weighted = weighted;
+        this.totalCapacity = capacity;
+        this.runningProcesses = new PriorityQueue<>(Math.min(threadPoolSize, 64));
+    }
+
+    @Override
+    public void submitProcess(CPUProcess process) {
+        advanceVirtualTime();
+        if (runningProcesses.size() < threadPoolSize) {
+            startProcess(process);
+        } else {
+            scheduler.enterProcess(process);
+        }
+        scheduleNextCompletion();
+        reportStatistics();
+    }
+
+    /**
+     * Completes the running process with the lowest finish tag, and all processes that finish at the same time.
+     * Afterwards, waiting processes are started on the freed threads.
+     */
+    @Override
+    public void eventRoutine() throws SuspendExecution {
+        advanceVirtualTime();
+
+        SharedProcess next = runningProcesses.poll();
+        if (next != null) {
+            //this event was scheduled for exactly this completion, so rounding errors of the clock are ignored
+            virtualTime = Math.max(virtualTime, next.finishTag);
+            completeProcess(next);
+        }
+        double tolerance = COMPLETION_TOLERANCE * Math.max(1, virtualTime);
+        while (!runningProcesses.isEmpty() && runningProcesses.peek().finishTag - virtualTime <= tolerance) {
+            completeProcess(runningProcesses.poll());
+        }
+
+        while (runningProcesses.size() < threadPoolSize && scheduler.hasProcessesToSchedule()) {
+            startProcess(scheduler.retrieveNextProcessNoReschedule().getValue0());
+        }
+
+        scheduleNextCompletion();
+        reportStatistics();
+    }
+
+    private void advanceVirtualTime() {
+        double now = presentTime().getTimeAsDouble();
+        virtualTime = getVirtualTime(now);
+        lastUpdate = now;
+    }
+
+    private double getVirtualTime(double time) {
+        if (totalWeight <= 0) {
+            return virtualTime;
+        }
+        return virtualTime + (time - lastUpdate) * totalCapacity / totalWeight;
+    }
+
+    private void startProcess(CPUProcess process) {
+        double weight = weighted ? getWeight(process) : 1;
+        SharedProcess sharedProcess =
+            new SharedProcess(process, weight, virtualTime + process.getDemandRemainder() / weight, admissionCounter++);
+        process.stampCurrentBurstStarted(presentTime());
+        runningProcesses.add(sharedProcess);
+        totalWeight += weight;
+        weightedFinishTagSum += weight * sharedProcess.finishTag;
+    }
+
+    private double getWeight(CPUProcess process) {
+        Request request = process.getRequest();
+        return request == null ? 1 : request.operation.getCpuWeight();
+    }
+
+    private void completeProcess(SharedProcess sharedProcess) {
+        totalWeight -= sharedProcess.weight;
+        weightedFinishTagSum -= sharedProcess.weight * sharedProcess.finishTag;
+
+        CPUProcess process = sharedProcess.process;
+        process.reduceDemandRemainder(process.getDemandRemainder());
+
+        Request request = process.getRequest();
+        if (request != null) {
+            createCompletionEvent(request).schedule(request, presentTime());
+        }
+        releaseProcess(process);
+    }
+
+    private void scheduleNextCompletion() {
+        SharedProcess next = runningProcesses.peek();
+        if (next == null) {
+            //idle, restart the virtual clock to avoid accumulating rounding errors
+            virtualTime = 0;
+            totalWeight = 0;
+            weightedFinishTagSum = 0;
+            if (isScheduled()) {
+                cancel();
+            }
+            return;
+        }
+
+        TimeSpan delay = new TimeSpan(Math.max(0, (next.finishTag - virtualTime) * totalWeight / totalCapacity));
+        if (isScheduled()) {
+            reSchedule(delay);
+        } else {
+            schedule(delay);
+        }
+    }
+
+    private void reportStatistics() {
+        reporter.addDatapoint("ActiveProcesses", presentTime(), runningProcesses.size());
+        reporter.addDatapoint("TotalProcesses", presentTime(), runningProcesses.size() + scheduler.size());
+        reporter.addDatapoint("Usage", presentTime(), getCurrentUsage());
+    }
+
+    /**
+     * Calculates the relative remaining workload demand of this CPU.
+     *
+     * <p>
+     * The remaining demand of each running process is derived from its finish tag and the current virtual time.
+     *
+     * @return the remaining amount of cycles to complete the current workload, relative to the capacity of the CPU
+     */
+    @Override
+    public double getCurrentRelativeWorkDemand() {
+        double now = getVirtualTime(presentTime().getTimeAsDouble());
+        double runningWorkRemainder = Math.max(0, weightedFinishTagSum - now * totalWeight);
+        return (scheduler.getTotalWorkDemand() + runningWorkRemainder) / totalCapacity;
+    }
+
+    /**
+     * Gets the share of threads that are currently running a process.
+     *
+     * @return the share of occupied threads
+     */
+    @Override
+    public double getCurrentUsage() {
+        return (double) runningProcesses.size() / threadPoolSize;
+    }
+
+    /**
+     * Forcibly stops all currently running and waiting processes. Pooled processes are returned to their pool.
+     */
+    @Override
+    public synchronized void clear() {
+        for (SharedProcess sharedProcess : runningProcesses) {
+            releaseProcess(sharedProcess.process);
+        }
+        runningProcesses.clear();
+        releaseQueuedProcesses();
+        scheduleNextCompletion();
+    }
+
+    private static final class SharedProcess implements Comparable<SharedProcess> {
+        private final CPUProcess process;
+        private final double weight;
+        private final double finishTag;
+        private final long admissionNumber;
+
+        private SharedProcess(CPUProcess process, double weight, double finishTag, long admissionNumber) {
+            this.process = process;
+            this.weight = weight;
+            this.finishTag = finishTag;
+            this.admissionNumber = admissionNumber;
+        }
+
+        @Override
+        public int compareTo(SharedProcess other) {
+            int result = Double.compare(finishTag, other.finishTag);
+            return result != 0 ? result : Long.compare(admissionNumber, other.admissionNumber);
+        }
+    }
+}
@@ -1,6 +1,6 @@
 package cambio.simulator.resources.cpu.scheduling;
 
-import java.util.LinkedList;
+import java.util.ArrayDeque;
 import java.util.Queue;
 
 import cambio.simulator.resources.cpu.CPUProcess;
@@ -17,7 +17,9 @@ import org.javatuples.Pair;
  */
 public class FIFOScheduler extends CPUProcessScheduler {
 
-    private final Queue<CPUProcess> processes = new LinkedList<>();
+    private final Queue<CPUProcess> processes = new ArrayDeque<>();
+    //sum of the demand remainders of all queued processes, at the time they entered
+    private int totalWorkDemand = 0;
 
     public FIFOScheduler(String name) {
         super(name);
@@ -33,6 +35,7 @@ public class FIFOScheduler extends CPUProcessScheduler {
     public synchronized void enterProcess(CPUProcess process) {
         //if (!processes.contains(process))
         processes.add(process);
+        totalWorkDemand += process.getDemandRemainder();
     }
 
     /**
@@ -46,8 +49,9 @@ public class FIFOScheduler extends CPUProcessScheduler {
             return null;
         }
 
-        int demand = processes.peek().getDemandTotal();
-        return new Pair<>(processes.poll(), demand);
+        CPUProcess next = processes.poll();
+        totalWorkDemand -= next.getDemandRemainder();
+        return new Pair<>(next, next.getDemandTotal());
     }
 
     /**
@@ -77,7 +81,7 @@ public class FIFOScheduler extends CPUProcessScheduler {
      */
     @Override
     public int getTotalWorkDemand() {
-        return processes.stream().mapToInt(CPUProcess::getDemandRemainder).sum();
+        return totalWorkDemand;
     }
 
     /**
@@ -86,6 +90,7 @@ public class FIFOScheduler extends CPUProcessScheduler {
     @Override
     public void clear() {
         processes.clear();
+        totalWorkDemand = 0;
     }
 
     /**
@@ -1,7 +1,10 @@
 package cambio.simulator.resources.cpu.scheduling;
 
 import java.util.ArrayDeque;
+import java.util.Collections;
 import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Set;
 
 import cambio.simulator.resources.cpu.CPUProcess;
 import org.javatuples.Pair;
@@ -18,6 +21,10 @@ import org.javatuples.Pair;
 public class LIFOScheduler extends CPUProcessScheduler {
 
     private final Deque<CPUProcess> processes = new ArrayDeque<>();
+    //identity based membership, to prevent entering a process twice
+    private final Set<CPUProcess> queuedProcesses = Collections.newSetFromMap(new IdentityHashMap<>());
+    //sum of the demand remainders of all queued processes, at the time they entered
+    private int totalWorkDemand = 0;
 
     public LIFOScheduler(String name) {
         super(name);
@@ -29,8 +36,9 @@ public class LIFOScheduler extends CPUProcessScheduler {
      */
     @Override
     public synchronized void enterProcess(CPUProcess process) {
-        if (!processes.contains(process)) {
+        if (queuedProcesses.add(process)) {
             processes.push(process);
+            totalWorkDemand += process.getDemandRemainder();
         }
     }
 
@@ -43,8 +51,10 @@ public class LIFOScheduler extends CPUProcessScheduler {
             return null;
         }
 
-        int demand = processes.peek().getDemandTotal();
-        return new Pair<>(processes.pop(), demand);
+        CPUProcess next = processes.pop();
+        queuedProcesses.remove(next);
+        totalWorkDemand -= next.getDemandRemainder();
+        return new Pair<>(next, next.getDemandTotal());
     }
 
     /**
@@ -68,7 +78,7 @@ public class LIFOScheduler extends CPUProcessScheduler {
      */
     @Override
     public int getTotalWorkDemand() {
-        return processes.stream().mapToInt(CPUProcess::getDemandRemainder).sum();
+        return totalWorkDemand;
     }
 
     /**
@@ -77,6 +87,8 @@ public class LIFOScheduler extends CPUProcessScheduler {
     @Override
     public void clear() {
         processes.clear();
+        queuedProcesses.clear();
+        totalWorkDemand = 0;
     }
 
     /**
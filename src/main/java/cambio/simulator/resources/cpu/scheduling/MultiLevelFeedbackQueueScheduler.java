@@ -153,7 +153,12 @@ public class MultiLevelFeedbackQueueScheduler extends CPUProcessScheduler {
      */
     @Override
     public boolean hasProcessesToSchedule() {
-        return queues.stream().anyMatch(CPUProcessScheduler::hasProcessesToSchedule);
+        for (RoundRobinScheduler queue : queues) {
+            if (queue.hasProcessesToSchedule()) {
+                return true;
+            }
+        }
+        return false;
     }
 
 
@@ -162,7 +167,11 @@ public class MultiLevelFeedbackQueueScheduler extends CPUProcessScheduler {
      */
     @Override
     public int getTotalWorkDemand() {
-        return queues.stream().mapToInt(RoundRobinScheduler::getTotalWorkDemand).sum();
+        int sum = 0;
+        for (RoundRobinScheduler queue : queues) {
+            sum += queue.getTotalWorkDemand(); //each queue keeps a running sum
+        }
+        return sum;
     }
 
 
@@ -179,7 +188,11 @@ public class MultiLevelFeedbackQueueScheduler extends CPUProcessScheduler {
      */
     @Override
     public int size() {
-        return queues.stream().mapToInt(CPUProcessScheduler::size).sum();
+        int size = 0;
+        for (RoundRobinScheduler queue : queues) {
+            size += queue.size();
+        }
+        return size;
     }
 
 }
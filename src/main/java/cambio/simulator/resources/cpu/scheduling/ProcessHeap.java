@@ -0,0 +1,168 @@
+package cambio.simulator.resources.cpu.scheduling;
+
+import cambio.simulator.resources.cpu.CPUProcess;
+
+/**
+ * Indexed binary heap of {@link CPUProcess}es, ordered by a key that is fixed while an entry is part of the heap.
+ * Entries with equal keys are ordered by their sequence number (lowest first).
+ *
+ * <p>
+ * Each entry knows its position inside the heap. Hence, arbitrary entries can be removed in O(log n). Additionally,
+ * the heap keeps the sum of all keys, so it is available in O(1).
+ *
+ * @author Lion Wagner
+ */
+final class ProcessHeap {
+
+    private final boolean maxHeap;
+    private Entry[] entries = new Entry[16];
+    private int size = 0;
+    private int keySum = 0;
+
+    /**
+     * Creates a new heap.
+     *
+     * @param maxHeap whether the entry with the highest key (instead of the lowest) should be on top
+     */
+    ProcessHeap(boolean maxHeap) {
+        this.maxHeap = maxHeap;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int getKeySum() {
+        return keySum;
+    }
+
+    Entry peek() {
+        return size == 0 ? null : entries[0];
+    }
+
+    void add(Entry entry) {
+        if (entry.heap != null) {
+            throw new IllegalStateException("Entry is already part of a heap.");
+        }
+        if (size == entries.length) {
+            Entry[] grown = new Entry[size * 2];
+            System.arraycopy(entries, 0, grown, 0, size);
+            entries = grown;
+        }
+        entry.heap = this;
+        keySum += entry.key;
+        place(entry, size++);
+        siftUp(entry.heapIndex);
+    }
+
+    Entry poll() {
+        if (size == 0) {
+            return null;
+        }
+        Entry top = entries[0];
+        remove(top);
+        return top;
+    }
+
+    void remove(Entry entry) {
+        if (entry.heap != this) {
+            throw new IllegalArgumentException("Entry is not part of this heap.");
+        }
+        int index = entry.heapIndex;
+        Entry last = entries[--size];
+        entries[size] = null;
+        entry.heap = null;
+        entry.heapIndex = -1;
+        keySum -= entry.key;
+        if (last != entry) {
+            place(last, index);
+            siftDown(index);
+            siftUp(last.heapIndex);
+        }
+    }
+
+    void clear() {
+        for (int i = 0; i < size; i++) {
+            entries[i].heap = null;
+            entries[i].heapIndex = -1;
+            entries[i] = null;
+        }
+        size = 0;
+        keySum = 0;
+    }
+
+    //true if the first entry should be closer to the top than the second one
+    private boolean isAbove(Entry first, Entry second) {
+        if (first.key != second.key) {
+            return maxHeap ? first.key > second.key : first.key < second.key;
+        }
+        return first.sequence < second.sequence;
+    }
+
+    private void place(Entry entry, int index) {
+        entries[index] = entry;
+        entry.heapIndex = index;
+    }
+
+    private void siftUp(int index) {
+        Entry entry = entries[index];
+        while (index > 0) {
+            int parentIndex = (index - 1) >>> 1;
+            Entry parent = entries[parentIndex];
+            if (!isAbove(entry, parent)) {
+                break;
+            }
+            place(parent, index);
+            index = parentIndex;
+        }
+        place(entry, index);
+    }
+
+    private void siftDown(int index) {
+        Entry entry = entries[index];
+        int half = size >>> 1;
+        while (index < half) {
+            int childIndex = 2 * index + 1;
+            Entry child = entries[childIndex];
+            int rightIndex = childIndex + 1;
+            if (rightIndex < size && isAbove(entries[rightIndex], child)) {
+                childIndex = rightIndex;
+                child = entries[childIndex];
+            }
+            if (!isAbove(child, entry)) {
+                break;
+            }
+            place(child, index);
+            index = childIndex;
+        }
+        place(entry, index);
+    }
+
+    /**
+     * Entry of a {@link ProcessHeap}. Can be part of at most one heap at a time.
+     */
+    static class Entry {
+        final CPUProcess process;
+        int key;
+        long sequence;
+        //position data, managed by the heap
+        private ProcessHeap heap;
+        private int heapIndex = -1;
+
+        Entry(CPUProcess process) {
+            this.process = process;
+        }
+
+        boolean isInHeap() {
+            return heap != null;
+        }
+
+        ProcessHeap getHeap() {
+            return heap;
+        }
+    }
+}
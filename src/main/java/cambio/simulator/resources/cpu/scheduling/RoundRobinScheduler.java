@@ -1,11 +1,7 @@
 package cambio.simulator.resources.cpu.scheduling;
 
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.HashSet;
-import java.util.LinkedList;
 import java.util.List;
-import java.util.Queue;
 
 import cambio.simulator.resources.cpu.CPUProcess;
 import org.javatuples.Pair;
@@ -28,6 +24,12 @@ import org.javatuples.Pair;
  * <p>
  * Keeps processes in order (first come first serve). And ensures fairness.
  *
+ * <p>
+ * The queued processes are kept in an intrusive linked list. Additionally, their demand remainders are tracked in two
+ * heaps (the lower half in a max-heap, the upper half in a min-heap), so the median is available in O(1) and each
+ * scheduling decision costs O(log n). Processes only enter the heaps when the quantum is updated, because their
+ * remainder may still be reduced by the caller after they were (re-)entered.
+ *
  * @author Lion Wagner
  * @see <a href=https://www.researchgate.net/publication/40832774_Self-Adjustment_Time_Quantum_in_Round_Robin_Algorithm_Depending_on_Burst_Time_of_the_Now_Running_Processes>SARR
  *     algorithm</a>
@@ -39,8 +41,15 @@ public final class RoundRobinScheduler extends CPUProcessScheduler {
     //made dynamic at some point.
     private static final int MINIMUM_QUANTUM = 25;
 
-    private final Queue<CPUProcess> processes = new LinkedList<>();
-    private final HashSet<CPUProcess> executedWithCurrentQuantum = new HashSet<>();
+    private final ProcessHeap lowerHalf = new ProcessHeap(true);
+    private final ProcessHeap upperHalf = new ProcessHeap(false);
+    //queued nodes that were not yet added to the heaps
+    private final List<Node> pendingNodes = new ArrayList<>();
+    private Node head;
+    private Node tail;
+    private int size = 0;
+    //nodes that were retrieved in the current round are stamped with its number
+    private long currentRound = 0;
     private int currentQuantum;
     private boolean updateQuantum = true;
 
@@ -55,10 +64,45 @@ public final class RoundRobinScheduler extends CPUProcessScheduler {
      */
     @Override
     public void enterProcess(CPUProcess process) {
-        processes.add(process);
+        append(new Node(process));
         updateQuantum = true;
     }
 
+    private void append(Node node) {
+        node.next = null;
+        node.queued = true;
+        if (tail == null) {
+            head = node;
+        } else {
+            tail.next = node;
+        }
+        tail = node;
+        size++;
+        if (!node.pending) {
+            node.pending = true;
+            pendingNodes.add(node);
+        }
+    }
+
+    private Node poll() {
+        Node node = head;
+        if (node == null) {
+            return null;
+        }
+        head = node.next;
+        if (head == null) {
+            tail = null;
+        }
+        node.next = null;
+        node.queued = false;
+        size--;
+        if (node.isInHeap()) {
+            node.getHeap().remove(node);
+            rebalance();
+        }
+        return node;
+    }
+
     /**
      * Pulls the next Process to handle and its assigned time/work quantum.
      *
@@ -66,92 +110,131 @@ public final class RoundRobinScheduler extends CPUProcessScheduler {
      */
     @Override
     public Pair<CPUProcess, Integer> retrieveNextProcess() {
+        return retrieveNext(true);
+    }
+
+    /**
+     * Interface used by Multi Level Feedback queues.
+     *
+     * <p>
+     * Does not put the process back into the Queue.
+     *
+     * @return a pair containing the next process to handle and its assigned time quantum.
+     */
+    @Override
+    public Pair<CPUProcess, Integer> retrieveNextProcessNoReschedule() {
+        return retrieveNext(false);
+    }
+
+    private Pair<CPUProcess, Integer> retrieveNext(boolean reschedule) {
         if (updateQuantum) {
             updateQuantum();
         }
 
-        CPUProcess nextProcess = processes.poll();
-        if (nextProcess == null) {
+        Node nextNode = poll();
+        if (nextNode == null) {
             return null;
         }
+        nextNode.executedInRound = currentRound;
 
-        executedWithCurrentQuantum.add(nextProcess);
-
+        CPUProcess nextProcess = nextNode.process;
         int nextDemand = nextProcess.getDemandRemainder();
 
         Pair<CPUProcess, Integer> output;
-        if (nextDemand <= currentQuantum) {
-            output = new Pair<>(nextProcess, nextDemand);
-        } else {
-            processes.add(nextProcess); //put at end of Queue
+        boolean requeue = nextDemand > currentQuantum;
+        if (requeue) {
             output = new Pair<>(nextProcess, currentQuantum);
+        } else {
+            output = new Pair<>(nextProcess, nextDemand);
         }
 
-        if (executedWithCurrentQuantum.contains(processes.peek())) {
+        //the quantum is updated once the next process in line was already executed with the current quantum
+        //(without rescheduling the process is only put back into the queue for the duration of this check)
+        Node nextInLine = head != null ? head : (requeue ? nextNode : null);
+        if (nextInLine != null && nextInLine.executedInRound == currentRound) {
             updateQuantum = true;
         }
-        return output;
 
-    }
-
-    /**
-     * Interface used by Multi Level Feedback queues.
-     *
-     * <p>
-     * Does not put the process back into the Queue.
-     *
-     * @return a pair containing the next process to handle and its assigned time quantum.
-     */
-    @Override
-    public Pair<CPUProcess, Integer> retrieveNextProcessNoReschedule() {
-        Pair<CPUProcess, Integer> nextTarget = retrieveNextProcess();
-        if (nextTarget == null) {
-            return null;
+        if (requeue && reschedule) {
+            append(nextNode); //put at end of Queue
         }
-        processes.remove(nextTarget.getValue0());
-        return nextTarget;
+        return output;
     }
 
 
     private void updateQuantum() {
-        executedWithCurrentQuantum.clear();
+        currentRound++;
+
+        for (Node node : pendingNodes) {
+            node.pending = false;
+            if (node.queued) {
+                insertIntoHeaps(node);
+            }
+        }
+        pendingNodes.clear();
 
-        if (processes.isEmpty()) {
+        if (size == 0) {
             currentQuantum = MINIMUM_QUANTUM;
             return;
         }
 
-        List<CPUProcess> list = new ArrayList<>(processes);
-        Collections.sort(list);
-
         int median;
-        if (list.size() % 2 == 0) {
-            int remainder1 = list.get((list.size() - 1) / 2).getDemandRemainder();
-            int remainder2 = list.get((list.size() - 1) / 2 + 1).getDemandRemainder();
+        if (size % 2 == 0) {
+            int remainder1 = lowerHalf.peek().key;
+            int remainder2 = upperHalf.peek().key;
             median = (int) (Math.ceil(remainder1 + remainder2) / 2.0);
         } else {
-            median = list.get(list.size() / 2).getDemandRemainder();
+            median = lowerHalf.peek().key;
         }
 
         currentQuantum = Math.max(median, MINIMUM_QUANTUM);
         updateQuantum = false;
     }
 
+    private void insertIntoHeaps(Node node) {
+        node.key = node.process.getDemandRemainder();
+        if (lowerHalf.isEmpty() || node.key <= lowerHalf.peek().key) {
+            lowerHalf.add(node);
+        } else {
+            upperHalf.add(node);
+        }
+        rebalance();
+    }
+
+    //keeps the lower half equal in size or one larger than the upper half
+    private void rebalance() {
+        if (lowerHalf.size() > upperHalf.size() + 1) {
+            upperHalf.add(lowerHalf.poll());
+        } else if (upperHalf.size() > lowerHalf.size()) {
+            lowerHalf.add(upperHalf.poll());
+        }
+    }
+
 
     /**
      * {@inheritDoc}
      */
     @Override
     public boolean hasProcessesToSchedule() {
-        return !processes.isEmpty();
+        return head != null;
     }
 
     /**
      * {@inheritDoc}
+     *
+     * <p>
+     * Uses the key sums of the heaps, so only the pending processes (entered since the last quantum update) are
+     * iterated.
      */
     @Override
     public int getTotalWorkDemand() {
-        return processes.stream().mapToInt(CPUProcess::getDemandRemainder).sum();
+        int sum = lowerHalf.getKeySum() + upperHalf.getKeySum();
+        for (Node node : pendingNodes) {
+            if (node.queued) {
+                sum += node.process.getDemandRemainder();
+            }
+        }
+        return sum;
     }
 
     /**
@@ -159,8 +242,19 @@ public final class RoundRobinScheduler extends CPUProcessScheduler {
      */
     @Override
     public void clear() {
-        processes.clear();
-        executedWithCurrentQuantum.clear();
+        for (Node node = head; node != null; node = node.next) {
+            node.queued = false;
+        }
+        head = null;
+        tail = null;
+        size = 0;
+        for (Node node : pendingNodes) {
+            node.pending = false;
+        }
+        pendingNodes.clear();
+        lowerHalf.clear();
+        upperHalf.clear();
+        currentRound++;
     }
 
     /**
@@ -168,6 +262,17 @@ public final class RoundRobinScheduler extends CPUProcessScheduler {
      */
     @Override
     public int size() {
-        return processes.size();
+        return size;
+    }
+
+    private static final class Node extends ProcessHeap.Entry {
+        private Node next;
+        private boolean queued;
+        private boolean pending;
+        private long executedInRound = -1;
+
+        private Node(CPUProcess process) {
+            super(process);
+        }
     }
 }
@@ -1,7 +1,7 @@
 package cambio.simulator.resources.cpu.scheduling;
 
-import java.util.Collections;
-import java.util.LinkedList;
+import java.util.IdentityHashMap;
+import java.util.Map;
 
 import cambio.simulator.resources.cpu.CPUProcess;
 import org.javatuples.Pair;
@@ -10,14 +10,21 @@ import org.javatuples.Pair;
  * Scheduler, that schedules all entered processes by their left over work unit demand. Always retrieves the process
  * that hast he least work left first. Always assigns the full work demand needed for a processes.
  *
+ * <p>
+ * Processes with equal demand are retrieved in the order they entered. The processes are kept in an indexed binary
+ * heap, so entering and retrieving a process costs O(log n) and the total work demand is available in O(1).
+ *
  * @author Lion Wagner
  */
 public class ShortestJobNextScheduler extends CPUProcessScheduler {
 
     /**
-     * Set of CPUProcesses, sorted by left over demand (natural sorting of CPUProcess).
+     * Heap of CPUProcesses, sorted by left over demand.
      */
-    private final LinkedList<CPUProcess> processes = new LinkedList<>();
+    private final ProcessHeap processes = new ProcessHeap(false);
+    //identity based membership, to prevent entering a process twice
+    private final Map<CPUProcess, ProcessHeap.Entry> entries = new IdentityHashMap<>();
+    private long enteredCounter = 0;
 
     public ShortestJobNextScheduler(String name) {
         super(name);
@@ -28,9 +35,12 @@ public class ShortestJobNextScheduler extends CPUProcessScheduler {
      */
     @Override
     public synchronized void enterProcess(CPUProcess process) {
-        if (!processes.contains(process)) {
-            processes.add(process);
-            Collections.sort(processes);
+        if (!entries.containsKey(process)) {
+            ProcessHeap.Entry entry = new ProcessHeap.Entry(process);
+            entry.key = process.getDemandRemainder();
+            entry.sequence = enteredCounter++;
+            entries.put(process, entry);
+            processes.add(entry);
         }
     }
 
@@ -42,7 +52,8 @@ public class ShortestJobNextScheduler extends CPUProcessScheduler {
         if (processes.isEmpty()) {
             return null;
         }
-        CPUProcess next = processes.poll();
+        CPUProcess next = processes.poll().process;
+        entries.remove(next);
         int demand = next.getDemandTotal();
         return new Pair<>(next, demand);
     }
@@ -68,7 +79,7 @@ public class ShortestJobNextScheduler extends CPUProcessScheduler {
      */
     @Override
     public int getTotalWorkDemand() {
-        return processes.stream().mapToInt(CPUProcess::getDemandRemainder).sum();
+        return processes.getKeySum();
     }
 
     /**
@@ -77,6 +88,7 @@ public class ShortestJobNextScheduler extends CPUProcessScheduler {
     @Override
     public void clear() {
         processes.clear();
+        entries.clear();
     }
 
     /**
@@ -0,0 +1,209 @@
+package desmoj.core.simulator;
+
+/**
+ * {@link EventList} that forwards all calls to a {@link Delegate}, so that event lists can be implemented outside of
+ * desmojs' simulator package.
+ *
+ * <p>
+ * The contract of {@link EventList} and the event note bookkeeping of the scheduled entities and events are
+ * package-private. This bridge is the only access point to them and should not contain any further logic.
+ *
+ * @author Lion Wagner
+ * @see cambio.simulator.misc.CalendarEventList
+ */
+public final class EventListBridge extends EventList {
+
+    private final Delegate delegate;
+
+    private EventListBridge(Delegate delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * Replaces the event list of the given experiment with a bridge to the given delegate. Event notes that are already
+     * scheduled are moved to the delegate. Should be called before the experiment is started.
+     *
+     * @param experiment experiment whose event list should be replaced
+     * @param delegate   event list implementation that should be used by the experiment
+     */
+    public static void install(Experiment experiment, Delegate delegate) {
+        Scheduler scheduler = experiment.getScheduler();
+        EventList previous = scheduler.evList;
+        EventListBridge eventList = new EventListBridge(delegate);
+        while (previous != null && !previous.isEmpty()) {
+            eventList.insertAsLast(previous.removeFirst());
+        }
+        scheduler.evList = eventList;
+    }
+
+    private static void register(EventNote note) {
+        Entity who1 = note.getEntity1();
+        Entity who2 = note.getEntity2();
+        Entity who3 = note.getEntity3();
+        EventAbstract event = note.getEvent();
+        if (who1 != null) {
+            who1.addEventNote(note);
+        }
+        if (who2 != null) {
+            who2.addEventNote(note);
+        }
+        if (who3 != null) {
+            who3.addEventNote(note);
+        }
+        if (event != null) {
+            event.addEventNote(note);
+        }
+    }
+
+    private static void unregister(EventNote note) {
+        Entity who1 = note.getEntity1();
+        Entity who2 = note.getEntity2();
+        Entity who3 = note.getEntity3();
+        EventAbstract event = note.getEvent();
+        if (who1 != null) {
+            who1.removeEventNote(note);
+        }
+        if (who2 != null) {
+            who2.removeEventNote(note);
+        }
+        if (who3 != null) {
+            who3.removeEventNote(note);
+        }
+        if (event != null) {
+            event.removeEventNote(note);
+        }
+    }
+
+    @Override
+    EventNote firstNote() {
+        return delegate.first();
+    }
+
+    @Override
+    void insert(EventNote newNote) {
+        delegate.insert(newNote);
+        register(newNote);
+    }
+
+    @Override
+    void insertAfter(EventNote where, EventNote newNote) {
+        delegate.insertAfter(where, newNote);
+        register(newNote);
+    }
+
+    @Override
+    void insertAsFirst(EventNote newNote) {
+        delegate.insertAsFirst(newNote);
+        register(newNote);
+    }
+
+    @Override
+    void insertAsLast(EventNote newNote) {
+        delegate.insertAsLast(newNote);
+        register(newNote);
+    }
+
+    @Override
+    void insertBefore(EventNote where, EventNote newNote) {
+        delegate.insertBefore(where, newNote);
+        register(newNote);
+    }
+
+    @Override
+    boolean isEmpty() {
+        return delegate.isEmpty();
+    }
+
+    @Override
+    EventNote lastNote() {
+        return delegate.last();
+    }
+
+    @Override
+    EventNote nextNote(EventNote origin) {
+        return delegate.next(origin);
+    }
+
+    @Override
+    EventNote prevNote(EventNote origin) {
+        return delegate.prev(origin);
+    }
+
+    @Override
+    boolean remove(EventNote note) {
+        if (!delegate.remove(note)) {
+            return false;
+        }
+        unregister(note);
+        return true;
+    }
+
+    @Override
+    EventNote removeFirst() {
+        EventNote note = delegate.removeFirst();
+        if (note != null) {
+            unregister(note);
+        }
+        return note;
+    }
+
+    @Override
+    boolean contains(EventNote note) {
+        return delegate.contains(note);
+    }
+
+    @Override
+    public String toString() {
+        return delegate.toString();
+    }
+
+    /**
+     * Public version of the {@link EventList} contract. Implementations only have to order the event notes, the
+     * registration of the notes at their entities and events is done by the bridge.
+     */
+    public interface Delegate {
+
+        EventNote first();
+
+        EventNote last();
+
+        /**
+         * Gets the note that follows the given one.
+         *
+         * @param origin note that is contained in this list
+         * @return the following note, null if there is none or {@code origin} is not contained
+         */
+        EventNote next(EventNote origin);
+
+        /**
+         * Gets the note that precedes the given one.
+         *
+         * @param origin note that is contained in this list
+         * @return the preceding note, null if there is none or {@code origin} is not contained
+         */
+        EventNote prev(EventNote origin);
+
+        /**
+         * Inserts a note behind all notes with the same time and a higher or equal priority.
+         *
+         * @param newNote note that should be inserted
+         */
+        void insert(EventNote newNote);
+
+        void insertAfter(EventNote where, EventNote newNote);
+
+        void insertBefore(EventNote where, EventNote newNote);
+
+        void insertAsFirst(EventNote newNote);
+
+        void insertAsLast(EventNote newNote);
+
+        boolean remove(EventNote note);
+
+        EventNote removeFirst();
+
+        boolean contains(EventNote note);
+
+        boolean isEmpty();
+    }
+}
@@ -1,21 +1,77 @@
 package cambio.simulator.entities.microservice;
 
+import java.io.IOException;
 import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 
+import cambio.simulator.entities.networking.Request;
+import cambio.simulator.export.TimeSeries;
+import cambio.simulator.models.MiSimModel;
 import cambio.simulator.testutils.RandomTieredModel;
 import cambio.simulator.testutils.TestUtils;
 import co.paralleluniverse.fibers.SuspendExecution;
 import desmoj.core.simulator.Experiment;
 import desmoj.core.simulator.ExternalEvent;
 import desmoj.core.simulator.TimeInstant;
+import desmoj.core.simulator.TimeSpan;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 class MicroserviceInstanceTest {
 
+    private static final String ARCHITECTURE = "{\"microservices\": [{\"name\": \"service\", \"instances\": 1, "
+        + "\"capacity\": 10, \"operations\": [{\"name\": \"op\", \"demand\": 1}]}]}";
+
+    @SuppressWarnings("unchecked")
+    private static <T> T readField(Object target, Class<?> declaringClass, String fieldName) {
+        try {
+            Field field = declaringClass.getDeclaredField(fieldName);
+            field.setAccessible(true);
+            return (T) field.get(target);
+        } catch (IllegalAccessException | NoSuchFieldException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static List<MicroserviceInstance> getInstances(Collection<Microservice> microservices) {
+        List<MicroserviceInstance> instances = new ArrayList<>();
+        for (Microservice microservice : microservices) {
+            instances.addAll(readField(microservice, Microservice.class, "instancesSet"));
+        }
+        return instances;
+    }
+
+    //creates a model with a single instance and no load, which reports its statistics with the given policy
+    private static MiSimModel createSingleInstanceModel(String instanceStatistics) throws IOException {
+        Path folder = Files.createTempDirectory("misim_instance_test");
+        folder.toFile().deleteOnExit();
+        Path architecture = Files.write(folder.resolve("architecture.json"),
+            ARCHITECTURE.getBytes(StandardCharsets.UTF_8));
+        String experimentDescription = String.format("{\"simulation_metadata\": {\"name\": \"InstanceTest\", "
+            + "\"duration\": 10, \"instance_statistics\": \"%s\"}}", instanceStatistics);
+        Path experiment = Files.write(folder.resolve("experiment.json"),
+            experimentDescription.getBytes(StandardCharsets.UTF_8));
+        architecture.toFile().deleteOnExit();
+        experiment.toFile().deleteOnExit();
+        return new MiSimModel(architecture.toFile(), experiment.toFile());
+    }
+
+    private static TimeSeries findDataset(MiSimModel model, String suffix) {
+        for (Map.Entry<String, TimeSeries> dataset : model.getReportCollector().collectData().entrySet()) {
+            if (dataset.getKey().endsWith(suffix)) {
+                return dataset.getValue();
+            }
+        }
+        return null;
+    }
+
     @Test
     void shutDownTest() {
         RandomTieredModel model = new RandomTieredModel("MSTestModel", 3, 3);
@@ -56,4 +112,93 @@ class MicroserviceInstanceTest {
             instance.getState() == InstanceState.SHUTDOWN || instance.getState() == InstanceState.SHUTTING_DOWN));
 
     }
-}
\ No newline at end of file
+
+    @Test
+    void queue_counters_match_handled_requests() {
+        RandomTieredModel model = new RandomTieredModel("MSTestModel", 3, 3);
+        Experiment exp = TestUtils.getExampleExperiment(model, 100);
+        int[] maxWaitingForDependencies = {0};
+
+        //recounts the handled requests of each instance and compares them to the incrementally maintained counters
+        ExternalEvent counterCheck = new ExternalEvent(model, "CounterCheck", false) {
+            @Override
+            public void eventRoutine() throws SuspendExecution {
+                for (MicroserviceInstance instance : getInstances(model.getAllMicroservices())) {
+                    Collection<Request> handledRequests =
+                        readField(instance, MicroserviceInstance.class, "currentRequestsToHandle");
+                    int notComputed = 0;
+                    int waitingForDependencies = 0;
+                    for (Request request : handledRequests) {
+                        if (!request.isDependenciesCompleted()) {
+                            waitingForDependencies++;
+                        }
+                        if (!request.isComputationCompleted()) {
+                            notComputed++;
+                        }
+                    }
+                    Assertions.assertEquals(notComputed, instance.getRequestsNotComputed());
+                    Assertions.assertEquals(waitingForDependencies, instance.getRequestsWaitingForDependencies());
+                    maxWaitingForDependencies[0] = Math.max(maxWaitingForDependencies[0], waitingForDependencies);
+                }
+                schedule(new TimeSpan(0.25));
+            }
+        };
+        counterCheck.schedule(new TimeInstant(1));
+
+        exp.start();
+        exp.finish();
+
+        //requests waited for their dependencies, so the counters were decremented by answers and completions
+        Assertions.assertTrue(maxWaitingForDependencies[0] > 0);
+    }
+
+    @Test
+    void samples_queue_statistics_by_policy() throws IOException {
+        for (String policy : new String[] {"interval", "off", "on_change"}) {
+            MiSimModel model = createSingleInstanceModel(policy);
+            Experiment exp = TestUtils.getExampleExperiment(model, 10);
+            exp.start();
+            exp.finish();
+
+            TimeSeries inSystem = findDataset(model, "Requests_InSystem");
+            if (policy.equals("interval")) {
+                Assertions.assertNotNull(inSystem);
+                Assertions.assertTrue(inSystem.size() >= 10);
+            } else {
+                //without any load the statistics never change
+                Assertions.assertNull(inSystem, policy);
+            }
+        }
+    }
+
+    @Test
+    void restarts_interval_sampling_after_shutdown() throws IOException {
+        MiSimModel model = createSingleInstanceModel("interval");
+        Experiment exp = TestUtils.getExampleExperiment(model, 10);
+        List<MicroserviceInstance> instances = new ArrayList<>();
+
+        ExternalEvent shutdown = new ExternalEvent(model, "ShutdownEvent", false) {
+            @Override
+            public void eventRoutine() throws SuspendExecution {
+                instances.addAll(getInstances(model.getArchitectureModel().getMicroservices()));
+                instances.forEach(MicroserviceInstance::startShutdown);
+            }
+        };
+        shutdown.schedule(new TimeInstant(2.5));
+        ExternalEvent restart = new ExternalEvent(model, "RestartEvent", false) {
+            @Override
+            public void eventRoutine() throws SuspendExecution {
+                instances.forEach(MicroserviceInstance::start);
+            }
+        };
+        restart.schedule(new TimeInstant(5.5));
+
+        exp.start();
+        exp.finish();
+
+        Assertions.assertEquals(1, instances.size());
+        Assertions.assertEquals(InstanceState.RUNNING, instances.get(0).getState());
+        TimeSeries inSystem = findDataset(model, "Requests_InSystem");
+        Assertions.assertTrue(inSystem.getTime(inSystem.size() - 1) > 5.5);
+    }
+}
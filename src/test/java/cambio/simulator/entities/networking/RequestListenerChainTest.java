@@ -0,0 +1,111 @@
+package cambio.simulator.entities.networking;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import cambio.simulator.misc.Priority;
+import desmoj.core.simulator.TimeInstant;
+import org.junit.jupiter.api.Test;
+
+class RequestListenerChainTest {
+
+    private final List<String> calls = new ArrayList<>();
+
+    @Test
+    void notifies_by_priority_and_keeps_insertion_order_for_ties() {
+        RequestListenerChain chain = RequestListenerChain.empty(false)
+            .with(new RecordingListener("normal1", Priority.NORMAL, false))
+            .with(new RecordingListener("high", Priority.HIGH, false))
+            .with(new RecordingListener("normal2", Priority.NORMAL, false))
+            .with(new RecordingListener("low", Priority.LOW, false));
+
+        chain.fireRequestFailed(null, null, RequestFailedReason.TIMEOUT);
+
+        assertEquals(Arrays.asList("high", "normal1", "normal2", "low"), calls);
+    }
+
+    @Test
+    void consumable_chain_stops_at_first_consumer() {
+        List<IRequestUpdateListener> listeners = Arrays.asList(
+            new RecordingListener("first", Priority.HIGH, false),
+            new RecordingListener("consumer", Priority.NORMAL, true),
+            new RecordingListener("last", Priority.LOW, false));
+
+        assertTrue(RequestListenerChain.ofSorted(true, listeners).fireRequestSend(null, null));
+        assertEquals(Arrays.asList("first", "consumer"), calls);
+
+        calls.clear();
+        assertTrue(RequestListenerChain.ofSorted(false, listeners).fireRequestSend(null, null));
+        assertEquals(Arrays.asList("first", "consumer", "last"), calls);
+    }
+
+    @Test
+    void skips_listeners_that_do_not_override_a_callback() {
+        RequestListenerChain chain = RequestListenerChain.empty(false)
+            .with(new IRequestUpdateListener() {
+            })
+            .with(new RecordingListener("recording", Priority.NORMAL, false));
+
+        assertEquals(2, chain.size());
+        assertFalse(chain.fireRequestArrivalAtTarget(null, null));
+        assertEquals(Arrays.asList("recording"), calls);
+    }
+
+    @Test
+    void empty_chains_share_the_other_chain() {
+        RequestListenerChain shared = RequestListenerChain.empty(false)
+            .with(new RecordingListener("a", Priority.NORMAL, false));
+
+        assertSame(shared, RequestListenerChain.empty(false).withAll(shared));
+        assertSame(shared, shared.withAll(RequestListenerChain.empty(false)));
+        assertEquals(2, shared.withAll(shared).size());
+    }
+
+    private final class RecordingListener implements IRequestUpdateListener {
+        private final String name;
+        private final int priority;
+        private final boolean consumes;
+
+        private RecordingListener(String name, int priority, boolean consumes) {
+            this.name = name;
+            this.priority = priority;
+            this.consumes = consumes;
+        }
+
+        private boolean record() {
+            calls.add(name);
+            return consumes;
+        }
+
+        @Override
+        public boolean onRequestFailed(Request request, TimeInstant when, RequestFailedReason reason) {
+            return record();
+        }
+
+        @Override
+        public boolean onRequestArrivalAtTarget(Request request, TimeInstant when) {
+            return record();
+        }
+
+        @Override
+        public boolean onRequestSend(Request request, TimeInstant when) {
+            return record();
+        }
+
+        @Override
+        public boolean onRequestResultArrivedAtRequester(Request request, TimeInstant when) {
+            return record();
+        }
+
+        @Override
+        public int getListeningPriority() {
+            return priority;
+        }
+    }
+}
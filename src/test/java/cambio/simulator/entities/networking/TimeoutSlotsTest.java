@@ -0,0 +1,139 @@
+package cambio.simulator.entities.networking;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class TimeoutSlotsTest {
+
+    private static RequestTimeout timeout(long deadline) {
+        return new RequestTimeout(null, null, deadline);
+    }
+
+    private static List<RequestTimeout> advance(TimeoutSlots slots, long targetTick) {
+        List<RequestTimeout> expired = new ArrayList<>();
+        slots.advanceTo(targetTick, expired);
+        return expired;
+    }
+
+    @Test
+    void fires_at_the_deadline() {
+        TimeoutSlots slots = new TimeoutSlots();
+        RequestTimeout timeout = timeout(42);
+        assertEquals(42, slots.add(timeout));
+        assertEquals(42, slots.nextEventTick());
+
+        assertTrue(advance(slots, 41).isEmpty());
+        assertTrue(timeout.isPending());
+        List<RequestTimeout> expired = advance(slots, 42);
+        assertEquals(1, expired.size());
+        assertSame(timeout, expired.get(0));
+        assertFalse(timeout.isPending());
+        assertEquals(0, slots.size());
+        assertEquals(-1, slots.nextEventTick());
+    }
+
+    @Test
+    void does_not_fire_canceled_timeouts() {
+        TimeoutSlots slots = new TimeoutSlots();
+        RequestTimeout canceled = timeout(10);
+        RequestTimeout kept = timeout(10);
+        slots.add(canceled);
+        slots.add(kept);
+        RequestTimeout far = timeout(100_000);
+        slots.add(far);
+
+        slots.remove(canceled);
+        slots.remove(canceled); //canceling twice has no effect
+        slots.remove(far);
+        assertEquals(1, slots.size());
+        assertFalse(canceled.isPending());
+
+        List<RequestTimeout> expired = advance(slots, 200_000);
+        assertEquals(1, expired.size());
+        assertSame(kept, expired.get(0));
+        assertEquals(-1, slots.nextEventTick());
+    }
+
+    @Test
+    void cascades_between_levels() {
+        TimeoutSlots slots = new TimeoutSlots();
+        RequestTimeout levelOne = timeout(300);
+        RequestTimeout levelTwo = timeout(70_000);
+        RequestTimeout levelThree = timeout(20_000_000);
+        //the slots have to be processed once the rotation reaches them, not at the deadline
+        assertEquals(256, slots.add(levelOne));
+        assertEquals(65_536, slots.add(levelTwo));
+        assertEquals(16_777_216, slots.add(levelThree));
+        assertEquals(3, levelThree.level);
+
+        assertTrue(advance(slots, 299).isEmpty());
+        assertEquals(0, levelOne.level);
+        assertSame(levelOne, advance(slots, 300).get(0));
+
+        assertTrue(advance(slots, 69_999).isEmpty());
+        assertSame(levelTwo, advance(slots, 70_000).get(0));
+
+        assertTrue(advance(slots, 19_999_999).isEmpty());
+        assertSame(levelThree, advance(slots, 20_000_000).get(0));
+        assertEquals(0, slots.size());
+    }
+
+    @Test
+    void keeps_deadlines_beyond_the_highest_level() {
+        TimeoutSlots slots = new TimeoutSlots();
+        long beyondRange = (1L << 33) + 5;
+        RequestTimeout timeout = timeout(beyondRange);
+        //processed when the highest level starts its next rotation, instead of wrapping around
+        assertEquals(1L << 32, slots.add(timeout));
+        assertEquals(TimeoutSlots.LEVEL_COUNT, timeout.level);
+
+        assertTrue(advance(slots, beyondRange & ((1L << 32) - 1)).isEmpty());
+        assertTrue(advance(slots, beyondRange - 1).isEmpty());
+        assertTrue(timeout.isPending());
+        assertSame(timeout, advance(slots, beyondRange).get(0));
+    }
+
+    @Test
+    void rejects_deadlines_that_are_not_in_the_future() {
+        TimeoutSlots slots = new TimeoutSlots();
+        advance(slots, 100);
+        assertThrows(IllegalArgumentException.class, () -> slots.add(timeout(100)));
+    }
+
+    @Test
+    void fires_random_timeouts_in_deadline_order() {
+        Random rng = new Random(11);
+        TimeoutSlots slots = new TimeoutSlots();
+        List<RequestTimeout> pending = new ArrayList<>();
+        long now = 0;
+        for (int i = 0; i < 20_000; i++) {
+            if (!pending.isEmpty() && rng.nextInt(4) == 0) {
+                slots.remove(pending.remove(rng.nextInt(pending.size())));
+            }
+            RequestTimeout timeout = timeout(now + 1 + (long) Math.pow(rng.nextDouble(), 4) * 50_000_000L);
+            slots.add(timeout);
+            pending.add(timeout);
+
+            now += rng.nextInt(5_000);
+            for (RequestTimeout expired : advance(slots, now)) {
+                assertTrue(expired.deadline <= now);
+                assertTrue(expired.deadline > now - 5_000, "timeout fired too late");
+                assertTrue(pending.remove(expired));
+            }
+        }
+        for (RequestTimeout timeout : pending) {
+            assertTrue(timeout.deadline > now);
+            assertTrue(timeout.isPending());
+        }
+        assertEquals(pending.size(), slots.size());
+    }
+}
@@ -0,0 +1,51 @@
+package cambio.simulator.entities.patterns;
+
+import cambio.simulator.entities.microservice.Microservice;
+import cambio.simulator.export.TimeSeries;
+import cambio.simulator.testutils.RandomTieredModel;
+import cambio.simulator.testutils.TestExperiment;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class CircuitBreakerReporterTest {
+
+    private static Object lastValue(TimeSeries series) {
+        return series.getValue(series.size() - 1);
+    }
+
+    @Test
+    void records_error_rate_that_opened_the_breaker() {
+        RandomTieredModel model = new RandomTieredModel("", 2, 2);
+        model.connectToExperiment(new TestExperiment());
+        Microservice service = model.getAllMicroservices().get(0);
+
+        CircuitBreakerReporter reporter = new CircuitBreakerReporter("CB_", model);
+        CircuitBreakerState state = new CircuitBreakerState(service, 0.5, new CountBasedSlidingWindow(4), 10,
+            changedState -> reporter.record(changedState, 0, changedState.getTransitionErrorRate()));
+        String prefix = "CB_[" + service.getName() + "]";
+
+        state.notifySuccessfulCompletion();
+        state.notifyArrivalFailure();
+        state.notifyArrivalFailure();
+        state.notifyArrivalFailure();
+
+        Assertions.assertTrue(state.isOpen());
+        TimeSeries states = reporter.getTimeSeries().get(prefix + "_State");
+        TimeSeries errorRates = reporter.getTimeSeries().get(prefix + "_ErrorRate");
+        Assertions.assertEquals(CircuitBreakerState.BreakerState.OPEN.name(), lastValue(states).toString());
+        Assertions.assertEquals(0.75, errorRates.getDouble(errorRates.size() - 1), 1e-9);
+        Assertions.assertEquals(3, lastValue(reporter.getTimeSeries().get(prefix + "_Failures")));
+        //the window is reset once the breaker is open
+        Assertions.assertEquals(0, state.getErrorRate(), 1e-9);
+
+        state.toHalfOpen();
+        state.notifyArrivalFailure();
+        Assertions.assertTrue(state.isOpen());
+        Assertions.assertEquals(1.0, errorRates.getDouble(errorRates.size() - 1), 1e-9);
+
+        state.toHalfOpen();
+        state.notifySuccessfulCompletion();
+        Assertions.assertEquals(CircuitBreakerState.BreakerState.CLOSED, state.getState());
+        Assertions.assertEquals(0.0, errorRates.getDouble(errorRates.size() - 1), 1e-9);
+    }
+}
@@ -0,0 +1,78 @@
+package cambio.simulator.entities.patterns;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import cambio.simulator.entities.microservice.MicroserviceInstance;
+import cambio.simulator.entities.microservice.NoInstanceAvailableException;
+import org.junit.jupiter.api.Test;
+
+class EvenLoadBalanceStrategyTest {
+
+    private static Map<MicroserviceInstance, Integer> distribute(EvenLoadBalanceStrategy strategy,
+                                                                 List<MicroserviceInstance> instances, int requests) {
+        Map<MicroserviceInstance, Integer> distribution = new IdentityHashMap<>();
+        for (int i = 0; i < requests; i++) {
+            distribution.merge(strategy.getNextInstance(instances), 1, Integer::sum);
+        }
+        return distribution;
+    }
+
+    @Test
+    void distributes_evenly_using_notifications() {
+        EvenLoadBalanceStrategy strategy = new EvenLoadBalanceStrategy();
+        List<MicroserviceInstance> instances = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            MicroserviceInstance instance = mock(MicroserviceInstance.class);
+            instances.add(instance);
+            strategy.onInstanceAvailable(instance);
+        }
+
+        Map<MicroserviceInstance, Integer> distribution = distribute(strategy, instances, 50);
+        assertEquals(5, distribution.size());
+        distribution.values().forEach(count -> assertEquals(10, count));
+    }
+
+    @Test
+    void resets_distribution_when_instances_change() {
+        EvenLoadBalanceStrategy strategy = new EvenLoadBalanceStrategy();
+        List<MicroserviceInstance> instances = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            MicroserviceInstance instance = mock(MicroserviceInstance.class);
+            instances.add(instance);
+            strategy.onInstanceAvailable(instance);
+        }
+        distribute(strategy, instances, 7);
+
+        MicroserviceInstance removed = instances.remove(1);
+        strategy.onInstanceUnavailable(removed);
+        MicroserviceInstance added = mock(MicroserviceInstance.class);
+        instances.add(added);
+        strategy.onInstanceAvailable(added);
+
+        Map<MicroserviceInstance, Integer> distribution = distribute(strategy, instances, 9);
+        assertEquals(3, distribution.size());
+        distribution.values().forEach(count -> assertEquals(3, count));
+    }
+
+    @Test
+    void falls_back_to_given_collection_without_notifications() {
+        EvenLoadBalanceStrategy strategy = new EvenLoadBalanceStrategy();
+        List<MicroserviceInstance> instances = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            instances.add(mock(MicroserviceInstance.class));
+        }
+
+        Map<MicroserviceInstance, Integer> distribution = distribute(strategy, instances, 8);
+        assertEquals(4, distribution.size());
+        distribution.values().forEach(count -> assertEquals(2, count));
+
+        assertThrows(NoInstanceAvailableException.class, () -> strategy.getNextInstance(new ArrayList<>()));
+    }
+}
@@ -0,0 +1,86 @@
+package cambio.simulator.entities.patterns;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import cambio.simulator.entities.microservice.MicroserviceInstance;
+import cambio.simulator.entities.microservice.NoInstanceAvailableException;
+import org.junit.jupiter.api.Test;
+
+class OutstandingRequestsLoadBalanceStrategyTest {
+
+    private static List<MicroserviceInstance> createInstances(int... outstandingRequests) {
+        List<MicroserviceInstance> instances = new ArrayList<>();
+        for (int outstanding : outstandingRequests) {
+            MicroserviceInstance instance = mock(MicroserviceInstance.class);
+            when(instance.getOutstandingRequests()).thenReturn(outstanding);
+            instances.add(instance);
+        }
+        return instances;
+    }
+
+    @Test
+    void least_outstanding_chooses_least_busy_instance() {
+        LeastOutstandingRequestsLoadBalanceStrategy strategy = new LeastOutstandingRequestsLoadBalanceStrategy();
+        strategy.setRandomStream(new SplittableRandom(42));
+        List<MicroserviceInstance> instances = createInstances(4, 2, 7, 3);
+
+        for (int i = 0; i < 10; i++) {
+            assertSame(instances.get(1), strategy.getNextInstance(instances));
+        }
+        assertThrows(NoInstanceAvailableException.class, () -> strategy.getNextInstance(new ArrayList<>()));
+    }
+
+    @Test
+    void least_outstanding_breaks_ties_randomly() {
+        LeastOutstandingRequestsLoadBalanceStrategy strategy = new LeastOutstandingRequestsLoadBalanceStrategy();
+        strategy.setRandomStream(new SplittableRandom(42));
+        List<MicroserviceInstance> instances = createInstances(1, 0, 0, 0);
+
+        Map<MicroserviceInstance, Integer> distribution = new IdentityHashMap<>();
+        for (int i = 0; i < 300; i++) {
+            distribution.merge(strategy.getNextInstance(instances), 1, Integer::sum);
+        }
+        assertEquals(3, distribution.size());
+        assertTrue(distribution.values().stream().allMatch(count -> count > 50));
+    }
+
+    @Test
+    void power_of_two_choices_never_chooses_busiest_instance() {
+        PowerOfTwoChoicesLoadBalanceStrategy strategy = new PowerOfTwoChoicesLoadBalanceStrategy();
+        strategy.setRandomStream(new SplittableRandom(42));
+        List<MicroserviceInstance> instances = createInstances(5, 1, 3, 2, 4);
+
+        for (int i = 0; i < 100; i++) {
+            assertNotEquals(instances.get(0), strategy.getNextInstance(instances));
+        }
+
+        List<MicroserviceInstance> single = createInstances(10);
+        assertSame(single.get(0), strategy.getNextInstance(single));
+        assertThrows(NoInstanceAvailableException.class, () -> strategy.getNextInstance(new ArrayList<>()));
+    }
+
+    @Test
+    void peak_ewma_penalizes_busy_instances_without_samples() {
+        PeakEwmaLoadBalanceStrategy strategy = new PeakEwmaLoadBalanceStrategy();
+        strategy.setRandomStream(new SplittableRandom(42));
+        List<MicroserviceInstance> instances = createInstances(0, 3);
+
+        assertEquals(0, strategy.getCost(instances.get(0)));
+        assertTrue(strategy.getCost(instances.get(1)) > 1e9);
+        for (int i = 0; i < 10; i++) {
+            assertSame(instances.get(0), strategy.getNextInstance(instances));
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package cambio.simulator.entities.patterns;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.LinkedList;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class SlidingWindowTest {
+
+    /**
+     * Compares the count based window with the original list based implementation of the {@link CircuitBreakerState}.
+     */
+    @Test
+    void count_based_window_behaves_like_list_window() {
+        for (int rollingWindow : new int[] {1, 5, 20}) {
+            Random rng = new Random(rollingWindow);
+            CountBasedSlidingWindow window = new CountBasedSlidingWindow(rollingWindow);
+            LinkedList<Integer> reference = new LinkedList<>();
+
+            for (int i = 0; i < 1_000; i++) {
+                if (rng.nextInt(50) == 0) {
+                    window.clear();
+                    reference.clear();
+                }
+                boolean success = rng.nextInt(3) != 0;
+                window.record(success, i);
+                reference.addLast(success ? 1 : 0);
+                while (reference.size() > rollingWindow) {
+                    reference.removeFirst();
+                }
+
+                double expectedErrorRate = reference.size() < rollingWindow ? 0 :
+                    1.0 - ((double) reference.stream().mapToInt(value -> value).sum() / reference.size());
+                assertEquals(reference.size() >= rollingWindow, window.hasEnoughData(i));
+                assertEquals(expectedErrorRate, window.getErrorRate(i));
+            }
+        }
+    }
+
+    @Test
+    void time_based_window_evicts_old_slices() {
+        TimeBasedSlidingWindow window = new TimeBasedSlidingWindow(3, 1, 2);
+
+        window.record(false, 0.1);
+        assertFalse(window.hasEnoughData(0.1));
+        window.record(true, 0.5);
+        window.record(true, 1.2);
+        window.record(false, 2.9);
+        assertEquals(4, window.getSize(2.9));
+        assertEquals(0.5, window.getErrorRate(2.9));
+
+        //the slice [0,1) left the window
+        assertEquals(2, window.getSize(3.0));
+        assertEquals(1, window.getSuccesses(3.0));
+        assertEquals(0.5, window.getErrorRate(3.0));
+
+        //only the slice [2,3) is left
+        assertEquals(1, window.getSize(4.5));
+        assertFalse(window.hasEnoughData(4.5));
+        assertEquals(0, window.getErrorRate(4.5));
+
+        //all slices left the window
+        assertEquals(0, window.getSize(10));
+        window.record(false, 10.5);
+        window.record(false, 10.7);
+        assertTrue(window.hasEnoughData(10.7));
+        assertEquals(1.0, window.getErrorRate(10.7));
+
+        window.clear();
+        assertEquals(0, window.getSize(10.7));
+    }
+}
@@ -0,0 +1,68 @@
+package cambio.simulator.export;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class BatchMeansEstimatorTest {
+
+    @Test
+    void keeps_bounded_number_of_batches() {
+        BatchMeansEstimator estimator = new BatchMeansEstimator(10, 0.95);
+        for (int i = 0; i < 19; i++) {
+            estimator.add(i);
+        }
+        assertEquals(19, estimator.getBatchCount());
+        assertEquals(1, estimator.getBatchSize());
+
+        estimator.add(19);
+        assertEquals(10, estimator.getBatchCount());
+        assertEquals(2, estimator.getBatchSize());
+        assertEquals(9.5, estimator.getMean(), 1e-9);
+
+        for (int i = 20; i < 10_000; i++) {
+            estimator.add(i);
+        }
+        assertTrue(estimator.getBatchCount() >= 10 && estimator.getBatchCount() < 20);
+        assertEquals(10_000, estimator.getCount());
+    }
+
+    @Test
+    void confidence_interval_covers_mean_of_independent_values() {
+        Random random = new Random(7);
+        BatchMeansEstimator estimator = new BatchMeansEstimator(20, 0.95);
+        for (int i = 0; i < 100_000; i++) {
+            estimator.add(10 + random.nextGaussian());
+        }
+        double halfWidth = estimator.getHalfWidth();
+        assertTrue(halfWidth > 0 && halfWidth < 0.05, "was " + halfWidth);
+        //a single interval misses the true mean with 5% probability, so only gross errors are checked
+        assertTrue(Math.abs(estimator.getMean() - 10) <= 2 * halfWidth);
+        assertEquals(halfWidth / estimator.getMean(), estimator.getRelativeHalfWidth(), 1e-12);
+    }
+
+    @Test
+    void withholds_interval_of_correlated_batches() {
+        //slowly growing values, each batch mean is larger than the one before
+        BatchMeansEstimator estimator = new BatchMeansEstimator(20, 0.95);
+        for (int i = 0; i < 1000; i++) {
+            estimator.add(i);
+        }
+        assertTrue(Double.isNaN(estimator.getHalfWidth()));
+        assertTrue(Double.isNaN(estimator.getRelativeHalfWidth()));
+
+        BatchMeansEstimator tooFewBatches = new BatchMeansEstimator(20, 0.95);
+        tooFewBatches.add(1);
+        assertTrue(Double.isNaN(tooFewBatches.getHalfWidth()));
+    }
+
+    @Test
+    void rejects_invalid_configuration() {
+        assertThrows(IllegalArgumentException.class, () -> new BatchMeansEstimator(1, 0.95));
+        assertThrows(IllegalArgumentException.class, () -> new BatchMeansEstimator(10, 1));
+    }
+}
@@ -0,0 +1,102 @@
+package cambio.simulator.export;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import desmoj.core.simulator.TimeInstant;
+import org.junit.jupiter.api.Test;
+
+class LatencyHistogramTest {
+
+    private static double exactPercentile(double[] sorted, double percentile) {
+        int index = (int) Math.ceil(percentile / 100 * sorted.length) - 1;
+        return sorted[Math.max(0, index)];
+    }
+
+    @Test
+    void percentiles_are_within_relative_error() {
+        Random rng = new Random(3);
+        LatencyHistogram histogram = new LatencyHistogram();
+        double[] values = new double[100_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = Math.exp(rng.nextGaussian() * 2 - 3); //log-normal, spans multiple orders of magnitude
+            histogram.record(values[i]);
+        }
+        Arrays.sort(values);
+
+        double maxRelativeError = Math.pow(2, -(LatencyHistogram.DEFAULT_PRECISION - 1));
+        for (double percentile : new double[] {50, 90, 99, 99.9}) {
+            double expected = exactPercentile(values, percentile);
+            double actual = histogram.getValueAtPercentile(percentile);
+            assertTrue(Math.abs(actual - expected) / expected <= maxRelativeError,
+                String.format("p%s: expected %s but was %s", percentile, expected, actual));
+        }
+        assertEquals(Arrays.stream(values).average().getAsDouble(), histogram.getMean(), 1e-9);
+        assertEquals(values[values.length - 1], histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    void merged_histogram_equals_combined_recording() {
+        Random rng = new Random(5);
+        LatencyHistogram first = new LatencyHistogram();
+        LatencyHistogram second = new LatencyHistogram();
+        LatencyHistogram combined = new LatencyHistogram();
+        for (int i = 0; i < 10_000; i++) {
+            double value = rng.nextDouble() * (i % 2 == 0 ? 0.01 : 10);
+            (i % 2 == 0 ? first : second).record(value);
+            combined.record(value);
+        }
+        first.merge(second);
+
+        assertEquals(combined.getTotalCount(), first.getTotalCount());
+        for (double percentile : new double[] {0, 25, 50, 75, 99, 100}) {
+            assertEquals(combined.getValueAtPercentile(percentile), first.getValueAtPercentile(percentile));
+        }
+        assertThrows(IllegalArgumentException.class, () -> first.merge(new LatencyHistogram(1e-3, 7)));
+    }
+
+    @Test
+    void rejects_invalid_values() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertThrows(IllegalArgumentException.class, () -> histogram.record(-1));
+        assertThrows(IllegalArgumentException.class, () -> histogram.record(Double.NaN));
+        assertTrue(Double.isNaN(histogram.getValueAtPercentile(50)));
+    }
+
+    @Test
+    void recorder_reports_closed_windows() {
+        LatencyHistogramRecorder recorder = new LatencyHistogramRecorder("R", null,
+            LatencyHistogramRecorder.RecordingMode.HISTOGRAM, 1, LatencyHistogram.DEFAULT_PRECISION);
+        for (int i = 0; i < 30; i++) {
+            recorder.record("Test", new TimeInstant(i * 0.1), i < 10 ? 1 : 2);
+        }
+        assertEquals(2, recorder.getTimeSeries().get("RTest_Mean").size());
+        recorder.flush();
+
+        TimeSeries means = recorder.getTimeSeries().get("RTest_Mean");
+        assertEquals(3, means.size());
+        assertEquals(1.0, means.getDouble(0));
+        assertEquals(2.0, means.getDouble(2));
+        assertEquals(2.0, means.getTime(2));
+        assertEquals(30, recorder.getTotalHistograms().get("Test").getTotalCount());
+    }
+
+    @Test
+    void raw_recorder_keeps_total_histograms() {
+        LatencyHistogramRecorder recorder = new LatencyHistogramRecorder("R", null,
+            LatencyHistogramRecorder.RecordingMode.RAW, 1, LatencyHistogram.DEFAULT_PRECISION);
+        for (int i = 0; i < 30; i++) {
+            recorder.record("Test", new TimeInstant(i * 0.1), 1);
+        }
+        recorder.flush();
+
+        assertEquals(30, recorder.getTimeSeries().get("RTest").size());
+        assertFalse(recorder.getTimeSeries().containsKey("RTest_Mean"));
+        assertEquals(30, recorder.getTotalHistograms().get("Test").getTotalCount());
+    }
+}
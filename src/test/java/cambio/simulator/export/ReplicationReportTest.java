@@ -0,0 +1,68 @@
+package cambio.simulator.export;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.math3.stat.descriptive.SummaryStatistics;
+import org.junit.jupiter.api.Test;
+
+class ReplicationReportTest {
+
+    private static Map<String, TimeSeries> createRunData(double... values) {
+        TimeSeries dataset = new TimeSeries();
+        for (int i = 0; i < values.length; i++) {
+            dataset.addDouble(i, values[i]);
+        }
+        TimeSeries nonNumeric = new TimeSeries();
+        nonNumeric.add(0, "RUNNING");
+
+        Map<String, TimeSeries> data = new HashMap<>();
+        data.put("ResponseTimes", dataset);
+        data.put("State", nonNumeric);
+        return data;
+    }
+
+    @Test
+    void calculates_per_run_means() {
+        ReplicationReport report = new ReplicationReport();
+        report.addRun(1, 43, createRunData(3, 5));
+        report.addRun(0, 42, createRunData(1, 2, 3));
+
+        Map<String, List<SummaryStatistics>> perRun = report.getPerRunStatistics();
+        assertFalse(perRun.containsKey("State"));
+        List<SummaryStatistics> runs = perRun.get("ResponseTimes");
+        assertEquals(2, runs.size());
+        assertEquals(2.0, runs.get(0).getMean(), 1e-9); //sorted by run index
+        assertEquals(4.0, runs.get(1).getMean(), 1e-9);
+        assertEquals(Arrays.asList(42L, 43L), report.getSeeds());
+    }
+
+    @Test
+    void calculates_cross_run_statistics() {
+        ReplicationReport report = new ReplicationReport();
+        report.addRun(0, 0, createRunData(1, 3));
+        report.addRun(1, 1, createRunData(4));
+        report.addRun(2, 2, createRunData(6));
+
+        SummaryStatistics statistics = report.getCrossRunStatistics().get("ResponseTimes");
+        assertEquals(3, statistics.getN());
+        assertEquals(4.0, statistics.getMean(), 1e-9);
+        assertEquals(2.0, statistics.getStandardDeviation(), 1e-9);
+        // t(0.975, 2) = 4.302653
+        assertEquals(4.302653 * 2.0 / Math.sqrt(3), ReplicationReport.confidenceIntervalHalfWidth(statistics), 1e-5);
+    }
+
+    @Test
+    void has_no_confidence_interval_for_single_run() {
+        ReplicationReport report = new ReplicationReport();
+        report.addRun(0, 0, createRunData(1, 3));
+        SummaryStatistics statistics = report.getCrossRunStatistics().get("ResponseTimes");
+        assertTrue(Double.isNaN(ReplicationReport.confidenceIntervalHalfWidth(statistics)));
+    }
+}
@@ -3,8 +3,6 @@ package cambio.simulator.export;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
-import java.util.HashMap;
-import java.util.Map;
 import java.util.TreeMap;
 
 import desmoj.core.simulator.TimeInstant;
@@ -13,47 +11,67 @@ import org.junit.jupiter.api.Test;
 
 class ReportCollectorTest {
 
+    private ReportCollector collector;
+
     @BeforeEach
     void setUp() {
-        ReportCollector.getInstance().elements().forEach(reporter ->
-            ReportCollector.getInstance().deRegister(reporter));
+        collector = new ReportCollector("Test");
     }
 
     @Test
     void has_correct_count() {
-        new TestReporter(1);
-        assertEquals(1, ReportCollector.getInstance().elements().size());
-        assertEquals(1, ReportCollector.getInstance().collectData().size());
-        new TestReporter(2);
-        assertEquals(2, ReportCollector.getInstance().elements().size());
-        assertEquals(2, ReportCollector.getInstance().collectData().size());
+        new TestReporter(collector, 1);
+        assertEquals(1, collector.elements().size());
+        assertEquals(1, collector.collectData().size());
+        new TestReporter(collector, 2);
+        assertEquals(2, collector.elements().size());
+        assertEquals(2, collector.collectData().size());
     }
 
     @Test
     void collects_output_correctly() {
-        new TestReporter(1);
-        new TestReporter(2);
-        HashMap<String, TreeMap<Double, Object>> out = ReportCollector.getInstance().collectData();
-        TreeMap<Double, Object> dataset1 = out.get("dataset1");
-        TreeMap<Double, Object> dataset2 = out.get("dataset2");
-        assertTrue(dataset1.containsKey(0.0));
-        assertTrue(dataset1.containsKey(1.0));
-        assertTrue(dataset2.containsKey(0.0));
-        assertTrue(dataset2.containsKey(1.0));
+        new TestReporter(collector, 1);
+        new TestReporter(collector, 2);
+        TreeMap<String, TimeSeries> out = collector.collectData();
+        TimeSeries dataset1 = out.get("dataset1");
+        TimeSeries dataset2 = out.get("dataset2");
+        assertTrue(dataset1.indexOfTime(0.0) >= 0);
+        assertTrue(dataset1.indexOfTime(1.0) >= 0);
+        assertTrue(dataset2.indexOfTime(0.0) >= 0);
+        assertTrue(dataset2.indexOfTime(1.0) >= 0);
     }
 
     @Test
     void combines_correctly() {
-        new TestReporter(1).addDatapoint("dataset2", new TimeInstant(3), 22); //adds 1 datapoint to dataset2
-        new TestReporter(2); //adds 2 datapoints to dataset2
-        HashMap<String, TreeMap<Double, Object>> out = ReportCollector.getInstance().collectData();
-        Map<Double, Object> dataset2 = out.get("dataset2");
+        new TestReporter(collector, 1).addDatapoint("dataset2", new TimeInstant(3), 22); //adds 1 datapoint to dataset2
+        new TestReporter(collector, 2); //adds 2 datapoints to dataset2
+        TreeMap<String, TimeSeries> out = collector.collectData();
+        TimeSeries dataset2 = out.get("dataset2");
         assertEquals(3, dataset2.size());
+        assertEquals(3.0, dataset2.getTime(2)); //merged by time
+    }
+
+    @Test
+    void keeps_equal_time_stamps_of_all_reporters() {
+        new TestReporter(collector, 1);
+        new TestReporter(collector, 1);
+        TimeSeries dataset1 = collector.collectData().get("dataset1");
+        assertEquals(4, dataset1.size());
+        assertEquals(0.0, dataset1.getTime(1));
+        assertEquals(42, dataset1.getValue(1));
+        assertEquals(1.0, dataset1.getTime(2));
+    }
+
+    @Test
+    void reporters_without_model_are_not_collected() {
+        new MultiDataPointReporter("standalone").addDatapoint("dataset", new TimeInstant(0), 1);
+        assertTrue(collector.collectData().isEmpty());
     }
 
     private static class TestReporter extends MultiDataPointReporter {
-        public TestReporter(int id) {
+        public TestReporter(ReportCollector collector, int id) {
             super();
+            collector.register(this);
             addDatapoint("dataset" + id, new TimeInstant(0), 42);
             addDatapoint("dataset" + id, new TimeInstant(1), 81);
         }
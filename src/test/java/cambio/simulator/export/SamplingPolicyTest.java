@@ -0,0 +1,23 @@
+package cambio.simulator.export;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+class SamplingPolicyTest {
+
+    @Test
+    void parses_names_case_insensitive() {
+        assertEquals(SamplingPolicy.ON_CHANGE, SamplingPolicy.fromName("on_change"));
+        assertEquals(SamplingPolicy.ON_CHANGE, SamplingPolicy.fromName(" On-Change "));
+        assertEquals(SamplingPolicy.INTERVAL, SamplingPolicy.fromName("INTERVAL"));
+        assertEquals(SamplingPolicy.OFF, SamplingPolicy.fromName("off"));
+    }
+
+    @Test
+    void rejects_unknown_names() {
+        assertThrows(IllegalArgumentException.class, () -> SamplingPolicy.fromName("sometimes"));
+        assertThrows(IllegalArgumentException.class, () -> SamplingPolicy.fromName(null));
+    }
+}
@@ -0,0 +1,134 @@
+package cambio.simulator.export;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import desmoj.core.simulator.TimeInstant;
+import org.junit.jupiter.api.Test;
+
+class TimeSeriesTest {
+
+    @Test
+    void stores_values_across_segments() {
+        TimeSeries series = new TimeSeries();
+        assertNull(series.getColumnType());
+        for (int i = 0; i < 20_000; i++) {
+            series.add(i / 10.0, i);
+        }
+        assertEquals(TimeSeries.ColumnType.INT, series.getColumnType());
+        assertEquals(20_000, series.size());
+        for (int i = 0; i < 20_000; i++) {
+            assertEquals(i / 10.0, series.getTime(i));
+            assertEquals(i, series.getValue(i));
+            assertEquals(i, series.getDouble(i));
+        }
+    }
+
+    @Test
+    void chooses_column_type_by_first_value() {
+        TimeSeries doubles = new TimeSeries();
+        doubles.add(0, 1.5);
+        doubles.add(1, 1337.2f);
+        assertEquals(TimeSeries.ColumnType.DOUBLE, doubles.getColumnType());
+        assertEquals("1337.2", doubles.getValue(1).toString());
+
+        TimeSeries states = new TimeSeries();
+        states.add(0, "RUNNING");
+        states.add(1, "SHUTDOWN");
+        states.add(2, "RUNNING");
+        assertEquals(TimeSeries.ColumnType.STATE, states.getColumnType());
+        assertEquals("RUNNING", states.getValue(2));
+        assertEquals("SHUTDOWN", states.getValue(1));
+    }
+
+    @Test
+    void converts_to_object_column_on_type_mismatch() {
+        TimeSeries series = new TimeSeries();
+        for (int i = 0; i < 100; i++) {
+            series.add(i, i);
+        }
+        series.add(100, "Hello");
+        assertEquals(TimeSeries.ColumnType.OBJECT, series.getColumnType());
+        assertEquals(42, series.getValue(42));
+        assertEquals("Hello", series.getValue(100));
+    }
+
+    @Test
+    void keeps_points_with_equal_time_stamps() {
+        TimeSeries series = new TimeSeries();
+        series.add(1, 1);
+        series.add(1, 2);
+        assertEquals(2, series.size());
+        assertEquals(1, series.indexOfTime(1));
+        assertEquals(-1, series.indexOfTime(0.5));
+        assertEquals(2, series.toMap().get(1.0));
+    }
+
+    @Test
+    void accumulates_in_column_type() {
+        TimeSeries series = new TimeSeries();
+        series.add(0, 1);
+        series.accumulate(0, 2);
+        assertEquals(3, series.getValue(0));
+
+        series.accumulate(0, 0.5);
+        assertEquals(3.5, series.getValue(0));
+    }
+
+    @Test
+    void widens_int_column_on_overflow() {
+        TimeSeries series = new TimeSeries();
+        series.add(0, 7);
+        series.add(1, Integer.MAX_VALUE);
+        series.accumulate(1, 1);
+        assertEquals(TimeSeries.ColumnType.LONG, series.getColumnType());
+        assertEquals(Integer.MAX_VALUE + 1L, series.getValue(1));
+        assertEquals(7L, series.getValue(0));
+    }
+
+    @Test
+    void formats_values_like_boxed_values() {
+        TimeSeries ints = new TimeSeries();
+        ints.addInt(0, -3);
+        TimeSeries doubles = new TimeSeries();
+        doubles.addDouble(0, 0.1);
+        TimeSeries states = new TimeSeries();
+        states.add(0, "RUNNING");
+        assertEquals(String.valueOf(ints.getValue(0)), ints.formatValue(0));
+        assertEquals(String.valueOf(doubles.getValue(0)), doubles.formatValue(0));
+        assertEquals("RUNNING", states.formatValue(0));
+    }
+
+    @Test
+    void merges_series_by_time_stamp() {
+        TimeSeries first = new TimeSeries();
+        first.add(0, 1);
+        first.add(2, 3);
+        TimeSeries second = new TimeSeries();
+        second.add(1, 2);
+        second.add(2, 4);
+        assertSame(first, TimeSeries.merge(Collections.singletonList(first)));
+
+        TimeSeries merged = TimeSeries.merge(Arrays.asList(first, second));
+        assertEquals(4, merged.size());
+        assertEquals(Arrays.asList(1, 2, 3, 4),
+            Arrays.asList(merged.getValue(0), merged.getValue(1), merged.getValue(2), merged.getValue(3)));
+        assertEquals(2.0, merged.getTime(3));
+    }
+
+    @Test
+    void accumulative_reporter_merges_lists() {
+        AccumulativeDataPointReporter reporter = new AccumulativeDataPointReporter("acc");
+        reporter.addDatapoint("List", new TimeInstant(1),
+            new ArrayList<>(Arrays.asList(1, 2)));
+        reporter.addDatapoint("List", new TimeInstant(1), Arrays.asList(3));
+        List<?> merged = (List<?>) reporter.getTimeSeries().get("accList").getValue(0);
+        assertEquals(Arrays.asList(1, 2, 3), merged);
+    }
+}
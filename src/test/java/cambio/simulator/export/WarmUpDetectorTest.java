@@ -0,0 +1,91 @@
+package cambio.simulator.export;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class WarmUpDetectorTest {
+
+    //linearly decreasing transient of the given length, followed by noise around 10
+    private static double[] observations(int transientLength, int count) {
+        Random random = new Random(42);
+        double[] observations = new double[count];
+        for (int i = 0; i < count; i++) {
+            double offset = i < transientLength ? 2.0 * (transientLength - i) : 0;
+            observations[i] = 10 + offset + random.nextDouble() - 0.5;
+        }
+        return observations;
+    }
+
+    private static int truncationPoint(double[] observations) {
+        return WarmUpDetector.findTruncationPoint(index -> observations[index], observations.length);
+    }
+
+    @Test
+    void finds_end_of_transient() {
+        int truncationPoint = truncationPoint(observations(500, 5000));
+        assertTrue(truncationPoint >= 450 && truncationPoint <= 550, "was " + truncationPoint);
+        assertEquals(0, truncationPoint % WarmUpDetector.BATCH_SIZE);
+    }
+
+    @Test
+    void does_not_truncate_stationary_series() {
+        double[] constant = new double[1000];
+        Arrays.fill(constant, 3);
+        assertEquals(0, truncationPoint(constant));
+    }
+
+    @Test
+    void rejects_short_or_unsteady_series() {
+        assertEquals(-1, truncationPoint(observations(10, 50)));
+        //the transient covers the whole series
+        assertEquals(-1, truncationPoint(observations(1000, 1000)));
+    }
+
+    @Test
+    void time_series_discards_warm_up_while_recording() {
+        double[] observations = observations(500, 20_000);
+        TimeSeries series = new TimeSeries();
+        series.enableWarmUpDetection();
+        for (int i = 0; i < observations.length; i++) {
+            series.addDouble(i, observations[i]);
+        }
+        double warmUpEnd = series.getWarmUpEnd();
+        assertTrue(warmUpEnd >= 450 && warmUpEnd <= 550, "was " + warmUpEnd);
+        assertEquals(20_000 - (int) warmUpEnd, series.size());
+        assertEquals(warmUpEnd, series.getTime(0));
+        assertEquals(19_999, series.getTime(series.size() - 1));
+        assertEquals(series.size() - 1, series.indexOfTime(19_999));
+
+        //recording continues normally after the truncation
+        series.accumulate(series.size() - 1, 1.0);
+        assertEquals(observations[19_999] + 1, series.getDouble(series.size() - 1));
+        assertTrue(series.finishWarmUpDetection());
+        assertEquals(series.size(), series.toMap().size());
+    }
+
+    @Test
+    void time_series_reports_missing_steady_state() {
+        TimeSeries series = new TimeSeries();
+        series.enableWarmUpDetection();
+        for (int i = 0; i < 150; i++) {
+            series.addInt(i, 1000 - i);
+        }
+        assertFalse(series.finishWarmUpDetection());
+        assertEquals(150, series.size());
+        assertTrue(Double.isNaN(series.getWarmUpEnd()));
+
+        TimeSeries states = new TimeSeries();
+        states.enableWarmUpDetection();
+        for (int i = 0; i < 150; i++) {
+            states.add(i, "STATE" + i);
+        }
+        assertTrue(states.finishWarmUpDetection());
+        assertEquals(150, states.size());
+    }
+}
@@ -0,0 +1,163 @@
+package cambio.simulator.misc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class CalendarQueueTest {
+
+    private static List<long[]> drain(CalendarQueue<long[]> queue) {
+        List<long[]> result = new ArrayList<>();
+        CalendarQueue.Node<long[]> node;
+        while ((node = queue.removeFirst()) != null) {
+            result.add(node.getValue());
+        }
+        return result;
+    }
+
+    @Test
+    void removes_in_time_priority_and_insertion_order() {
+        Random rng = new Random(42);
+        CalendarQueue<long[]> queue = new CalendarQueue<>();
+        List<long[]> expected = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            long[] entry = {rng.nextInt(5_000), rng.nextInt(3), i}; //time, priority, insertion index
+            expected.add(entry);
+            queue.insert(entry, entry[0], (int) entry[1]);
+        }
+        expected.sort(Comparator.<long[]>comparingLong(entry -> entry[0])
+            .thenComparing(entry -> -entry[1])
+            .thenComparingLong(entry -> entry[2]));
+
+        assertEquals(20_000, queue.size());
+        List<long[]> actual = drain(queue);
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertSame(expected.get(i), actual.get(i));
+        }
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    void handles_interleaved_inserts_and_removals() {
+        Random rng = new Random(7);
+        CalendarQueue<long[]> queue = new CalendarQueue<>();
+        long now = 0;
+        for (int i = 0; i < 1_000; i++) {
+            queue.insert(new long[] {i}, now + rng.nextInt(1_000), 0);
+        }
+        for (int i = 0; i < 100_000; i++) {
+            CalendarQueue.Node<long[]> node = queue.removeFirst();
+            assertTrue(node.getTime() >= now);
+            now = node.getTime();
+            //hold model: every removed entry schedules a new one in the future
+            queue.insert(new long[] {i}, now + (long) (-Math.log(1 - rng.nextDouble()) * 100), 0);
+        }
+        assertEquals(1_000, queue.size());
+    }
+
+    @Test
+    void supports_positional_inserts() {
+        CalendarQueue<long[]> queue = new CalendarQueue<>();
+        long[] a = {1};
+        long[] b = {2};
+        long[] c = {3};
+        long[] d = {4};
+        long[] e = {5};
+        CalendarQueue.Node<long[]> nodeA = queue.insert(a, 10, 0);
+        queue.insert(b, 10, 0);
+        queue.insertBefore(nodeA, c, 0);
+        queue.insertAsFirstOfTime(d, 10, -5);
+        queue.insertAsLastOfTime(e, 10, 5);
+
+        List<long[]> actual = drain(queue);
+        assertSame(d, actual.get(0));
+        assertSame(c, actual.get(1));
+        assertSame(a, actual.get(2));
+        assertSame(b, actual.get(3));
+        assertSame(e, actual.get(4));
+    }
+
+    @Test
+    void navigates_across_buckets() {
+        CalendarQueue<long[]> queue = new CalendarQueue<>();
+        Random rng = new Random(1);
+        for (int i = 0; i < 500; i++) {
+            queue.insert(new long[] {i}, rng.nextInt(100_000), 0);
+        }
+        List<CalendarQueue.Node<long[]>> ordered = queue.toList();
+
+        CalendarQueue.Node<long[]> current = queue.first();
+        for (int i = 0; i < ordered.size(); i++) {
+            assertSame(ordered.get(i), current);
+            current = queue.next(current);
+        }
+        assertNull(current);
+
+        current = queue.last();
+        for (int i = ordered.size() - 1; i >= 0; i--) {
+            assertSame(ordered.get(i), current);
+            current = queue.prev(current);
+        }
+        assertNull(current);
+    }
+
+    @Test
+    void navigates_across_years_and_after_removals() {
+        CalendarQueue<long[]> queue = new CalendarQueue<>();
+        Random rng = new Random(3);
+        for (int i = 0; i < 300; i++) {
+            //clustered times with large gaps, so neighbours are often more than a "year" apart
+            queue.insert(new long[] {i}, (i % 3) * 1_000_000L + rng.nextInt(50), rng.nextInt(2));
+        }
+        for (int i = 0; i < 50; i++) {
+            List<CalendarQueue.Node<long[]>> ordered = queue.toList();
+            assertSame(ordered.get(ordered.size() - 1), queue.last());
+            assertTrue(queue.remove(queue.last()));
+        }
+        assertEquals(250, queue.size());
+
+        List<CalendarQueue.Node<long[]>> ordered = queue.toList();
+        assertSame(ordered.get(ordered.size() - 1), queue.last());
+        CalendarQueue.Node<long[]> current = queue.first();
+        for (CalendarQueue.Node<long[]> expected : ordered) {
+            assertSame(expected, current);
+            current = queue.next(current);
+        }
+        assertNull(current);
+        current = queue.last();
+        for (int i = ordered.size() - 1; i >= 0; i--) {
+            assertSame(ordered.get(i), current);
+            current = queue.prev(current);
+        }
+        assertNull(current);
+    }
+
+    @Test
+    void removes_arbitrary_nodes() {
+        CalendarQueue<long[]> queue = new CalendarQueue<>();
+        List<CalendarQueue.Node<long[]>> nodes = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            nodes.add(queue.insert(new long[] {i}, i, 0));
+        }
+        for (int i = 0; i < 1_000; i += 2) {
+            assertTrue(queue.remove(nodes.get(i)));
+        }
+        assertFalse(queue.remove(nodes.get(0)));
+        assertEquals(500, queue.size());
+
+        List<long[]> remaining = drain(queue);
+        for (int i = 0; i < remaining.size(); i++) {
+            assertEquals(2 * i + 1, remaining.get(i)[0]);
+        }
+    }
+}
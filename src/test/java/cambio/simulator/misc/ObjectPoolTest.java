@@ -0,0 +1,78 @@
+package cambio.simulator.misc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class ObjectPoolTest {
+
+    private static final class Recyclable implements IRecyclable {
+        private final ObjectPool<Recyclable> pool;
+        private Object payload;
+        private int resets = 0;
+
+        private Recyclable(ObjectPool<Recyclable> pool) {
+            this.pool = pool;
+        }
+
+        @Override
+        public void reset() {
+            payload = null;
+            resets++;
+        }
+    }
+
+    @Test
+    void reuses_released_objects() {
+        ObjectPool<Recyclable> pool = new ObjectPool<>("test", Recyclable::new, 1, false);
+
+        Recyclable first = pool.acquire();
+        assertSame(pool, first.pool);
+        first.payload = new Object();
+        pool.release(first);
+        assertNull(first.payload);
+        assertEquals(1, first.resets);
+
+        assertSame(first, pool.acquire());
+        Recyclable second = pool.acquire();
+        assertNotSame(first, second);
+        assertEquals(2, pool.getCreated());
+        assertEquals(2, pool.getOutstanding());
+
+        //only one released object is kept
+        pool.release(first);
+        pool.release(second);
+        assertEquals(0, pool.getOutstanding());
+        Recyclable third = pool.acquire();
+        assertSame(first, third);
+        assertNotSame(second, pool.acquire());
+    }
+
+    @Test
+    void detects_double_release_when_tracking() {
+        ObjectPool<Recyclable> pool = new ObjectPool<>("test", Recyclable::new, 8, true);
+
+        Recyclable object = pool.acquire();
+        assertTrue(pool.getLentObjects().contains(object));
+        pool.release(object);
+        assertTrue(pool.getLentObjects().isEmpty());
+        assertThrows(IllegalStateException.class, () -> pool.release(object));
+        assertThrows(IllegalStateException.class, () -> pool.release(new Recyclable(pool)));
+    }
+
+    @Test
+    void pools_are_only_handed_out_if_pooling_is_on() {
+        assertNull(new ObjectPools(PoolingMode.OFF).getPool(Recyclable.class, Recyclable::new));
+
+        ObjectPools pools = new ObjectPools(PoolingMode.ON);
+        ObjectPool<Recyclable> pool = pools.getPool(Recyclable.class, Recyclable::new);
+        assertSame(pool, pools.getPool(Recyclable.class, Recyclable::new));
+        assertEquals(PoolingMode.DEBUG, PoolingMode.fromName(" Debug "));
+        assertThrows(IllegalArgumentException.class, () -> PoolingMode.fromName("sometimes"));
+    }
+}
@@ -0,0 +1,72 @@
+package cambio.simulator.misc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.SplittableRandom;
+
+import desmoj.core.simulator.Model;
+import org.junit.jupiter.api.Test;
+
+class RandomStreamsTest {
+
+    @Test
+    void streams_are_reproducible_regardless_of_creation_order() {
+        RandomStreams first = new RandomStreams(42);
+        RandomStreams second = new RandomStreams(42);
+
+        SplittableRandom a1 = first.getStream("A");
+        SplittableRandom b1 = first.getStream("B");
+        SplittableRandom b2 = second.getStream("B");
+        SplittableRandom a2 = second.getStream("A");
+
+        for (int i = 0; i < 1_000; i++) {
+            assertEquals(a1.nextLong(), a2.nextLong());
+            assertEquals(b1.nextLong(), b2.nextLong());
+        }
+    }
+
+    @Test
+    void returns_same_stream_for_same_name() {
+        RandomStreams streams = new RandomStreams(1);
+        assertSame(streams.getStream("A"), streams.getStream("A"));
+    }
+
+    @Test
+    void seeds_differ_between_names_and_experiment_seeds() {
+        RandomStreams streams = new RandomStreams(1);
+        assertNotEquals(streams.deriveSeed("A"), streams.deriveSeed("B"));
+        assertNotEquals(streams.deriveSeed("A"), new RandomStreams(2).deriveSeed("A"));
+        assertEquals(streams.deriveSeed("A"), new RandomStreams(1).deriveSeed("A"));
+    }
+
+    @Test
+    void other_models_keep_their_own_streams() {
+        Model model = new PlainModel();
+        Model otherModel = new PlainModel();
+        assertSame(RandomStreams.forModel(model), RandomStreams.forModel(model));
+        assertNotSame(RandomStreams.forModel(model), RandomStreams.forModel(otherModel));
+        assertEquals(0, RandomStreams.forModel(model).getSeed());
+    }
+
+    private static final class PlainModel extends Model {
+        PlainModel() {
+            super(null, "PlainModel", false, false);
+        }
+
+        @Override
+        public String description() {
+            return null;
+        }
+
+        @Override
+        public void doInitialSchedules() {
+        }
+
+        @Override
+        public void init() {
+        }
+    }
+}
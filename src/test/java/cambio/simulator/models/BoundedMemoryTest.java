@@ -0,0 +1,63 @@
+package cambio.simulator.models;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Field;
+import java.util.Map;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import desmoj.core.simulator.Experiment;
+import desmoj.core.simulator.NameCatalog;
+import desmoj.core.simulator.TimeInstant;
+import org.junit.jupiter.api.Test;
+
+class BoundedMemoryTest {
+
+    private static final String ARCHITECTURE = "{\"microservices\": ["
+        + "{\"name\": \"gateway\", \"instances\": 2, \"capacity\": 1000, \"operations\": [{\"name\": \"gateway.GET\","
+        + " \"demand\": 1, \"dependencies\": [{\"service\": \"backend\", \"operation\": \"backend.GET\"}]}]},"
+        + "{\"name\": \"backend\", \"instances\": 2, \"capacity\": 1000, \"operations\": [{\"name\": \"backend.GET\","
+        + " \"demand\": 1, \"dependencies\": []}]}]}";
+
+    private static final String EXPERIMENT = "{\"simulation_metadata\": {\"name\": \"BoundedMemoryTest\","
+        + " \"duration\": 100, \"seed\": 42, \"bounded_memory\": true},"
+        + " \"generators\": [{\"type\": \"interval\", \"config\": {\"arrival_time\": 0, \"interval\": 0.1,"
+        + " \"target_operation\": \"gateway.GET\"}}]}";
+
+    @SuppressWarnings("unchecked")
+    private static int catalogSize(Experiment experiment) throws ReflectiveOperationException {
+        Field catalogField = Experiment.class.getDeclaredField("_nameCatalog");
+        catalogField.setAccessible(true);
+        NameCatalog nameCatalog = (NameCatalog) catalogField.get(experiment);
+        Field entriesField = NameCatalog.class.getDeclaredField("_catalog");
+        entriesField.setAccessible(true);
+        return ((Map<String, Integer>) entriesField.get(nameCatalog)).size();
+    }
+
+    @Test
+    void name_catalog_does_not_grow_with_requests() throws ReflectiveOperationException {
+        JsonElement architecture = JsonParser.parseString(ARCHITECTURE);
+        JsonElement experiment = JsonParser.parseString(EXPERIMENT);
+        MiSimModel model = new MiSimModel(architecture, experiment);
+        assertTrue(model.getExperimentMetaData().isBoundedMemory());
+
+        Experiment exp = MainModel.createExperiment(model, "BoundedMemoryTest", false, false, false);
+        exp.setSilent(true);
+        //with trace output, transient entities are only named by their type in bounded-memory mode
+        exp.traceOn(new TimeInstant(0));
+
+        exp.stop(new TimeInstant(20));
+        exp.start();
+        int afterWarmUp = catalogSize(exp);
+
+        //roughly 800 more requests, each with a dependency and several network events
+        exp.stop(new TimeInstant(100));
+        exp.proceed();
+        int atEnd = catalogSize(exp);
+        exp.finish();
+
+        assertEquals(afterWarmUp, atEnd);
+    }
+}
@@ -0,0 +1,148 @@
+package cambio.simulator.models;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import cambio.simulator.export.LatencyHistogram;
+import cambio.simulator.export.TimeSeries;
+import cambio.simulator.parsing.ModelLoader;
+import cambio.simulator.parsing.ParsingException;
+import cambio.simulator.testutils.FileLoaderUtil;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import org.junit.jupiter.api.Test;
+
+class HeadlessSimulationTest {
+
+    private static final String ARCHITECTURE = "{\"microservices\": [{\"name\": \"service\", \"instances\": 1, "
+        + "\"capacity\": 10, \"operations\": [{\"name\": \"op\", \"demand\": 1}]}]}";
+
+    //one request per time unit, each takes the same time to complete
+    private static String experiment(String name, int duration, String criterion) {
+        return String.format("{\"simulation_metadata\": {\"name\": \"%s\", \"duration\": %d, "
+            + "\"stopping_criterion\": \"%s\"}, \"generators\": [{\"type\": \"interval\", \"config\": "
+            + "{\"arrival_time\": 0, \"interval\": 1, \"target_operation\": \"service.op\"}}]}",
+            name, duration, criterion);
+    }
+
+    private static String experimentWithStoppingCriterion(String criterion) {
+        return experiment("StoppingTest", 10000, criterion);
+    }
+
+    private static Set<String> filesInWorkingDirectory() {
+        String[] files = new File(".").list();
+        return files == null ? new HashSet<>() : new HashSet<>(Arrays.asList(files));
+    }
+
+    private static void assertSameResults(SimulationResult expected, SimulationResult actual) {
+        assertEquals(expected.getSimulatedTime(), actual.getSimulatedTime());
+        assertEquals(expected.getDatasets().keySet(), actual.getDatasets().keySet());
+        for (String name : expected.getDatasets().keySet()) {
+            TimeSeries expectedSeries = expected.getDataset(name);
+            TimeSeries actualSeries = actual.getDataset(name);
+            assertEquals(expectedSeries.size(), actualSeries.size(), name);
+            for (int i = 0; i < expectedSeries.size(); i++) {
+                assertEquals(expectedSeries.getTime(i), actualSeries.getTime(i), name);
+                assertEquals(expectedSeries.getValue(i), actualSeries.getValue(i), name);
+            }
+        }
+        assertEquals(expected.getLatencyHistograms().keySet(), actual.getLatencyHistograms().keySet());
+        for (String name : expected.getLatencyHistograms().keySet()) {
+            LatencyHistogram expectedHistogram = expected.getLatencyHistograms().get(name);
+            LatencyHistogram actualHistogram = actual.getLatencyHistograms().get(name);
+            assertEquals(expectedHistogram.getTotalCount(), actualHistogram.getTotalCount(), name);
+            assertEquals(expectedHistogram.getMean(), actualHistogram.getMean(), name);
+            assertEquals(expectedHistogram.getValueAtPercentile(99), actualHistogram.getValueAtPercentile(99), name);
+        }
+    }
+
+    @Test
+    void reads_meta_data_without_file_locations() {
+        File architecture = FileLoaderUtil.loadFromTestResources("test_architecture.json");
+        File experiment = FileLoaderUtil.loadFromTestResources("test_experiment.json");
+        JsonElement experimentDescription = ModelLoader.readJson(experiment);
+        String unmodified = experimentDescription.toString();
+
+        MiSimModel model = new MiSimModel(ModelLoader.readJson(architecture), experimentDescription);
+        ExperimentMetaData metaData = model.getExperimentMetaData();
+
+        assertEquals("New Experiment", metaData.getExperimentName());
+        assertEquals(180, metaData.getDuration());
+        assertEquals(42, metaData.getSeed());
+        assertNull(metaData.getExpFileLocation());
+        assertNull(metaData.getArchFileLocation());
+        assertEquals(unmodified, experimentDescription.toString());
+    }
+
+    @Test
+    void reads_scenario_meta_data() {
+        File scenario = FileLoaderUtil.loadFromTestResources("test_metadata_scenario.json");
+        MiSimModel model = new MiSimModel(JsonParser.parseString("{}"), ModelLoader.readJson(scenario));
+
+        assertEquals("New Experiment", model.getExperimentMetaData().getExperimentName());
+        assertNull(model.getExperimentMetaData().getExpFileLocation());
+    }
+
+    @Test
+    void rejects_invalid_json() {
+        assertThrows(JsonParseException.class, () -> HeadlessSimulation.fromJson("{}", "{"));
+    }
+
+    @Test
+    void stops_once_the_response_time_converged() {
+        SimulationResult result =
+            HeadlessSimulation.fromJson(ARCHITECTURE, experimentWithStoppingCriterion("response_time")).run();
+
+        assertTrue(result.isConverged());
+        //at least the warm-up detection (200 observations) and 20 batches are needed
+        assertTrue(result.getSimulatedTime() > 200, "stopped at " + result.getSimulatedTime());
+        assertTrue(result.getSimulatedTime() < 10000, "stopped at " + result.getSimulatedTime());
+    }
+
+    @Test
+    void rejects_unknown_stopping_criterion() {
+        assertThrows(ParsingException.class, () -> new MiSimModel(JsonParser.parseString(ARCHITECTURE),
+            JsonParser.parseString(experimentWithStoppingCriterion("latency"))));
+    }
+
+    @Test
+    void repeated_runs_produce_the_same_results() throws Exception {
+        Set<String> filesBefore = filesInWorkingDirectory();
+        HeadlessSimulation simulation = HeadlessSimulation.fromJson(ARCHITECTURE, experiment("RunTest", 200, "off"));
+
+        SimulationResult first = simulation.run();
+        SimulationResult second = simulation.run();
+        assertFalse(first.getDatasets().isEmpty());
+        assertTrue(first.getLatencyHistograms().get("[All]ResponseTimes").getTotalCount() > 0);
+        assertSameResults(first, second);
+
+        //runs of the same simulation in parallel do not share any state
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Callable<SimulationResult> run = simulation::run;
+            List<Future<SimulationResult>> concurrentRuns = executor.invokeAll(Arrays.asList(run, run));
+            for (Future<SimulationResult> concurrentRun : concurrentRuns) {
+                assertSameResults(first, concurrentRun.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        //neither a report folder nor desmojs report, trace, debug or error files were written
+        assertEquals(filesBefore, filesInWorkingDirectory());
+    }
+}
@@ -1,13 +1,17 @@
 package cambio.simulator.parsing;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.File;
 
 import cambio.simulator.models.ExperimentMetaData;
 import cambio.simulator.models.MiSimModel;
 import cambio.simulator.testutils.FileLoaderUtil;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
 import desmoj.core.simulator.Experiment;
 import desmoj.core.simulator.TimeInstant;
 import org.junit.jupiter.api.Assertions;
@@ -55,11 +59,48 @@ class ModelLoaderTest {
     }
 
 
+    @Test
+    void loads_MetaDataFromSharedTreeWithoutModifyingIt() {
+        File experimentFile = FileLoaderUtil.loadFromTestResources("test_metadata_experiment_nested.json");
+        File archFileLocation = new File("derp/derp/derp");
+        JsonElement tree = ModelLoader.readJson(experimentFile);
+        JsonElement original = tree.deepCopy();
+
+        ExperimentMetaData data = ModelLoader.loadExperimentMetaData(tree, experimentFile, archFileLocation);
+
+        assertEquals(original, tree);
+        assertEquals("New Experiment", data.getExperimentName());
+        assertEquals(42, data.getSeed());
+        assertEquals(experimentFile.getAbsolutePath(), data.getExpFileLocation().getAbsolutePath());
+        assertEquals(archFileLocation.getAbsolutePath(), data.getArchFileLocation().getAbsolutePath());
+    }
+
+    @Test
+    void detectsScenarioDescriptions() {
+        assertTrue(ModelLoader.isScenarioDescription(
+            ModelLoader.readJson(FileLoaderUtil.loadFromTestResources("test_scenario.json"))));
+        assertTrue(ModelLoader.isScenarioDescription(
+            ModelLoader.readJson(FileLoaderUtil.loadFromTestResources("test_metadata_scenario.json"))));
+        assertFalse(ModelLoader.isScenarioDescription(
+            ModelLoader.readJson(FileLoaderUtil.loadFromTestResources("test_experiment.json"))));
+        assertFalse(ModelLoader.isScenarioDescription(
+            ModelLoader.readJson(FileLoaderUtil.loadFromTestResources("test_metadata_experiment_nested.json"))));
+    }
+
     @Test
     void failsOnNullExperimentMetaData_Test() {
         Assertions.assertThrows(ParsingException.class, () -> ModelLoader.loadExperimentMetaData(null, null));
     }
 
+    @Test
+    void failsOnUnknownEventList() {
+        JsonElement tree = JsonParser.parseString("{\"simulation_metadata\": {\"event_list\": \"ladder\"}}");
+        Assertions.assertThrows(ParsingException.class, () -> ModelLoader.loadExperimentMetaData(tree, null, null));
+
+        JsonElement calendar = JsonParser.parseString("{\"simulation_metadata\": {\"event_list\": \"Calendar\"}}");
+        assertEquals("Calendar", ModelLoader.loadExperimentMetaData(calendar, null, null).getEventList());
+    }
+
     @Test
     void failsOnNonExistingExperimentMetaData_Test() {
         Assertions
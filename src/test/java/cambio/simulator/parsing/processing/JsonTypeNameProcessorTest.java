@@ -0,0 +1,124 @@
+package cambio.simulator.parsing.processing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.File;
+import java.lang.reflect.Field;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+import cambio.simulator.parsing.JsonTypeName;
+import cambio.simulator.parsing.JsonTypeRegistry;
+import desmoj.core.simulator.Model;
+import org.junit.jupiter.api.Test;
+
+class JsonTypeNameProcessorTest {
+
+    private static final String BASE = "package sample;\n"
+        + "class Base<T> {\n"
+        + "    T value;\n"
+        + "    int count;\n"
+        + "}\n";
+
+    private static final String CONFIGURED = "package sample;\n"
+        + "@cambio.simulator.parsing.JsonTypeName(value = \"configured\",\n"
+        + "    alternativeNames = {\"alias\", \"q\\\"uote\"})\n"
+        + "public class Configured extends Base<String> {\n"
+        + "    String name;\n"
+        + "    private int hidden;\n"
+        + "    final int constant = 1;\n"
+        + "    static int shared;\n"
+        + "}\n";
+
+    private static final String ENTITY = "package sample;\n"
+        + "@cambio.simulator.parsing.JsonTypeName(\"entity\")\n"
+        + "public class EntityLike {\n"
+        + "    final String name;\n"
+        + "    EntityLike(desmoj.core.simulator.Model model, String name, boolean showInTrace) {\n"
+        + "        this.name = name;\n"
+        + "    }\n"
+        + "}\n";
+
+    @Test
+    void generates_registry_of_annotated_types() throws Exception {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        assumeTrue(compiler != null); //needs to run on a JDK
+
+        Path tempDir = Files.createTempDirectory("misim_processor_test");
+        tempDir.toFile().deleteOnExit();
+        Path sources = Files.createDirectories(tempDir.resolve("src/sample"));
+        Path classes = Files.createDirectories(tempDir.resolve("classes"));
+        Files.write(sources.resolve("Base.java"), BASE.getBytes(StandardCharsets.UTF_8));
+        Files.write(sources.resolve("Configured.java"), CONFIGURED.getBytes(StandardCharsets.UTF_8));
+        Files.write(sources.resolve("EntityLike.java"), ENTITY.getBytes(StandardCharsets.UTF_8));
+
+        String classPath = getLocation(JsonTypeName.class) + File.pathSeparator + getLocation(Model.class);
+        int result = compiler.run(null, null, null,
+            "-processor", JsonTypeNameProcessor.class.getName(),
+            "-processorpath", getLocation(JsonTypeNameProcessor.class),
+            "-classpath", classPath,
+            "-d", classes.toString(),
+            sources.resolve("Base.java").toString(),
+            sources.resolve("Configured.java").toString(),
+            sources.resolve("EntityLike.java").toString());
+        assertEquals(0, result);
+
+        List<String> services = Files.readAllLines(
+            classes.resolve("META-INF/services/cambio.simulator.parsing.JsonTypeNameProvider"));
+        assertEquals(Collections.singletonList("sample.GeneratedJsonTypeNames"), services);
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[] {classes.toUri().toURL()},
+            getClass().getClassLoader())) {
+            JsonTypeRegistry registry = JsonTypeRegistry.load(loader);
+            Class<?> configured = loader.loadClass("sample.Configured");
+            Class<?> entityLike = loader.loadClass("sample.EntityLike");
+
+            Map<Class<?>, List<String>> typeNames = registry.getTypeNames();
+            assertEquals(Arrays.asList("configured", "alias", "q\"uote"), typeNames.get(configured));
+            assertEquals(Collections.singletonList("entity"), typeNames.get(entityLike));
+
+            Object instance = registry.getFactory(configured).get();
+            assertTrue(configured.isInstance(instance));
+            registry.getFieldSetter(configured, "name").set(instance, "configured name");
+            registry.getFieldSetter(configured, "value").set(instance, "inherited value");
+            registry.getFieldSetter(configured, "count").set(instance, 42);
+            assertEquals("configured name", getField(configured, "name", instance));
+            assertEquals("inherited value", getField(configured.getSuperclass(), "value", instance));
+            assertEquals(42, getField(configured.getSuperclass(), "count", instance));
+
+            assertNull(registry.getFieldSetter(configured, "hidden"));
+            assertNull(registry.getFieldSetter(configured, "constant"));
+            assertNull(registry.getFieldSetter(configured, "shared"));
+            assertNull(registry.getEntityFactory(configured));
+
+            Object entity = registry.getEntityFactory(entityLike).create(null, "entity name", false);
+            assertNotNull(entity);
+            assertEquals("entity name", getField(entityLike, "name", entity));
+            assertNull(registry.getFactory(entityLike));
+        }
+    }
+
+    private static String getLocation(Class<?> type) throws Exception {
+        return Paths.get(type.getProtectionDomain().getCodeSource().getLocation().toURI()).toString();
+    }
+
+    private static Object getField(Class<?> type, String name, Object target) throws Exception {
+        Field field = type.getDeclaredField(name);
+        field.setAccessible(true);
+        return field.get(target);
+    }
+}
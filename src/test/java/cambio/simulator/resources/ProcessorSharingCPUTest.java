@@ -0,0 +1,96 @@
+package cambio.simulator.resources;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import cambio.simulator.resources.cpu.CPUProcess;
+import cambio.simulator.resources.cpu.ProcessorSharingCPU;
+import cambio.simulator.resources.cpu.scheduling.FIFOScheduler;
+import cambio.simulator.testutils.TestModel;
+import cambio.simulator.testutils.TestUtils;
+import co.paralleluniverse.fibers.SuspendExecution;
+import desmoj.core.simulator.Experiment;
+import desmoj.core.simulator.ExternalEvent;
+import desmoj.core.simulator.Model;
+import desmoj.core.simulator.TimeInstant;
+import org.junit.jupiter.api.Test;
+
+class ProcessorSharingCPUTest {
+
+    private final List<Double> demands = new LinkedList<>();
+
+    private void runWithCPU(int threadPoolSize, Consumer<ProcessorSharingCPU> submissions, double... peekTimes) {
+        final ProcessorSharingCPU[] cpu = new ProcessorSharingCPU[1];
+        final Model[] modelHolder = new Model[1];
+        TestModel model = new TestModel(null, "PSTestModel", false, false, () -> {
+            cpu[0] = new ProcessorSharingCPU(modelHolder[0], "Test_CPU", false, null, 100,
+                new FIFOScheduler("Scheduler"), threadPoolSize, false);
+            new ExternalEvent(modelHolder[0], "Submit", false) {
+                @Override
+                public void eventRoutine() throws SuspendExecution {
+                    submissions.accept(cpu[0]);
+                }
+            }.schedule(new TimeInstant(0));
+            for (double peekTime : peekTimes) {
+                new ExternalEvent(modelHolder[0], "Peek", false) {
+                    @Override
+                    public void eventRoutine() throws SuspendExecution {
+                        demands.add(cpu[0].getCurrentRelativeWorkDemand());
+                    }
+                }.schedule(new TimeInstant(peekTime));
+            }
+        }, () -> {
+        });
+        modelHolder[0] = model;
+
+        Experiment exp = TestUtils.getExampleExperiment(model, 10);
+        exp.start();
+        exp.finish();
+    }
+
+    @Test
+    void shares_capacity_equally_between_running_processes() {
+        CPUProcess small = new CPUProcess(100);
+        CPUProcess large = new CPUProcess(300);
+        runWithCPU(10, cpu -> {
+            cpu.submitProcess(small);
+            cpu.submitProcess(large);
+        }, 1, 3, 5);
+
+        //both run at 50/s until the small one finishes at t=2, then the large one runs at 100/s until t=4
+        assertEquals(3.0, demands.get(0), 1e-6);
+        assertEquals(1.0, demands.get(1), 1e-6);
+        assertEquals(0.0, demands.get(2), 1e-6);
+        assertEquals(0, small.getDemandRemainder());
+        assertEquals(0, large.getDemandRemainder());
+    }
+
+    @Test
+    void queues_processes_beyond_thread_pool() {
+        CPUProcess first = new CPUProcess(100);
+        CPUProcess second = new CPUProcess(100);
+        runWithCPU(1, cpu -> {
+            cpu.submitProcess(first);
+            cpu.submitProcess(second);
+        }, 0.5, 1.5, 2.5);
+
+        //the second process waits until the first one finished at t=1
+        assertEquals(1.5, demands.get(0), 1e-6);
+        assertEquals(0.5, demands.get(1), 1e-6);
+        assertEquals(0.0, demands.get(2), 1e-6);
+    }
+
+    @Test
+    void clear_drops_running_and_queued_processes() {
+        runWithCPU(1, cpu -> {
+            cpu.submitProcess(new CPUProcess(100));
+            cpu.submitProcess(new CPUProcess(100));
+            cpu.clear();
+        }, 0.5);
+
+        assertEquals(0.0, demands.get(0), 1e-6);
+    }
+}
@@ -1,9 +1,18 @@
 package cambio.simulator.resources;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Random;
 
 import cambio.simulator.resources.cpu.CPUProcess;
+import cambio.simulator.resources.cpu.scheduling.CPUProcessScheduler;
 import cambio.simulator.resources.cpu.scheduling.RoundRobinScheduler;
+import cambio.simulator.testutils.ReferenceRoundRobinScheduler;
 import org.javatuples.Pair;
 import org.junit.jupiter.api.Test;
 
@@ -75,4 +84,53 @@ class RoundRobinSchedulerTest extends CPUProcessSchedulerTest<RoundRobinSchedule
         testProcessOrder(arrivalList, expectedResult);
     }
 
-}
\ No newline at end of file
+    /**
+     * Compares the scheduling decisions with the original, sorting based implementation for random workloads.
+     */
+    @Test
+    void behavesLikeReferenceImplementation() {
+        for (int seed = 0; seed < 20; seed++) {
+            Random rng = new Random(seed);
+            CPUProcessScheduler scheduler = new RoundRobinScheduler("Tested");
+            CPUProcessScheduler reference = new ReferenceRoundRobinScheduler("Reference");
+            //each process of the tested scheduler has a twin for the reference scheduler
+            Map<CPUProcess, CPUProcess> twins = new IdentityHashMap<>();
+            LinkedList<CPUProcess> waitingForReentry = new LinkedList<>();
+
+            for (int step = 0; step < 2_000; step++) {
+                int action = rng.nextInt(10);
+                if (action < 3) {
+                    int demand = rng.nextInt(500);
+                    CPUProcess process = new CPUProcess(demand);
+                    CPUProcess twin = new CPUProcess(demand);
+                    twins.put(process, twin);
+                    scheduler.enterProcess(process);
+                    reference.enterProcess(twin);
+                } else if (action < 4 && !waitingForReentry.isEmpty()) {
+                    CPUProcess process = waitingForReentry.poll();
+                    scheduler.enterProcess(process);
+                    reference.enterProcess(twins.get(process));
+                } else {
+                    boolean reschedule = action < 7;
+                    Pair<CPUProcess, Integer> next =
+                        reschedule ? scheduler.retrieveNextProcess() : scheduler.retrieveNextProcessNoReschedule();
+                    Pair<CPUProcess, Integer> expected =
+                        reschedule ? reference.retrieveNextProcess() : reference.retrieveNextProcessNoReschedule();
+                    if (expected == null) {
+                        assertNull(next);
+                        continue;
+                    }
+                    assertEquals(expected.getValue0(), twins.get(next.getValue0()));
+                    assertEquals(expected.getValue1(), next.getValue1());
+                    next.getValue0().reduceDemandRemainder(next.getValue1());
+                    expected.getValue0().reduceDemandRemainder(expected.getValue1());
+                    if (!reschedule && next.getValue0().getDemandRemainder() > 0) {
+                        waitingForReentry.add(next.getValue0());
+                    }
+                }
+                assertEquals(reference.size(), scheduler.size());
+                assertEquals(reference.getTotalWorkDemand(), scheduler.getTotalWorkDemand());
+            }
+        }
+    }
+}
@@ -65,4 +65,25 @@ public class ShortestJobNextSchedulerTest extends CPUProcessSchedulerTest<Shorte
             assertEquals(expectationList[i], result.getValue1());
         }
     }
+
+    @Test
+    void ignores_duplicates_and_keeps_entry_order_for_equal_demands() {
+        ShortestJobNextScheduler scheduler = new ShortestJobNextScheduler("Test");
+        CPUProcess first = new CPUProcess(20);
+        CPUProcess second = new CPUProcess(20);
+        CPUProcess shortest = new CPUProcess(5);
+
+        scheduler.enterProcess(first);
+        scheduler.enterProcess(second);
+        scheduler.enterProcess(first);
+        scheduler.enterProcess(shortest);
+
+        assertEquals(3, scheduler.size());
+        assertEquals(45, scheduler.getTotalWorkDemand());
+        assertEquals(shortest, scheduler.retrieveNextProcess().getValue0());
+        assertEquals(first, scheduler.retrieveNextProcess().getValue0());
+        assertEquals(20, scheduler.getTotalWorkDemand());
+        assertEquals(second, scheduler.retrieveNextProcess().getValue0());
+        assertEquals(0, scheduler.getTotalWorkDemand());
+    }
 }
@@ -0,0 +1,115 @@
+package cambio.simulator.scenarios;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import cambio.simulator.export.CSVData;
+import cambio.simulator.misc.CalendarEventList;
+import cambio.simulator.testutils.TestModel;
+import cambio.simulator.testutils.TestUtils;
+import co.paralleluniverse.fibers.SuspendExecution;
+import desmoj.core.simulator.Experiment;
+import desmoj.core.simulator.ExternalEvent;
+import desmoj.core.simulator.Model;
+import desmoj.core.simulator.TimeSpan;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Compares the throughput (events/sec) of desmojs' default event list with the {@link CalendarEventList} for a growing
+ * number of pending events (hold model: every executed event schedules a new one).
+ *
+ * @author Lion Wagner
+ */
+@Disabled
+public class EventListBenchmark {
+
+    private static final int[] PENDING_EVENT_COUNTS = {1_000, 10_000, 100_000, 1_000_000};
+    private static final double SIMULATED_DURATION = 50;
+
+    private static BenchmarkResult runBenchmark(int pendingEvents, boolean useCalendar) {
+        final long[] executedEvents = {0};
+        final Random rng = new Random(pendingEvents);
+        final Model[] modelHolder = new Model[1];
+
+        Runnable initialSchedules = () -> {
+            for (int i = 0; i < pendingEvents; i++) {
+                new HoldEvent(modelHolder[0], rng, executedEvents, pendingEvents)
+                    .schedule(nextDelay(rng, pendingEvents));
+            }
+        };
+        TestModel model = new TestModel(null, "EventListBenchmark", false, false, initialSchedules, () -> {
+        });
+        modelHolder[0] = model;
+
+        Experiment exp = TestUtils.getExampleExperiment(model, SIMULATED_DURATION);
+        if (useCalendar) {
+            CalendarEventList.install(exp);
+        }
+
+        long start = System.nanoTime();
+        exp.start();
+        long duration = System.nanoTime() - start;
+        exp.finish();
+
+        BenchmarkResult result = new BenchmarkResult();
+        result.pending_events = pendingEvents;
+        result.event_list = useCalendar ? "calendar" : "default";
+        result.executed_events = executedEvents[0];
+        result.events_per_second = executedEvents[0] / (duration / 1e9);
+        return result;
+    }
+
+    private static TimeSpan nextDelay(Random rng, int pendingEvents) {
+        //mean delay grows with the event count, so each run executes a comparable amount of events
+        double mean = pendingEvents / 100_000.0;
+        return new TimeSpan(-Math.log(1 - rng.nextDouble()) * mean, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void eventListThroughput() {
+        List<BenchmarkResult> results = new LinkedList<>();
+
+        //warmup
+        runBenchmark(10_000, false);
+        runBenchmark(10_000, true);
+
+        for (int pendingEvents : PENDING_EVENT_COUNTS) {
+            for (boolean useCalendar : new boolean[] {false, true}) {
+                BenchmarkResult result = runBenchmark(pendingEvents, useCalendar);
+                System.out.printf("%-8s list, %8d pending events: %12.0f events/sec%n", result.event_list,
+                    pendingEvents, result.events_per_second);
+                results.add(result);
+            }
+        }
+        TestUtils.writeOutput(results, "./event_list_benchmark_result.csv");
+    }
+
+    private static final class HoldEvent extends ExternalEvent {
+        private final Random rng;
+        private final long[] executedEvents;
+        private final int pendingEvents;
+
+        private HoldEvent(Model owner, Random rng, long[] executedEvents, int pendingEvents) {
+            super(owner, "HoldEvent", false);
+            this.rng = rng;
+            this.executedEvents = executedEvents;
+            this.pendingEvents = pendingEvents;
+        }
+
+        @Override
+        public void eventRoutine() throws SuspendExecution {
+            executedEvents[0]++;
+            new HoldEvent(getModel(), rng, executedEvents, pendingEvents).schedule(nextDelay(rng, pendingEvents));
+        }
+    }
+
+    static final class BenchmarkResult implements CSVData {
+        public int pending_events;
+        public String event_list;
+        public long executed_events;
+        public double events_per_second;
+    }
+}
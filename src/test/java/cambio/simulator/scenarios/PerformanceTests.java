@@ -1,21 +1,13 @@
 package cambio.simulator.scenarios;
 
-import java.lang.reflect.Field;
-import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.concurrent.TimeUnit;
 
 import cambio.simulator.entities.networking.NetworkRequestSendEvent;
 import cambio.simulator.export.CSVData;
 import cambio.simulator.testutils.RandomTieredModel;
 import cambio.simulator.testutils.TestUtils;
-import co.paralleluniverse.fibers.SuspendExecution;
 import desmoj.core.simulator.Experiment;
-import desmoj.core.simulator.NameCatalog;
-import desmoj.core.simulator.SimProcess;
-import desmoj.core.simulator.TimeInstant;
-import desmoj.core.simulator.TimeSpan;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 
@@ -37,39 +29,8 @@ public class PerformanceTests {
                 TestUtils.nextNonNegative(3401) + 200; //3600 is 1h of realtime with the default unit SECONDS
             Experiment exp = TestUtils.getExampleExperiment(model, simulatedDuration);
 
-            SimProcess memoryFree = new SimProcess(model, "memoryFreeEvent", false, false) {
-                @Override
-                public void lifeCycle() throws SuspendExecution {
-                    long totalMem = Runtime.getRuntime().totalMemory();
-                    long freeMem = Runtime.getRuntime().freeMemory();
-                    double free = (double) freeMem / totalMem;
-                    if (free < 0.2) {
-                        try {
-                            Field f = Experiment.class.getDeclaredField("_nameCatalog");
-                            f.setAccessible(true);
-                            NameCatalog nameCatalog = (NameCatalog) f.get(this.getModel().getExperiment());
-                            Field f2 = NameCatalog.class.getDeclaredField("_catalog");
-                            f2.setAccessible(true);
-                            f2.set(nameCatalog, new HashMap<String, Integer>());
-                            //                            HashMap<String, Integer> catalog = (HashMap<String, Integer>) f2.get(nameCatalog);
-                            //                            List<String> toRemove = new LinkedList<>();
-                            //                            for (Map.Entry<String, Integer> entry : catalog.entrySet()) {
-                            //                                if (entry.getValue() == 1) {
-                            //                                    toRemove.add(entry.getKey());
-                            //                                }
-                            //                            }
-                            //                            toRemove.forEach(catalog::remove);
-                            //                            System.out.println(catalog.size());
-
-                        } catch (NoSuchFieldException | IllegalAccessException e) {
-                            e.printStackTrace();
-                        }
-                    }
-                    this.hold(new TimeSpan(1, TimeUnit.SECONDS));
-                }
-            };
-
-            memoryFree.activate(new TimeInstant(0));
+            //transient entities are named by their type without trace output (see TransientNames), so the name
+            //catalog of the experiment does not grow with the number of requests
 
             long start = System.currentTimeMillis();
             exp.start();
@@ -81,8 +42,7 @@ public class PerformanceTests {
             result.execution_duration_ms = duration;
             result.number_of_services = model.getAllMicroservices().size();
             result.number_of_dependencies = model.getAllOperations().size();
-            result.number_of_sendEvents = NetworkRequestSendEvent.getCounterSendEvents();
-            NetworkRequestSendEvent.resetCounterSendEvents();
+            result.number_of_sendEvents = NetworkRequestSendEvent.getCounterSendEvents(model);
 
             testResults.add(result);
             TestUtils.resetModel(model);
@@ -146,7 +106,7 @@ public class PerformanceTests {
             result.number_of_services = model.getAllMicroservices().size();
             result.number_of_dependencies =
                 model.getAllMicroservices().stream().mapToInt(ms -> ms.getOperations().length).sum();
-            result.number_of_sendEvents = NetworkRequestSendEvent.getCounterSendEvents();
+            result.number_of_sendEvents = NetworkRequestSendEvent.getCounterSendEvents(model);
 
             testResults.add(result);
             TestUtils.resetModel(model);
@@ -0,0 +1,80 @@
+package cambio.simulator.scenarios;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+
+import cambio.simulator.export.CSVData;
+import cambio.simulator.resources.cpu.CPUProcess;
+import cambio.simulator.resources.cpu.scheduling.CPUProcessScheduler;
+import cambio.simulator.resources.cpu.scheduling.RoundRobinScheduler;
+import cambio.simulator.testutils.ReferenceRoundRobinScheduler;
+import cambio.simulator.testutils.TestUtils;
+import org.javatuples.Pair;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Compares the throughput (scheduling decisions/sec) of the {@link RoundRobinScheduler} with the original sorting
+ * based implementation for a growing number of queued processes. Each finished process is replaced by a new one, so the
+ * queue length stays constant.
+ *
+ * @author Lion Wagner
+ */
+@Disabled
+public class RoundRobinSchedulerBenchmark {
+
+    private static final int[] QUEUED_PROCESS_COUNTS = {100, 1_000, 10_000};
+    private static final int DECISIONS = 20_000;
+
+    private static BenchmarkResult runBenchmark(int queuedProcesses, String name,
+                                                Function<String, CPUProcessScheduler> factory) {
+        Random rng = new Random(queuedProcesses);
+        CPUProcessScheduler scheduler = factory.apply(name);
+        for (int i = 0; i < queuedProcesses; i++) {
+            scheduler.enterProcess(new CPUProcess(1 + rng.nextInt(1_000)));
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < DECISIONS; i++) {
+            Pair<CPUProcess, Integer> next = scheduler.retrieveNextProcess();
+            next.getValue0().reduceDemandRemainder(next.getValue1());
+            if (next.getValue0().getDemandRemainder() == 0) {
+                scheduler.enterProcess(new CPUProcess(1 + rng.nextInt(1_000)));
+            }
+        }
+        long duration = System.nanoTime() - start;
+
+        BenchmarkResult result = new BenchmarkResult();
+        result.queued_processes = queuedProcesses;
+        result.scheduler = name;
+        result.decisions_per_second = DECISIONS / (duration / 1e9);
+        return result;
+    }
+
+    @Test
+    void schedulingThroughput() {
+        List<BenchmarkResult> results = new LinkedList<>();
+
+        //warmup
+        runBenchmark(1_000, "reference", ReferenceRoundRobinScheduler::new);
+        runBenchmark(1_000, "heaps", RoundRobinScheduler::new);
+
+        for (int queuedProcesses : QUEUED_PROCESS_COUNTS) {
+            results.add(runBenchmark(queuedProcesses, "reference", ReferenceRoundRobinScheduler::new));
+            results.add(runBenchmark(queuedProcesses, "heaps", RoundRobinScheduler::new));
+        }
+        for (BenchmarkResult result : results) {
+            System.out.printf("%-9s %6d queued processes: %12.0f decisions/sec%n", result.scheduler,
+                result.queued_processes, result.decisions_per_second);
+        }
+        TestUtils.writeOutput(results, "./round_robin_benchmark_result.csv");
+    }
+
+    static final class BenchmarkResult implements CSVData {
+        public int queued_processes;
+        public String scheduler;
+        public double decisions_per_second;
+    }
+}
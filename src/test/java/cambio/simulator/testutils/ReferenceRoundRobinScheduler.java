@@ -0,0 +1,156 @@
+package cambio.simulator.testutils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
+
+import cambio.simulator.resources.cpu.CPUProcess;
+import cambio.simulator.resources.cpu.scheduling.CPUProcessScheduler;
+import cambio.simulator.resources.cpu.scheduling.RoundRobinScheduler;
+import org.javatuples.Pair;
+
+/**
+ * Original, sorting based implementation of the {@link RoundRobinScheduler}. Serves as reference for equivalence tests
+ * and benchmarks.
+ *
+ * @author Lion Wagner
+ */
+public final class ReferenceRoundRobinScheduler extends CPUProcessScheduler {
+
+    private static final int MINIMUM_QUANTUM = 25;
+
+    private final Queue<CPUProcess> processes = new LinkedList<>();
+    private final HashSet<CPUProcess> executedWithCurrentQuantum = new HashSet<>();
+    private int currentQuantum;
+    private boolean updateQuantum = true;
+
+    public ReferenceRoundRobinScheduler(String name) {
+        super(name);
+    }
+
+    /**
+     * Enters the process into the scheduling queue.
+     *
+     * @param process Process that is to be scheduled
+     */
+    @Override
+    public void enterProcess(CPUProcess process) {
+        processes.add(process);
+        updateQuantum = true;
+    }
+
+    /**
+     * Pulls the next Process to handle and its assigned time/work quantum.
+     *
+     * @return a pair containing the next process to handle and its assigned time/work quantum.
+     */
+    @Override
+    public Pair<CPUProcess, Integer> retrieveNextProcess() {
+        if (updateQuantum) {
+            updateQuantum();
+        }
+
+        CPUProcess nextProcess = processes.poll();
+        if (nextProcess == null) {
+            return null;
+        }
+
+        executedWithCurrentQuantum.add(nextProcess);
+
+        int nextDemand = nextProcess.getDemandRemainder();
+
+        Pair<CPUProcess, Integer> output;
+        if (nextDemand <= currentQuantum) {
+            output = new Pair<>(nextProcess, nextDemand);
+        } else {
+            processes.add(nextProcess); //put at end of Queue
+            output = new Pair<>(nextProcess, currentQuantum);
+        }
+
+        if (executedWithCurrentQuantum.contains(processes.peek())) {
+            updateQuantum = true;
+        }
+        return output;
+
+    }
+
+    /**
+     * Interface used by Multi Level Feedback queues.
+     *
+     * <p>
+     * Does not put the process back into the Queue.
+     *
+     * @return a pair containing the next process to handle and its assigned time quantum.
+     */
+    @Override
+    public Pair<CPUProcess, Integer> retrieveNextProcessNoReschedule() {
+        Pair<CPUProcess, Integer> nextTarget = retrieveNextProcess();
+        if (nextTarget == null) {
+            return null;
+        }
+        processes.remove(nextTarget.getValue0());
+        return nextTarget;
+    }
+
+
+    private void updateQuantum() {
+        executedWithCurrentQuantum.clear();
+
+        if (processes.isEmpty()) {
+            currentQuantum = MINIMUM_QUANTUM;
+            return;
+        }
+
+        List<CPUProcess> list = new ArrayList<>(processes);
+        Collections.sort(list);
+
+        int median;
+        if (list.size() % 2 == 0) {
+            int remainder1 = list.get((list.size() - 1) / 2).getDemandRemainder();
+            int remainder2 = list.get((list.size() - 1) / 2 + 1).getDemandRemainder();
+            median = (int) (Math.ceil(remainder1 + remainder2) / 2.0);
+        } else {
+            median = list.get(list.size() / 2).getDemandRemainder();
+        }
+
+        currentQuantum = Math.max(median, MINIMUM_QUANTUM);
+        updateQuantum = false;
+    }
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean hasProcessesToSchedule() {
+        return !processes.isEmpty();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getTotalWorkDemand() {
+        return processes.stream().mapToInt(CPUProcess::getDemandRemainder).sum();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clear() {
+        processes.clear();
+        executedWithCurrentQuantum.clear();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return processes.size();
+    }
+}
@@ -12,7 +12,6 @@ import java.util.Random;
 import java.util.concurrent.TimeUnit;
 
 import cambio.simulator.entities.microservice.Microservice;
-import cambio.simulator.entities.networking.NetworkRequestSendEvent;
 import cambio.simulator.entities.patterns.ServiceOwnedPattern;
 import cambio.simulator.export.CSVData;
 import cambio.simulator.export.ReportCollector;
@@ -68,8 +67,7 @@ public class TestUtils {
     //    }
 
     public static void resetModel(RandomTieredModel model) {
-        ReportCollector.getInstance().reset(); //resetting static data point collection framework
-        NetworkRequestSendEvent.resetCounterSendEvents();
+        ReportCollector.forModel(model).reset(); //resetting the data point collection of the model
         model.reset();
 
         //reset mocks to prevent Mockito from leaking